@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.springboot.aot.aggregate.AggregateHierarchies;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates the {@link AggregateHierarchies}: the concrete subtypes of each polymorphic aggregate. The generated code
+ * registers them in the bean factory, allowing the handlers of each concrete type to be resolved when the aggregate
+ * model is created.
+ * <p/>
+ * The aggregates are found among the beans of a type annotated with {@link AggregateRoot}, such as the aggregates
+ * defined through Spring's {@link org.axonframework.spring.stereotype.Aggregate} annotation, and among the detected
+ * message handling types. Each concrete aggregate type is registered as a subtype of every aggregate type it extends.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class AggregateHierarchyGenerator {
+
+    private static final Comparator<Class<?>> BY_NAME = Comparator.comparing(Class::getName);
+
+    private final Map<Class<?>, Set<Class<?>>> subtypes;
+
+    private AggregateHierarchyGenerator(Map<Class<?>, Set<Class<?>>> subtypes) {
+        this.subtypes = subtypes;
+    }
+
+    /**
+     * Creates a generator for the aggregate hierarchies formed by the aggregate beans in the given {@code beanFactory}
+     * and the aggregates among the given {@code messageHandlingClasses}.
+     *
+     * @param beanFactory            the bean factory defining the aggregates
+     * @param messageHandlingClasses the detected message handling types
+     * @return a generator for the aggregate hierarchies
+     */
+    static AggregateHierarchyGenerator discover(ConfigurableListableBeanFactory beanFactory,
+                                                Collection<Class<?>> messageHandlingClasses) {
+        Set<Class<?>> aggregateTypes = new TreeSet<>(BY_NAME);
+        Stream.concat(Stream.of(beanFactory.getBeanDefinitionNames())
+                            .map(beanName -> beanFactory.getType(beanName, false)),
+                      messageHandlingClasses.stream())
+              .filter(type -> type != null && AnnotationUtils.isAnnotationPresent(type, AggregateRoot.class))
+              .filter(type -> !Modifier.isAbstract(type.getModifiers()))
+              .forEach(aggregateTypes::add);
+
+        Map<Class<?>, Set<Class<?>>> subtypes = new TreeMap<>(BY_NAME);
+        for (Class<?> aggregateType : aggregateTypes) {
+            for (Class<?> supertype = aggregateType.getSuperclass();
+                 supertype != null && supertype != Object.class;
+                 supertype = supertype.getSuperclass()) {
+                if (AnnotationUtils.isAnnotationPresent(supertype, AggregateRoot.class)) {
+                    subtypes.computeIfAbsent(supertype, t -> new TreeSet<>(BY_NAME)).add(aggregateType);
+                }
+            }
+        }
+        return new AggregateHierarchyGenerator(subtypes);
+    }
+
+    /**
+     * Returns the concrete subtypes of polymorphic aggregates, which are to be inspected like the message handling
+     * types.
+     *
+     * @return the concrete subtypes of polymorphic aggregates
+     */
+    Set<Class<?>> subtypes() {
+        Set<Class<?>> types = new TreeSet<>(BY_NAME);
+        subtypes.values().forEach(types::addAll);
+        return types;
+    }
+
+    /**
+     * Registers the aggregate hierarchies in the bean factory. Nothing is registered when there are no polymorphic
+     * aggregates.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the aggregate hierarchies with
+     */
+    void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        if (subtypes.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> subtypeNames = new LinkedHashMap<>();
+        subtypes.forEach((aggregateType, types) -> subtypeNames.put(
+                aggregateType.getName(), types.stream().map(Class::getName).toList()
+        ));
+        CodeBlock hierarchies = GeneratedNameLists.mapOf(beanFactoryInitializationCode.getMethods(),
+                                                         "axonAggregateSubtypes",
+                                                         subtypeNames);
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonAggregateHierarchies",
+                method -> method.addJavadoc("Register the subtypes of Axon aggregates found ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($L))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              AggregateHierarchies.BEAN_NAME,
+                                              AggregateHierarchies.class,
+                                              hierarchies)
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+    }
+}
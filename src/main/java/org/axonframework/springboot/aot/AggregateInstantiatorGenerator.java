@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.springboot.aot.aggregate.GeneratedAggregateInstantiator;
+import org.axonframework.springboot.aot.aggregate.GeneratedAggregateInstantiators;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.javapoet.WildcardTypeName;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Generates a {@link GeneratedAggregateInstantiator} for each detected aggregate type, which calls the no-arg
+ * constructor of the aggregate directly instead of through reflection. The generated instantiators are registered in
+ * the bean factory as {@link GeneratedAggregateInstantiators}.
+ * <p/>
+ * Only concrete aggregate types with a no-arg constructor that is accessible from the package of the aggregate are
+ * generated. Aggregates with a constructor that Spring would autowire, or of which the no-arg constructor declares
+ * checked exceptions, are left to be instantiated as usual.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class AggregateInstantiatorGenerator {
+
+    private static final String FEATURE_NAME = "AxonAggregateInstantiator";
+
+    private final Collection<Class<?>> detectedClasses;
+
+    /**
+     * Creates a generator for the aggregate types among the given {@code detectedClasses}.
+     *
+     * @param detectedClasses the detected handling types, aggregates and entities
+     */
+    AggregateInstantiatorGenerator(Collection<Class<?>> detectedClasses) {
+        this.detectedClasses = detectedClasses;
+    }
+
+    /**
+     * Generates the instantiators and registers them in the bean factory. Nothing is generated when none of the
+     * aggregate types can be instantiated directly.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the instantiators with
+     * @return the names of the generated instantiators
+     */
+    List<ClassName> applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        List<ClassName> instantiators = new ArrayList<>();
+        detectedClasses.stream()
+                       .filter(type -> AnnotationUtils.isAnnotationPresent(type, AggregateRoot.class))
+                       .filter(AggregateInstantiatorGenerator::isDirectlyInstantiable)
+                       .forEach(aggregateType -> instantiators.add(
+                               generationContext.getGeneratedClasses()
+                                                .addForFeatureComponent(
+                                                        FEATURE_NAME,
+                                                        aggregateType,
+                                                        type -> generateInstantiator(type, aggregateType)
+                                                )
+                                                .getName()
+                       ));
+        if (instantiators.isEmpty()) {
+            return instantiators;
+        }
+
+        CodeBlock.Builder instances = CodeBlock.builder();
+        for (int i = 0; i < instantiators.size(); i++) {
+            instances.add(i == 0 ? "new $T()" : ", new $T()", instantiators.get(i));
+        }
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonAggregateInstantiators",
+                method -> method.addJavadoc("Register the Axon aggregate instantiators generated ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.of($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              GeneratedAggregateInstantiators.BEAN_NAME,
+                                              GeneratedAggregateInstantiators.class,
+                                              List.class,
+                                              instances.build())
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+        return instantiators;
+    }
+
+    private static void generateInstantiator(TypeSpec.Builder type, Class<?> aggregateType) {
+        type.addJavadoc("Instantiates this Axon aggregate without reflection.");
+        type.addModifiers(javax.lang.model.element.Modifier.PUBLIC);
+        type.addSuperinterface(GeneratedAggregateInstantiator.class);
+        type.addMethod(MethodSpec.methodBuilder("aggregateType")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                    WildcardTypeName.subtypeOf(Object.class)))
+                                 .addStatement("return $T.class", aggregateType)
+                                 .build());
+        type.addMethod(MethodSpec.methodBuilder("newInstance")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(Object.class)
+                                 .addStatement("return new $T()", aggregateType)
+                                 .build());
+    }
+
+    /**
+     * Indicates whether code in the package of the given {@code aggregateType} can call its no-arg constructor
+     * directly.
+     *
+     * @param aggregateType the aggregate type to instantiate
+     * @return {@code true} if the aggregate can be instantiated directly, otherwise {@code false}
+     */
+    static boolean isDirectlyInstantiable(Class<?> aggregateType) {
+        int modifiers = aggregateType.getModifiers();
+        if (Modifier.isAbstract(modifiers)
+                || (aggregateType.isMemberClass() && !Modifier.isStatic(modifiers))
+                || !HandlerInvokerGenerator.isAccessible(aggregateType, aggregateType.getPackageName())
+                || Arrays.stream(aggregateType.getDeclaredConstructors())
+                         .anyMatch(c -> c.isAnnotationPresent(Autowired.class))) {
+            return false;
+        }
+        try {
+            Constructor<?> constructor = aggregateType.getDeclaredConstructor();
+            return !Modifier.isPrivate(constructor.getModifiers())
+                    && Arrays.stream(constructor.getExceptionTypes())
+                             .allMatch(e -> RuntimeException.class.isAssignableFrom(e)
+                                     || Error.class.isAssignableFrom(e));
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.InstanceSupplier;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.lang.reflect.Method;
+
+/**
+ * Utility telling whether a bean is the one Axon's auto-configuration defines, so that it can be replaced without
+ * replacing beans of the same name and type the application defines itself.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class AxonAutoConfiguredBeans {
+
+    /**
+     * The name of the auto-configuration class defining Axon's infrastructure beans.
+     */
+    public static final String AXON_AUTO_CONFIGURATION =
+            "org.axonframework.springboot.autoconfig.AxonAutoConfiguration";
+
+    private AxonAutoConfiguredBeans() {
+        // utility class
+    }
+
+    /**
+     * Indicates whether the bean with given {@code beanName} in the given {@code beanFactory} is created by a factory
+     * method of Axon's auto-configuration. The factory method is taken from the resolved bean definition, or from its
+     * instance supplier when the application runs with AOT generated artifacts.
+     *
+     * @param beanFactory the bean factory defining the bean
+     * @param beanName    the name of the bean
+     * @return {@code true} if the bean is defined by Axon's auto-configuration, otherwise {@code false}
+     */
+    public static boolean isDefinedByAxon(BeanFactory beanFactory, String beanName) {
+        if (!(beanFactory instanceof ConfigurableListableBeanFactory listableBeanFactory)
+                || !listableBeanFactory.containsBeanDefinition(beanName)) {
+            return false;
+        }
+        BeanDefinition definition = listableBeanFactory.getMergedBeanDefinition(beanName);
+        if (!(definition instanceof RootBeanDefinition rootDefinition)) {
+            return false;
+        }
+        Method factoryMethod = rootDefinition.getResolvedFactoryMethod();
+        if (factoryMethod == null && rootDefinition.getInstanceSupplier() instanceof InstanceSupplier<?> supplier) {
+            factoryMethod = supplier.getFactoryMethod();
+        }
+        return factoryMethod != null && AXON_AUTO_CONFIGURATION.equals(factoryMethod.getDeclaringClass().getName());
+    }
+}
@@ -25,8 +25,10 @@ import org.axonframework.eventhandling.tokenstore.ConfigToken;
 import org.axonframework.messaging.responsetypes.InstanceResponseType;
 import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
 import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.modelling.command.AggregateScopeDescriptor;
 import org.axonframework.modelling.saga.MetaDataAssociationResolver;
 import org.axonframework.modelling.saga.PayloadAssociationResolver;
+import org.axonframework.modelling.saga.SagaScopeDescriptor;
 import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
 import org.axonframework.modelling.saga.repository.jpa.SerializedSaga;
 import org.axonframework.serialization.SerializedMessage;
@@ -64,7 +66,12 @@ public class AxonRuntimeHints implements RuntimeHintsRegistrar {
                         "org.axonframework.common.jdbc.UnitOfWorkAwareConnectionProviderWrapper$UoWAttachedConnection"));
     }
 
-    private Type[] axonSerializableClasses() {
+    /**
+     * Returns the Axon classes that are serialized and deserialized at runtime.
+     *
+     * @return the Axon classes that are serialized at runtime
+     */
+    static Type[] axonSerializableClasses() {
         return new Type[]{
                 SagaEntry.class,
                 SerializedSaga.class,
@@ -80,7 +87,9 @@ public class AxonRuntimeHints implements RuntimeHintsRegistrar {
                 OptionalResponseType.class,
                 MultipleInstancesResponseType.class,
                 PayloadAssociationResolver.class,
-                MetaDataAssociationResolver.class
+                MetaDataAssociationResolver.class,
+                AggregateScopeDescriptor.class,
+                SagaScopeDescriptor.class
         };
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.springboot.aot.command.CommandNameTable;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the {@link CommandNameTable}: the names of the commands handled by the application, ordered by name. The
+ * generated code registers it in the bean factory, identifying each command by the ordinal of its name.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class CommandNameTableGenerator {
+
+    private final Set<String> commandNames;
+
+    private CommandNameTableGenerator(Set<String> commandNames) {
+        this.commandNames = commandNames;
+    }
+
+    /**
+     * Creates a generator for the names of the commands handled by the handler types in the given {@code metadata},
+     * including the types described by libraries.
+     *
+     * @param metadata the handler metadata of the application
+     * @return a generator for the command name table
+     */
+    static CommandNameTableGenerator collect(AxonHandlerMetadata metadata) {
+        String commandMessageType = CommandMessage.class.getName();
+        Set<String> commandNames = new TreeSet<>();
+        metadata.handlerTypes()
+                .stream()
+                .map(HandlerTypeMetadata::handlers)
+                .flatMap(List::stream)
+                .filter(member -> commandMessageType.equals(member.messageType()))
+                .map(HandlerMemberMetadata::messageName)
+                .forEach(commandNames::add);
+        return new CommandNameTableGenerator(commandNames);
+    }
+
+    /**
+     * Registers the command name table in the bean factory. Nothing is registered when there are no command handlers.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the command name table with
+     */
+    void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        if (commandNames.isEmpty()) {
+            return;
+        }
+        CodeBlock names = GeneratedNameLists.listOf(beanFactoryInitializationCode.getMethods(),
+                                                    "axonCommandNames",
+                                                    commandNames);
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonCommandNameTable",
+                method -> method.addJavadoc("Register the names of the commands handled by Axon found ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($L))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              CommandNameTable.BEAN_NAME,
+                                              CommandNameTable.class,
+                                              names)
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.ContentTypeConverter;
+import org.axonframework.serialization.json.ByteArrayToJsonNodeConverter;
+import org.axonframework.serialization.json.JsonNodeToByteArrayConverter;
+import org.axonframework.serialization.json.JsonNodeToObjectNodeConverter;
+import org.axonframework.serialization.json.ObjectNodeToJsonNodeConverter;
+import org.axonframework.springboot.aot.serialization.ContentTypeConverterRoutes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * BeanFactoryInitializationAotProcessor that calculates the routes through the {@link ContentTypeConverter
+ * ContentTypeConverters} available to serializers, and registers them in the bean factory as
+ * {@link ContentTypeConverterRoutes}.
+ * <p/>
+ * The available converters are those a {@link ChainingConverter} discovers on the classpath, and those Axon's
+ * {@code JacksonSerializer} registers when Jackson is on the classpath. A route is calculated for each pair of content
+ * types for which no single converter is available, preferring the route with the fewest converters, like the
+ * {@link ChainingConverter} does at runtime.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ContentTypeConverterRoutesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentTypeConverterRoutesAotProcessor.class);
+
+    private static final String JACKSON_CLASS = "com.fasterxml.jackson.databind.ObjectMapper";
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        List<List<Class<?>>> routes = routes(availableConverters(classLoader));
+        logger.debug("Calculated {} content type converter routes", routes.size());
+        return (generationContext, code) -> registerRoutes(routes, generationContext, code);
+    }
+
+    private static List<ContentTypeConverter<?, ?>> availableConverters(ClassLoader classLoader) {
+        List<ContentTypeConverter<?, ?>> converters = new ArrayList<>();
+        ServiceLoader<?> serviceLoader = ServiceLoader.load(ContentTypeConverter.class, classLoader);
+        serviceLoader.stream()
+                     .forEach(provider -> {
+                         try {
+                             addIfLoadable((ContentTypeConverter<?, ?>) provider.get(), converters);
+                         } catch (ServiceConfigurationError | NoClassDefFoundError e) {
+                             logger.debug("Ignoring content type converter [{}], as it can't be loaded",
+                                          provider.type().getName());
+                         }
+                     });
+        if (ClassUtils.isPresent(JACKSON_CLASS, classLoader)) {
+            JacksonConverters.create().forEach(converter -> addIfLoadable(converter, converters));
+        }
+        return converters;
+    }
+
+    private static void addIfLoadable(ContentTypeConverter<?, ?> converter,
+                                      List<ContentTypeConverter<?, ?>> converters) {
+        try {
+            converter.expectedSourceType();
+            converter.targetType();
+            converters.add(converter);
+        } catch (NoClassDefFoundError e) {
+            logger.debug("Ignoring content type converter [{}], as it relies on a class that can't be loaded",
+                         converter.getClass().getName());
+        }
+    }
+
+    /**
+     * Calculates the shortest route through the given {@code converters} for each pair of content types the
+     * converters convert between, for which no single converter is available. Like a {@link ChainingConverter}, the
+     * source and target type of subsequent converters must match exactly.
+     *
+     * @param converters the available converters
+     * @return the routes, each listing the types of the converters to apply
+     */
+    static List<List<Class<?>>> routes(List<ContentTypeConverter<?, ?>> converters) {
+        Set<Class<?>> contentTypes = new LinkedHashSet<>();
+        converters.forEach(c -> {
+            contentTypes.add(c.expectedSourceType());
+            contentTypes.add(c.targetType());
+        });
+        List<List<Class<?>>> routes = new ArrayList<>();
+        for (Class<?> sourceType : contentTypes) {
+            Map<Class<?>, List<Class<?>>> shortestRoutes = shortestRoutesFrom(sourceType, converters);
+            for (Class<?> targetType : contentTypes) {
+                List<Class<?>> route = shortestRoutes.get(targetType);
+                if (route != null && route.size() > 1 && !hasDirectConverter(sourceType, targetType, converters)) {
+                    routes.add(route);
+                }
+            }
+        }
+        return routes;
+    }
+
+    private static Map<Class<?>, List<Class<?>>> shortestRoutesFrom(Class<?> sourceType,
+                                                                    List<ContentTypeConverter<?, ?>> converters) {
+        Map<Class<?>, List<Class<?>>> shortestRoutes = new HashMap<>();
+        shortestRoutes.put(sourceType, List.of());
+        Queue<Class<?>> reached = new ArrayDeque<>(List.of(sourceType));
+        while (!reached.isEmpty()) {
+            Class<?> current = reached.remove();
+            for (ContentTypeConverter<?, ?> converter : converters) {
+                if (converter.expectedSourceType().equals(current)
+                        && !shortestRoutes.containsKey(converter.targetType())) {
+                    List<Class<?>> route = new ArrayList<>(shortestRoutes.get(current));
+                    route.add(converter.getClass());
+                    shortestRoutes.put(converter.targetType(), route);
+                    reached.add(converter.targetType());
+                }
+            }
+        }
+        return shortestRoutes;
+    }
+
+    private static boolean hasDirectConverter(Class<?> sourceType,
+                                              Class<?> targetType,
+                                              List<ContentTypeConverter<?, ?>> converters) {
+        return converters.stream().anyMatch(c -> c.expectedSourceType().isAssignableFrom(sourceType)
+                && targetType.isAssignableFrom(c.targetType()));
+    }
+
+    private static void registerRoutes(List<List<Class<?>>> routes,
+                                       GenerationContext generationContext,
+                                       BeanFactoryInitializationCode code) {
+        CodeBlock.Builder routeList = CodeBlock.builder();
+        routes.stream()
+              .filter(route -> route.stream().allMatch(ContentTypeConverterRoutesAotProcessor::isPublic))
+              .forEach(route -> {
+                  CodeBlock.Builder converterTypes = CodeBlock.builder();
+                  route.forEach(converterType -> converterTypes.add(
+                          converterTypes.isEmpty() ? "$T.class" : ", $T.class", converterType
+                  ));
+                  routeList.add(routeList.isEmpty() ? "$T.of($L)" : ",\n$T.of($L)",
+                                List.class, converterTypes.build());
+              });
+        GeneratedMethod registerMethod = code.getMethods().add(
+                "registerAxonContentTypeConverterRoutes",
+                method -> method.addJavadoc("Register the content type converter routes calculated ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.of($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              ContentTypeConverterRoutes.BEAN_NAME,
+                                              ContentTypeConverterRoutes.class,
+                                              List.class,
+                                              routeList.build())
+        );
+        code.addInitializer(registerMethod.toMethodReference());
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The converters Axon's {@code JacksonSerializer} registers with its {@link ChainingConverter}. The object mapper
+     * they are created with is only used to create the converters, as only their types end up in the routes.
+     */
+    private static class JacksonConverters {
+
+        private static List<ContentTypeConverter<?, ?>> create() {
+            ObjectMapper objectMapper = new ObjectMapper();
+            return List.of(new JsonNodeToByteArrayConverter(objectMapper),
+                           new ByteArrayToJsonNodeConverter(objectMapper),
+                           new JsonNodeToObjectNodeConverter(),
+                           new ObjectNodeToJsonNodeConverter());
+        }
+    }
+}
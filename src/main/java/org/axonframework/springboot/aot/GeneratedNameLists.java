@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GeneratedMethods;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.ParameterizedTypeName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the code of the lists of names, such as class and bean names, that the generated code registers. Like the
+ * arrays of the handler metadata, the names are split over several generated methods, so that each method stays within
+ * the maximum method size regardless of the number of names.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+final class GeneratedNameLists {
+
+    private static final int NAMES_PER_METHOD = 2000;
+    private static final ParameterizedTypeName LIST_OF_NAMES =
+            ParameterizedTypeName.get(List.class, String.class);
+    private static final ParameterizedTypeName MAP_OF_NAMES =
+            ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), LIST_OF_NAMES);
+
+    private GeneratedNameLists() {
+        // utility class
+    }
+
+    /**
+     * Returns the code of an unmodifiable {@link List} of the given {@code names}, in their iteration order. The names
+     * are listed by methods added to the given {@code methods}, named after the given {@code methodName}.
+     *
+     * @param methods    the methods to add the methods listing the names to
+     * @param methodName the suggested name of the methods listing the names
+     * @param names      the names to list
+     * @return the code of the list of names
+     */
+    static CodeBlock listOf(GeneratedMethods methods, String methodName, Collection<String> names) {
+        List<String> remaining = List.copyOf(names);
+        if (remaining.isEmpty()) {
+            return CodeBlock.of("$T.of()", List.class);
+        }
+        List<CodeBlock> invocations = new ArrayList<>();
+        for (int start = 0; start < remaining.size(); start += NAMES_PER_METHOD) {
+            List<String> chunk = remaining.subList(start, Math.min(remaining.size(), start + NAMES_PER_METHOD));
+            GeneratedMethod method = methods.add(
+                    methodName,
+                    builder -> builder.addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                      .returns(LIST_OF_NAMES)
+                                      .addStatement("return $T.of($L)", List.class, namesCode(chunk))
+            );
+            invocations.add(CodeBlock.of("$L()", method.getName()));
+        }
+        if (invocations.size() == 1) {
+            return invocations.get(0);
+        }
+        return CodeBlock.of("$T.of($L).flatMap($T::stream).toList()",
+                            Stream.class, CodeBlock.join(invocations, ", "), List.class);
+    }
+
+    /**
+     * Returns the code of a {@link Map} of the given {@code lists} of names, by the name they're listed under, in their
+     * iteration order. The entries are put in the map by methods added to the given {@code methods}, named after the
+     * given {@code methodName}. Lists that don't fit in a single method are listed as by
+     * {@link #listOf(GeneratedMethods, String, Collection)}.
+     *
+     * @param methods    the methods to add the methods putting the entries to
+     * @param methodName the suggested name of the methods putting the entries
+     * @param lists      the lists of names to put in the map, by the name they're listed under
+     * @return the code of the map of names
+     */
+    static CodeBlock mapOf(GeneratedMethods methods,
+                           String methodName,
+                           Map<String, ? extends Collection<String>> lists) {
+        List<CodeBlock> chunks = new ArrayList<>();
+        CodeBlock.Builder chunk = CodeBlock.builder();
+        int chunkSize = 0;
+        for (Map.Entry<String, ? extends Collection<String>> entry : lists.entrySet()) {
+            boolean fitsInMethod = entry.getValue().size() < NAMES_PER_METHOD;
+            int entrySize = fitsInMethod ? 1 + entry.getValue().size() : 1;
+            if (chunkSize + entrySize > NAMES_PER_METHOD) {
+                chunks.add(chunk.build());
+                chunk = CodeBlock.builder();
+                chunkSize = 0;
+            }
+            CodeBlock values = fitsInMethod
+                    ? CodeBlock.of("$T.of($L)", List.class, namesCode(entry.getValue()))
+                    : listOf(methods, methodName + "Values", entry.getValue());
+            chunk.addStatement("map.put($S, $L)", entry.getKey(), values);
+            chunkSize += entrySize;
+        }
+        if (chunkSize > 0) {
+            chunks.add(chunk.build());
+        }
+        List<String> putMethodNames = new ArrayList<>();
+        for (CodeBlock statements : chunks) {
+            GeneratedMethod putMethod = methods.add(
+                    methodName + "Entries",
+                    builder -> builder.addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                      .addParameter(MAP_OF_NAMES, "map")
+                                      .addCode(statements)
+            );
+            putMethodNames.add(putMethod.getName());
+        }
+        GeneratedMethod mapMethod = methods.add(methodName, builder -> {
+            builder.addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                   .returns(MAP_OF_NAMES)
+                   .addStatement("$T map = new $T<>()", MAP_OF_NAMES, LinkedHashMap.class);
+            putMethodNames.forEach(putMethodName -> builder.addStatement("$L(map)", putMethodName));
+            builder.addStatement("return map");
+        });
+        return CodeBlock.of("$L()", mapMethod.getName());
+    }
+
+    private static CodeBlock namesCode(Collection<String> names) {
+        return names.stream().map(name -> CodeBlock.of("$S", name)).collect(CodeBlock.joining(", "));
+    }
+}
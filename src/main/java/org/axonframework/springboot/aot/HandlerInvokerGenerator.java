@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.springboot.aot.invoke.GeneratedHandlerInvoker;
+import org.axonframework.springboot.aot.invoke.GeneratedHandlerInvokers;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeSpec;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@link GeneratedHandlerInvoker} for each detected handling type, which invokes its handlers directly
+ * instead of through reflection. The generated invokers are registered in the bean factory as
+ * {@link GeneratedHandlerInvokers}.
+ * <p/>
+ * Only handlers that take the payload as their single, unannotated parameter, or methods that take no parameters at
+ * all, such as deadline handlers for deadlines without a payload, and that are accessible from the package of the
+ * handling type are generated. All other handlers remain invoked reflectively.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class HandlerInvokerGenerator {
+
+    private static final String FEATURE_NAME = "AxonHandlerInvoker";
+    private static final String INDEX_PARAMETER = "handlerIndex";
+
+    private final Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors;
+
+    /**
+     * Creates a generator for the handlers found by the given {@code inspectors}.
+     *
+     * @param inspectors the inspectors of the detected handling types
+     */
+    HandlerInvokerGenerator(Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors) {
+        this.inspectors = inspectors;
+    }
+
+    /**
+     * Generates the invokers and registers them in the bean factory. Nothing is generated when none of the handlers
+     * can be invoked directly.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the invokers with
+     * @return the names of the generated invokers
+     */
+    List<ClassName> applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        Set<Executable> generated = new HashSet<>();
+        List<ClassName> invokers = new ArrayList<>();
+        inspectors.forEach((handlerType, inspector) -> {
+            String packageName = handlerType.getPackageName();
+            List<Executable> executables =
+                    inspector.getHandlers(handlerType)
+                             .filter(member -> isDirectlyInvocable(member, packageName))
+                             .map(member -> member.unwrap(Executable.class).orElseThrow())
+                             .filter(generated::add)
+                             .toList();
+            if (!executables.isEmpty()) {
+                GeneratedClass invoker = generationContext.getGeneratedClasses().addForFeatureComponent(
+                        FEATURE_NAME, handlerType, type -> generateInvoker(type, executables)
+                );
+                invokers.add(invoker.getName());
+            }
+        });
+        if (invokers.isEmpty()) {
+            return invokers;
+        }
+
+        CodeBlock.Builder instances = CodeBlock.builder();
+        for (int i = 0; i < invokers.size(); i++) {
+            instances.add(i == 0 ? "new $T()" : ", new $T()", invokers.get(i));
+        }
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonHandlerInvokers",
+                method -> method.addJavadoc("Register the Axon handler invokers generated ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.of($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              GeneratedHandlerInvokers.BEAN_NAME,
+                                              GeneratedHandlerInvokers.class,
+                                              List.class,
+                                              instances.build())
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+        return invokers;
+    }
+
+    private void generateInvoker(TypeSpec.Builder type, List<Executable> executables) {
+        type.addJavadoc("Invokes the Axon message handlers of this type without reflection.");
+        type.addModifiers(javax.lang.model.element.Modifier.PUBLIC);
+        type.addSuperinterface(GeneratedHandlerInvoker.class);
+
+        CodeBlock.Builder keys = CodeBlock.builder();
+        for (int i = 0; i < executables.size(); i++) {
+            keys.add(i == 0 ? "$S" : ", $S", GeneratedHandlerInvokers.keyOf(executables.get(i)));
+        }
+        type.addMethod(MethodSpec.methodBuilder("handlerKeys")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(ParameterizedTypeName.get(List.class, String.class))
+                                 .addStatement("return $T.of($L)", List.class, keys.build())
+                                 .build());
+
+        CodeBlock.Builder body = CodeBlock.builder().beginControlFlow("switch ($L)", INDEX_PARAMETER);
+        for (int i = 0; i < executables.size(); i++) {
+            body.add("case $L:\n", i).indent().add(invocationCode(executables.get(i))).unindent();
+        }
+        body.add("default:\n")
+            .indent()
+            .addStatement("throw new $T(\"Unknown handler index \" + $L)",
+                          IllegalArgumentException.class, INDEX_PARAMETER)
+            .unindent()
+            .endControlFlow();
+        type.addMethod(MethodSpec.methodBuilder("invoke")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(Object.class)
+                                 .addParameter(int.class, INDEX_PARAMETER)
+                                 .addParameter(Object.class, "target")
+                                 .addParameter(Object.class, "payload")
+                                 .addException(Exception.class)
+                                 .addCode(body.build())
+                                 .build());
+    }
+
+    private static CodeBlock invocationCode(Executable executable) {
+        Class<?> declaringClass = executable.getDeclaringClass();
+        CodeBlock argument = executable.getParameterCount() == 0
+                ? CodeBlock.of("")
+                : CodeBlock.of("($T) payload", executable.getParameterTypes()[0]);
+        if (executable instanceof Constructor<?>) {
+            return CodeBlock.builder()
+                            .addStatement("return new $T($L)", declaringClass, argument)
+                            .build();
+        }
+        Method method = (Method) executable;
+        if (method.getReturnType() == void.class) {
+            return CodeBlock.builder()
+                            .addStatement("(($T) target).$L($L)", declaringClass, method.getName(), argument)
+                            .addStatement("return null")
+                            .build();
+        }
+        return CodeBlock.builder()
+                        .addStatement("return (($T) target).$L($L)", declaringClass, method.getName(), argument)
+                        .build();
+    }
+
+    /**
+     * Indicates whether code in the given {@code packageName} can invoke the handler of the given {@code member}
+     * directly, passing the payload as its single parameter, or passing no parameters to a method without any.
+     *
+     * @param member      the handler to invoke
+     * @param packageName the package the invoker is generated in
+     * @return {@code true} if the handler can be invoked directly, otherwise {@code false}
+     */
+    static boolean isDirectlyInvocable(MessageHandlingMember<?> member, String packageName) {
+        Executable executable = member.unwrap(Executable.class).orElse(null);
+        if (executable == null) {
+            return false;
+        }
+        Class<?> declaringClass = executable.getDeclaringClass();
+        if (executable.getParameterCount() == 0) {
+            return executable instanceof Method
+                    && throwsExceptionsOnly(executable)
+                    && isAccessible(executable.getModifiers(), declaringClass, packageName)
+                    && isAccessible(declaringClass, packageName);
+        }
+        if (executable.getParameterCount() != 1 || executable.getParameterAnnotations()[0].length > 0) {
+            return false;
+        }
+        Class<?> parameterType = executable.getParameterTypes()[0];
+        if (parameterType.isPrimitive()
+                || Message.class.isAssignableFrom(parameterType)
+                || !parameterType.isAssignableFrom(member.payloadType())) {
+            return false;
+        }
+        if (executable instanceof Constructor<?>
+                && (Modifier.isAbstract(declaringClass.getModifiers())
+                || (declaringClass.isMemberClass() && !Modifier.isStatic(declaringClass.getModifiers())))) {
+            return false;
+        }
+        return throwsExceptionsOnly(executable)
+                && isAccessible(executable.getModifiers(), declaringClass, packageName)
+                && isAccessible(declaringClass, packageName)
+                && isAccessible(parameterType, packageName);
+    }
+
+    private static boolean throwsExceptionsOnly(Executable executable) {
+        return Arrays.stream(executable.getExceptionTypes())
+                     .allMatch(e -> Exception.class.isAssignableFrom(e) || Error.class.isAssignableFrom(e));
+    }
+
+    /**
+     * Indicates whether code in the given {@code packageName} can refer to the given {@code type}.
+     *
+     * @param type        the type to refer to
+     * @param packageName the package of the code referring to the type
+     * @return {@code true} if the type is accessible, otherwise {@code false}
+     */
+    static boolean isAccessible(Class<?> type, String packageName) {
+        Class<?> componentType = type;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+        }
+        for (Class<?> c = componentType; c != null; c = c.getEnclosingClass()) {
+            if (c.isLocalClass() || c.isAnonymousClass() || !isAccessible(c.getModifiers(), c, packageName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessible(int modifiers, Class<?> declaringClass, String packageName) {
+        if (Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        return Modifier.isPublic(modifiers) || declaringClass.getPackageName().equals(packageName);
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.commandhandling.CommandMessageHandlingMember;
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.config.ProcessingGroup;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.HandlerAttributes;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.queryhandling.annotation.QueryHandlingMember;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMetadataIndex;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryTypeMetadata;
+import org.axonframework.springboot.aot.metadata.ProcessingGroupMetadata;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.FieldSpec;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the code holding the {@link AxonHandlerMetadata} detected ahead of time, as well as the native image
+ * configuration that allows this metadata to be initialized at build time.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class HandlerMetadataGenerator {
+
+    private static final String FEATURE_NAME = "AxonHandlerMetadata";
+    private static final String METADATA_FIELD = "METADATA";
+    private static final int NAMES_PER_METHOD = 2000;
+    private static final int VALUES_PER_METHOD = 5000;
+    private static final List<Function<Class<?>, ResponseType<?>>> RESPONSE_TYPE_FACTORIES = List.of(
+            ResponseTypes::instanceOf,
+            ResponseTypes::optionalInstanceOf,
+            ResponseTypes::multipleInstancesOf
+    );
+    private static final String SAGA_ANNOTATION = "org.axonframework.spring.stereotype.Saga";
+    private static final String NATIVE_IMAGE_PROPERTIES_LOCATION =
+            "META-INF/native-image/org.axonframework.extensions.spring-aot/%s/native-image.properties";
+
+    private final AxonHandlerMetadata metadata;
+
+    /**
+     * Creates a generator for the given {@code metadata}.
+     *
+     * @param metadata the metadata to generate code for
+     */
+    HandlerMetadataGenerator(AxonHandlerMetadata metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * Describes the handlers and interceptors the given {@code inspector} found for the given {@code handlerType}.
+     *
+     * @param handlerType the type to describe
+     * @param beanNames   the names of the beans of the given type
+     * @param inspector   the inspector that inspected the type
+     * @return the metadata describing the handlers of the type
+     */
+    static HandlerTypeMetadata describe(Class<?> handlerType,
+                                        List<String> beanNames,
+                                        AnnotatedHandlerInspector<?> inspector) {
+        List<HandlerMemberMetadata> handlers = inspector.getHandlers(handlerType)
+                                                        .map(HandlerMetadataGenerator::describe)
+                                                        .toList();
+        List<HandlerMemberMetadata> interceptors = inspector.getAllInterceptors()
+                                                            .getOrDefault(handlerType, Collections.emptySortedSet())
+                                                            .stream()
+                                                            .map(HandlerMetadataGenerator::describe)
+                                                            .toList();
+        return new HandlerTypeMetadata(handlerType.getName(), beanNames, handlers, interceptors);
+    }
+
+    private static HandlerMemberMetadata describe(MessageHandlingMember<?> member) {
+        Class<?> messageType = member.<Class<?>>attribute(HandlerAttributes.MESSAGE_TYPE).orElse(Message.class);
+        Optional<QueryHandlingMember<?>> queryHandler = queryHandlerOf(member);
+        String messageName = member.unwrap(CommandMessageHandlingMember.class)
+                                   .map(commandHandler -> commandHandler.commandName())
+                                   .or(() -> queryHandler.map(q -> q.getQueryName()))
+                                   .orElse(member.payloadType().getName());
+        String resultType = queryHandler.map(q -> q.getResultType().getTypeName()).orElse(null);
+        return new HandlerMemberMetadata(member.signature(),
+                                         messageType.getName(),
+                                         member.payloadType().getName(),
+                                         messageName,
+                                         resultType,
+                                         member.priority());
+    }
+
+    private static Optional<QueryHandlingMember<?>> queryHandlerOf(MessageHandlingMember<?> member) {
+        return member.unwrap(QueryHandlingMember.class).map(queryHandler -> queryHandler);
+    }
+
+    /**
+     * Computes the outcome of matching the response types that queries are likely to use against the result types of
+     * the given query handling {@code members}. For each handler, the likely expected response types are the result
+     * type itself and the type it wraps, such as the element type of a list. These are combined with the default
+     * {@link ResponseType} implementations and matched against the result types of all handlers for the same query.
+     *
+     * @param members the message handling members to compute the matches for. Members that don't handle queries are
+     *                ignored
+     * @return the computed response type matches
+     */
+    static List<ResponseTypeMatch> responseTypeMatches(Collection<MessageHandlingMember<?>> members) {
+        Map<String, Set<Type>> resultTypesPerQuery =
+                members.stream()
+                       .map(HandlerMetadataGenerator::queryHandlerOf)
+                       .flatMap(Optional::stream)
+                       .collect(Collectors.groupingBy(queryHandler -> queryHandler.getQueryName(),
+                                                      Collectors.mapping(queryHandler -> queryHandler.getResultType(),
+                                                                         Collectors.toCollection(LinkedHashSet::new))));
+        Set<ResponseTypeMatch> matches = new LinkedHashSet<>();
+        resultTypesPerQuery.values().forEach(resultTypes -> {
+            Set<Class<?>> expectedTypes = new LinkedHashSet<>();
+            resultTypes.removeIf(resultType -> !ResponseTypeMatch.isConcrete(resultType));
+            resultTypes.forEach(resultType -> expectedTypes.addAll(expectedResponseTypes(resultType)));
+            for (Class<?> expectedType : expectedTypes) {
+                for (Function<Class<?>, ResponseType<?>> factory : RESPONSE_TYPE_FACTORIES) {
+                    ResponseType<?> responseType = factory.apply(expectedType);
+                    for (Type resultType : resultTypes) {
+                        matches.add(new ResponseTypeMatch(responseType.getClass().getName(),
+                                                          responseType.getExpectedResponseType().getName(),
+                                                          resultType.getTypeName(),
+                                                          responseType.matchRank(resultType)));
+                    }
+                }
+            }
+        });
+        return List.copyOf(matches);
+    }
+
+    /**
+     * Collects the event payload types handled per processing group by the given event handling {@code beanTypes}. The
+     * processing group of a type is defined by its {@link ProcessingGroup} annotation, defaulting to its package name.
+     * Aggregates and sagas are not assigned to processing groups through their type, and are ignored. Bean types that
+     * weren't inspected are taken from the given {@code libraries} when those describe them.
+     *
+     * @param beanTypes  the types of the beans declaring message handlers
+     * @param inspectors the inspectors of the detected handling types
+     * @param libraries  the handler metadata of the libraries on the classpath
+     * @return the event payload types handled by each processing group
+     */
+    static List<ProcessingGroupMetadata> processingGroups(Collection<Class<?>> beanTypes,
+                                                          Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors,
+                                                          LibraryHandlerMetadata libraries) {
+        Map<String, Set<String>> payloadTypesPerGroup = new TreeMap<>();
+        for (Class<?> beanType : beanTypes) {
+            AnnotatedHandlerInspector<?> inspector = inspectors.get(beanType);
+            Optional<LibraryTypeMetadata> libraryType = libraries.type(beanType.getName());
+            Optional<String> group;
+            Set<String> payloadTypes;
+            if (inspector != null) {
+                group = processingGroupOf(beanType);
+                payloadTypes = inspector.getHandlers(beanType)
+                                        .filter(member -> member.canHandleMessageType(EventMessage.class))
+                                        .map(member -> member.payloadType().getName())
+                                        .collect(Collectors.toCollection(TreeSet::new));
+            } else if (libraryType.isPresent()) {
+                group = Optional.ofNullable(libraryType.get().processingGroup());
+                payloadTypes = libraryType.get()
+                                          .metadata()
+                                          .handlers()
+                                          .stream()
+                                          .filter(member -> handlesEvents(member, beanType.getClassLoader()))
+                                          .map(HandlerMemberMetadata::payloadType)
+                                          .collect(Collectors.toCollection(TreeSet::new));
+            } else {
+                continue;
+            }
+            if (group.isPresent() && !payloadTypes.isEmpty()) {
+                payloadTypesPerGroup.computeIfAbsent(group.get(), g -> new TreeSet<>()).addAll(payloadTypes);
+            }
+        }
+        return payloadTypesPerGroup.entrySet()
+                                   .stream()
+                                   .map(e -> new ProcessingGroupMetadata(e.getKey(), List.copyOf(e.getValue())))
+                                   .toList();
+    }
+
+    /**
+     * Returns the processing group of the given event handling {@code beanType}, which is defined by its
+     * {@link ProcessingGroup} annotation, defaulting to its package name.
+     *
+     * @param beanType the type of the event handling bean
+     * @return the processing group of the type, or an empty optional for aggregates and sagas
+     */
+    static Optional<String> processingGroupOf(Class<?> beanType) {
+        if (AnnotationUtils.isAnnotationPresent(beanType, AggregateRoot.class)
+                || AnnotationUtils.isAnnotationPresent(beanType, SAGA_ANNOTATION)) {
+            return Optional.empty();
+        }
+        return Optional.of(AnnotationUtils.<String>findAnnotationAttribute(beanType,
+                                                                           ProcessingGroup.class,
+                                                                           "processingGroup")
+                                          .orElse(beanType.getPackageName()));
+    }
+
+    /**
+     * Indicates whether the given {@code member}, described by a library, handles events.
+     *
+     * @param member      the metadata of the message handling member
+     * @param classLoader the class loader to load the message type of the member with
+     * @return {@code true} if the member handles events, otherwise {@code false}
+     */
+    static boolean handlesEvents(HandlerMemberMetadata member, @Nullable ClassLoader classLoader) {
+        try {
+            return ClassUtils.forName(member.messageType(), classLoader).isAssignableFrom(EventMessage.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the types a query handler with the given {@code resultType} responds with: the result type itself and,
+     * for arrays and single-parameter generic types, its element type. Futures are unwrapped first.
+     *
+     * @param resultType the result type of a query handler
+     * @return the types the query handler responds with
+     */
+    static Set<Class<?>> expectedResponseTypes(Type resultType) {
+        ResolvableType type = ResolvableType.forType(resultType);
+        while (Future.class.isAssignableFrom(type.toClass()) && type.hasGenerics()) {
+            type = type.as(Future.class).getGeneric(0);
+        }
+        Set<Class<?>> expectedTypes = new LinkedHashSet<>();
+        expectedTypes.add(type.toClass());
+        if (type.isArray()) {
+            expectedTypes.add(type.getComponentType().toClass());
+        } else if (type.getGenerics().length == 1) {
+            expectedTypes.add(type.getGeneric(0).toClass());
+        }
+        return expectedTypes;
+    }
+
+    /**
+     * Generates a class holding the metadata in a static field, registers that instance in the bean factory and
+     * instructs native image to initialize the generated class at build time.
+     *
+     * @param generationContext             the context to generate the code and resources in
+     * @param beanFactoryInitializationCode the code to register the metadata bean with
+     * @return the name of the generated class holding the metadata
+     */
+    ClassName applyTo(GenerationContext generationContext,
+                      BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        GeneratedClass generatedClass = generationContext.getGeneratedClasses()
+                                                         .addForFeature(FEATURE_NAME, this::generateMetadataHolder);
+        ClassName holderName = generatedClass.getName();
+
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonHandlerMetadata",
+                method -> method.addJavadoc("Register the Axon handler metadata detected ahead of time.")
+                                .addModifiers(Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, $T.$L)",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              AxonHandlerMetadata.BEAN_NAME,
+                                              holderName,
+                                              METADATA_FIELD)
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+
+        generationContext.getGeneratedFiles().addResourceFile(
+                String.format(NATIVE_IMAGE_PROPERTIES_LOCATION, holderName.reflectionName()),
+                "Args = --initialize-at-build-time=" + AxonHandlerMetadata.class.getPackageName()
+                        + "," + holderName.reflectionName() + "\n"
+        );
+        return holderName;
+    }
+
+    private void generateMetadataHolder(TypeSpec.Builder type) {
+        type.addJavadoc("Axon handler metadata detected ahead of time. "
+                                + "This class is safe to initialize at build time.");
+        type.addModifiers(Modifier.PUBLIC);
+
+        // the arrays are split over several methods to keep each of them within the maximum method size
+        HandlerMetadataIndex index = metadata.index();
+        String[] names = index.names();
+        List<String> nameMethods = new ArrayList<>();
+        for (int start = 0; start < names.length; start += NAMES_PER_METHOD) {
+            String methodName = "names" + nameMethods.size();
+            CodeBlock values = Arrays.stream(names, start, Math.min(names.length, start + NAMES_PER_METHOD))
+                                     .map(name -> CodeBlock.of("$S", name))
+                                     .collect(CodeBlock.joining(", "));
+            type.addMethod(arrayMethod(methodName, String[].class, values));
+            nameMethods.add(methodName);
+        }
+        int[] data = index.data();
+        List<String> dataMethods = new ArrayList<>();
+        for (int start = 0; start < data.length; start += VALUES_PER_METHOD) {
+            String methodName = "data" + dataMethods.size();
+            CodeBlock values = Arrays.stream(data, start, Math.min(data.length, start + VALUES_PER_METHOD))
+                                     .mapToObj(value -> CodeBlock.of("$L", value))
+                                     .collect(CodeBlock.joining(", "));
+            type.addMethod(arrayMethod(methodName, int[].class, values));
+            dataMethods.add(methodName);
+        }
+        type.addField(FieldSpec.builder(AxonHandlerMetadata.class,
+                                        METADATA_FIELD,
+                                        Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                               .initializer("new $T(new $T($L, $L))",
+                                            AxonHandlerMetadata.class,
+                                            HandlerMetadataIndex.class,
+                                            concatenatedArrayCode(nameMethods, String[].class),
+                                            concatenatedArrayCode(dataMethods, int[].class))
+                               .build());
+    }
+
+    private static MethodSpec arrayMethod(String methodName, Class<?> arrayType, CodeBlock values) {
+        return MethodSpec.methodBuilder(methodName)
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .returns(arrayType)
+                         .addStatement("return new $T {$L}", arrayType, values)
+                         .build();
+    }
+
+    private static CodeBlock concatenatedArrayCode(List<String> methodNames, Class<?> arrayType) {
+        if (methodNames.isEmpty()) {
+            return CodeBlock.of("new $T {}", arrayType);
+        }
+        if (methodNames.size() == 1) {
+            return CodeBlock.of("$L()", methodNames.get(0));
+        }
+        CodeBlock invocations = methodNames.stream()
+                                           .map(methodName -> CodeBlock.of("$L()", methodName))
+                                           .collect(CodeBlock.joining(", "));
+        return arrayType == int[].class
+                ? CodeBlock.of("$T.of($L).flatMapToInt($T::stream).toArray()", Stream.class, invocations, Arrays.class)
+                : CodeBlock.of("$T.of($L).flatMap($T::stream).toArray($T[]::new)",
+                               Stream.class, invocations, Arrays.class, String.class);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.ReflectionUtils;
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandler;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.springboot.aot.metadata.LibraryHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryTypeMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.nativex.FileNativeConfigurationWriter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Writes the Axon handler metadata and native image configuration of a library into its compiled classes, so that
+ * applications using the library don't need to inspect its handling types during their own ahead of time processing.
+ * <p/>
+ * The writer inspects all concrete classes in the classes directory that declare message handlers, as well as the
+ * types of their aggregate members. It writes their {@link LibraryHandlerMetadata} to
+ * {@value LibraryHandlerMetadata#LOCATION}, and the reflection hints needed to invoke their handlers to
+ * {@code META-INF/native-image/<group id>/<artifact id>}. Run it after compiling the library, with the classes
+ * directory, group id and artifact id of the library as arguments, and the library's classpath as classpath.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class LibraryMetadataWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LibraryMetadataWriter.class);
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private LibraryMetadataWriter() {
+        // utility class
+    }
+
+    /**
+     * Writes the metadata of the library whose classes directory, group id and artifact id are given as arguments.
+     *
+     * @param args the classes directory, group id and artifact id of the library
+     * @throws IOException when reading the classes or writing the metadata fails
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException(
+                    "Expected the classes directory, group id and artifact id of the library as arguments"
+            );
+        }
+        LibraryHandlerMetadata metadata = write(Path.of(args[0]), args[1], args[2],
+                                                Thread.currentThread().getContextClassLoader());
+        logger.info("Wrote the handler metadata of {} types to {}", metadata.types().size(), args[0]);
+    }
+
+    /**
+     * Inspects the handling types in the given {@code classesDirectory}, and writes their handler metadata and native
+     * image configuration into that directory.
+     *
+     * @param classesDirectory the directory holding the compiled classes of the library
+     * @param groupId          the group id of the library, used to locate the native image configuration
+     * @param artifactId       the artifact id of the library, used to locate the native image configuration
+     * @param classLoader      the class loader to load the classes of the library with
+     * @return the metadata that was written
+     * @throws IOException when reading the classes or writing the metadata fails
+     */
+    public static LibraryHandlerMetadata write(Path classesDirectory,
+                                               String groupId,
+                                               String artifactId,
+                                               ClassLoader classLoader) throws IOException {
+        Set<Class<?>> detectedClasses = new TreeSet<>(Comparator.comparing(Class::getName));
+        handlerTypes(classesDirectory, classLoader).forEach(type -> registerAggregateMembers(type, detectedClasses));
+        Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors = new TreeMap<>(Comparator.comparing(Class::getName));
+        detectedClasses.forEach(type -> inspectors.put(type, MessageHandlerRuntimeHintsRegistrar.inspect(type)));
+
+        List<LibraryTypeMetadata> types = new ArrayList<>();
+        inspectors.forEach((type, inspector) -> {
+            Set<Class<?>> entityTypes = new TreeSet<>(Comparator.comparing(Class::getName));
+            registerAggregateMembers(type, entityTypes);
+            entityTypes.remove(type);
+            types.add(new LibraryTypeMetadata(HandlerMetadataGenerator.describe(type, List.of(), inspector),
+                                              HandlerMetadataGenerator.processingGroupOf(type).orElse(null),
+                                              entityTypes.stream().map(Class::getName).toList()));
+        });
+        List<MessageHandlingMember<?>> members = MessageHandlerRuntimeHintsRegistrar.membersOf(inspectors.values());
+        LibraryHandlerMetadata metadata =
+                new LibraryHandlerMetadata(types, HandlerMetadataGenerator.responseTypeMatches(members));
+
+        Path location = classesDirectory.resolve(LibraryHandlerMetadata.LOCATION);
+        Files.createDirectories(location.getParent());
+        try (Writer writer = Files.newBufferedWriter(location, StandardCharsets.UTF_8)) {
+            metadata.write(writer);
+        }
+        RuntimeHints hints = new RuntimeHints();
+        MessageHandlerRuntimeHintsRegistrar.registerHints(hints.reflection(), inspectors.keySet(), members);
+        new FileNativeConfigurationWriter(classesDirectory, groupId, artifactId).write(hints);
+        return metadata;
+    }
+
+    private static List<Class<?>> handlerTypes(Path classesDirectory, ClassLoader classLoader) throws IOException {
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            return files.filter(Files::isRegularFile)
+                        .map(file -> classesDirectory.relativize(file).toString())
+                        .filter(file -> file.endsWith(CLASS_FILE_SUFFIX)
+                                && !file.startsWith("META-INF")
+                                && !file.endsWith("module-info.class")
+                                && !file.endsWith("package-info.class"))
+                        .sorted()
+                        .<Class<?>>map(file -> loadClass(file, classLoader))
+                        .filter(Objects::nonNull)
+                        .filter(LibraryMetadataWriter::isHandlerType)
+                        .toList();
+        }
+    }
+
+    @Nullable
+    private static Class<?> loadClass(String classFile, ClassLoader classLoader) {
+        String className = classFile.substring(0, classFile.length() - CLASS_FILE_SUFFIX.length())
+                                    .replace('\\', '.')
+                                    .replace('/', '.');
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.debug("Skipping class {}, as it can't be loaded", className, e);
+            return null;
+        }
+    }
+
+    private static boolean isHandlerType(Class<?> type) {
+        return !type.isInterface()
+                && !type.isAnnotation()
+                && !type.isAnonymousClass()
+                && !type.isLocalClass()
+                && !Modifier.isAbstract(type.getModifiers())
+                && hasMessageHandler(type);
+    }
+
+    /**
+     * Indicates whether the given {@code type} declares or inherits a message handler, like Axon's
+     * {@link org.axonframework.spring.config.MessageHandlerLookup} checks it.
+     */
+    private static boolean hasMessageHandler(Class<?> type) {
+        for (Method method : ReflectionUtils.methodsOf(type)) {
+            Optional<Map<String, Object>> attributes =
+                    AnnotationUtils.findAnnotationAttributes(method, MessageHandler.class);
+            if (attributes.isPresent()
+                    && Message.class.isAssignableFrom((Class<?>) attributes.get().get("messageType"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void registerAggregateMembers(Class<?> type, Set<Class<?>> detectedClasses) {
+        MessageHandlerRuntimeHintsRegistrar.registerAggregateMembers(type,
+                                                                     detectedClasses,
+                                                                     LibraryHandlerMetadata.empty(),
+                                                                     new HashSet<>());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010-2023. Axon Framework
+ * Copyright (c) 2010-2025. Axon Framework
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,13 @@ import org.axonframework.messaging.annotation.ParameterResolverFactory;
 import org.axonframework.modelling.command.AggregateMember;
 import org.axonframework.queryhandling.annotation.QueryHandlingMember;
 import org.axonframework.spring.config.MessageHandlerLookup;
+import org.axonframework.springboot.aot.hints.ObservedHints;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.aot.generate.GenerationContext;
 import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
 import org.springframework.aot.hint.ExecutableMode;
@@ -37,17 +44,25 @@ import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContrib
 import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
 import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,64 +72,222 @@ import java.util.stream.Stream;
  * <p/>
  * Additionally, the payload types for these methods are registered for reflective access, as well as the classes
  * containing the methods.
+ * <p/>
+ * The detected handlers are also described in an {@link AxonHandlerMetadata} instance, which is generated into a class
+ * that is initialized at build time when compiling to a native image. Handlers that can be called directly get a
+ * generated invoker, allowing them to be invoked without reflection. Similarly, the
+ * {@link org.axonframework.messaging.annotation.MetaDataValue} parameters of handlers get a generated resolver, and
+ * aggregates get a generated instantiator calling their no-arg constructor and a generated codec writing their
+ * snapshots. Payloads of deadline handlers that aren't the payload of other messages get a generated codec as well.
+ * <p/>
+ * The concrete subtypes of polymorphic aggregates are found among the aggregate beans, and inspected along with the
+ * message handling types. They're registered per aggregate type, so that the handlers of each concrete type can be
+ * resolved once when the aggregate model is created. The types of updates the query handlers produce are registered
+ * per query, so that their compatibility with subscription queries can be checked once. The event payload types that
+ * are handled during a replay are registered per processing group, so that replayed events no handler wants can be
+ * skipped. The names of the handled commands are registered in a table, so that components keeping data per command
+ * can index it by the ordinal of the command's name. The handling types and their payload types are listed as well,
+ * so that they can be loaded in the background at startup.
+ * <p/>
+ * When an observed hint profile is present at {@value ObservedHints#PROFILE_LOCATION}, the reflection hints of handler
+ * methods and their payload and result types are only registered for the handlers listed in that profile.
+ * <p/>
+ * When the {@value #LIBRARY_METADATA_PROPERTY} property is {@code true} at build time, types described by the
+ * {@link LibraryHandlerMetadata} of a library on the classpath aren't inspected. Their metadata is taken from the
+ * library instead, and their reflection hints are provided by the native image configuration in the library's jar. No
+ * invokers, resolvers, instantiators, codecs or query update types are generated for these types, and the metadata
+ * reflects the handler definitions and parameter resolvers the library was built with, rather than those of the
+ * application. By default, these types are inspected like any other handling type.
  *
  * @author Allard Buijze
  * @since 4.8.0
  */
 public class MessageHandlerRuntimeHintsRegistrar implements BeanFactoryInitializationAotProcessor {
 
+    /**
+     * Property to reuse the handler metadata of libraries instead of inspecting the types they describe.
+     */
+    public static final String LIBRARY_METADATA_PROPERTY = "axon.aot.library-metadata.enabled";
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageHandlerRuntimeHintsRegistrar.class);
+
     @Override
     public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
-        Set<Class<?>> messageHandlingClasses =
+        Map<Class<?>, List<String>> beanNamesPerType =
                 MessageHandlerLookup.messageHandlerBeans(messageType(), beanFactory, true)
                                     .stream()
-                                    .map(beanFactory::getType)
-                                    .collect(Collectors.toSet());
+                                    .filter(beanName -> beanFactory.getType(beanName) != null)
+                                    .collect(Collectors.groupingBy(beanFactory::getType,
+                                                                   LinkedHashMap::new,
+                                                                   Collectors.toList()));
+        Set<Class<?>> messageHandlingClasses = beanNamesPerType.keySet();
 
+        LibraryHandlerMetadata libraries = reusesLibraryMetadata(beanFactory)
+                ? LibraryHandlerMetadata.load(beanFactory.getBeanClassLoader())
+                : LibraryHandlerMetadata.empty();
         Set<Class<?>> detectedClasses = new HashSet<>();
-        messageHandlingClasses.forEach(c -> registerAggregateMembers(c, detectedClasses));
-
-        List<MessageHandlingMember<?>> messageHandlingMembers = detectedClasses
-                .stream()
-                .flatMap(beanType ->
-                         {
-                             AnnotatedHandlerInspector<?> inspector = AnnotatedHandlerInspector.inspectType(
-                                     beanType,
-                                     MultiParameterResolverFactory.ordered(
-                                             ClasspathParameterResolverFactory.forClass(beanType),
-                                             new LenientParameterResolver()
-                                     ));
-                             return Stream.concat(inspector.getAllHandlers().values().stream(),
-                                                  inspector.getAllInterceptors().values().stream());
-                         })
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
-        return new MessageHandlerContribution(detectedClasses, messageHandlingMembers);
+        Set<String> libraryTypes = new TreeSet<>();
+        messageHandlingClasses.forEach(c -> registerAggregateMembers(c, detectedClasses, libraries, libraryTypes));
+        AggregateHierarchyGenerator aggregateHierarchies =
+                AggregateHierarchyGenerator.discover(beanFactory, messageHandlingClasses);
+        aggregateHierarchies.subtypes()
+                            .forEach(c -> registerAggregateMembers(c, detectedClasses, libraries, libraryTypes));
+        if (!libraryTypes.isEmpty()) {
+            logger.info("Reusing the handler metadata of {} types described by libraries, instead of inspecting them",
+                        libraryTypes.size());
+        }
+
+        Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors = new TreeMap<>(Comparator.comparing(Class::getName));
+        detectedClasses.forEach(beanType -> inspectors.put(beanType, inspect(beanType)));
+
+        List<MessageHandlingMember<?>> messageHandlingMembers = membersOf(inspectors.values());
+        List<HandlerTypeMetadata> handlerTypes = new ArrayList<>();
+        inspectors.forEach((type, inspector) -> handlerTypes.add(HandlerMetadataGenerator.describe(
+                type, beanNamesPerType.getOrDefault(type, List.of()), inspector
+        )));
+        Map<String, List<String>> beanNamesPerTypeName = new HashMap<>();
+        beanNamesPerType.forEach((type, beanNames) -> beanNamesPerTypeName.put(type.getName(), beanNames));
+        libraries.withEntityTypes(libraryTypes).forEach(typeName -> libraries.type(typeName).ifPresent(
+                type -> handlerTypes.add(new HandlerTypeMetadata(typeName,
+                                                                 beanNamesPerTypeName.getOrDefault(typeName, List.of()),
+                                                                 type.metadata().handlers(),
+                                                                 type.metadata().interceptors()))
+        ));
+        List<ResponseTypeMatch> responseTypeMatches =
+                new ArrayList<>(HandlerMetadataGenerator.responseTypeMatches(messageHandlingMembers));
+        if (!libraryTypes.isEmpty()) {
+            responseTypeMatches.addAll(libraries.responseTypeMatches());
+        }
+        AxonHandlerMetadata metadata = new AxonHandlerMetadata(
+                handlerTypes,
+                responseTypeMatches,
+                HandlerMetadataGenerator.processingGroups(messageHandlingClasses, inspectors, libraries)
+        );
+        return new MessageHandlerContribution(detectedClasses,
+                                              hintedMembers(messageHandlingMembers, beanFactory.getBeanClassLoader()),
+                                              metadata,
+                                              inspectors,
+                                              aggregateHierarchies,
+                                              QueryUpdateTypesGenerator.collect(messageHandlingMembers),
+                                              ReplayableEventTypesGenerator.collect(messageHandlingClasses,
+                                                                                    inspectors,
+                                                                                    libraries));
+    }
+
+    private static boolean reusesLibraryMetadata(ConfigurableListableBeanFactory beanFactory) {
+        return beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)
+                && beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class)
+                              .getProperty(LIBRARY_METADATA_PROPERTY, Boolean.class, false);
+    }
+
+    /**
+     * Inspects the message handlers and interceptors of the given {@code handlerType}. Parameters that can't be
+     * resolved don't fail the inspection, as the resolvers available at runtime may not be known ahead of time.
+     *
+     * @param handlerType the type to inspect
+     * @return the inspector holding the handlers and interceptors of the type
+     */
+    static AnnotatedHandlerInspector<?> inspect(Class<?> handlerType) {
+        return AnnotatedHandlerInspector.inspectType(handlerType, MultiParameterResolverFactory.ordered(
+                ClasspathParameterResolverFactory.forClass(handlerType),
+                new LenientParameterResolver()
+        ));
+    }
+
+    /**
+     * Returns all message handlers and interceptors found by the given {@code inspectors}.
+     *
+     * @param inspectors the inspectors of the handling types
+     * @return the message handling members of all inspected types
+     */
+    static List<MessageHandlingMember<?>> membersOf(Collection<AnnotatedHandlerInspector<?>> inspectors) {
+        return inspectors.stream()
+                         .flatMap(inspector -> Stream.concat(inspector.getAllHandlers().values().stream(),
+                                                             inspector.getAllInterceptors().values().stream()))
+                         .flatMap(Collection::stream)
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * Registers the reflection hints needed to invoke the given message handling {@code members} reflectively, and to
+     * bind the given {@code messageHandlingClasses} and the payload and result types of the members.
+     *
+     * @param reflectionHints        the hints to register with
+     * @param messageHandlingClasses the handling types, aggregates and entities
+     * @param members                the message handling members to register hints for
+     */
+    static void registerHints(ReflectionHints reflectionHints,
+                              Collection<Class<?>> messageHandlingClasses,
+                              Collection<MessageHandlingMember<?>> members) {
+        BindingReflectionHintsRegistrar registrar = new BindingReflectionHintsRegistrar();
+        messageHandlingClasses.forEach(c -> registrar.registerReflectionHints(reflectionHints, c));
+        members.forEach(m -> {
+            m.unwrap(Method.class).ifPresent(mm -> reflectionHints.registerMethod(mm, ExecutableMode.INVOKE));
+            m.unwrap(Constructor.class).ifPresent(mm -> reflectionHints.registerConstructor(mm,
+                                                                                            ExecutableMode.INVOKE));
+            registrar.registerReflectionHints(reflectionHints, m.payloadType());
+            if (m instanceof QueryHandlingMember<?> queryHandlingMember) {
+                registrar.registerReflectionHints(reflectionHints, queryHandlingMember.getResultType());
+            }
+        });
+    }
+
+    private List<MessageHandlingMember<?>> hintedMembers(List<MessageHandlingMember<?>> members,
+                                                         ClassLoader classLoader) {
+        Optional<Set<String>> observedHandlers = ObservedHints.load(classLoader);
+        if (observedHandlers.isEmpty()) {
+            return members;
+        }
+        Set<String> observed = observedHandlers.get();
+        List<MessageHandlingMember<?>> hintedMembers =
+                members.stream()
+                       .filter(member -> ObservedHints.keyOf(member).map(observed::contains).orElse(true))
+                       .collect(Collectors.toList());
+        logger.info("Registering hints for {} of {} message handling members, as listed in {}",
+                    hintedMembers.size(), members.size(), ObservedHints.PROFILE_LOCATION);
+        return hintedMembers;
     }
 
-    private void registerAggregateMembers(Class<?> entityType, Set<Class<?>> reflectiveClasses) {
+    /**
+     * Adds the given {@code entityType} and the types of its aggregate members, recursively, to the given
+     * {@code reflectiveClasses}. Types described by the given {@code libraries} are added to the given
+     * {@code libraryTypes} instead, without visiting their members, as the library describes those as well.
+     *
+     * @param entityType        the handling type, aggregate or entity to add
+     * @param reflectiveClasses the types to inspect
+     * @param libraries         the handler metadata of the libraries on the classpath
+     * @param libraryTypes      the names of the types described by the libraries
+     */
+    static void registerAggregateMembers(Class<?> entityType,
+                                         Set<Class<?>> reflectiveClasses,
+                                         LibraryHandlerMetadata libraries,
+                                         Set<String> libraryTypes) {
+        if (libraries.contains(entityType.getName())) {
+            libraryTypes.add(entityType.getName());
+            return;
+        }
         if (!reflectiveClasses.add(entityType)) {
             return;
         }
 
         ReflectionUtils.fieldsOf(entityType).forEach(field -> {
-            Optional<Map<String, Object>> annotationAttributes = AnnotationUtils.findAnnotationAttributes(field,
-                                                                                                          AggregateMember.class);
+            Optional<Map<String, Object>> annotationAttributes =
+                    AnnotationUtils.findAnnotationAttributes(field, AggregateMember.class);
             if (annotationAttributes.isPresent()) {
                 Class<?> declaredType = (Class<?>) annotationAttributes.get().get("type");
                 Class<?> forwardingMode = (Class<?>) annotationAttributes.get().get("eventForwardingMode");
                 reflectiveClasses.add(forwardingMode);
 
                 if (declaredType != Void.class) {
-                    registerAggregateMembers(declaredType, reflectiveClasses);
+                    registerAggregateMembers(declaredType, reflectiveClasses, libraries, libraryTypes);
                 } else if (Map.class.isAssignableFrom(field.getType())) {
                     Optional<Class<?>> type = ReflectionUtils.resolveMemberGenericType(field, 1);
-                    type.ifPresent(t -> registerAggregateMembers(t, reflectiveClasses));
+                    type.ifPresent(t -> registerAggregateMembers(t, reflectiveClasses, libraries, libraryTypes));
                 } else if (Collection.class.isAssignableFrom(field.getType())) {
                     Optional<Class<?>> type = ReflectionUtils.resolveMemberGenericType(field, 0);
-                    type.ifPresent(t -> registerAggregateMembers(t, reflectiveClasses));
+                    type.ifPresent(t -> registerAggregateMembers(t, reflectiveClasses, libraries, libraryTypes));
                 } else {
-                    registerAggregateMembers(field.getType(), reflectiveClasses);
+                    registerAggregateMembers(field.getType(), reflectiveClasses, libraries, libraryTypes);
                 }
             }
         });
@@ -133,38 +306,62 @@ public class MessageHandlerRuntimeHintsRegistrar implements BeanFactoryInitializ
 
     private static class MessageHandlerContribution implements BeanFactoryInitializationAotContribution {
 
-        private final BindingReflectionHintsRegistrar registrar = new BindingReflectionHintsRegistrar();
-
         private final Set<Class<?>> messageHandlingClasses;
 
         private final List<MessageHandlingMember<?>> messageHandlingMembers;
 
+        private final AxonHandlerMetadata metadata;
+
+        private final Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors;
+
+        private final AggregateHierarchyGenerator aggregateHierarchies;
+
+        private final QueryUpdateTypesGenerator queryUpdateTypes;
+
+        private final ReplayableEventTypesGenerator replayableEventTypes;
+
         public MessageHandlerContribution(
                 Set<Class<?>> messageHandlingClasses,
-                List<MessageHandlingMember<?>> messageHandlingMembers) {
+                List<MessageHandlingMember<?>> messageHandlingMembers,
+                AxonHandlerMetadata metadata,
+                Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors,
+                AggregateHierarchyGenerator aggregateHierarchies,
+                QueryUpdateTypesGenerator queryUpdateTypes,
+                ReplayableEventTypesGenerator replayableEventTypes) {
             this.messageHandlingClasses = messageHandlingClasses;
             this.messageHandlingMembers = messageHandlingMembers;
+            this.metadata = metadata;
+            this.inspectors = inspectors;
+            this.aggregateHierarchies = aggregateHierarchies;
+            this.queryUpdateTypes = queryUpdateTypes;
+            this.replayableEventTypes = replayableEventTypes;
         }
 
         @Override
         public void applyTo(GenerationContext generationContext,
                             BeanFactoryInitializationCode beanFactoryInitializationCode) {
-            ReflectionHints reflectionHints = generationContext.getRuntimeHints().reflection();
-            messageHandlingClasses.forEach(c -> registrar.registerReflectionHints(reflectionHints, c));
-            messageHandlingMembers.forEach(m -> {
-                m.unwrap(Method.class).ifPresent(mm -> reflectionHints.registerMethod(mm, ExecutableMode.INVOKE));
-                m.unwrap(Constructor.class).ifPresent(mm -> reflectionHints.registerConstructor(mm,
-                                                                                                ExecutableMode.INVOKE));
-                registrar.registerReflectionHints(reflectionHints, m.payloadType());
-                if (m instanceof QueryHandlingMember<?> queryHandlingMember) {
-                    registrar.registerReflectionHints(reflectionHints, queryHandlingMember.getResultType());
-                }
-            });
+            registerHints(generationContext.getRuntimeHints().reflection(),
+                          messageHandlingClasses,
+                          messageHandlingMembers);
+            new HandlerMetadataGenerator(metadata).applyTo(generationContext, beanFactoryInitializationCode);
+            new HandlerInvokerGenerator(inspectors).applyTo(generationContext, beanFactoryInitializationCode);
+            new MetaDataResolverGenerator(inspectors).applyTo(generationContext, beanFactoryInitializationCode);
+            new AggregateInstantiatorGenerator(inspectors.keySet()).applyTo(generationContext,
+                                                                            beanFactoryInitializationCode);
+            new SnapshotCodecGenerator(
+                    inspectors.keySet(),
+                    SnapshotCodecGenerator.deadlinePayloadTypes(membersOf(inspectors.values()))
+            ).applyTo(generationContext, beanFactoryInitializationCode);
+            aggregateHierarchies.applyTo(generationContext, beanFactoryInitializationCode);
+            queryUpdateTypes.applyTo(generationContext, beanFactoryInitializationCode);
+            replayableEventTypes.applyTo(generationContext, beanFactoryInitializationCode);
+            CommandNameTableGenerator.collect(metadata).applyTo(generationContext, beanFactoryInitializationCode);
+            PreloadedClassesGenerator.collect(metadata).applyTo(generationContext, beanFactoryInitializationCode);
         }
     }
 
     @Priority(Priority.LAST)
-    private static class LenientParameterResolver implements ParameterResolverFactory, ParameterResolver<Object> {
+    static class LenientParameterResolver implements ParameterResolverFactory, ParameterResolver<Object> {
 
         @Override
         public ParameterResolver<Object> createInstance(Executable executable,
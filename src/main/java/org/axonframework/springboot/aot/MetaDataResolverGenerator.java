@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.MetaDataValue;
+import org.axonframework.springboot.aot.parameter.GeneratedMetaDataResolver;
+import org.axonframework.springboot.aot.parameter.GeneratedMetaDataResolvers;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.javapoet.WildcardTypeName;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Generates a {@link GeneratedMetaDataResolver} for each detected handling type, which resolves the
+ * {@link MetaDataValue} parameters of its handlers and interceptors with a constant key and an {@code instanceof} check
+ * on the parameter type. The generated resolvers are registered in the bean factory as
+ * {@link GeneratedMetaDataResolvers}.
+ * <p/>
+ * Parameters of a primitive type, or of a type that isn't accessible from the package of the handling type, are left
+ * to Axon's default parameter resolution.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class MetaDataResolverGenerator {
+
+    private static final String FEATURE_NAME = "AxonMetaDataResolver";
+    private static final String INDEX_PARAMETER = "parameterIndex";
+    private static final TypeName MESSAGE_TYPE =
+            ParameterizedTypeName.get(ClassName.get(Message.class), WildcardTypeName.subtypeOf(Object.class));
+
+    private final Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors;
+
+    /**
+     * Creates a generator for the handlers and interceptors found by the given {@code inspectors}.
+     *
+     * @param inspectors the inspectors of the detected handling types
+     */
+    MetaDataResolverGenerator(Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors) {
+        this.inspectors = inspectors;
+    }
+
+    /**
+     * Generates the resolvers and registers them in the bean factory. Nothing is generated when none of the handlers
+     * has a metadata parameter that can be resolved by generated code.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the resolvers with
+     * @return the names of the generated resolvers
+     */
+    List<ClassName> applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        Set<Executable> generated = new HashSet<>();
+        List<ClassName> resolvers = new ArrayList<>();
+        inspectors.forEach((handlerType, inspector) -> {
+            String packageName = handlerType.getPackageName();
+            List<MetaDataParameter> parameters =
+                    Stream.concat(inspector.getHandlers(handlerType), interceptorsOf(inspector, handlerType))
+                          .map(member -> member.unwrap(Executable.class))
+                          .flatMap(Optional::stream)
+                          .filter(generated::add)
+                          .flatMap(executable -> metaDataParameters(executable, packageName))
+                          .toList();
+            if (!parameters.isEmpty()) {
+                GeneratedClass resolver = generationContext.getGeneratedClasses().addForFeatureComponent(
+                        FEATURE_NAME, handlerType, type -> generateResolver(type, parameters)
+                );
+                resolvers.add(resolver.getName());
+            }
+        });
+        if (resolvers.isEmpty()) {
+            return resolvers;
+        }
+
+        CodeBlock.Builder instances = CodeBlock.builder();
+        for (int i = 0; i < resolvers.size(); i++) {
+            instances.add(i == 0 ? "new $T()" : ", new $T()", resolvers.get(i));
+        }
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonMetaDataResolvers",
+                method -> method.addJavadoc("Register the Axon metadata resolvers generated ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.of($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              GeneratedMetaDataResolvers.BEAN_NAME,
+                                              GeneratedMetaDataResolvers.class,
+                                              List.class,
+                                              instances.build())
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+        return resolvers;
+    }
+
+    private static Stream<? extends MessageHandlingMember<?>> interceptorsOf(AnnotatedHandlerInspector<?> inspector,
+                                                                            Class<?> handlerType) {
+        return Optional.ofNullable(inspector.getAllInterceptors().get(handlerType))
+                       .stream()
+                       .flatMap(Collection::stream);
+    }
+
+    private static Stream<MetaDataParameter> metaDataParameters(Executable executable, String packageName) {
+        Parameter[] parameters = executable.getParameters();
+        List<MetaDataParameter> metaDataParameters = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> type = parameters[i].getType();
+            if (type.isPrimitive()
+                    || Message.class.isAssignableFrom(type)
+                    || !HandlerInvokerGenerator.isAccessible(type, packageName)) {
+                continue;
+            }
+            int index = i;
+            AnnotationUtils.findAnnotationAttributes(parameters[i], MetaDataValue.class).ifPresent(
+                    attributes -> metaDataParameters.add(new MetaDataParameter(
+                            GeneratedMetaDataResolvers.keyOf(executable, index),
+                            attributes.get("metaDataValue").toString(),
+                            (Boolean) attributes.get("required"),
+                            type
+                    ))
+            );
+        }
+        return metaDataParameters.stream();
+    }
+
+    private void generateResolver(TypeSpec.Builder type, List<MetaDataParameter> parameters) {
+        type.addJavadoc("Resolves the Axon metadata parameters of the message handlers of this type.");
+        type.addModifiers(javax.lang.model.element.Modifier.PUBLIC);
+        type.addSuperinterface(GeneratedMetaDataResolver.class);
+
+        CodeBlock.Builder keys = CodeBlock.builder();
+        for (int i = 0; i < parameters.size(); i++) {
+            keys.add(i == 0 ? "$S" : ", $S", parameters.get(i).parameterKey());
+        }
+        type.addMethod(MethodSpec.methodBuilder("parameterKeys")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(ParameterizedTypeName.get(List.class, String.class))
+                                 .addStatement("return $T.of($L)", List.class, keys.build())
+                                 .build());
+
+        CodeBlock.Builder matches = CodeBlock.builder().beginControlFlow("switch ($L)", INDEX_PARAMETER);
+        CodeBlock.Builder resolve = CodeBlock.builder().beginControlFlow("switch ($L)", INDEX_PARAMETER);
+        for (int i = 0; i < parameters.size(); i++) {
+            MetaDataParameter parameter = parameters.get(i);
+            matches.add("case $L:\n", i).indent();
+            if (parameter.required()) {
+                matches.addStatement("return message.getMetaData().get($S) instanceof $T",
+                                     parameter.metaDataKey(), TypeName.get(parameter.type()));
+            } else {
+                matches.addStatement("return true");
+            }
+            matches.unindent();
+            resolve.add("case $L:\n", i)
+                   .indent()
+                   .addStatement("return message.getMetaData().get($S)", parameter.metaDataKey())
+                   .unindent();
+        }
+        type.addMethod(MethodSpec.methodBuilder("matches")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(boolean.class)
+                                 .addParameter(int.class, INDEX_PARAMETER)
+                                 .addParameter(MESSAGE_TYPE, "message")
+                                 .addCode(endSwitch(matches))
+                                 .build());
+        type.addMethod(MethodSpec.methodBuilder("resolve")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                 .returns(Object.class)
+                                 .addParameter(int.class, INDEX_PARAMETER)
+                                 .addParameter(MESSAGE_TYPE, "message")
+                                 .addCode(endSwitch(resolve))
+                                 .build());
+    }
+
+    private static CodeBlock endSwitch(CodeBlock.Builder body) {
+        return body.add("default:\n")
+                   .indent()
+                   .addStatement("throw new $T(\"Unknown parameter index \" + $L)",
+                                 IllegalArgumentException.class, INDEX_PARAMETER)
+                   .unindent()
+                   .endControlFlow()
+                   .build();
+    }
+
+    private record MetaDataParameter(String parameterKey, String metaDataKey, boolean required, Class<?> type) {
+
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.axonframework.springboot.aot.preload.PreloadedClasses;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import java.lang.reflect.Type;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Generates the {@link PreloadedClasses}: the handling types of the application, the payload types of their handlers
+ * and interceptors, and the Axon classes that are serialized at runtime. Types of the JDK are left out, as these are
+ * loaded early anyway. The generated code registers the class names in the bean factory, allowing them to be loaded in
+ * the background while the application context starts.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class PreloadedClassesGenerator {
+
+    private static final String JDK_PACKAGE_PREFIX = "java.";
+
+    private final Set<String> classNames;
+
+    private PreloadedClassesGenerator(Set<String> classNames) {
+        this.classNames = classNames;
+    }
+
+    /**
+     * Creates a generator for the classes to preload for the handler types in the given {@code metadata}, including
+     * the types described by libraries.
+     *
+     * @param metadata the handler metadata of the application
+     * @return a generator for the preloaded classes
+     */
+    static PreloadedClassesGenerator collect(AxonHandlerMetadata metadata) {
+        Set<String> classNames = new TreeSet<>();
+        for (HandlerTypeMetadata handlerType : metadata.handlerTypes()) {
+            classNames.add(handlerType.typeName());
+            Stream.concat(handlerType.handlers().stream(), handlerType.interceptors().stream())
+                  .map(HandlerMemberMetadata::payloadType)
+                  .forEach(classNames::add);
+        }
+        Stream.of(AxonRuntimeHints.axonSerializableClasses())
+              .map(Type::getTypeName)
+              .forEach(classNames::add);
+        classNames.removeIf(className -> className.startsWith(JDK_PACKAGE_PREFIX));
+        return new PreloadedClassesGenerator(classNames);
+    }
+
+    /**
+     * Registers the names of the classes to preload in the bean factory.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the preloaded classes with
+     */
+    void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        CodeBlock names = GeneratedNameLists.listOf(beanFactoryInitializationCode.getMethods(),
+                                                    "axonPreloadedClassNames",
+                                                    classNames);
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonPreloadedClasses",
+                method -> method.addJavadoc("Register the names of the classes used by Axon found ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($L))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              PreloadedClasses.BEAN_NAME,
+                                              PreloadedClasses.class,
+                                              names)
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.queryhandling.annotation.QueryHandlingMember;
+import org.axonframework.springboot.aot.query.QueryUpdateTypes;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Generates the {@link QueryUpdateTypes}: the types of updates the query handlers of each query produce, derived from
+ * the result types of the handlers. The generated code registers them in the bean factory, allowing the compatibility
+ * of these updates with subscription queries to be checked once.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class QueryUpdateTypesGenerator {
+
+    private final Map<String, Set<String>> updateTypes;
+
+    private QueryUpdateTypesGenerator(Map<String, Set<String>> updateTypes) {
+        this.updateTypes = updateTypes;
+    }
+
+    /**
+     * Creates a generator for the update types of the query handlers among the given {@code members}. The update types
+     * of a query are the types its handlers respond with, as well as the element types of these responses.
+     *
+     * @param members the message handling members of the detected handling types
+     * @return a generator for the query update types
+     */
+    static QueryUpdateTypesGenerator collect(Collection<MessageHandlingMember<?>> members) {
+        Map<String, Set<String>> updateTypes = new TreeMap<>();
+        members.stream()
+               .map(member -> member.unwrap(QueryHandlingMember.class))
+               .flatMap(Optional::stream)
+               .forEach(member -> HandlerMetadataGenerator.expectedResponseTypes(member.getResultType()).forEach(
+                       type -> updateTypes.computeIfAbsent(member.getQueryName(), name -> new TreeSet<>())
+                                          .add(type.getName())
+               ));
+        return new QueryUpdateTypesGenerator(updateTypes);
+    }
+
+    /**
+     * Registers the query update types in the bean factory. Nothing is registered when there are no query handlers.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the query update types with
+     */
+    void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        if (updateTypes.isEmpty()) {
+            return;
+        }
+        CodeBlock.Builder entries = CodeBlock.builder();
+        updateTypes.forEach((queryName, types) -> {
+            if (!entries.isEmpty()) {
+                entries.add(", ");
+            }
+            entries.add("$T.entry($S, $T.of($L))",
+                        Map.class,
+                        queryName,
+                        List.class,
+                        types.stream().map(type -> CodeBlock.of("$S", type).toString()).collect(joining(", ")));
+        });
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonQueryUpdateTypes",
+                method -> method.addJavadoc("Register the types of updates of Axon queries found ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.ofEntries($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              QueryUpdateTypes.BEAN_NAME,
+                                              QueryUpdateTypes.class,
+                                              Map.class,
+                                              entries.build())
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+    }
+}
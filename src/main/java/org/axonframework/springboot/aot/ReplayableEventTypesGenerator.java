@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.eventhandling.AllowReplay;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.springboot.aot.event.ReplayableEventTypes;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryTypeMetadata;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.CodeBlock;
+
+import java.lang.reflect.Member;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the {@link ReplayableEventTypes}: the event payload types that each event handling type handles during a
+ * replay. The generated code registers them in the bean factory, so that processors can skip the replayed events that
+ * none of their handlers want, without consulting each handler.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class ReplayableEventTypesGenerator {
+
+    private static final String ALLOW_REPLAY_ATTRIBUTE = "AllowReplay.allowReplay";
+
+    private final Map<String, Set<String>> replayableTypes;
+
+    private ReplayableEventTypesGenerator(Map<String, Set<String>> replayableTypes) {
+        this.replayableTypes = replayableTypes;
+    }
+
+    /**
+     * Creates a generator for the replayable event payload types of the given {@code beanTypes}. Aggregates and sagas
+     * are left out, as their event handlers aren't replayed. A handler allows replays unless the handler itself, or its
+     * declaring type, is annotated to disallow them. The metadata of libraries doesn't describe replays, so all event
+     * handlers of the bean types described by the given {@code libraries} are considered to allow replays.
+     *
+     * @param beanTypes  the types of the beans declaring message handlers
+     * @param inspectors the inspectors of the detected handling types
+     * @param libraries  the handler metadata of the libraries on the classpath
+     * @return a generator for the replayable event types
+     */
+    static ReplayableEventTypesGenerator collect(Collection<Class<?>> beanTypes,
+                                                 Map<Class<?>, AnnotatedHandlerInspector<?>> inspectors,
+                                                 LibraryHandlerMetadata libraries) {
+        Map<String, Set<String>> replayableTypes = new TreeMap<>();
+        for (Class<?> beanType : beanTypes) {
+            AnnotatedHandlerInspector<?> inspector = inspectors.get(beanType);
+            Optional<LibraryTypeMetadata> libraryType = libraries.type(beanType.getName());
+            Optional<String> group;
+            List<String> payloadTypes;
+            if (inspector != null) {
+                group = HandlerMetadataGenerator.processingGroupOf(beanType);
+                List<MessageHandlingMember<?>> eventHandlers =
+                        inspector.getHandlers(beanType)
+                                 .filter(member -> member.canHandleMessageType(EventMessage.class))
+                                 .collect(Collectors.toList());
+                if (eventHandlers.isEmpty()) {
+                    continue;
+                }
+                payloadTypes = eventHandlers.stream()
+                                            .filter(ReplayableEventTypesGenerator::allowsReplay)
+                                            .map(member -> member.payloadType().getName())
+                                            .toList();
+            } else if (libraryType.isPresent()) {
+                group = Optional.ofNullable(libraryType.get().processingGroup());
+                payloadTypes = libraryType.get()
+                                          .metadata()
+                                          .handlers()
+                                          .stream()
+                                          .filter(member -> HandlerMetadataGenerator.handlesEvents(
+                                                  member, beanType.getClassLoader()
+                                          ))
+                                          .map(HandlerMemberMetadata::payloadType)
+                                          .toList();
+                if (payloadTypes.isEmpty()) {
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            // aggregates and sagas have no processing group
+            if (group.isPresent()) {
+                replayableTypes.computeIfAbsent(beanType.getName(), t -> new TreeSet<>()).addAll(payloadTypes);
+            }
+        }
+        return new ReplayableEventTypesGenerator(replayableTypes);
+    }
+
+    /**
+     * Indicates whether the given event handling {@code member} handles replayed events, using the same rules as
+     * Axon's {@link org.axonframework.eventhandling.replay.ReplayAwareMessageHandlerWrapper}.
+     */
+    private static boolean allowsReplay(MessageHandlingMember<?> member) {
+        return member.<Boolean>attribute(ALLOW_REPLAY_ATTRIBUTE)
+                     .or(() -> member.unwrap(Member.class)
+                                     .map(Member::getDeclaringClass)
+                                     .flatMap(type -> AnnotationUtils.findAnnotationAttributes(type,
+                                                                                              AllowReplay.class))
+                                     .map(attributes -> (Boolean) attributes.get("allowReplay")))
+                     .orElse(Boolean.TRUE);
+    }
+
+    /**
+     * Registers the replayable event types in the bean factory. Nothing is registered when there are no event handling
+     * types.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the replayable event types with
+     */
+    void applyTo(GenerationContext generationContext, BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        if (replayableTypes.isEmpty()) {
+            return;
+        }
+        CodeBlock types = GeneratedNameLists.mapOf(beanFactoryInitializationCode.getMethods(),
+                                                   "axonReplayableEventTypes",
+                                                   replayableTypes);
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonReplayableEventTypes",
+                method -> method.addJavadoc("Register the replayable event types of Axon event handling types found "
+                                                    + "ahead of time.")
+                                .addModifiers(javax.lang.model.element.Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($L))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              ReplayableEventTypes.BEAN_NAME,
+                                              ReplayableEventTypes.class,
+                                              types)
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+    }
+}
@@ -0,0 +1,645 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.common.ReflectionUtils;
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.deadline.annotation.DeadlineHandler;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.command.AggregateMember;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodec;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodecs;
+import org.axonframework.springboot.aot.snapshot.SnapshotInput;
+import org.axonframework.springboot.aot.snapshot.SnapshotOutput;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.AnnotationSpec;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.FieldSpec;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.javapoet.WildcardTypeName;
+import org.springframework.lang.Nullable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+/**
+ * Generates a {@link GeneratedSnapshotCodec} for each detected aggregate type, which writes the fields of the aggregate
+ * and of the entities it contains directly, through {@link VarHandle VarHandles}, instead of binding them
+ * reflectively. The generated codecs are registered in the bean factory as {@link GeneratedSnapshotCodecs}.
+ * <p/>
+ * Codecs are generated in the same way for the payload types of {@link DeadlineHandler deadline handlers} that aren't
+ * handled as the payload of any other message, so that deadline managers serializing these payloads into their job
+ * data don't bind them reflectively either.
+ * <p/>
+ * A codec is only generated when all state of the aggregate can be written by it. The aggregate and its entities must
+ * be records or classes with a no-arg constructor, accessible from the package of the aggregate. Each of their fields,
+ * except for static, transient and autowired ones, must hold a primitive, an enum, an entity or a collection or map of
+ * entities as declared by {@link AggregateMember}, a collection or map of simple values or enums, or a value of a type
+ * that isn't generic, which is serialized by the delegate serializer. Final fields of classes must hold a collection
+ * or map, which is filled in place.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class SnapshotCodecGenerator {
+
+    private static final String FEATURE_NAME = "AxonSnapshotCodec";
+
+    private static final Set<Class<?>> SIMPLE_VALUES = Set.of(
+            String.class, Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class,
+            Float.class, Double.class, UUID.class, Instant.class, BigInteger.class, BigDecimal.class
+    );
+    private static final List<Class<?>> COLLECTION_TYPES =
+            List.of(ArrayList.class, LinkedHashSet.class, TreeSet.class, ArrayDeque.class);
+    private static final List<Class<?>> MAP_TYPES = List.of(LinkedHashMap.class, TreeMap.class);
+
+    private final Collection<Class<?>> detectedClasses;
+    private final Collection<Class<?>> deadlinePayloadTypes;
+
+    /**
+     * Creates a generator for the aggregate types among the given {@code detectedClasses}, and for the given
+     * {@code deadlinePayloadTypes}.
+     *
+     * @param detectedClasses      the detected handling types, aggregates and entities
+     * @param deadlinePayloadTypes the payload types of deadlines to generate codecs for
+     */
+    SnapshotCodecGenerator(Collection<Class<?>> detectedClasses, Collection<Class<?>> deadlinePayloadTypes) {
+        this.detectedClasses = detectedClasses;
+        this.deadlinePayloadTypes = deadlinePayloadTypes;
+    }
+
+    /**
+     * Returns the payload types of the deadline handlers among the given {@code members} that only appear as the
+     * payload of deadlines. Payload types that are, or are a subtype of, the payload type of any other message handler
+     * are left out, so that a codec never changes how commands, events or queries are serialized.
+     *
+     * @param members the message handling members of the detected handling types
+     * @return the payload types of deadlines to generate codecs for
+     */
+    static Set<Class<?>> deadlinePayloadTypes(Collection<MessageHandlingMember<?>> members) {
+        Map<Boolean, Set<Class<?>>> payloadTypes =
+                members.stream()
+                       .filter(member -> member.payloadType() != Object.class)
+                       .collect(Collectors.partitioningBy(SnapshotCodecGenerator::isDeadlineHandler,
+                                                          Collectors.mapping(MessageHandlingMember::payloadType,
+                                                                             Collectors.toSet())));
+        Set<Class<?>> otherPayloadTypes = payloadTypes.get(false);
+        Set<Class<?>> deadlinePayloadTypes = new TreeSet<>(Comparator.comparing(Class::getName));
+        payloadTypes.get(true)
+                    .stream()
+                    .filter(type -> otherPayloadTypes.stream().noneMatch(other -> other.isAssignableFrom(type)))
+                    .forEach(deadlinePayloadTypes::add);
+        return deadlinePayloadTypes;
+    }
+
+    private static boolean isDeadlineHandler(MessageHandlingMember<?> member) {
+        return member.unwrap(Executable.class)
+                     .map(executable -> AnnotationUtils.isAnnotationPresent(executable, DeadlineHandler.class))
+                     .orElse(false);
+    }
+
+    /**
+     * Generates the codecs, registers the fields they access for reflection, and registers the codecs in the bean
+     * factory. Nothing is generated when none of the aggregate types can be written by a codec.
+     *
+     * @param generationContext             the context to generate the code in
+     * @param beanFactoryInitializationCode the code to register the codecs with
+     * @return the names of the generated codecs
+     */
+    List<ClassName> applyTo(GenerationContext generationContext,
+                            BeanFactoryInitializationCode beanFactoryInitializationCode) {
+        List<ClassName> codecs = new ArrayList<>();
+        Stream<Class<?>> aggregateTypes =
+                detectedClasses.stream()
+                               .filter(type -> AnnotationUtils.isAnnotationPresent(type, AggregateRoot.class))
+                               .filter(AggregateInstantiatorGenerator::isDirectlyInstantiable);
+        Stream.concat(aggregateTypes, deadlinePayloadTypes.stream())
+              .distinct()
+              .map(CodecModel::of)
+              .flatMap(Optional::stream)
+              .forEach(model -> {
+                  registerFields(generationContext.getRuntimeHints().reflection(), model);
+                  codecs.add(generationContext.getGeneratedClasses()
+                                              .addForFeatureComponent(FEATURE_NAME,
+                                                                      model.root(),
+                                                                      type -> generateCodec(type, model))
+                                              .getName());
+              });
+        if (codecs.isEmpty()) {
+            return codecs;
+        }
+
+        CodeBlock.Builder instances = CodeBlock.builder();
+        for (int i = 0; i < codecs.size(); i++) {
+            instances.add(i == 0 ? "new $T()" : ", new $T()", codecs.get(i));
+        }
+        GeneratedMethod registerMethod = beanFactoryInitializationCode.getMethods().add(
+                "registerAxonSnapshotCodecs",
+                method -> method.addJavadoc("Register the Axon snapshot codecs generated ahead of time.")
+                                .addModifiers(PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.of($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              GeneratedSnapshotCodecs.BEAN_NAME,
+                                              GeneratedSnapshotCodecs.class,
+                                              List.class,
+                                              instances.build())
+        );
+        beanFactoryInitializationCode.addInitializer(registerMethod.toMethodReference());
+        return codecs;
+    }
+
+    private static void registerFields(ReflectionHints reflectionHints, CodecModel model) {
+        model.types().values().forEach(type -> type.fields().forEach(f -> reflectionHints.registerField(f.field())));
+    }
+
+    private static void generateCodec(TypeSpec.Builder type, CodecModel model) {
+        type.addJavadoc(AnnotationUtils.isAnnotationPresent(model.root(), AggregateRoot.class)
+                                ? "Writes and reads the state of this Axon aggregate without reflection."
+                                : "Writes and reads this Axon deadline payload without reflection.");
+        type.addModifiers(PUBLIC);
+        type.addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked")
+                                         .build());
+        type.addSuperinterface(GeneratedSnapshotCodec.class);
+
+        CodeBlock.Builder handles = CodeBlock.builder()
+                                             .beginControlFlow("try")
+                                             .addStatement("$T lookup = $T.lookup()",
+                                                           MethodHandles.Lookup.class, MethodHandles.class);
+        for (CodecType codecType : model.types().values()) {
+            for (CodecField field : codecType.fields()) {
+                Field f = field.field();
+                type.addField(FieldSpec.builder(VarHandle.class, field.handle(), PRIVATE, STATIC, FINAL).build());
+                handles.addStatement("$L = $T.privateLookupIn($T.class, lookup)"
+                                             + ".findVarHandle($T.class, $S, $T.class)",
+                                     field.handle(), MethodHandles.class, f.getDeclaringClass(),
+                                     f.getDeclaringClass(), f.getName(), f.getType());
+            }
+        }
+        type.addStaticBlock(handles.nextControlFlow("catch ($T e)", ReflectiveOperationException.class)
+                                   .addStatement("throw new $T(e)", ExceptionInInitializerError.class)
+                                   .endControlFlow()
+                                   .build());
+
+        type.addMethod(MethodSpec.methodBuilder("aggregateType")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(PUBLIC)
+                                 .returns(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                    WildcardTypeName.subtypeOf(Object.class)))
+                                 .addStatement("return $T.class", model.root())
+                                 .build());
+        type.addMethod(MethodSpec.methodBuilder("write")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(PUBLIC)
+                                 .addParameter(Object.class, "aggregate")
+                                 .addParameter(SnapshotOutput.class, "output")
+                                 .addStatement("write0(output, ($T) aggregate)", model.root())
+                                 .build());
+        type.addMethod(MethodSpec.methodBuilder("read")
+                                 .addAnnotation(Override.class)
+                                 .addModifiers(PUBLIC)
+                                 .addParameter(SnapshotInput.class, "input")
+                                 .returns(Object.class)
+                                 .addStatement("return read0(input)")
+                                 .build());
+        for (CodecType codecType : model.types().values()) {
+            type.addMethod(writeMethod(model, codecType));
+            type.addMethod(readMethod(model, codecType));
+        }
+    }
+
+    private static MethodSpec writeMethod(CodecModel model, CodecType type) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("write" + type.index())
+                                              .addModifiers(PRIVATE, STATIC)
+                                              .addParameter(SnapshotOutput.class, "output")
+                                              .addParameter(type.type(), "value")
+                                              .beginControlFlow("if (!output.beginObject(value, $T.class, $L))",
+                                                                type.type(), type.fields().size())
+                                              .addStatement("return")
+                                              .endControlFlow();
+        for (int i = 0; i < type.fields().size(); i++) {
+            CodecField field = type.fields().get(i);
+            Class<?> fieldType = field.field().getType();
+            method.addStatement("output.writeKey($L)", field.key());
+            switch (field.kind()) {
+                case PRIMITIVE -> method.addStatement("output.write$L(($T) $L.get(value))",
+                                                      capitalize(fieldType.getName()), fieldType, field.handle());
+                case ENUM -> method.addStatement("output.writeEnum(($T) $L.get(value))",
+                                                 fieldType, field.handle());
+                case VALUE -> method.addStatement("output.writeValue(($T) $L.get(value))",
+                                                  fieldType, field.handle());
+                case ENTITY -> method.addStatement("write$L(output, $L)",
+                                                   model.indexOf(field.elementType()),
+                                                   cast(field.elementType(), fieldType,
+                                                        CodeBlock.of("$L.get(value)", field.handle())));
+                case COLLECTION -> method.addStatement("$T elements$L = ($T) $L.get(value)",
+                                                       collectionType(field), i, fieldType, field.handle())
+                                         .beginControlFlow("if (output.beginCollection(elements$L))", i)
+                                         .beginControlFlow("for ($T element : elements$L)", field.elementType(), i)
+                                         .addStatement(writeElement(model, field.elementType(), "element"))
+                                         .endControlFlow()
+                                         .endControlFlow();
+                case MAP -> method.addStatement("$T entries$L = ($T) $L.get(value)",
+                                                mapType(field), i, fieldType, field.handle())
+                                  .beginControlFlow("if (output.beginMap(entries$L))", i)
+                                  .beginControlFlow("for ($T entry : entries$L.entrySet())",
+                                                    ParameterizedTypeName.get(ClassName.get(Map.Entry.class),
+                                                                              TypeName.get(field.keyType()),
+                                                                              TypeName.get(field.elementType())),
+                                                    i)
+                                  .addStatement(writeElement(model, field.keyType(), "entry.getKey()"))
+                                  .addStatement(writeElement(model, field.elementType(), "entry.getValue()"))
+                                  .endControlFlow()
+                                  .endControlFlow();
+            }
+        }
+        return method.build();
+    }
+
+    private static CodeBlock writeElement(CodecModel model, Class<?> elementType, String element) {
+        if (model.types().containsKey(elementType)) {
+            return CodeBlock.of("write$L(output, $L)", model.indexOf(elementType), element);
+        }
+        return CodeBlock.of(elementType.isEnum() ? "output.writeEnum($L)" : "output.writeValue($L)", element);
+    }
+
+    private static MethodSpec readMethod(CodecModel model, CodecType type) {
+        boolean isRecord = type.type().isRecord();
+        MethodSpec.Builder method = MethodSpec.methodBuilder("read" + type.index())
+                                              .addModifiers(PRIVATE, STATIC)
+                                              .addParameter(SnapshotInput.class, "input")
+                                              .returns(type.type())
+                                              .addStatement("int fields = input.beginObject()")
+                                              .beginControlFlow("if (fields < 0)")
+                                              .addStatement("return null")
+                                              .endControlFlow();
+        if (isRecord) {
+            for (int i = 0; i < type.fields().size(); i++) {
+                Class<?> fieldType = type.fields().get(i).field().getType();
+                method.addStatement("$T v$L = $L", fieldType, i, defaultValue(fieldType));
+            }
+        } else {
+            method.addStatement("$T value = new $T()", type.type(), type.type());
+        }
+        method.beginControlFlow("for (int i = 0; i < fields; i++)")
+              .beginControlFlow("switch (input.readKey())");
+        for (int i = 0; i < type.fields().size(); i++) {
+            CodecField field = type.fields().get(i);
+            Class<?> fieldType = field.field().getType();
+            String target = isRecord ? "v" + i + " = $L" : field.handle() + ".set(value, $L)";
+            switch (field.kind()) {
+                case PRIMITIVE -> method.addStatement("case $L -> " + target, field.key(),
+                                                      CodeBlock.of("input.read$L()", capitalize(fieldType.getName())));
+                case ENUM -> method.addStatement("case $L -> " + target, field.key(),
+                                                 CodeBlock.of("input.readEnum($T.class)", fieldType));
+                case VALUE -> method.addStatement("case $L -> " + target, field.key(),
+                                                  CodeBlock.of("($T) input.readValue()", fieldType));
+                case ENTITY -> method.addStatement("case $L -> " + target, field.key(),
+                                                   cast(fieldType, field.elementType(), CodeBlock.of(
+                                                           "read$L(input)", model.indexOf(field.elementType())
+                                                   )));
+                case COLLECTION -> {
+                    method.beginControlFlow("case $L ->", field.key())
+                          .addStatement("int size = input.beginCollection()");
+                    if (field.containerType() == null) {
+                        method.addStatement("$T elements = input.reuse(($T) $L.get(value), size)",
+                                            collectionType(field), fieldType, field.handle());
+                    } else {
+                        method.addStatement("$T elements = size < 0 ? null : new $T<>()",
+                                            collectionType(field), field.containerType());
+                    }
+                    method.beginControlFlow("for (int j = 0; j < size; j++)")
+                          .addStatement("elements.add($L)", readElement(model, field.elementType()))
+                          .endControlFlow();
+                    if (field.containerType() != null) {
+                        method.addStatement(target, CodeBlock.of("($T) elements", fieldType));
+                    }
+                    method.endControlFlow();
+                }
+                case MAP -> {
+                    method.beginControlFlow("case $L ->", field.key())
+                          .addStatement("int size = input.beginMap()");
+                    if (field.containerType() == null) {
+                        method.addStatement("$T entries = input.reuse(($T) $L.get(value), size)",
+                                            mapType(field), fieldType, field.handle());
+                    } else {
+                        method.addStatement("$T entries = size < 0 ? null : new $T<>()",
+                                            mapType(field), field.containerType());
+                    }
+                    method.beginControlFlow("for (int j = 0; j < size; j++)")
+                          .addStatement("entries.put($L, $L)",
+                                        readElement(model, field.keyType()),
+                                        readElement(model, field.elementType()))
+                          .endControlFlow();
+                    if (field.containerType() != null) {
+                        method.addStatement(target, CodeBlock.of("($T) entries", fieldType));
+                    }
+                    method.endControlFlow();
+                }
+            }
+        }
+        method.addStatement("default -> input.skipValue()")
+              .endControlFlow()
+              .endControlFlow();
+        if (isRecord) {
+            CodeBlock.Builder arguments = CodeBlock.builder();
+            for (int i = 0; i < type.fields().size(); i++) {
+                arguments.add(i == 0 ? "v$L" : ", v$L", i);
+            }
+            method.addStatement("return new $T($L)", type.type(), arguments.build());
+        } else {
+            method.addStatement("return value");
+        }
+        return method.build();
+    }
+
+    private static CodeBlock readElement(CodecModel model, Class<?> elementType) {
+        if (model.types().containsKey(elementType)) {
+            return CodeBlock.of("read$L(input)", model.indexOf(elementType));
+        }
+        if (elementType.isEnum()) {
+            return CodeBlock.of("input.readEnum($T.class)", elementType);
+        }
+        return CodeBlock.of("($T) input.readValue()", elementType);
+    }
+
+    private static CodeBlock cast(Class<?> targetType, Class<?> sourceType, CodeBlock expression) {
+        if (targetType == sourceType) {
+            return CodeBlock.of("($T) $L", targetType, expression);
+        }
+        return CodeBlock.of("($T) ($T) $L", targetType, sourceType, expression);
+    }
+
+    private static TypeName collectionType(CodecField field) {
+        return ParameterizedTypeName.get(ClassName.get(Collection.class), TypeName.get(field.elementType()));
+    }
+
+    private static TypeName mapType(CodecField field) {
+        return ParameterizedTypeName.get(ClassName.get(Map.class),
+                                         TypeName.get(field.keyType()),
+                                         TypeName.get(field.elementType()));
+    }
+
+    private static String defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return "false";
+        } else if (type == char.class) {
+            return "(char) 0";
+        }
+        return type.isPrimitive() ? "0" : "null";
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private enum Kind {
+        PRIMITIVE, ENUM, VALUE, ENTITY, COLLECTION, MAP
+    }
+
+    /**
+     * A field written by a codec. The element type is the type of the entity, or of the elements of a collection or
+     * the values of a map. A container type is only set for collections and maps that are created when reading them,
+     * rather than filled in place.
+     */
+    private record CodecField(Field field, Kind kind, String handle,
+                              @Nullable Class<?> elementType,
+                              @Nullable Class<?> keyType,
+                              @Nullable Class<?> containerType) {
+
+        int key() {
+            return field.getName().hashCode();
+        }
+    }
+
+    private record CodecType(Class<?> type, int index, List<CodecField> fields) {
+
+    }
+
+    /**
+     * The aggregate and entity types written by the codec of an aggregate.
+     */
+    private record CodecModel(Class<?> root, Map<Class<?>, CodecType> types) {
+
+        static Optional<CodecModel> of(Class<?> root) {
+            CodecModel model = new CodecModel(root, new LinkedHashMap<>());
+            return model.add(root) ? Optional.of(model) : Optional.empty();
+        }
+
+        int indexOf(Class<?> type) {
+            return types.get(type).index();
+        }
+
+        private boolean add(Class<?> type) {
+            if (types.containsKey(type)) {
+                return true;
+            }
+            if (!isInstantiable(type)) {
+                return false;
+            }
+            List<CodecField> fields = new ArrayList<>();
+            int index = types.size();
+            types.put(type, new CodecType(type, index, fields));
+            Set<Integer> keys = new HashSet<>();
+            for (Field field : fieldsOf(type)) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()
+                        || field.isAnnotationPresent(Autowired.class)) {
+                    continue;
+                }
+                String handle = "FIELD_" + index + "_" + fields.size();
+                Optional<CodecField> codecField = field(field, type.isRecord(), handle);
+                if (codecField.isEmpty() || !keys.add(codecField.get().key())) {
+                    return false;
+                }
+                fields.add(codecField.get());
+            }
+            return true;
+        }
+
+        private Optional<CodecField> field(Field field, boolean inRecord, String handle) {
+            Class<?> fieldType = field.getType();
+            if (!isAccessible(field.getDeclaringClass()) || !isAccessible(fieldType)) {
+                return Optional.empty();
+            }
+            boolean fillInPlace = Modifier.isFinal(field.getModifiers()) && !inRecord;
+            Optional<Map<String, Object>> member = AnnotationUtils.findAnnotationAttributes(field,
+                                                                                            AggregateMember.class);
+            if (member.isPresent()) {
+                Class<?> declaredType = (Class<?>) member.get().get("type");
+                if (Map.class.isAssignableFrom(fieldType)) {
+                    Class<?> entityType = declaredType != Void.class ? declaredType : typeArgument(field, 1);
+                    Class<?> keyType = typeArgument(field, 0);
+                    return isSimple(keyType) && add(entityType)
+                            ? container(field, Kind.MAP, handle, entityType, keyType, fillInPlace)
+                            : Optional.empty();
+                } else if (Collection.class.isAssignableFrom(fieldType)) {
+                    Class<?> entityType = declaredType != Void.class ? declaredType : typeArgument(field, 0);
+                    return add(entityType)
+                            ? container(field, Kind.COLLECTION, handle, entityType, null, fillInPlace)
+                            : Optional.empty();
+                }
+                Class<?> entityType = declaredType != Void.class ? declaredType : fieldType;
+                return !fillInPlace && fieldType.isAssignableFrom(entityType) && add(entityType)
+                        ? Optional.of(new CodecField(field, Kind.ENTITY, handle, entityType, null, null))
+                        : Optional.empty();
+            }
+            if (Collection.class.isAssignableFrom(fieldType)) {
+                Class<?> elementType = typeArgument(field, 0);
+                return isSimple(elementType)
+                        ? container(field, Kind.COLLECTION, handle, elementType, null, fillInPlace)
+                        : Optional.empty();
+            } else if (Map.class.isAssignableFrom(fieldType)) {
+                Class<?> keyType = typeArgument(field, 0);
+                Class<?> valueType = typeArgument(field, 1);
+                return isSimple(keyType) && isSimple(valueType)
+                        ? container(field, Kind.MAP, handle, valueType, keyType, fillInPlace)
+                        : Optional.empty();
+            } else if (fillInPlace) {
+                return Optional.empty();
+            } else if (fieldType.isPrimitive()) {
+                return Optional.of(new CodecField(field, Kind.PRIMITIVE, handle, null, null, null));
+            } else if (fieldType.isEnum()) {
+                return Optional.of(new CodecField(field, Kind.ENUM, handle, null, null, null));
+            } else if (field.getGenericType() instanceof Class<?>) {
+                return Optional.of(new CodecField(field, Kind.VALUE, handle, null, null, null));
+            }
+            return Optional.empty();
+        }
+
+        private Optional<CodecField> container(Field field, Kind kind, String handle, Class<?> elementType,
+                                               @Nullable Class<?> keyType, boolean fillInPlace) {
+            if (fillInPlace) {
+                return Optional.of(new CodecField(field, kind, handle, elementType, keyType, null));
+            }
+            return containerType(field.getType(), kind == Kind.MAP ? MAP_TYPES : COLLECTION_TYPES).map(
+                    containerType -> new CodecField(field, kind, handle, elementType, keyType, containerType)
+            );
+        }
+
+        private Optional<Class<?>> containerType(Class<?> fieldType, List<Class<?>> candidates) {
+            if (!fieldType.isInterface() && !Modifier.isAbstract(fieldType.getModifiers())) {
+                return isInstantiable(fieldType) && fieldType.getTypeParameters().length > 0
+                        ? Optional.of(fieldType)
+                        : Optional.empty();
+            }
+            return candidates.stream().filter(fieldType::isAssignableFrom).findFirst();
+        }
+
+        private boolean isSimple(@Nullable Class<?> type) {
+            return type != null && (SIMPLE_VALUES.contains(type) || type.isEnum()) && isAccessible(type);
+        }
+
+        private boolean isAccessible(Class<?> type) {
+            return type.isPrimitive() || HandlerInvokerGenerator.isAccessible(type, root.getPackageName());
+        }
+
+        private boolean isInstantiable(@Nullable Class<?> type) {
+            if (type == null || type.isInterface() || type.isArray() || type.isEnum() || type.isPrimitive()
+                    || Modifier.isAbstract(type.getModifiers())
+                    || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))
+                    || !isAccessible(type)) {
+                return false;
+            }
+            try {
+                Class<?>[] parameterTypes = type.isRecord()
+                        ? Arrays.stream(type.getRecordComponents())
+                                .map(RecordComponent::getType)
+                                .toArray(Class<?>[]::new)
+                        : new Class<?>[0];
+                Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+                int modifiers = constructor.getModifiers();
+                return (Modifier.isPublic(modifiers)
+                        || (!Modifier.isPrivate(modifiers) && type.getPackageName().equals(root.getPackageName())))
+                        && Arrays.stream(constructor.getExceptionTypes())
+                                 .allMatch(e -> RuntimeException.class.isAssignableFrom(e)
+                                         || Error.class.isAssignableFrom(e));
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+
+        private static Iterable<Field> fieldsOf(Class<?> type) {
+            if (!type.isRecord()) {
+                return ReflectionUtils.fieldsOf(type);
+            }
+            List<Field> fields = new ArrayList<>();
+            for (RecordComponent component : type.getRecordComponents()) {
+                try {
+                    fields.add(type.getDeclaredField(component.getName()));
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException("Record component without a field: " + component, e);
+                }
+            }
+            return fields;
+        }
+
+        @Nullable
+        private static Class<?> typeArgument(Field field, int index) {
+            if (field.getGenericType() instanceof ParameterizedType parameterizedType) {
+                Type[] arguments = parameterizedType.getActualTypeArguments();
+                if (arguments.length > index && arguments[index] instanceof Class<?> argument) {
+                    return argument;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.EventMultiUpcaster;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.serialization.upcasting.event.SingleEventUpcaster;
+import org.axonframework.springboot.aot.upcasting.UpcastedType;
+import org.axonframework.springboot.aot.upcasting.UpcasterDispatchTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.javapoet.CodeBlock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.lang.model.element.Modifier;
+
+/**
+ * BeanFactoryInitializationAotProcessor that collects the payload types and revisions declared through
+ * {@link UpcastedType} annotations on the {@link EventUpcaster} beans, and registers them in the bean factory as an
+ * {@link UpcasterDispatchTable}.
+ * <p/>
+ * Only upcasters that upcast each event by itself, being subclasses of {@link SingleEventUpcaster} or
+ * {@link EventMultiUpcaster}, are taken into account. Upcasters with a different base class, such as context aware
+ * upcasters, are passed every event regardless of their annotations.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class UpcasterDispatchTableAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpcasterDispatchTableAotProcessor.class);
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Map<String, List<SerializedType>> upcastedTypes = new TreeMap<>();
+        for (String beanName : beanFactory.getBeanNamesForType(EventUpcaster.class, true, false)) {
+            Class<?> upcasterType = beanFactory.getType(beanName);
+            if (upcasterType != null) {
+                upcastedTypes(upcasterType).ifPresent(types -> upcastedTypes.put(upcasterType.getName(), types));
+            }
+        }
+        if (upcastedTypes.isEmpty()) {
+            return null;
+        }
+        logger.debug("Collected the upcasted types of {} upcasters", upcastedTypes.size());
+        return (generationContext, code) -> registerTable(upcastedTypes, generationContext, code);
+    }
+
+    /**
+     * Returns the payload types and revisions the given {@code upcasterType} declares through {@link UpcastedType}
+     * annotations. Returns an empty optional when the upcaster doesn't declare any, or when it's not a subclass of
+     * {@link SingleEventUpcaster} or {@link EventMultiUpcaster}.
+     *
+     * @param upcasterType the type of the upcaster
+     * @return the declared payload types and revisions, if any
+     */
+    static Optional<List<SerializedType>> upcastedTypes(Class<?> upcasterType) {
+        Set<UpcastedType> annotations =
+                AnnotatedElementUtils.findMergedRepeatableAnnotations(upcasterType, UpcastedType.class);
+        if (annotations.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!SingleEventUpcaster.class.isAssignableFrom(upcasterType)
+                && !EventMultiUpcaster.class.isAssignableFrom(upcasterType)) {
+            logger.warn("Ignoring the upcasted types of [{}], as it doesn't upcast each event by itself",
+                        upcasterType.getName());
+            return Optional.empty();
+        }
+        return Optional.of(annotations.stream()
+                                      .<SerializedType>map(a -> new SimpleSerializedType(
+                                              a.type(), a.revision().isEmpty() ? null : a.revision()
+                                      ))
+                                      .toList());
+    }
+
+    private static void registerTable(Map<String, List<SerializedType>> upcastedTypes,
+                                      GenerationContext generationContext,
+                                      BeanFactoryInitializationCode code) {
+        CodeBlock.Builder entries = CodeBlock.builder();
+        upcastedTypes.forEach((upcasterName, types) -> {
+            CodeBlock.Builder typeList = CodeBlock.builder();
+            types.forEach(type -> typeList.add(typeList.isEmpty() ? "new $T($S, $S)" : ", new $T($S, $S)",
+                                               SimpleSerializedType.class, type.getName(), type.getRevision()));
+            entries.add(entries.isEmpty() ? "$T.entry($S, $T.of($L))" : ",\n$T.entry($S, $T.of($L))",
+                        Map.class, upcasterName, List.class, typeList.build());
+        });
+        GeneratedMethod registerMethod = code.getMethods().add(
+                "registerAxonUpcasterDispatchTable",
+                method -> method.addJavadoc("Register the upcasted types collected ahead of time.")
+                                .addModifiers(Modifier.PUBLIC)
+                                .addParameter(DefaultListableBeanFactory.class,
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE)
+                                .addStatement("$L.registerSingleton($S, new $T($T.ofEntries($L)))",
+                                              BeanFactoryInitializationCode.BEAN_FACTORY_VARIABLE,
+                                              UpcasterDispatchTable.BEAN_NAME,
+                                              UpcasterDispatchTable.class,
+                                              Map.class,
+                                              entries.build())
+        );
+        code.addInitializer(registerMethod.toMethodReference());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The subtypes of polymorphic aggregates, as found ahead of time. For each aggregate type with subtypes, the names of
+ * its concrete subtypes are registered, so that the handlers of each concrete type can be resolved when the aggregate
+ * model is created. An instance of this class is registered in the application context under the {@link #BEAN_NAME}
+ * name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class AggregateHierarchies {
+
+    /**
+     * The name under which the aggregate hierarchies are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonAggregateHierarchies";
+
+    private final Map<String, List<String>> subtypes;
+
+    /**
+     * Creates an instance holding the names of the concrete {@code subtypes} per name of aggregate type.
+     *
+     * @param subtypes the names of the concrete subtypes per name of aggregate type
+     */
+    public AggregateHierarchies(Map<String, List<String>> subtypes) {
+        this.subtypes = Map.copyOf(subtypes);
+    }
+
+    /**
+     * Returns the concrete subtypes found ahead of time of the given {@code aggregateType}. Subtypes that can't be
+     * loaded by the class loader of the aggregate type are left out.
+     *
+     * @param aggregateType the aggregate type to return the subtypes of
+     * @param <T>           the type of aggregate
+     * @return the subtypes of the aggregate type, or an empty set if none were found
+     */
+    public <T> Set<Class<? extends T>> subtypesOf(Class<T> aggregateType) {
+        Set<Class<? extends T>> types = new LinkedHashSet<>();
+        for (String typeName : subtypes.getOrDefault(aggregateType.getName(), List.of())) {
+            try {
+                Class<?> type = Class.forName(typeName, false, aggregateType.getClassLoader());
+                if (aggregateType.isAssignableFrom(type)) {
+                    types.add(type.asSubclass(aggregateType));
+                }
+            } catch (ClassNotFoundException e) {
+                // the subtype isn't available at runtime, so there are no instances to dispatch to
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Returns the number of aggregate types with subtypes.
+     *
+     * @return the number of aggregate types with subtypes
+     */
+    public int size() {
+        return subtypes.size();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventsourcing.AggregateFactory;
+import org.axonframework.eventsourcing.GenericAggregateFactory;
+import org.axonframework.eventsourcing.IncompatibleAggregateException;
+import org.axonframework.modelling.command.AggregateRoot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Aggregate factory creating the aggregates to source from events through a supplier per aggregate type, such as one
+ * calling a {@link GeneratedAggregateInstantiator}. Unlike the {@link GenericAggregateFactory}, this factory doesn't
+ * invoke any constructors reflectively.
+ * <p/>
+ * Like the {@link GenericAggregateFactory}, the type of the aggregate to create is resolved from the type of the first
+ * event of the aggregate, which is the type declared through {@link AggregateRoot#type()} or the simple name of the
+ * aggregate class. When the first event is a snapshot, the aggregate in the snapshot is used instead. This factory
+ * resolves these types from the given instantiators, so it doesn't inspect the aggregate into a model of its own.
+ *
+ * @param <T> the type of aggregate created by this factory
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class GeneratedAggregateFactory<T> implements AggregateFactory<T> {
+
+    private final Class<T> aggregateType;
+    private final Map<String, Supplier<? extends T>> instantiators;
+    private final UnaryOperator<T> postProcessor;
+
+    /**
+     * Creates a factory for aggregates of the given {@code aggregateType}, creating instances of each concrete
+     * aggregate type through the supplier in the given {@code instantiators}.
+     *
+     * @param aggregateType the base type of the aggregates to create
+     * @param instantiators the suppliers creating the instances of each concrete aggregate type
+     */
+    public GeneratedAggregateFactory(Class<T> aggregateType,
+                                     Map<Class<? extends T>, Supplier<? extends T>> instantiators) {
+        this(aggregateType, instantiators, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates a factory for aggregates of the given {@code aggregateType}, creating instances of each concrete
+     * aggregate type through the supplier in the given {@code instantiators}. Each created aggregate, also those taken
+     * from a snapshot, is passed through the given {@code postProcessor}.
+     *
+     * @param aggregateType the base type of the aggregates to create
+     * @param instantiators the suppliers creating the instances of each concrete aggregate type
+     * @param postProcessor the function to apply to each created aggregate
+     */
+    public GeneratedAggregateFactory(Class<T> aggregateType,
+                                     Map<Class<? extends T>, Supplier<? extends T>> instantiators,
+                                     UnaryOperator<T> postProcessor) {
+        this.aggregateType = aggregateType;
+        Map<String, Supplier<? extends T>> instantiatorsPerType = new HashMap<>();
+        instantiators.forEach((type, instantiator) -> instantiatorsPerType.put(declaredType(type), instantiator));
+        this.instantiators = Map.copyOf(instantiatorsPerType);
+        this.postProcessor = postProcessor;
+    }
+
+    private static String declaredType(Class<?> type) {
+        return AnnotationUtils.findAnnotationAttributes(type, AggregateRoot.class)
+                              .map(attributes -> (String) attributes.get("type"))
+                              .filter(declaredType -> !declaredType.isEmpty())
+                              .orElse(type.getSimpleName());
+    }
+
+    @Override
+    public T createAggregateRoot(String aggregateIdentifier, DomainEventMessage<?> firstEvent) {
+        if (aggregateType.isAssignableFrom(firstEvent.getPayloadType())) {
+            return postProcessor.apply(aggregateType.cast(firstEvent.getPayload()));
+        }
+        Supplier<? extends T> instantiator = instantiators.get(firstEvent.getType());
+        if (instantiator == null) {
+            instantiator = instantiators.get(declaredType(aggregateType));
+        }
+        if (instantiator == null) {
+            throw new IncompatibleAggregateException(String.format(
+                    "The aggregate [%s] can't be instantiated, as no instantiator is available for it.",
+                    firstEvent.getType()
+            ));
+        }
+        return postProcessor.apply(instantiator.get());
+    }
+
+    @Override
+    public Class<T> getAggregateType() {
+        return aggregateType;
+    }
+}
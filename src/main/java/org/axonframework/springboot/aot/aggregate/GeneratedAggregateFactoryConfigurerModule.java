@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.config.AggregateConfigurer;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.modelling.saga.ResourceInjector;
+import org.axonframework.spring.stereotype.Aggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ConfigurerModule} that configures the aggregates defined through Spring's {@link Aggregate} annotation to
+ * create their instances through the {@link GeneratedAggregateInstantiators} generated ahead of time.
+ * <p/>
+ * The aggregate factory Axon configures for these aggregates obtains each instance as a prototype bean from the
+ * application context, after which the instance is configured as a bean once more. This module replaces it with a
+ * {@link GeneratedAggregateFactory} that creates the instance through its generated instantiator and injects its
+ * resources through the {@link ResourceInjector} Axon is configured with, the way Axon injects the resources of
+ * sagas. Unlike configuring the instance as a bean, this doesn't run the bean post-processors of the application
+ * context for every aggregate that is loaded. As a consequence, {@code @PostConstruct} methods and {@code *Aware}
+ * callbacks aren't invoked on these aggregates either. Aggregate types without a generated instantiator are still
+ * obtained from the application context.
+ * <p/>
+ * For aggregates without subtypes, the aggregates created by command handlers with a creation policy are created
+ * through a {@link GeneratedCreationPolicyAggregateFactory}. Aggregates that are configured in another way keep the
+ * factories Axon configures for them.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class GeneratedAggregateFactoryConfigurerModule implements ConfigurerModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneratedAggregateFactoryConfigurerModule.class);
+
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final GeneratedAggregateInstantiators instantiators;
+
+    /**
+     * Creates a module configuring the aggregates defined in the given {@code beanFactory} to use the given
+     * {@code instantiators}.
+     *
+     * @param beanFactory   the bean factory defining the aggregates
+     * @param instantiators the aggregate instantiators generated ahead of time
+     */
+    public GeneratedAggregateFactoryConfigurerModule(ConfigurableListableBeanFactory beanFactory,
+                                                     GeneratedAggregateInstantiators instantiators) {
+        this.beanFactory = beanFactory;
+        this.instantiators = instantiators;
+    }
+
+    @Override
+    public void configureModule(@Nonnull Configurer configurer) {
+        configurer.onInitialize(config -> {
+            Map<Class<?>, String> aggregateBeans = aggregateBeans();
+            for (AggregateConfigurer<?> aggregate : config.findModules(AggregateConfigurer.class)) {
+                configure(aggregate, aggregateBeans);
+            }
+        });
+    }
+
+    private Map<Class<?>, String> aggregateBeans() {
+        Map<Class<?>, String> aggregateBeans = new HashMap<>();
+        for (String beanName : beanFactory.getBeanNamesForAnnotation(Aggregate.class)) {
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (beanType != null) {
+                aggregateBeans.putIfAbsent(beanType, beanName);
+            }
+        }
+        return aggregateBeans;
+    }
+
+    private <A> void configure(AggregateConfigurer<A> aggregate, Map<Class<?>, String> aggregateBeans) {
+        Class<A> aggregateType = aggregate.aggregateType();
+        if (!AnnotationUtils.isAnnotationPresent(aggregateType, Aggregate.class)) {
+            return;
+        }
+        Map<Class<? extends A>, String> beanNames = new HashMap<>();
+        aggregateBeans.forEach((beanType, beanName) -> {
+            if (aggregateType.isAssignableFrom(beanType)) {
+                beanNames.put(beanType.asSubclass(aggregateType), beanName);
+            }
+        });
+        if (beanNames.keySet().stream().noneMatch(type -> instantiators.instantiatorOf(type).isPresent())) {
+            return;
+        }
+
+        Map<Class<? extends A>, Supplier<? extends A>> instantiatorsPerType = new HashMap<>();
+        beanNames.forEach((type, beanName) -> instantiatorsPerType.put(type, instantiatorOf(type, beanName)));
+        aggregate.configureAggregateFactory(c -> {
+            ResourceInjector resourceInjector = c.resourceInjector();
+            return new GeneratedAggregateFactory<>(aggregateType, instantiatorsPerType, instance -> {
+                resourceInjector.injectResources(instance);
+                return instance;
+            });
+        });
+        if (beanNames.size() == 1 && beanNames.containsKey(aggregateType)) {
+            instantiators.instantiatorOf(aggregateType).ifPresent(instantiator -> aggregate
+                    .configureCreationPolicyAggregateFactory(
+                            c -> new GeneratedCreationPolicyAggregateFactory<>(aggregateType, instantiator)
+                    ));
+        }
+        logger.debug("Configured aggregate [{}] to create its instances through generated instantiators",
+                     aggregateType.getName());
+    }
+
+    private <A> Supplier<? extends A> instantiatorOf(Class<? extends A> type, String beanName) {
+        return instantiators.instantiatorOf(type)
+                            .<Supplier<? extends A>>map(instantiator -> () -> type.cast(instantiator.newInstance()))
+                            .orElse(() -> beanFactory.getBean(beanName, type));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+/**
+ * Instantiator of an aggregate type, generated ahead of time. The instantiator calls the no-arg constructor of the
+ * aggregate directly, instead of through reflection.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public interface GeneratedAggregateInstantiator {
+
+    /**
+     * Returns the aggregate type this instantiator creates instances of.
+     *
+     * @return the aggregate type this instantiator creates instances of
+     */
+    Class<?> aggregateType();
+
+    /**
+     * Creates a new instance of the {@link #aggregateType() aggregate type}, using its no-arg constructor.
+     *
+     * @return a new instance of the aggregate type
+     */
+    Object newInstance();
+}
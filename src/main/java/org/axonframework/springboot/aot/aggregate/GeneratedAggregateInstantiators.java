@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the {@link GeneratedAggregateInstantiator GeneratedAggregateInstantiators} generated ahead of time. An
+ * instance of this class is registered in the application context under the {@link #BEAN_NAME} name by the generated
+ * code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class GeneratedAggregateInstantiators {
+
+    /**
+     * The name under which the generated instantiators are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonGeneratedAggregateInstantiators";
+
+    private final Map<Class<?>, GeneratedAggregateInstantiator> instantiators;
+
+    /**
+     * Creates a registry of the given {@code instantiators}. When several instantiators create the same aggregate
+     * type, the first one is used.
+     *
+     * @param instantiators the generated instantiators
+     */
+    public GeneratedAggregateInstantiators(List<GeneratedAggregateInstantiator> instantiators) {
+        Map<Class<?>, GeneratedAggregateInstantiator> instantiatorsByType = new HashMap<>();
+        instantiators.forEach(i -> instantiatorsByType.putIfAbsent(i.aggregateType(), i));
+        this.instantiators = Map.copyOf(instantiatorsByType);
+    }
+
+    /**
+     * Returns the generated instantiator of the given {@code aggregateType}, if one was generated.
+     *
+     * @param aggregateType the aggregate type to instantiate
+     * @return the generated instantiator, or an empty optional if the aggregate must be instantiated reflectively
+     */
+    public Optional<GeneratedAggregateInstantiator> instantiatorOf(Class<?> aggregateType) {
+        return Optional.ofNullable(instantiators.get(aggregateType));
+    }
+
+    /**
+     * Returns the number of aggregate types that can be instantiated through generated code.
+     *
+     * @return the number of aggregate types with a generated instantiator
+     */
+    public int size() {
+        return instantiators.size();
+    }
+}
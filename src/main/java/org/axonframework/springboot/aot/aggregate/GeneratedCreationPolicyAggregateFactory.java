@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.modelling.command.CreationPolicyAggregateFactory;
+import org.axonframework.modelling.command.NoArgumentConstructorCreationPolicyAggregateFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * {@link CreationPolicyAggregateFactory} creating the aggregates for command handlers with a creation policy through a
+ * {@link GeneratedAggregateInstantiator}. Unlike the {@link NoArgumentConstructorCreationPolicyAggregateFactory}, this
+ * factory doesn't invoke the no-arg constructor of the aggregate reflectively.
+ * <p/>
+ * Axon uses a configured creation policy aggregate factory for all types of a polymorphic aggregate, so this factory
+ * should only be configured for aggregates without subtypes.
+ *
+ * @param <A> the type of aggregate created by this factory
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class GeneratedCreationPolicyAggregateFactory<A> implements CreationPolicyAggregateFactory<A> {
+
+    private final Class<A> aggregateType;
+    private final GeneratedAggregateInstantiator instantiator;
+
+    /**
+     * Creates a factory creating instances of the given {@code aggregateType} through the given
+     * {@code instantiator}.
+     *
+     * @param aggregateType the type of aggregate to create
+     * @param instantiator  the generated instantiator of the aggregate type
+     */
+    public GeneratedCreationPolicyAggregateFactory(Class<A> aggregateType,
+                                                   GeneratedAggregateInstantiator instantiator) {
+        this.aggregateType = aggregateType;
+        this.instantiator = instantiator;
+    }
+
+    @Nonnull
+    @Override
+    public A create(@Nullable Object identifier) {
+        return aggregateType.cast(instantiator.newInstance());
+    }
+}
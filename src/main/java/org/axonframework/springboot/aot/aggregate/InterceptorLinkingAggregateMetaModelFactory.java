@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.modelling.command.inspection.AggregateMetaModelFactory;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+
+import java.util.Set;
+
+/**
+ * {@link AggregateMetaModelFactory} that wraps the models created by an {@link AnnotatedAggregateMetaModelFactory} in
+ * an {@link InterceptorLinkingAggregateModel}.
+ * <p/>
+ * Like Axon's aggregate configuration does by default, the models are inspected using the parameter resolver factory of
+ * the configuration and the handler definition it provides for the aggregate type.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class InterceptorLinkingAggregateMetaModelFactory implements AggregateMetaModelFactory {
+
+    private final Configuration configuration;
+
+    /**
+     * Creates a factory inspecting aggregates with the parameter resolvers and handler definitions of the given
+     * {@code configuration}.
+     *
+     * @param configuration the configuration providing the parameter resolvers and handler definitions
+     */
+    public InterceptorLinkingAggregateMetaModelFactory(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public <T> AggregateModel<T> createModel(Class<? extends T> aggregateType,
+                                             Set<Class<? extends T>> subtypes) {
+        AggregateMetaModelFactory delegate = new AnnotatedAggregateMetaModelFactory(
+                configuration.parameterResolverFactory(), configuration.handlerDefinition(aggregateType)
+        );
+        return new InterceptorLinkingAggregateModel<>(delegate.createModel(aggregateType, subtypes));
+    }
+}
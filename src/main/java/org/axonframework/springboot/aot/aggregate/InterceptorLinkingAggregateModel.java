@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.EntityModel;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link AggregateModel} decorator that links the command handler interceptors and exception handlers of an aggregate
+ * to each of its command handlers once, instead of building the interceptor chain for every command.
+ * <p/>
+ * For each command handler, the interceptors that may apply to its commands are selected based on their message and
+ * payload types, and kept in the order in which Axon invokes them. The command handlers returned by this model invoke
+ * their linked interceptors before handling the command, and this model reports no interceptors of its own, so the
+ * aggregate doesn't build a chain for every command. Whether a linked interceptor actually handles a command is still
+ * decided per command, as its parameters may depend on the command.
+ * <p/>
+ * Constructors and static methods are returned as-is, as Axon doesn't invoke the aggregate's interceptors for them.
+ *
+ * @param <T> the type of aggregate described by this model
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class InterceptorLinkingAggregateModel<T> implements AggregateModel<T> {
+
+    private final AggregateModel<T> delegate;
+    private final Map<Class<?>, List<MessageHandlingMember<? super T>>> linkedHandlers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a model linking the interceptors of the given {@code delegate} model to its command handlers.
+     *
+     * @param delegate the model to link the interceptors of
+     */
+    public InterceptorLinkingAggregateModel(AggregateModel<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Stream<MessageHandlingMember<? super T>> commandHandlers(Class<? extends T> type) {
+        return linkedHandlers.computeIfAbsent(type, t -> linkHandlers(type)).stream();
+    }
+
+    @Override
+    public Stream<MessageHandlingMember<? super T>> commandHandlerInterceptors(Class<? extends T> type) {
+        return Stream.empty();
+    }
+
+    private List<MessageHandlingMember<? super T>> linkHandlers(Class<? extends T> type) {
+        List<MessageHandlingMember<? super T>> interceptors = delegate.commandHandlerInterceptors(type).toList();
+        return delegate.commandHandlers(type)
+                       .map(handler -> linkInterceptors(handler, interceptors))
+                       .collect(Collectors.toList());
+    }
+
+    private MessageHandlingMember<? super T> linkInterceptors(MessageHandlingMember<? super T> handler,
+                                                              List<MessageHandlingMember<? super T>> interceptors) {
+        if (interceptors.isEmpty() || !isInvokedOnInstance(handler)) {
+            return handler;
+        }
+        List<MessageHandlingMember<? super T>> applicable = interceptors.stream()
+                                                                        .filter(i -> mayApply(i, handler))
+                                                                        .toList();
+        if (applicable.isEmpty()) {
+            return handler;
+        }
+        @SuppressWarnings("unchecked")
+        MessageHandlingMember<T> instanceHandler = (MessageHandlingMember<T>) handler;
+        return new LinkedInterceptorsMember<>(instanceHandler, applicable);
+    }
+
+    private static boolean isInvokedOnInstance(MessageHandlingMember<?> handler) {
+        if (handler.unwrap(Constructor.class).isPresent()) {
+            return false;
+        }
+        return handler.unwrap(Method.class).map(method -> !Modifier.isStatic(method.getModifiers())).orElse(true);
+    }
+
+    private static boolean mayApply(MessageHandlingMember<?> interceptor, MessageHandlingMember<?> handler) {
+        if (!interceptor.canHandleMessageType(CommandMessage.class)) {
+            return false;
+        }
+        Class<?> interceptedType = interceptor.payloadType();
+        Class<?> handledType = handler.payloadType();
+        return interceptedType.isAssignableFrom(handledType) || handledType.isAssignableFrom(interceptedType);
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allCommandHandlers() {
+        return delegate.allCommandHandlers();
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allCommandHandlerInterceptors() {
+        return delegate.allCommandHandlerInterceptors();
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allEventHandlers() {
+        return delegate.allEventHandlers();
+    }
+
+    @Override
+    public String type() {
+        return delegate.type();
+    }
+
+    @Override
+    public Long getVersion(T target) {
+        return delegate.getVersion(target);
+    }
+
+    @Override
+    public Optional<Class<?>> type(String declaredType) {
+        return delegate.type(declaredType);
+    }
+
+    @Override
+    public Optional<String> declaredType(Class<?> type) {
+        return delegate.declaredType(type);
+    }
+
+    @Override
+    public Stream<Class<?>> types() {
+        return delegate.types();
+    }
+
+    @Override
+    public Object getIdentifier(T target) {
+        return delegate.getIdentifier(target);
+    }
+
+    @Override
+    public String routingKey() {
+        return delegate.routingKey();
+    }
+
+    @Override
+    public void publish(EventMessage<?> message, T target) {
+        delegate.publish(message, target);
+    }
+
+    @Override
+    public <C> EntityModel<C> modelOf(Class<? extends C> childEntityType) {
+        return delegate.modelOf(childEntityType);
+    }
+
+    @Override
+    public Class<? extends T> entityClass() {
+        return delegate.entityClass();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.InterceptorChainParameterResolverFactory;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+
+import java.util.List;
+
+/**
+ * {@link InterceptorChain} invoking a list of interceptors linked to a handler ahead of the first message, followed by
+ * the handler itself. Each interceptor is only invoked when it can handle the message, as Axon does when it builds the
+ * chain for a message.
+ *
+ * @param <T> the type of the target the interceptors and handler are invoked on
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class LinkedInterceptorChain<T> implements InterceptorChain {
+
+    private final List<MessageHandlingMember<? super T>> interceptors;
+    private final MessageHandlingMember<? super T> handler;
+    private final Message<?> message;
+    private final T target;
+    private int next;
+
+    LinkedInterceptorChain(List<MessageHandlingMember<? super T>> interceptors,
+                           MessageHandlingMember<? super T> handler,
+                           Message<?> message,
+                           T target) {
+        this.interceptors = interceptors;
+        this.handler = handler;
+        this.message = message;
+        this.target = target;
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        if (next == interceptors.size()) {
+            return handler.handle(message, target);
+        }
+        MessageHandlingMember<? super T> interceptor = interceptors.get(next++);
+        return InterceptorChainParameterResolverFactory.callWithInterceptorChain(
+                this, () -> interceptor.canHandle(message) ? interceptor.handle(message, target) : proceed()
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.WrappedMessageHandlingMember;
+
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Command handling member that invokes the interceptors linked to it before invoking the handler itself.
+ *
+ * @param <T> the type of the aggregate declaring the handler
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class LinkedInterceptorsMember<T> extends WrappedMessageHandlingMember<T> {
+
+    private final MessageHandlingMember<T> handler;
+    private final List<MessageHandlingMember<? super T>> interceptors;
+
+    LinkedInterceptorsMember(MessageHandlingMember<T> handler, List<MessageHandlingMember<? super T>> interceptors) {
+        super(handler);
+        this.handler = handler;
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    @Override
+    public Object handle(@Nonnull Message<?> message, @Nullable T target) throws Exception {
+        return new LinkedInterceptorChain<>(interceptors, handler, message, target).proceed();
+    }
+
+    /**
+     * Returns the interceptors linked to this handler, in the order in which they're invoked.
+     *
+     * @return the linked interceptors
+     */
+    List<MessageHandlingMember<? super T>> interceptors() {
+        return interceptors;
+    }
+}
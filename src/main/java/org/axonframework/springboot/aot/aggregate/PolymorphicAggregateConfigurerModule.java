@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.config.Component;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.modelling.command.inspection.AggregateMetaModelFactory;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ConfigurerModule} that registers a {@link PolymorphicAggregateMetaModelFactory} as the
+ * {@link AggregateMetaModelFactory} of the configuration, so that the models of polymorphic aggregates hold the
+ * handlers of each of their concrete types.
+ * <p/>
+ * This module is applied after the modules with the default order. The registered factory creates the models through
+ * the aggregate meta model factory those modules registered, such as an
+ * {@link InterceptorLinkingAggregateMetaModelFactory}, so that it only changes the models of aggregates with subtypes.
+ * When no factory was registered, the models are created the way Axon's aggregate configuration creates them by
+ * default. Nothing is registered when no polymorphic aggregates were found ahead of time.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class PolymorphicAggregateConfigurerModule implements ConfigurerModule {
+
+    private final Supplier<Optional<AggregateHierarchies>> hierarchies;
+
+    /**
+     * Creates a module configuring the models of aggregates with the subtypes provided by the given
+     * {@code hierarchies} supplier. The supplier is invoked when the module is applied.
+     *
+     * @param hierarchies the supplier of the subtypes of the aggregates found ahead of time, if any
+     */
+    public PolymorphicAggregateConfigurerModule(Supplier<Optional<AggregateHierarchies>> hierarchies) {
+        this.hierarchies = hierarchies;
+    }
+
+    @Override
+    public void configureModule(@Nonnull Configurer configurer) {
+        Optional<AggregateHierarchies> aggregateHierarchies = hierarchies.get().filter(h -> h.size() > 0);
+        if (aggregateHierarchies.isEmpty()) {
+            return;
+        }
+        Component<?> registered = configurer instanceof DefaultConfigurer defaultConfigurer
+                ? defaultConfigurer.getComponents().get(AggregateMetaModelFactory.class)
+                : null;
+        configurer.registerComponent(
+                AggregateMetaModelFactory.class,
+                c -> registered == null
+                        ? new PolymorphicAggregateMetaModelFactory(c, aggregateHierarchies.get())
+                        : new PolymorphicAggregateMetaModelFactory((AggregateMetaModelFactory) registered.get(),
+                                                                   aggregateHierarchies.get())
+        );
+    }
+
+    @Override
+    public int order() {
+        return 1;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.modelling.command.inspection.AggregateMetaModelFactory;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@link AggregateMetaModelFactory} that creates the models of polymorphic aggregates with the subtypes found ahead of
+ * time, and wraps them in a {@link PolymorphicAggregateModel} holding the handlers of each concrete type.
+ * <p/>
+ * The subtypes in the {@link AggregateHierarchies} are inspected along with the subtypes Axon's configuration provides,
+ * so that the model holds the handlers of every concrete type it may dispatch to. The models are created by a delegate
+ * factory, such as the {@link InterceptorLinkingAggregateMetaModelFactory}, and models of aggregates without subtypes
+ * are returned as the delegate creates them.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class PolymorphicAggregateMetaModelFactory implements AggregateMetaModelFactory {
+
+    private final Function<Class<?>, AggregateMetaModelFactory> delegates;
+    private final AggregateHierarchies hierarchies;
+
+    /**
+     * Creates a factory inspecting aggregates and the given subtypes like Axon's aggregate configuration does by
+     * default: with an {@link AnnotatedAggregateMetaModelFactory} using the parameter resolver factory of the given
+     * {@code configuration} and the handler definition it provides for the aggregate type.
+     *
+     * @param configuration the configuration providing the parameter resolvers and handler definitions
+     * @param hierarchies   the subtypes of the aggregates, as found ahead of time
+     */
+    public PolymorphicAggregateMetaModelFactory(Configuration configuration, AggregateHierarchies hierarchies) {
+        this(aggregateType -> new AnnotatedAggregateMetaModelFactory(configuration.parameterResolverFactory(),
+                                                                     configuration.handlerDefinition(aggregateType)),
+             hierarchies);
+    }
+
+    /**
+     * Creates a factory inspecting aggregates and the given subtypes with the given {@code delegate}.
+     *
+     * @param delegate    the factory creating the models of the aggregates
+     * @param hierarchies the subtypes of the aggregates, as found ahead of time
+     */
+    public PolymorphicAggregateMetaModelFactory(AggregateMetaModelFactory delegate, AggregateHierarchies hierarchies) {
+        this(aggregateType -> delegate, hierarchies);
+    }
+
+    private PolymorphicAggregateMetaModelFactory(Function<Class<?>, AggregateMetaModelFactory> delegates,
+                                                 AggregateHierarchies hierarchies) {
+        this.delegates = delegates;
+        this.hierarchies = hierarchies;
+    }
+
+    @Override
+    public <T> AggregateModel<T> createModel(Class<? extends T> aggregateType,
+                                             Set<Class<? extends T>> subtypes) {
+        Set<Class<? extends T>> allSubtypes = new LinkedHashSet<>(subtypes);
+        allSubtypes.addAll(hierarchies.subtypesOf(aggregateType));
+        allSubtypes.remove(aggregateType);
+        AggregateModel<T> model = delegates.apply(aggregateType).createModel(aggregateType, allSubtypes);
+        if (allSubtypes.isEmpty()) {
+            return model;
+        }
+        Set<Class<? extends T>> concreteTypes = new LinkedHashSet<>();
+        if (!Modifier.isAbstract(aggregateType.getModifiers())) {
+            concreteTypes.add(aggregateType);
+        }
+        allSubtypes.stream()
+                   .filter(type -> !Modifier.isAbstract(type.getModifiers()))
+                   .forEach(concreteTypes::add);
+        return new PolymorphicAggregateModel<>(model, concreteTypes);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.EntityModel;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link AggregateModel} decorator that resolves the command handlers and command handler interceptors of each concrete
+ * type of a polymorphic aggregate once, when the model is created.
+ * <p/>
+ * Axon's model looks up the handlers of an aggregate instance by walking up the hierarchy of its type until it finds a
+ * type it has inspected, for every command. This model holds a table of the handlers per concrete type instead, so that
+ * the handlers of an instance are found with a single lookup. Types that aren't in the table, such as subtypes that
+ * weren't known when the model was created, are resolved by the delegate as usual.
+ *
+ * @param <T> the type of aggregate described by this model
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class PolymorphicAggregateModel<T> implements AggregateModel<T> {
+
+    private final AggregateModel<T> delegate;
+    private final Map<Class<?>, List<MessageHandlingMember<? super T>>> commandHandlers;
+    private final Map<Class<?>, List<MessageHandlingMember<? super T>>> commandHandlerInterceptors;
+
+    /**
+     * Creates a model resolving the handlers of the given {@code concreteTypes} through the given {@code delegate}
+     * model once.
+     *
+     * @param delegate      the model describing the aggregate and its subtypes
+     * @param concreteTypes the concrete types of the aggregate to resolve the handlers of
+     */
+    public PolymorphicAggregateModel(AggregateModel<T> delegate, Collection<Class<? extends T>> concreteTypes) {
+        this.delegate = delegate;
+        Map<Class<?>, List<MessageHandlingMember<? super T>>> handlers = new HashMap<>();
+        Map<Class<?>, List<MessageHandlingMember<? super T>>> interceptors = new HashMap<>();
+        for (Class<? extends T> type : concreteTypes) {
+            handlers.put(type, delegate.commandHandlers(type).toList());
+            interceptors.put(type, delegate.commandHandlerInterceptors(type).toList());
+        }
+        this.commandHandlers = Map.copyOf(handlers);
+        this.commandHandlerInterceptors = Map.copyOf(interceptors);
+    }
+
+    @Override
+    public Stream<MessageHandlingMember<? super T>> commandHandlers(Class<? extends T> type) {
+        List<MessageHandlingMember<? super T>> handlers = commandHandlers.get(type);
+        return handlers != null ? handlers.stream() : delegate.commandHandlers(type);
+    }
+
+    @Override
+    public Stream<MessageHandlingMember<? super T>> commandHandlerInterceptors(Class<? extends T> type) {
+        List<MessageHandlingMember<? super T>> interceptors = commandHandlerInterceptors.get(type);
+        return interceptors != null ? interceptors.stream() : delegate.commandHandlerInterceptors(type);
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allCommandHandlers() {
+        return delegate.allCommandHandlers();
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allCommandHandlerInterceptors() {
+        return delegate.allCommandHandlerInterceptors();
+    }
+
+    @Override
+    public Map<Class<?>, List<MessageHandlingMember<? super T>>> allEventHandlers() {
+        return delegate.allEventHandlers();
+    }
+
+    @Override
+    public String type() {
+        return delegate.type();
+    }
+
+    @Override
+    public Long getVersion(T target) {
+        return delegate.getVersion(target);
+    }
+
+    @Override
+    public Optional<Class<?>> type(String declaredType) {
+        return delegate.type(declaredType);
+    }
+
+    @Override
+    public Optional<String> declaredType(Class<?> type) {
+        return delegate.declaredType(type);
+    }
+
+    @Override
+    public Stream<Class<?>> types() {
+        return delegate.types();
+    }
+
+    @Override
+    public Object getIdentifier(T target) {
+        return delegate.getIdentifier(target);
+    }
+
+    @Override
+    public String routingKey() {
+        return delegate.routingKey();
+    }
+
+    @Override
+    public void publish(EventMessage<?> message, T target) {
+        delegate.publish(message, target);
+    }
+
+    @Override
+    public <C> EntityModel<C> modelOf(Class<? extends C> childEntityType) {
+        return delegate.modelOf(childEntityType);
+    }
+
+    @Override
+    public Class<? extends T> entityClass() {
+        return delegate.entityClass();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.springboot.aot.preload.ClassPreloadingPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration registering the {@link ClassPreloadingPostProcessor}. Whether classes are preloaded is decided at
+ * runtime, based on the {@code axon.aot.class-preloading.enabled} property, so it can be switched without repeating the
+ * ahead of time processing.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+public class ClassPreloadingAutoConfiguration {
+
+    @Bean
+    public static ClassPreloadingPostProcessor classPreloadingPostProcessor() {
+        return new ClassPreloadingPostProcessor();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.serialization.Serializer;
+import org.axonframework.springboot.aot.serialization.ContentTypeConverterRoutes;
+import org.axonframework.springboot.aot.serialization.ContentTypeConverterRoutesPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * Configuration registering the {@link ContentTypeConverterRoutes} calculated ahead of time with the converters of all
+ * serializers. A conversion without a precalculated route, such as any conversion when no routes bean was generated,
+ * has its converter chain searched by the serializer on first use. Registering the routes is disabled by setting
+ * {@code axon.aot.converter-routes.enabled} to {@code false}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(Serializer.class)
+@ConditionalOnProperty(value = "axon.aot.converter-routes.enabled", matchIfMissing = true)
+public class ContentTypeConverterRoutesAutoConfiguration {
+
+    @Bean
+    public static ContentTypeConverterRoutesPostProcessor contentTypeConverterRoutesPostProcessor(
+            ObjectProvider<ContentTypeConverterRoutes> routes
+    ) {
+        return new ContentTypeConverterRoutesPostProcessor(
+                () -> routes.getIfAvailable(() -> new ContentTypeConverterRoutes(List.of()))
+        );
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.spring.stereotype.Aggregate;
+import org.axonframework.springboot.aot.aggregate.GeneratedAggregateFactoryConfigurerModule;
+import org.axonframework.springboot.aot.aggregate.GeneratedAggregateInstantiators;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration creating the instances of aggregates defined through Spring's {@link Aggregate} annotation through the
+ * {@link GeneratedAggregateInstantiators} generated ahead of time, instead of obtaining them as prototype beans from
+ * the application context, when the {@code axon.aot.generated-aggregate-factories.enabled} property is {@code true}.
+ * <p/>
+ * The aggregates then don't go through the lifecycle of a bean: {@code @PostConstruct} methods, {@code *Aware}
+ * callbacks and bean post-processors aren't applied to them, and only their {@code @Autowired} and {@code @Inject}
+ * fields and setters are injected. Without generated instantiators, the aggregates keep being obtained from the
+ * application context.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass({ConfigurerModule.class, Aggregate.class})
+@ConditionalOnProperty("axon.aot.generated-aggregate-factories.enabled")
+public class GeneratedAggregateFactoryAutoConfiguration {
+
+    @Bean
+    public ConfigurerModule generatedAggregateFactoryConfigurerModule(
+            ConfigurableListableBeanFactory beanFactory,
+            ObjectProvider<GeneratedAggregateInstantiators> instantiators
+    ) {
+        GeneratedAggregateInstantiators generatedInstantiators = instantiators.getIfAvailable();
+        if (generatedInstantiators == null) {
+            return configurer -> {
+            };
+        }
+        return new GeneratedAggregateFactoryConfigurerModule(beanFactory, generatedInstantiators);
+    }
+}
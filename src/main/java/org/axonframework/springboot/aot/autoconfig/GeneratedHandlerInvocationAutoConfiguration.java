@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.springboot.aot.invoke.GeneratedHandlerInvokers;
+import org.axonframework.springboot.aot.invoke.GeneratedInvocationEnhancerDefinition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * Configuration invoking message handlers through the {@link GeneratedHandlerInvokers} generated ahead of time, instead
+ * of through reflection, when the {@code axon.aot.generated-invocation.enabled} property is {@code true}. Only the
+ * final reflective call of a handler is replaced; Axon still selects the handler and forwards messages to aggregate
+ * members. Handlers without a generated invoker, which are all handlers when no invokers were generated, are invoked
+ * reflectively.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(HandlerEnhancerDefinition.class)
+@ConditionalOnProperty("axon.aot.generated-invocation.enabled")
+public class GeneratedHandlerInvocationAutoConfiguration {
+
+    @Bean
+    public GeneratedInvocationEnhancerDefinition generatedInvocationEnhancerDefinition(
+            ObjectProvider<GeneratedHandlerInvokers> invokers
+    ) {
+        return new GeneratedInvocationEnhancerDefinition(
+                invokers.getIfAvailable(() -> new GeneratedHandlerInvokers(List.of()))
+        );
+    }
+}
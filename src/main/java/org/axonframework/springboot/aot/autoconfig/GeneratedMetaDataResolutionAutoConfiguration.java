@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.axonframework.springboot.aot.parameter.GeneratedMetaDataParameterResolverFactory;
+import org.axonframework.springboot.aot.parameter.GeneratedMetaDataResolvers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * Configuration resolving {@link org.axonframework.messaging.annotation.MetaDataValue} handler parameters through the
+ * {@link GeneratedMetaDataResolvers} generated ahead of time. Parameters without a generated resolver, which are all of
+ * them if no resolvers bean was generated, are resolved by Axon's own {@code MetaDataValue} resolver. Generated
+ * resolution is disabled by setting {@code axon.aot.generated-metadata-resolution.enabled} to {@code false}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ParameterResolverFactory.class)
+@ConditionalOnProperty(value = "axon.aot.generated-metadata-resolution.enabled", matchIfMissing = true)
+public class GeneratedMetaDataResolutionAutoConfiguration {
+
+    @Bean
+    public GeneratedMetaDataParameterResolverFactory generatedMetaDataParameterResolverFactory(
+            ObjectProvider<GeneratedMetaDataResolvers> resolvers
+    ) {
+        return new GeneratedMetaDataParameterResolverFactory(
+                resolvers.getIfAvailable(() -> new GeneratedMetaDataResolvers(List.of()))
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.eventsourcing.Snapshotter;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodecs;
+import org.axonframework.springboot.aot.snapshot.SnapshotCodecPostProcessor;
+import org.axonframework.springboot.aot.snapshot.SnapshotCodecSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Optional;
+
+/**
+ * Configuration reading and writing the snapshots of aggregates with the {@link GeneratedSnapshotCodecs} generated
+ * ahead of time, by wrapping the general serializer in a {@link SnapshotCodecSerializer}. The codecs only write
+ * snapshots when {@code axon.aot.snapshot-codec.enabled} is {@code true}, as these snapshots can't be read without the
+ * AOT generated artifacts. The snapshots the codecs wrote before are always read by them, so that writing can be
+ * disabled again before rolling back. Without AOT generated artifacts, the general serializer isn't wrapped.
+ * <p/>
+ * The codecs generated for deadline payloads only write these payloads when {@code axon.aot.deadline-codec.enabled} is
+ * {@code true}, as deadline managers that persist their deadlines then store them in a format that is only readable
+ * with these codecs.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(Snapshotter.class)
+public class GeneratedSnapshotCodecAutoConfiguration {
+
+    @Bean
+    public static SnapshotCodecPostProcessor snapshotCodecPostProcessor(
+            ObjectProvider<GeneratedSnapshotCodecs> codecs,
+            @Value("${axon.aot.snapshot-codec.enabled:false}") boolean writeSnapshots,
+            @Value("${axon.aot.deadline-codec.enabled:false}") boolean writeDeadlinePayloads
+    ) {
+        return new SnapshotCodecPostProcessor(() -> Optional.ofNullable(codecs.getIfAvailable()),
+                                              writeSnapshots,
+                                              writeDeadlinePayloads);
+    }
+}
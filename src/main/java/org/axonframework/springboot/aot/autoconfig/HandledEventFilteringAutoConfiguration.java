@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.springboot.aot.event.HandledEventFilteringCustomizer;
+import org.axonframework.springboot.aot.event.PooledStreamingProcessorCustomizer;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Configuration dropping the events that none of the event handlers of a pooled streaming event processor handles from
+ * its event stream, when the {@code axon.aot.event-filtering.enabled} property is {@code true}. The
+ * {@code axon.aot.event-filtering.processors} property limits this to the processors with the given names. The handled
+ * payload types are taken from the {@link AxonHandlerMetadata}; if that bean is missing, the processors read their
+ * full event stream.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnProperty("axon.aot.event-filtering.enabled")
+public class HandledEventFilteringAutoConfiguration {
+
+    @Bean
+    public PooledStreamingProcessorCustomizer handledEventFilteringCustomizer(
+            ObjectProvider<AxonHandlerMetadata> metadata,
+            Environment environment
+    ) {
+        AxonHandlerMetadata handlerMetadata = metadata.getIfAvailable();
+        if (handlerMetadata == null) {
+            return new PooledStreamingProcessorCustomizer() {
+            };
+        }
+        List<String> processors = Binder.get(environment)
+                                        .bind("axon.aot.event-filtering.processors", Bindable.listOf(String.class))
+                                        .orElse(List.of());
+        return new HandledEventFilteringCustomizer(handlerMetadata, processors);
+    }
+}
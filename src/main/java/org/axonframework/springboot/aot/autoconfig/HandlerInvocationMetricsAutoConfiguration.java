@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.springboot.aot.metrics.HandlerInvocationMetricsEnhancerDefinition;
+import org.axonframework.springboot.aot.metrics.HandlerInvocationMetricsRegistry;
+import org.axonframework.springboot.aot.metrics.MicrometerHandlerInvocationMetricsBinder;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration recording the invocation metrics of all message handlers, when the
+ * {@code axon.aot.handler-metrics.enabled} property is {@code true}. When Micrometer is on the classpath, the metrics
+ * are exposed through a {@link MicrometerHandlerInvocationMetricsBinder}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(HandlerEnhancerDefinition.class)
+@ConditionalOnProperty("axon.aot.handler-metrics.enabled")
+public class HandlerInvocationMetricsAutoConfiguration {
+
+    @ConditionalOnMissingBean
+    @Bean
+    public HandlerInvocationMetricsRegistry handlerInvocationMetricsRegistry() {
+        return new HandlerInvocationMetricsRegistry();
+    }
+
+    @Bean
+    public HandlerInvocationMetricsEnhancerDefinition handlerInvocationMetricsEnhancerDefinition(
+            HandlerInvocationMetricsRegistry registry
+    ) {
+        return new HandlerInvocationMetricsEnhancerDefinition(registry);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+    static class MicrometerConfiguration {
+
+        @Bean
+        public MicrometerHandlerInvocationMetricsBinder micrometerHandlerInvocationMetricsBinder(
+                HandlerInvocationMetricsRegistry registry
+        ) {
+            return new MicrometerHandlerInvocationMetricsBinder(registry);
+        }
+    }
+}
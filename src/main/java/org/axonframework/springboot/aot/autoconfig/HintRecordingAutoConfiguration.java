@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.springboot.aot.hints.HintRecorder;
+import org.axonframework.springboot.aot.hints.HintRecordingEnhancerDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration recording which message handlers are invoked, when the {@code axon.aot.hint-recording.enabled}
+ * property is {@code true}. This is meant to be enabled while running integration tests or a representative workload.
+ * The observed hint profile is written to the directory in the {@code axon.aot.hint-recording.output-directory}
+ * property, which defaults to {@code target/axon-hints}, when the application context closes.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(HandlerEnhancerDefinition.class)
+@ConditionalOnProperty("axon.aot.hint-recording.enabled")
+public class HintRecordingAutoConfiguration {
+
+    @Bean
+    public HintRecorder hintRecorder(
+            @Value("${axon.aot.hint-recording.output-directory:target/axon-hints}") String outputDirectory
+    ) {
+        return new HintRecorder(Path.of(outputDirectory));
+    }
+
+    @Bean
+    public HintRecordingEnhancerDefinition hintRecordingEnhancerDefinition(HintRecorder hintRecorder) {
+        return new HintRecordingEnhancerDefinition(hintRecorder);
+    }
+}
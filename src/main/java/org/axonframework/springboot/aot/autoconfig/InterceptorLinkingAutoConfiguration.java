@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.modelling.command.inspection.AggregateMetaModelFactory;
+import org.axonframework.springboot.aot.aggregate.InterceptorLinkingAggregateMetaModelFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration linking the command handler interceptors and exception handlers of aggregates to their command handlers
+ * once, when the {@code axon.aot.linked-interceptors.enabled} property is {@code true}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnProperty("axon.aot.linked-interceptors.enabled")
+public class InterceptorLinkingAutoConfiguration {
+
+    @Bean
+    public ConfigurerModule interceptorLinkingConfigurerModule() {
+        return configurer -> configurer.registerComponent(AggregateMetaModelFactory.class,
+                                                          InterceptorLinkingAggregateMetaModelFactory::new);
+    }
+}
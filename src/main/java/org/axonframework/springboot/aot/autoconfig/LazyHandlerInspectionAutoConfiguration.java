@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.spring.config.MessageHandlerConfigurer;
+import org.axonframework.springboot.aot.lazy.LazyHandlerInspectionPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration registering the {@link LazyHandlerInspectionPostProcessor}. Whether handlers are inspected lazily is
+ * decided at runtime, based on the {@code axon.aot.lazy-handlers.enabled} property, so the mode can be switched
+ * without repeating the ahead of time processing.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(MessageHandlerConfigurer.class)
+public class LazyHandlerInspectionAutoConfiguration {
+
+    @Bean
+    public static LazyHandlerInspectionPostProcessor lazyHandlerInspectionPostProcessor() {
+        return new LazyHandlerInspectionPostProcessor();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.springboot.aot.aggregate.AggregateHierarchies;
+import org.axonframework.springboot.aot.aggregate.PolymorphicAggregateConfigurerModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Optional;
+
+/**
+ * Configuration resolving the handlers of each concrete type of polymorphic aggregates once, using the
+ * {@link AggregateHierarchies} found ahead of time, when the {@code axon.aot.polymorphic-aggregates.enabled} property
+ * is {@code true}. The models of aggregates with subtypes are wrapped around the models created by the aggregate meta
+ * model factory configured otherwise, such as the one linking interceptors. The models of other aggregates, and of all
+ * aggregates when no subtypes were found ahead of time, are left as they are.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnProperty("axon.aot.polymorphic-aggregates.enabled")
+public class PolymorphicAggregateAutoConfiguration {
+
+    @Bean
+    public ConfigurerModule polymorphicAggregateConfigurerModule(ObjectProvider<AggregateHierarchies> hierarchies) {
+        return new PolymorphicAggregateConfigurerModule(() -> Optional.ofNullable(hierarchies.getIfAvailable()));
+    }
+}
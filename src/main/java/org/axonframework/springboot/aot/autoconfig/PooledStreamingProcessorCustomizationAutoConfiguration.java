@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.EventProcessingConfiguration;
+import org.axonframework.config.EventProcessingModule;
+import org.axonframework.springboot.aot.event.CustomizingEventProcessingModule;
+import org.axonframework.springboot.aot.event.PooledStreamingProcessorCustomizer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+import java.util.List;
+
+/**
+ * Configuration of a {@link CustomizingEventProcessingModule} as the event processing module, when any
+ * {@link PooledStreamingProcessorCustomizer} is defined and the application doesn't define an event processing module
+ * itself.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration(
+        after = {VirtualThreadAutoConfiguration.class, HandledEventFilteringAutoConfiguration.class},
+        beforeName = "org.axonframework.springboot.autoconfig.EventProcessingAutoConfiguration"
+)
+@ConditionalOnClass(EventProcessingModule.class)
+public class PooledStreamingProcessorCustomizationAutoConfiguration {
+
+    @ConditionalOnBean(PooledStreamingProcessorCustomizer.class)
+    @ConditionalOnMissingBean({EventProcessingModule.class, EventProcessingConfiguration.class})
+    @Bean
+    public CustomizingEventProcessingModule eventProcessingModule(
+            List<PooledStreamingProcessorCustomizer> customizers
+    ) {
+        return new CustomizingEventProcessingModule(customizers);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.queryhandling.SimpleQueryUpdateEmitter;
+import org.axonframework.springboot.aot.query.QueryUpdateRoutingPostProcessor;
+import org.axonframework.springboot.aot.query.QueryUpdateTypes;
+import org.axonframework.springboot.aot.query.RoutingQueryUpdateEmitter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import reactor.core.publisher.Sinks;
+
+import java.util.Optional;
+
+/**
+ * Configuration replacing Axon's {@link SimpleQueryUpdateEmitter} with a {@link RoutingQueryUpdateEmitter}, which
+ * routes updates to the groups of subscription queries they're compatible with, using the {@link QueryUpdateTypes}
+ * found ahead of time, when the {@code axon.aot.query-update-routing.enabled} property is {@code true}. Only the
+ * emitter defined by Axon's auto-configuration is replaced, and only if the update types of the queries are known. If
+ * no {@link QueryUpdateTypes} bean was generated, each update is still matched against every subscription query.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass({SimpleQueryUpdateEmitter.class, Sinks.class})
+@ConditionalOnProperty("axon.aot.query-update-routing.enabled")
+public class QueryUpdateRoutingAutoConfiguration {
+
+    @Bean
+    public static QueryUpdateRoutingPostProcessor queryUpdateRoutingPostProcessor(
+            ObjectProvider<QueryUpdateTypes> updateTypes,
+            ObjectProvider<Configuration> configuration
+    ) {
+        return new QueryUpdateRoutingPostProcessor(() -> Optional.ofNullable(updateTypes.getIfAvailable()),
+                                                   configuration::getObject);
+    }
+}
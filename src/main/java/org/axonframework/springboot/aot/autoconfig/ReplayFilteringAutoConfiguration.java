@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.springboot.aot.event.ReplayFilteringConfigurerModule;
+import org.axonframework.springboot.aot.event.ReplayableEventTypes;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Configuration letting event processors skip the replayed events their handlers don't handle during a replay, when
+ * the {@code axon.aot.replay-filtering.enabled} property is {@code true}. The
+ * {@code axon.aot.replay-filtering.processors} property limits this to the processors with the given names. The
+ * replayable payload types come from the {@link ReplayableEventTypes} bean; without it, every replayed event reaches
+ * the handlers, which ignore the ones they don't handle.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnProperty("axon.aot.replay-filtering.enabled")
+public class ReplayFilteringAutoConfiguration {
+
+    @Bean
+    public ConfigurerModule replayFilteringConfigurerModule(ObjectProvider<ReplayableEventTypes> replayableEventTypes,
+                                                            Environment environment) {
+        ReplayableEventTypes replayableTypes = replayableEventTypes.getIfAvailable();
+        if (replayableTypes == null) {
+            return configurer -> {
+            };
+        }
+        List<String> processors = Binder.get(environment)
+                                        .bind("axon.aot.replay-filtering.processors", Bindable.listOf(String.class))
+                                        .orElse(List.of());
+        return new ReplayFilteringConfigurerModule(replayableTypes, processors);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.query.ResponseTypeMatchingConfigurerModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration routing queries through the response type matches computed ahead of time, when the
+ * {@code axon.aot.response-type-matching.enabled} property is {@code true}. As each dispatched query is wrapped to
+ * carry the table matching response type, this is opt-in. Without generated handler metadata, the query bus matches
+ * the response types of queries itself.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnProperty("axon.aot.response-type-matching.enabled")
+public class ResponseTypeMatchingAutoConfiguration {
+
+    @Bean
+    public ConfigurerModule responseTypeMatchingConfigurerModule(ObjectProvider<AxonHandlerMetadata> metadata) {
+        AxonHandlerMetadata handlerMetadata = metadata.getIfAvailable();
+        if (handlerMetadata == null) {
+            return configurer -> {
+            };
+        }
+        return new ResponseTypeMatchingConfigurerModule(handlerMetadata);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.springboot.aot.saga.SagaStoreCachingPostProcessor;
+import org.axonframework.springboot.aot.saga.WriteThroughCachingSagaStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration placing a {@link WriteThroughCachingSagaStore} in front of the JPA and JDBC {@link SagaStore} beans,
+ * when {@code axon.aot.saga-cache.enabled} is {@code true}. The entries of a segment are evicted whenever that segment
+ * is claimed or released through the token store bean. The saga store and token store beans are replaced by wrappers
+ * that only implement their interfaces. The {@code axon.aot.saga-cache.associations-size} property defines the
+ * maximum number of association values to cache the saga identifiers of, which defaults to 10000. The
+ * {@code axon.aot.saga-cache.sagas-size} property defines the maximum number of saga instances to cache, which
+ * defaults to 1000.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(SagaStore.class)
+@ConditionalOnProperty("axon.aot.saga-cache.enabled")
+public class SagaCacheAutoConfiguration {
+
+    @Bean
+    public static SagaStoreCachingPostProcessor sagaStoreCachingPostProcessor(
+            @Value("${axon.aot.saga-cache.associations-size:10000}") int associationsCacheSize,
+            @Value("${axon.aot.saga-cache.sagas-size:1000}") int sagaCacheSize
+    ) {
+        return new SagaStoreCachingPostProcessor(associationsCacheSize, sagaCacheSize);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.springboot.aot.upcasting.UpcasterDispatchPostProcessor;
+import org.axonframework.springboot.aot.upcasting.UpcasterDispatchTable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+
+/**
+ * Configuration registering the {@link EventUpcaster} beans through the {@link UpcasterDispatchTable} collected ahead
+ * of time, so that events are only passed to the upcasters that declared their type and revision. Upcasters missing
+ * from the table, which is all of them if no table was generated, keep receiving every event as part of Axon's
+ * upcaster chain. Dispatching is disabled by setting {@code axon.aot.upcaster-dispatch.enabled} to {@code false}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@ConditionalOnClass(EventUpcaster.class)
+@ConditionalOnProperty(value = "axon.aot.upcaster-dispatch.enabled", matchIfMissing = true)
+public class UpcasterDispatchAutoConfiguration {
+
+    @Bean
+    public static UpcasterDispatchPostProcessor upcasterDispatchPostProcessor(
+            ObjectProvider<UpcasterDispatchTable> table,
+            ObjectProvider<EventUpcaster> upcasters
+    ) {
+        return new UpcasterDispatchPostProcessor(
+                () -> table.getIfAvailable(() -> new UpcasterDispatchTable(Map.of())),
+                () -> upcasters.orderedStream().toList()
+        );
+    }
+}
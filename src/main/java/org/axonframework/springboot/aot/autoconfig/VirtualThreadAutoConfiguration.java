@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.commandhandling.AsynchronousCommandBus;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.CommandBusSpanFactory;
+import org.axonframework.commandhandling.DuplicateCommandHandlerResolver;
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.messaging.interceptors.CorrelationDataInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Configuration running Axon's pooled streaming event processors, and optionally the command bus, on virtual threads.
+ * It's active when {@code axon.virtual-threads.enabled} is {@code true} and virtual threads are enabled through the
+ * {@code spring.threads.virtual.enabled} property on Java 21 or later.
+ * <p/>
+ * The coordinator and work packages of all pooled streaming event processors run on virtual threads, through a
+ * {@link VirtualThreadPooledStreamingProcessorConfiguration} that is applied before the processor configurations
+ * registered by the application. The {@code axon.virtual-threads.worker-pool-size} property defines the number of
+ * virtual threads per processor, which bounds the number of segments it processes concurrently and defaults to 16.
+ * When {@code axon.virtual-threads.asynchronous-command-bus} is {@code true}, the local command bus is
+ * an {@link AsynchronousCommandBus} handling each command on a new virtual thread.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@AutoConfiguration
+@AutoConfigureBefore(name = "org.axonframework.springboot.autoconfig.AxonAutoConfiguration")
+@ConditionalOnClass(ConfigurerModule.class)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty("axon.virtual-threads.enabled")
+public class VirtualThreadAutoConfiguration {
+
+    @Bean
+    public VirtualThreadPooledStreamingProcessorConfiguration virtualThreadPooledStreamingProcessorConfiguration(
+            @Value("${axon.virtual-threads.worker-pool-size:16}") int workerPoolSize
+    ) {
+        return new VirtualThreadPooledStreamingProcessorConfiguration(workerPoolSize);
+    }
+
+    @ConditionalOnProperty("axon.virtual-threads.asynchronous-command-bus")
+    @ConditionalOnMissingBean(
+            ignoredType = {
+                    "org.axonframework.commandhandling.distributed.DistributedCommandBus",
+                    "org.axonframework.axonserver.connector.command.AxonServerCommandBus",
+                    "org.axonframework.extensions.multitenancy.components.commandhandeling.MultiTenantCommandBus"
+            },
+            value = CommandBus.class
+    )
+    @Qualifier("localSegment")
+    @Bean
+    public AsynchronousCommandBus commandBus(TransactionManager txManager,
+                                             Configuration axonConfiguration,
+                                             DuplicateCommandHandlerResolver duplicateCommandHandlerResolver) {
+        AsynchronousCommandBus commandBus =
+                AsynchronousCommandBus.builder()
+                                      .executor(new VirtualThreadTaskExecutor("CommandProcessor-"))
+                                      .transactionManager(txManager)
+                                      .duplicateCommandHandlerResolver(duplicateCommandHandlerResolver)
+                                      .spanFactory(axonConfiguration.getComponent(CommandBusSpanFactory.class))
+                                      .messageMonitor(axonConfiguration.messageMonitor(CommandBus.class, "commandBus"))
+                                      .build();
+        commandBus.registerHandlerInterceptor(
+                new CorrelationDataInterceptor<>(axonConfiguration.correlationDataProviders())
+        );
+        return commandBus;
+    }
+}
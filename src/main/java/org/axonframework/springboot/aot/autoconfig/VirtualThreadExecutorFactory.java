@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Factory of {@link ScheduledExecutorService ScheduledExecutorServices} running their tasks on virtual threads, to be
+ * used as the coordinator or worker executor of a
+ * {@link org.axonframework.eventhandling.pooled.PooledStreamingEventProcessor}. The created executors are shut down
+ * when the given {@link Configuration} shuts down.
+ * <p/>
+ * The executors are {@link java.util.concurrent.ScheduledThreadPoolExecutor ScheduledThreadPoolExecutors}, because
+ * the processor schedules its tasks. Such an executor never grows beyond its fixed pool size, so the pool size bounds
+ * the number of tasks running at the same time. For the worker executor, that's the number of segments a processor
+ * works on concurrently, so it should be at least the number of segments claimed by a single instance. Virtual threads
+ * make a large pool size cheap, as idle pool threads don't hold on to a platform thread.
+ * <p/>
+ * This is a class instead of a lambda, to keep it compatible with compiling ahead of time.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class VirtualThreadExecutorFactory implements Function<String, ScheduledExecutorService> {
+
+    private final String executorName;
+    private final int poolSize;
+    private final Configuration configuration;
+
+    /**
+     * Creates a factory for executors with the given {@code executorName} and {@code poolSize}.
+     *
+     * @param executorName  the name of the executor, used with the processor name as prefix for the thread names
+     * @param poolSize      the number of threads to keep in the pool
+     * @param configuration the configuration to shut the created executors down with
+     */
+    public VirtualThreadExecutorFactory(String executorName, int poolSize, Configuration configuration) {
+        this.executorName = executorName;
+        this.poolSize = poolSize;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public ScheduledExecutorService apply(String processorName) {
+        VirtualThreadTaskExecutor threads = new VirtualThreadTaskExecutor(executorName + "[" + processorName + "]-");
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(poolSize,
+                                                                             threads.getVirtualThreadFactory());
+        configuration.onShutdown(executor::shutdown);
+        return executor;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.EventProcessingConfigurer;
+import org.axonframework.eventhandling.pooled.PooledStreamingEventProcessor;
+import org.axonframework.springboot.aot.event.PooledStreamingProcessorCustomizer;
+
+/**
+ * {@link EventProcessingConfigurer.PooledStreamingProcessorConfiguration} running the coordinator and the work packages
+ * of a {@link PooledStreamingEventProcessor} on virtual threads. As a {@link PooledStreamingProcessorCustomizer}, it's
+ * applied before the processor configurations registered by the application.
+ * <p/>
+ * This is a class instead of a lambda, to keep it compatible with compiling ahead of time.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class VirtualThreadPooledStreamingProcessorConfiguration
+        implements EventProcessingConfigurer.PooledStreamingProcessorConfiguration, PooledStreamingProcessorCustomizer {
+
+    private final int workerPoolSize;
+
+    /**
+     * Creates a configuration running the work packages of a processor on a pool of {@code workerPoolSize} virtual
+     * threads.
+     *
+     * @param workerPoolSize the number of virtual threads to run the work packages of a processor on
+     */
+    public VirtualThreadPooledStreamingProcessorConfiguration(int workerPoolSize) {
+        this.workerPoolSize = workerPoolSize;
+    }
+
+    @Override
+    public EventProcessingConfigurer.PooledStreamingProcessorConfiguration configuration() {
+        return this;
+    }
+
+    @Override
+    public PooledStreamingEventProcessor.Builder apply(Configuration config,
+                                                       PooledStreamingEventProcessor.Builder builder) {
+        return builder.coordinatorExecutor(new VirtualThreadExecutorFactory("Coordinator", 1, config))
+                      .workerExecutor(new VirtualThreadExecutorFactory("WorkPackage", workerPoolSize, config));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.command;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The names of the commands handled by the application, as found ahead of time, each identified by its ordinal: its
+ * position in the table. Components that keep data per command can use the ordinals to store it in an array, rather
+ * than in a map keyed by command name. An instance of this class is registered in the application context under the
+ * {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class CommandNameTable {
+
+    /**
+     * The name under which the command name table is registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonCommandNameTable";
+
+    private final List<String> commandNames;
+    private final Map<String, Integer> ordinals;
+
+    /**
+     * Creates a table of the given {@code commandNames}, of which the ordinals are their positions in the list.
+     *
+     * @param commandNames the names of the commands handled by the application
+     */
+    public CommandNameTable(List<String> commandNames) {
+        this.commandNames = List.copyOf(commandNames);
+        Map<String, Integer> ordinalsByName = new HashMap<>();
+        for (int i = 0; i < this.commandNames.size(); i++) {
+            ordinalsByName.putIfAbsent(this.commandNames.get(i), i);
+        }
+        this.ordinals = Map.copyOf(ordinalsByName);
+    }
+
+    /**
+     * Returns the ordinal of the command with given {@code commandName}.
+     *
+     * @param commandName the name of the command
+     * @return the ordinal of the command, or {@code -1} if the name isn't in this table
+     */
+    public int ordinalOf(String commandName) {
+        return ordinals.getOrDefault(commandName, -1);
+    }
+
+    /**
+     * Returns the name of the command with the given {@code ordinal}.
+     *
+     * @param ordinal the ordinal of the command
+     * @return the name of the command
+     */
+    public String commandName(int ordinal) {
+        return commandNames.get(ordinal);
+    }
+
+    /**
+     * Returns the number of command names in this table.
+     *
+     * @return the number of command names in this table
+     */
+    public int size() {
+        return commandNames.size();
+    }
+}
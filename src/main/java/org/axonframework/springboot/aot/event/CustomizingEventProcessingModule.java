@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.EventProcessingConfigurer;
+import org.axonframework.config.EventProcessingModule;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.messaging.StreamableMessageSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link EventProcessingModule} composing the given {@link PooledStreamingProcessorCustomizer customizers} with the
+ * configuration of each pooled streaming event processor.
+ * <p/>
+ * The {@link PooledStreamingProcessorCustomizer#configuration() configurations} of the customizers are applied before
+ * any pooled streaming processor configuration registered by the application, whether as the default or for a
+ * specific processor, so that these configurations are kept and take precedence. The customizer configurations aren't
+ * registered as a configuration themselves, which leaves Axon's defaults for processors without a configuration
+ * intact, such as sagas starting at the head of the event stream. The message source of each processor is passed
+ * through the customizers in their order, wrapping the source the processor is configured with.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class CustomizingEventProcessingModule extends EventProcessingModule {
+
+    private final List<PooledStreamingProcessorCustomizer> customizers;
+    private final PooledStreamingProcessorConfiguration customizations;
+    private final Set<String> configuredProcessors = new HashSet<>();
+    private boolean defaultConfigured;
+
+    /**
+     * Creates a module composing the given {@code customizers} with the configuration of each pooled streaming
+     * processor.
+     *
+     * @param customizers the customizers of the pooled streaming processors, in the order to apply them
+     */
+    public CustomizingEventProcessingModule(List<PooledStreamingProcessorCustomizer> customizers) {
+        this.customizers = List.copyOf(customizers);
+        this.customizations = this.customizers.stream()
+                                              .map(PooledStreamingProcessorCustomizer::configuration)
+                                              .reduce(PooledStreamingProcessorConfiguration.noOp(),
+                                                      PooledStreamingProcessorConfiguration::andThen);
+    }
+
+    @Override
+    public EventProcessingConfigurer registerPooledStreamingEventProcessorConfiguration(
+            PooledStreamingProcessorConfiguration pooledStreamingProcessorConfiguration
+    ) {
+        defaultConfigured = true;
+        return super.registerPooledStreamingEventProcessorConfiguration(
+                customizations.andThen(pooledStreamingProcessorConfiguration)
+        );
+    }
+
+    @Override
+    public EventProcessingConfigurer registerPooledStreamingEventProcessorConfiguration(
+            String name,
+            PooledStreamingProcessorConfiguration pooledStreamingProcessorConfiguration
+    ) {
+        configuredProcessors.add(name);
+        return super.registerPooledStreamingEventProcessorConfiguration(
+                name, customizations.andThen(pooledStreamingProcessorConfiguration)
+        );
+    }
+
+    @Override
+    protected EventProcessor pooledStreamingEventProcessor(
+            String name,
+            EventHandlerInvoker eventHandlerInvoker,
+            Configuration config,
+            StreamableMessageSource<TrackedEventMessage<?>> messageSource,
+            @Nonnull PooledStreamingProcessorConfiguration processorConfiguration
+    ) {
+        StreamableMessageSource<TrackedEventMessage<?>> source = messageSource;
+        for (PooledStreamingProcessorCustomizer customizer : customizers) {
+            source = customizer.messageSource(name, config, eventHandlerInvoker, source);
+        }
+        PooledStreamingProcessorConfiguration configuration =
+                defaultConfigured || configuredProcessors.contains(name)
+                        ? processorConfiguration
+                        : customizations.andThen(processorConfiguration);
+        return super.pooledStreamingEventProcessor(name, eventHandlerInvoker, config, source, configuration);
+    }
+}
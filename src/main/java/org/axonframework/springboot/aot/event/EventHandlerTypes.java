@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.eventhandling.AnnotationEventHandlerAdapter;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.EventMessageHandler;
+import org.axonframework.eventhandling.MultiEventHandlerInvoker;
+import org.axonframework.eventhandling.SimpleEventHandlerInvoker;
+import org.axonframework.modelling.saga.AbstractSagaManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Utility to find the types of the event handlers an {@link EventHandlerInvoker} invokes. This reflects the actual
+ * assignment of event handlers to the processor of the invoker, however they were assigned to it.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+final class EventHandlerTypes {
+
+    private EventHandlerTypes() {
+    }
+
+    /**
+     * Returns the names of the types of all event handlers and sagas invoked by the given {@code invoker}. Proxied
+     * handlers are described by the type of their target.
+     *
+     * @param invoker the invoker of the event handlers of a processor
+     * @return the names of the handler types, or an empty optional if the invoker, or one of its handlers, isn't
+     * annotation based
+     */
+    static Optional<Set<String>> of(EventHandlerInvoker invoker) {
+        Set<String> handlerTypes = new LinkedHashSet<>();
+        return collect(invoker, handlerTypes) ? Optional.of(handlerTypes) : Optional.empty();
+    }
+
+    private static boolean collect(EventHandlerInvoker invoker, Set<String> handlerTypes) {
+        if (invoker instanceof MultiEventHandlerInvoker multiInvoker) {
+            return multiInvoker.delegates().stream().allMatch(delegate -> collect(delegate, handlerTypes));
+        }
+        if (invoker instanceof SimpleEventHandlerInvoker simpleInvoker) {
+            return simpleInvoker.eventHandlers().stream().allMatch(handler -> collect(handler, handlerTypes));
+        }
+        if (invoker instanceof AbstractSagaManager<?> sagaManager) {
+            handlerTypes.add(sagaManager.getSagaType().getName());
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean collect(EventMessageHandler handler, Set<String> handlerTypes) {
+        if (handler instanceof AnnotationEventHandlerAdapter adapter) {
+            handlerTypes.add(ClassUtils.getUserClass(adapter.getTargetType()).getName());
+            return true;
+        }
+        return false;
+    }
+}
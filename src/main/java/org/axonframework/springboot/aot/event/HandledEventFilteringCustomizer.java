@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link PooledStreamingProcessorCustomizer} that lets pooled streaming event processors read through a
+ * {@link HandledEventFilteringMessageSource}, wrapping the source they are configured with.
+ * <p/>
+ * The handled payload types of a processor are the union of the event payload types handled by all handler types
+ * assigned to it, regardless of the processing group they are in or how they were assigned to it. The handler types
+ * are taken from the event handler invoker of the processor, and their handled payload types from the metadata
+ * detected ahead of time. When a processor has an event handler of which the type wasn't detected ahead of time, its
+ * events aren't filtered.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class HandledEventFilteringCustomizer implements PooledStreamingProcessorCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HandledEventFilteringCustomizer.class);
+
+    private final AxonHandlerMetadata metadata;
+    private final Set<String> processors;
+
+    /**
+     * Creates a customizer filtering the events of the given {@code processors}, using the handled payload types in
+     * the given {@code metadata}. When no processors are given, the events of all pooled streaming processors are
+     * filtered.
+     *
+     * @param metadata   the handler metadata detected ahead of time
+     * @param processors the names of the processors to filter events for
+     */
+    public HandledEventFilteringCustomizer(AxonHandlerMetadata metadata, Collection<String> processors) {
+        this.metadata = metadata;
+        this.processors = Set.copyOf(processors);
+    }
+
+    @Override
+    public StreamableMessageSource<TrackedEventMessage<?>> messageSource(
+            String processorName,
+            Configuration configuration,
+            EventHandlerInvoker eventHandlerInvoker,
+            StreamableMessageSource<TrackedEventMessage<?>> messageSource
+    ) {
+        if (!processors.isEmpty() && !processors.contains(processorName)) {
+            return messageSource;
+        }
+        Optional<Set<String>> handledTypeNames = EventHandlerTypes.of(eventHandlerInvoker)
+                                                                  .flatMap(this::handledTypeNamesOf);
+        if (handledTypeNames.isEmpty()) {
+            logger.warn("Events of processor [{}] are not filtered, as not all of its event handlers were detected "
+                                + "ahead of time.", processorName);
+            return messageSource;
+        }
+        return new HandledEventFilteringMessageSource(messageSource, new HandledEventTypes(handledTypeNames.get()));
+    }
+
+    private Optional<Set<String>> handledTypeNamesOf(Set<String> handlerTypes) {
+        Set<String> handledTypeNames = new TreeSet<>();
+        for (String handlerType : handlerTypes) {
+            Optional<HandlerTypeMetadata> typeMetadata = metadata.handlerType(handlerType);
+            if (typeMetadata.isEmpty()) {
+                return Optional.empty();
+            }
+            typeMetadata.get()
+                        .handlers()
+                        .stream()
+                        .filter(member -> member.handles(EventMessage.class))
+                        .map(HandlerMemberMetadata::payloadType)
+                        .forEach(handledTypeNames::add);
+        }
+        return Optional.of(handledTypeNames);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.messaging.StreamableMessageSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import javax.annotation.Nullable;
+
+/**
+ * {@link StreamableMessageSource} decorator that drops the events with a payload type that isn't in the given
+ * {@link HandledEventTypes} from the streams it opens. The payload type of an event is resolved from its serialized
+ * form, so dropped events are never deserialized nor handed to the event processor.
+ * <p/>
+ * The position of dropped events is covered by the token of the next event that is handled. When no handled event
+ * follows, the last dropped event is passed on after all, so that the processor ignores it and advances its token
+ * past the dropped events.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class HandledEventFilteringMessageSource implements StreamableMessageSource<TrackedEventMessage<?>> {
+
+    private final StreamableMessageSource<TrackedEventMessage<?>> delegate;
+    private final HandledEventTypes handledEventTypes;
+
+    /**
+     * Creates a source that opens streams from the given {@code delegate}, dropping the events that are not in the
+     * given {@code handledEventTypes}.
+     *
+     * @param delegate          the source to open the streams from
+     * @param handledEventTypes the payload types to keep in the streams
+     */
+    public HandledEventFilteringMessageSource(StreamableMessageSource<TrackedEventMessage<?>> delegate,
+                                              HandledEventTypes handledEventTypes) {
+        this.delegate = delegate;
+        this.handledEventTypes = handledEventTypes;
+    }
+
+    @Override
+    public BlockingStream<TrackedEventMessage<?>> openStream(@Nullable TrackingToken trackingToken) {
+        return new HandledEventFilteringStream(delegate.openStream(trackingToken), handledEventTypes);
+    }
+
+    @Override
+    public TrackingToken createTailToken() {
+        return delegate.createTailToken();
+    }
+
+    @Override
+    public TrackingToken createHeadToken() {
+        return delegate.createHeadToken();
+    }
+
+    @Override
+    public TrackingToken createTokenAt(Instant dateTime) {
+        return delegate.createTokenAt(dateTime);
+    }
+
+    @Override
+    public TrackingToken createTokenSince(Duration duration) {
+        return delegate.createTokenSince(duration);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.eventhandling.TrackedEventMessage;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingStream} skipping the events of the delegate stream with a payload type that isn't handled.
+ * <p/>
+ * When no handled event becomes available after events were skipped, the last skipped event is passed on after all.
+ * The processor ignores it, as it doesn't handle its payload type, but does advance its token past the skipped events,
+ * so they aren't read again after a restart.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class HandledEventFilteringStream implements BlockingStream<TrackedEventMessage<?>> {
+
+    private final BlockingStream<TrackedEventMessage<?>> delegate;
+    private final HandledEventTypes handledEventTypes;
+    private TrackedEventMessage<?> lastSkipped;
+    private boolean passLastSkipped;
+
+    HandledEventFilteringStream(BlockingStream<TrackedEventMessage<?>> delegate, HandledEventTypes handledEventTypes) {
+        this.delegate = delegate;
+        this.handledEventTypes = handledEventTypes;
+    }
+
+    @Override
+    public Optional<TrackedEventMessage<?>> peek() {
+        if (passLastSkipped) {
+            return Optional.of(lastSkipped);
+        }
+        Optional<TrackedEventMessage<?>> next = delegate.peek();
+        while (next.isPresent() && !isHandled(next.get())) {
+            lastSkipped = skip();
+            next = delegate.peek();
+        }
+        return next;
+    }
+
+    @Override
+    public boolean hasNextAvailable(int timeout, TimeUnit unit) throws InterruptedException {
+        if (passLastSkipped) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long remaining = unit.toNanos(timeout);
+        while (delegate.hasNextAvailable((int) Math.min(remaining, Integer.MAX_VALUE), TimeUnit.NANOSECONDS)) {
+            if (peek().isPresent()) {
+                return true;
+            }
+            remaining = Math.max(0, deadline - System.nanoTime());
+        }
+        passLastSkipped = lastSkipped != null;
+        return passLastSkipped;
+    }
+
+    @Override
+    public TrackedEventMessage<?> nextAvailable() throws InterruptedException {
+        if (passLastSkipped) {
+            TrackedEventMessage<?> skipped = lastSkipped;
+            passLastSkipped = false;
+            lastSkipped = null;
+            return skipped;
+        }
+        TrackedEventMessage<?> next = delegate.nextAvailable();
+        while (!isHandled(next)) {
+            next = delegate.nextAvailable();
+        }
+        lastSkipped = null;
+        return next;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public void skipMessagesWithPayloadTypeOf(TrackedEventMessage<?> ignoredMessage) {
+        delegate.skipMessagesWithPayloadTypeOf(ignoredMessage);
+    }
+
+    @Override
+    public boolean setOnAvailableCallback(Runnable callback) {
+        return delegate.setOnAvailableCallback(callback);
+    }
+
+    private boolean isHandled(TrackedEventMessage<?> message) {
+        return handledEventTypes.isHandled(message.getPayloadType());
+    }
+
+    private TrackedEventMessage<?> skip() {
+        try {
+            return delegate.nextAvailable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while skipping an unhandled event", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The event payload types handled by a processing group, identified by name. A payload type is handled when its name,
+ * or the name of one of its supertypes, is one of the handled type names. As this check only compares names, the
+ * handled types themselves are never loaded. The outcome is cached per payload type.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class HandledEventTypes {
+
+    private final Set<String> handledTypeNames;
+    private final ClassValue<Boolean> handled = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isHandledType(type);
+        }
+    };
+
+    /**
+     * Creates an instance handling the payload types with the given names, and their subtypes.
+     *
+     * @param handledTypeNames the names of the handled payload types
+     */
+    public HandledEventTypes(Collection<String> handledTypeNames) {
+        this.handledTypeNames = Set.copyOf(handledTypeNames);
+    }
+
+    /**
+     * Indicates whether events with the given {@code payloadType} are handled.
+     *
+     * @param payloadType the payload type of an event
+     * @return {@code true} if the payload type, or one of its supertypes, is handled, otherwise {@code false}
+     */
+    public boolean isHandled(Class<?> payloadType) {
+        return handled.get(payloadType);
+    }
+
+    private boolean isHandledType(Class<?> payloadType) {
+        if (payloadType.isPrimitive() || payloadType.isArray()) {
+            return handledTypeNames.contains(payloadType.getName())
+                    || handledTypeNames.contains(Object.class.getName());
+        }
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> candidates = new ArrayDeque<>();
+        candidates.add(payloadType);
+        while (!candidates.isEmpty()) {
+            Class<?> candidate = candidates.poll();
+            if (!visited.add(candidate)) {
+                continue;
+            }
+            if (handledTypeNames.contains(candidate.getName())) {
+                return true;
+            }
+            if (candidate.getSuperclass() != null) {
+                candidates.add(candidate.getSuperclass());
+            }
+            candidates.addAll(Arrays.asList(candidate.getInterfaces()));
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.EventProcessingConfigurer.PooledStreamingProcessorConfiguration;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.messaging.StreamableMessageSource;
+
+/**
+ * Customization of the pooled streaming event processors built by a {@link CustomizingEventProcessingModule}. A
+ * customizer doesn't replace the processor configurations registered by the application, but is composed with them.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public interface PooledStreamingProcessorCustomizer {
+
+    /**
+     * Returns the configuration to apply to every pooled streaming processor, before the default and processor
+     * specific configurations registered by the application. Those configurations thus take precedence over the
+     * settings of the returned configuration. Defaults to a configuration that changes nothing.
+     *
+     * @return the configuration to apply before the configurations of the application
+     */
+    default PooledStreamingProcessorConfiguration configuration() {
+        return PooledStreamingProcessorConfiguration.noOp();
+    }
+
+    /**
+     * Returns the message source for the pooled streaming processor with given {@code processorName}, given the
+     * {@code messageSource} it was configured with. Defaults to returning the given {@code messageSource}.
+     *
+     * @param processorName       the name of the processor
+     * @param configuration       the Axon configuration the processor is built for
+     * @param eventHandlerInvoker the invoker of all event handlers assigned to the processor
+     * @param messageSource       the message source the processor is configured with
+     * @return the message source for the processor to read from
+     */
+    default StreamableMessageSource<TrackedEventMessage<?>> messageSource(
+            String processorName,
+            Configuration configuration,
+            EventHandlerInvoker eventHandlerInvoker,
+            StreamableMessageSource<TrackedEventMessage<?>> messageSource
+    ) {
+        return messageSource;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.eventhandling.AbstractEventProcessor;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.EventProcessor;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ConfigurerModule} that lets event processors skip the replayed events none of their event handlers handle
+ * during a replay, through a {@link ReplayFilteringInterceptor} using the {@link ReplayableEventTypes} found ahead of
+ * time.
+ * <p/>
+ * The replayable event types of a processor are the union of those of all handler types assigned to it, regardless of
+ * the processing group they are in or how they were assigned to it. They are resolved from the event handler invoker
+ * of the processor when it intercepts its first replayed event. When a processor has an event handler of which the
+ * type wasn't found ahead of time, or a saga, none of its replayed events are skipped.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ReplayFilteringConfigurerModule implements ConfigurerModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayFilteringConfigurerModule.class);
+
+    private final ReplayableEventTypes replayableEventTypes;
+    private final Set<String> processors;
+
+    /**
+     * Creates a module filtering the replayed events of the given {@code processors}, using the given
+     * {@code replayableEventTypes}. When no processors are given, the replayed events of all processors are filtered.
+     *
+     * @param replayableEventTypes the event payload types handled during a replay, per event handling type
+     * @param processors           the names of the processors to filter replayed events for
+     */
+    public ReplayFilteringConfigurerModule(ReplayableEventTypes replayableEventTypes,
+                                           Collection<String> processors) {
+        this.replayableEventTypes = replayableEventTypes;
+        this.processors = Set.copyOf(processors);
+    }
+
+    @Override
+    public void configureModule(@Nonnull Configurer configurer) {
+        configurer.eventProcessing().registerDefaultHandlerInterceptor(this::replayFilteringInterceptor);
+    }
+
+    private MessageHandlerInterceptor<? super EventMessage<?>> replayFilteringInterceptor(Configuration config,
+                                                                                        String processorName) {
+        if (!processors.isEmpty() && !processors.contains(processorName)) {
+            return null;
+        }
+        return new ReplayFilteringInterceptor(() -> replayableTypesOf(config, processorName));
+    }
+
+    private Optional<HandledEventTypes> replayableTypesOf(Configuration config, String processorName) {
+        Optional<HandledEventTypes> replayableTypes =
+                config.eventProcessingConfiguration()
+                      .<EventProcessor>eventProcessor(processorName)
+                      .filter(AbstractEventProcessor.class::isInstance)
+                      .map(processor -> ((AbstractEventProcessor) processor).eventHandlerInvoker())
+                      .flatMap(EventHandlerTypes::of)
+                      .flatMap(this::replayableTypesOf);
+        if (replayableTypes.isEmpty()) {
+            logger.warn("Replayed events of processor [{}] are not filtered, as not all of its event handlers were "
+                                + "detected ahead of time.", processorName);
+        }
+        return replayableTypes;
+    }
+
+    private Optional<HandledEventTypes> replayableTypesOf(Set<String> handlerTypes) {
+        Set<String> replayableTypeNames = new TreeSet<>();
+        for (String handlerType : handlerTypes) {
+            Optional<List<String>> replayableTypes = replayableEventTypes.replayableBy(handlerType);
+            if (replayableTypes.isEmpty()) {
+                return Optional.empty();
+            }
+            replayableTypeNames.addAll(replayableTypes.get());
+        }
+        return Optional.of(new HandledEventTypes(replayableTypeNames));
+    }
+}
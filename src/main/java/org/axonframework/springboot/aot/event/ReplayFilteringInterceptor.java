@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.ReplayToken;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link MessageHandlerInterceptor} skipping the replayed events that none of the event handlers of a processor handle
+ * during a replay. The payload type of an event is resolved from its serialized form, so skipped events are never
+ * deserialized nor handed to the event handler invoker. Events that aren't replayed are always handled.
+ * <p/>
+ * The replayable event types may be resolved lazily, when the first replayed event is intercepted. Until they are
+ * known, and when they can't be resolved, all replayed events are handled.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ReplayFilteringInterceptor implements MessageHandlerInterceptor<EventMessage<?>> {
+
+    private final Supplier<Optional<HandledEventTypes>> replayableEventTypesResolver;
+    private volatile Optional<HandledEventTypes> replayableEventTypes;
+
+    /**
+     * Creates an interceptor handling only the replayed events with a payload type in the given
+     * {@code replayableEventTypes}.
+     *
+     * @param replayableEventTypes the payload types handled during a replay
+     */
+    public ReplayFilteringInterceptor(HandledEventTypes replayableEventTypes) {
+        this.replayableEventTypesResolver = () -> Optional.of(replayableEventTypes);
+        this.replayableEventTypes = Optional.of(replayableEventTypes);
+    }
+
+    /**
+     * Creates an interceptor handling only the replayed events with a payload type in the replayable event types
+     * returned by the given {@code replayableEventTypesResolver}. The resolver is invoked once, when the first replayed
+     * event is intercepted. When it returns an empty optional, all replayed events are handled.
+     *
+     * @param replayableEventTypesResolver the resolver of the payload types handled during a replay
+     */
+    public ReplayFilteringInterceptor(Supplier<Optional<HandledEventTypes>> replayableEventTypesResolver) {
+        this.replayableEventTypesResolver = replayableEventTypesResolver;
+    }
+
+    @Override
+    public Object handle(@Nonnull UnitOfWork<? extends EventMessage<?>> unitOfWork,
+                         @Nonnull InterceptorChain interceptorChain) throws Exception {
+        EventMessage<?> event = unitOfWork.getMessage();
+        if (ReplayToken.isReplay(event) && !isReplayable(event.getPayloadType())) {
+            return null;
+        }
+        return interceptorChain.proceed();
+    }
+
+    private boolean isReplayable(Class<?> payloadType) {
+        Optional<HandledEventTypes> types = replayableEventTypes;
+        if (types == null) {
+            types = replayableEventTypesResolver.get();
+            replayableEventTypes = types;
+        }
+        return types.map(replayableTypes -> replayableTypes.isHandled(payloadType)).orElse(true);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The event payload types that each event handling type handles during a replay, as found ahead of time. These are the
+ * payload types of the handlers that allow replays, either by default or through
+ * {@link org.axonframework.eventhandling.AllowReplay}. An instance of this class is registered in the application
+ * context under the {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class ReplayableEventTypes {
+
+    /**
+     * The name under which the replayable event types are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonReplayableEventTypes";
+
+    private final Map<String, List<String>> replayableTypes;
+
+    /**
+     * Creates an instance holding the names of the replayable payload types per event handling type. A type without
+     * replayable payload types is given an empty list.
+     *
+     * @param replayableTypes the names of the replayable payload types per name of an event handling type
+     */
+    public ReplayableEventTypes(Map<String, List<String>> replayableTypes) {
+        this.replayableTypes = Map.copyOf(replayableTypes);
+    }
+
+    /**
+     * Returns the names of the payload types handled during a replay by the event handling type with the given
+     * {@code handlerType} name, if the type was found ahead of time.
+     *
+     * @param handlerType the name of the event handling type
+     * @return the names of the replayable payload types, or an empty optional if the type wasn't found
+     */
+    public Optional<List<String>> replayableBy(String handlerType) {
+        return Optional.ofNullable(replayableTypes.get(handlerType));
+    }
+
+    /**
+     * Returns the names of the event handling types of which the replayable payload types are known.
+     *
+     * @return the names of the event handling types
+     */
+    public Set<String> handlerTypes() {
+        return replayableTypes.keySet();
+    }
+
+    /**
+     * Returns the number of event handling types of which the replayable payload types are known.
+     *
+     * @return the number of event handling types
+     */
+    public int size() {
+        return replayableTypes.size();
+    }
+}
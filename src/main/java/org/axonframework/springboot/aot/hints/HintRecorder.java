@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.hints;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the message handlers that were inspected and the ones that were invoked. When the application context
+ * closes, the recorder writes two files to its output directory, merging what it recorded with the files already
+ * there, so that application contexts recording into the same directory all contribute to the profile:
+ * <ul>
+ *     <li>{@code observed-hints.txt}, the observed hint profile, listing the handlers that were invoked. Placed at
+ *     {@value ObservedHints#PROFILE_LOCATION} on the classpath of the ahead of time processing, it limits the
+ *     registered handler hints to these handlers.</li>
+ *     <li>{@code unobserved-hints-report.txt}, listing the handlers that were inspected, but never invoked. The hints
+ *     of these handlers are omitted when using the profile.</li>
+ * </ul>
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class HintRecorder implements DisposableBean {
+
+    /**
+     * The name of the observed hint profile written by this recorder.
+     */
+    public static final String PROFILE_FILE_NAME = "observed-hints.txt";
+    /**
+     * The name of the report of unobserved handlers written by this recorder.
+     */
+    public static final String REPORT_FILE_NAME = "unobserved-hints-report.txt";
+
+    private static final Logger logger = LoggerFactory.getLogger(HintRecorder.class);
+    private static final String LOCK_FILE_NAME = ".observed-hints.lock";
+    private static final Object WRITE_LOCK = new Object();
+
+    private final Path outputDirectory;
+    private final Set<String> inspected = ConcurrentHashMap.newKeySet();
+    private final Set<String> observed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a recorder writing its files to the given {@code outputDirectory}.
+     *
+     * @param outputDirectory the directory to write the profile and report to
+     */
+    public HintRecorder(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Records that the handler with given {@code key} was inspected.
+     *
+     * @param key the key of the handler
+     */
+    public void inspected(String key) {
+        inspected.add(key);
+    }
+
+    /**
+     * Records that the handler with given {@code key} was invoked.
+     *
+     * @param key the key of the handler
+     */
+    public void observed(String key) {
+        observed.add(key);
+    }
+
+    /**
+     * Returns the keys of the handlers that were inspected, but never invoked.
+     *
+     * @return the keys of the unobserved handlers, in alphabetical order
+     */
+    public Set<String> unobserved() {
+        Set<String> unobserved = new TreeSet<>(inspected);
+        unobserved.removeAll(observed);
+        return unobserved;
+    }
+
+    /**
+     * Writes the observed hint profile and the report of unobserved handlers to the output directory. The profile
+     * lists the handlers observed by this recorder and those already listed in an existing profile. The report lists
+     * the handlers inspected by this recorder or already listed in an existing report, leaving out all handlers of the
+     * merged profile. Recorders writing to the same directory, in this or another JVM, write one at a time.
+     *
+     * @throws IOException when reading or writing the files fails
+     */
+    public void write() throws IOException {
+        Files.createDirectories(outputDirectory);
+        synchronized (WRITE_LOCK) {
+            try (FileChannel channel = FileChannel.open(outputDirectory.resolve(LOCK_FILE_NAME),
+                                                        StandardOpenOption.CREATE,
+                                                        StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                Path profileFile = outputDirectory.resolve(PROFILE_FILE_NAME);
+                Path reportFile = outputDirectory.resolve(REPORT_FILE_NAME);
+                Set<String> mergedObserved = new TreeSet<>(observed);
+                mergedObserved.addAll(entriesOf(profileFile));
+                Set<String> mergedUnobserved = new TreeSet<>(inspected);
+                mergedUnobserved.addAll(entriesOf(reportFile));
+                mergedUnobserved.removeAll(mergedObserved);
+
+                List<String> profile = new ArrayList<>();
+                profile.add("# Axon message handlers observed while recording");
+                profile.addAll(mergedObserved);
+                Files.write(profileFile, profile, StandardCharsets.UTF_8);
+
+                List<String> report = new ArrayList<>();
+                report.add("# Axon message handlers that were inspected, but never invoked while recording");
+                report.addAll(mergedUnobserved);
+                Files.write(reportFile, report, StandardCharsets.UTF_8);
+                logger.info("Wrote observed hint profile with {} of {} handlers to {}",
+                            mergedObserved.size(),
+                            mergedObserved.size() + mergedUnobserved.size(),
+                            outputDirectory.toAbsolutePath());
+            }
+        }
+    }
+
+    private static List<String> entriesOf(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        return Files.readAllLines(file, StandardCharsets.UTF_8)
+                    .stream()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        write();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.hints;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.WrappedMessageHandlingMember;
+
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link HandlerEnhancerDefinition} recording the inspected and invoked handlers in a {@link HintRecorder}. This
+ * enhancer is meant to run while recording an observed hint profile, for example during integration tests, and not in
+ * production.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class HintRecordingEnhancerDefinition implements HandlerEnhancerDefinition {
+
+    private final HintRecorder recorder;
+
+    /**
+     * Creates an enhancer recording the handlers in the given {@code recorder}.
+     *
+     * @param recorder the recorder to record the handlers in
+     */
+    public HintRecordingEnhancerDefinition(HintRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public <T> MessageHandlingMember<T> wrapHandler(@Nonnull MessageHandlingMember<T> original) {
+        Optional<String> key = ObservedHints.keyOf(original);
+        if (key.isEmpty()) {
+            return original;
+        }
+        recorder.inspected(key.get());
+        return new RecordingHandlingMember<>(original, key.get(), recorder);
+    }
+
+    private static class RecordingHandlingMember<T> extends WrappedMessageHandlingMember<T> {
+
+        private final String key;
+        private final HintRecorder recorder;
+        private volatile boolean observed;
+
+        private RecordingHandlingMember(MessageHandlingMember<T> delegate, String key, HintRecorder recorder) {
+            super(delegate);
+            this.key = key;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object handle(@Nonnull Message<?> message, T target) throws Exception {
+            if (!observed) {
+                observed = true;
+                recorder.observed(key);
+            }
+            return super.handle(message, target);
+        }
+    }
+}
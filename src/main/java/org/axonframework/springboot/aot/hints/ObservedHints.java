@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.hints;
+
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Executable;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Utility to read the observed hint profile, listing the message handlers that were invoked while recording. Each line
+ * of the profile holds the {@link #keyOf(MessageHandlingMember) key} of a single handler. Empty lines and lines
+ * starting with {@code #} are ignored.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class ObservedHints {
+
+    /**
+     * The location on the classpath at which the ahead of time processing looks for the observed hint profile.
+     */
+    public static final String PROFILE_LOCATION = "META-INF/axon/observed-hints.txt";
+
+    private ObservedHints() {
+        // utility class
+    }
+
+    /**
+     * Returns the key identifying the handler of the given {@code member} in the observed hint profile. The key
+     * consists of the name of the declaring class and the generic signature of the handler's executable.
+     *
+     * @param member the member to return the key for
+     * @return the key of the member, or an empty optional if the member doesn't wrap an executable
+     */
+    public static Optional<String> keyOf(MessageHandlingMember<?> member) {
+        return member.unwrap(Executable.class)
+                     .map(executable -> executable.getDeclaringClass().getName() + "#"
+                             + executable.toGenericString());
+    }
+
+    /**
+     * Loads the keys of the observed handlers from all profiles found on the classpath of the given
+     * {@code classLoader}.
+     *
+     * @param classLoader the class loader to find the profiles with
+     * @return the keys of the observed handlers, or an empty optional if no profile is present
+     */
+    public static Optional<Set<String>> load(@Nullable ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : ObservedHints.class.getClassLoader();
+        try {
+            Enumeration<URL> profiles = loader.getResources(PROFILE_LOCATION);
+            if (!profiles.hasMoreElements()) {
+                return Optional.empty();
+            }
+            Set<String> keys = new HashSet<>();
+            while (profiles.hasMoreElements()) {
+                URL profile = profiles.nextElement();
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(profile.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines()
+                          .map(String::trim)
+                          .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                          .forEach(keys::add);
+                }
+            }
+            return Optional.of(keys);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the observed hint profile", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.invoke;
+
+import java.util.List;
+
+/**
+ * Invoker of message handlers, generated ahead of time for a single handling type. The invoker calls the handlers
+ * directly, instead of through reflection. Only handlers taking the payload as their single parameter are generated.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public interface GeneratedHandlerInvoker {
+
+    /**
+     * Returns the {@link GeneratedHandlerInvokers#keyOf(java.lang.reflect.Executable) keys} of the handlers this
+     * invoker can invoke. The position of a key in the list is the index to {@link #invoke(int, Object, Object) invoke}
+     * the handler with.
+     *
+     * @return the keys of the handlers of this invoker
+     */
+    List<String> handlerKeys();
+
+    /**
+     * Invokes the handler with given {@code handlerIndex} on the given {@code target} with the given {@code payload}.
+     * Handlers that are constructors ignore the target and return the created instance.
+     *
+     * @param handlerIndex the index of the handler to invoke
+     * @param target       the instance to invoke the handler on
+     * @param payload      the payload of the message to handle
+     * @return the result of the handler, or {@code null} for handlers that don't return a value
+     * @throws Exception when the handler throws an exception
+     */
+    Object invoke(int handlerIndex, Object target, Object payload) throws Exception;
+}
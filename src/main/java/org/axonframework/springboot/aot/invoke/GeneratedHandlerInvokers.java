@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.invoke;
+
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the {@link GeneratedHandlerInvoker GeneratedHandlerInvokers} generated ahead of time. An instance of this
+ * class is registered in the application context under the {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class GeneratedHandlerInvokers {
+
+    /**
+     * The name under which the generated invokers are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonGeneratedHandlerInvokers";
+
+    private final Map<String, Invocation> invocations;
+
+    /**
+     * Creates a registry of the given {@code invokers}. When several invokers can invoke the same handler, the first
+     * one is used.
+     *
+     * @param invokers the generated invokers
+     */
+    public GeneratedHandlerInvokers(List<GeneratedHandlerInvoker> invokers) {
+        Map<String, Invocation> invocationsByKey = new HashMap<>();
+        for (GeneratedHandlerInvoker invoker : invokers) {
+            List<String> keys = invoker.handlerKeys();
+            for (int i = 0; i < keys.size(); i++) {
+                invocationsByKey.putIfAbsent(keys.get(i), new Invocation(invoker, i));
+            }
+        }
+        this.invocations = Map.copyOf(invocationsByKey);
+    }
+
+    /**
+     * Returns the key identifying the given handler {@code executable}, consisting of the name of its declaring class
+     * and its generic signature.
+     *
+     * @param executable the method or constructor of the handler
+     * @return the key identifying the handler
+     */
+    public static String keyOf(Executable executable) {
+        return executable.getDeclaringClass().getName() + "#" + executable.toGenericString();
+    }
+
+    /**
+     * Returns the generated invocation of the given handler {@code executable}, if one was generated.
+     *
+     * @param executable the method or constructor of the handler
+     * @return the generated invocation, or an empty optional if the handler must be invoked reflectively
+     */
+    public Optional<Invocation> invocationOf(Executable executable) {
+        return Optional.ofNullable(invocations.get(keyOf(executable)));
+    }
+
+    /**
+     * Returns the number of handlers that can be invoked through generated code.
+     *
+     * @return the number of handlers with a generated invocation
+     */
+    public int size() {
+        return invocations.size();
+    }
+
+    /**
+     * A handler invocation through a generated invoker.
+     *
+     * @param invoker      the invoker that can invoke the handler
+     * @param handlerIndex the index of the handler in the invoker
+     */
+    public record Invocation(GeneratedHandlerInvoker invoker, int handlerIndex) {
+
+        /**
+         * Invokes the handler on the given {@code target} with the given {@code payload}.
+         *
+         * @param target  the instance to invoke the handler on
+         * @param payload the payload of the message to handle
+         * @return the result of the handler
+         * @throws Exception when the handler throws an exception
+         */
+        public Object invoke(Object target, Object payload) throws Exception {
+            return invoker.invoke(handlerIndex, target, payload);
+        }
+    }
+}
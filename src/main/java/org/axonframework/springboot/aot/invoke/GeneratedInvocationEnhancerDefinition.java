@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.invoke;
+
+import org.axonframework.common.Priority;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedMessageHandlingMember;
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.WrappedMessageHandlingMember;
+import org.axonframework.springboot.aot.metrics.GeneratedHandlerInvocation;
+
+import java.lang.reflect.Executable;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link HandlerEnhancerDefinition} replacing the reflective invocation of a handler by its
+ * {@link GeneratedHandlerInvoker generated invocation}, if one is available. As it has the highest priority, it wraps
+ * the {@link AnnotatedMessageHandlingMember} directly, leaving the behavior of all other enhancements intact. Members
+ * that were already wrapped by another enhancer are left untouched.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@Priority(Priority.FIRST)
+public class GeneratedInvocationEnhancerDefinition implements HandlerEnhancerDefinition {
+
+    private final GeneratedHandlerInvokers invokers;
+
+    /**
+     * Creates an enhancer using the given generated {@code invokers}.
+     *
+     * @param invokers the invokers generated ahead of time
+     */
+    public GeneratedInvocationEnhancerDefinition(GeneratedHandlerInvokers invokers) {
+        this.invokers = invokers;
+    }
+
+    @Override
+    public <T> MessageHandlingMember<T> wrapHandler(@Nonnull MessageHandlingMember<T> original) {
+        if (original.getClass() != AnnotatedMessageHandlingMember.class) {
+            return original;
+        }
+        Optional<GeneratedHandlerInvokers.Invocation> invocation =
+                original.unwrap(Executable.class).flatMap(invokers::invocationOf);
+        return invocation.<MessageHandlingMember<T>>map(i -> new GeneratedInvocationMember<>(original, i))
+                         .orElse(original);
+    }
+
+    private static class GeneratedInvocationMember<T> extends WrappedMessageHandlingMember<T>
+            implements GeneratedHandlerInvocation {
+
+        private final GeneratedHandlerInvokers.Invocation invocation;
+
+        private GeneratedInvocationMember(MessageHandlingMember<T> delegate,
+                                          GeneratedHandlerInvokers.Invocation invocation) {
+            super(delegate);
+            this.invocation = invocation;
+        }
+
+        @Override
+        public Object handle(@Nonnull Message<?> message, T target) throws Exception {
+            return invocation.invoke(target, message.getPayload());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.lazy;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.MessageHandler;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link MessageHandler} that postpones the inspection of an annotated message handling bean until the first message
+ * for that bean arrives. Until then, neither the bean's handler model nor its parameter resolvers are created.
+ *
+ * @param <T> the type of {@link Message} handled by this handler
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class LazyAnnotatedMessageHandler<T extends Message<?>> implements MessageHandler<T> {
+
+    private final Supplier<Object> handlerBean;
+    private final Function<Object, MessageHandler<T>> adapterFactory;
+    private volatile MessageHandler<T> delegate;
+
+    /**
+     * Creates a handler that, on first use, passes the bean provided by {@code handlerBean} to the given
+     * {@code adapterFactory} to create the handler to delegate to.
+     *
+     * @param handlerBean    supplier of the annotated message handling bean
+     * @param adapterFactory function creating the (annotation-based) message handler for the bean
+     */
+    public LazyAnnotatedMessageHandler(Supplier<Object> handlerBean,
+                                       Function<Object, MessageHandler<T>> adapterFactory) {
+        this.handlerBean = handlerBean;
+        this.adapterFactory = adapterFactory;
+    }
+
+    @Override
+    public Object handle(T message) throws Exception {
+        return delegate().handle(message);
+    }
+
+    @Override
+    public boolean canHandle(T message) {
+        return delegate().canHandle(message);
+    }
+
+    /**
+     * Indicates whether the annotated bean has been inspected, which happens when the first message arrives.
+     *
+     * @return {@code true} if the delegate handler has been created, otherwise {@code false}
+     */
+    public boolean isInitialized() {
+        return delegate != null;
+    }
+
+    private MessageHandler<T> delegate() {
+        MessageHandler<T> current = delegate;
+        if (current == null) {
+            synchronized (this) {
+                current = delegate;
+                if (current == null) {
+                    current = adapterFactory.apply(handlerBean.get());
+                    delegate = current;
+                }
+            }
+        }
+        return current;
+    }
+}
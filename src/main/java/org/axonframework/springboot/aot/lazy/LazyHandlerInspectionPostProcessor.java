@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.lazy;
+
+import org.axonframework.spring.config.MessageHandlerConfigurer;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link BeanFactoryPostProcessor} that moves command and query handling beans from Axon's
+ * {@link MessageHandlerConfigurer} to a {@link LazyMessageHandlerConfigurer}, so that they're only inspected when the
+ * first message for them arrives.
+ * <p/>
+ * Lazy inspection is enabled with the {@code axon.aot.lazy-handlers.enabled} property. By default, all command and
+ * query handling beans are inspected lazily. The {@code axon.aot.lazy-handlers.beans} property limits this to the beans
+ * with the given names. Subscribing handlers without inspecting them requires the {@link AxonHandlerMetadata} detected
+ * ahead of time, so when that metadata bean is missing, every handling bean is inspected eagerly, as Axon does itself.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class LazyHandlerInspectionPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    /**
+     * Property to enable lazy inspection of command and query handling beans.
+     */
+    public static final String ENABLED_PROPERTY = "axon.aot.lazy-handlers.enabled";
+    /**
+     * Property listing the names of the beans to inspect lazily. When empty, all beans are inspected lazily.
+     */
+    public static final String BEANS_PROPERTY = "axon.aot.lazy-handlers.beans";
+
+    private static final Logger logger = LoggerFactory.getLogger(LazyHandlerInspectionPostProcessor.class);
+    private static final String CONFIGURER_BEAN_PREFIX = "MessageHandlerConfigurer$$Axon$$";
+    private static final String LAZY_CONFIGURER_BEAN_PREFIX = "LazyMessageHandlerConfigurer$$Axon$$";
+
+    private boolean enabled;
+    private Set<String> lazyBeans = Set.of();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        Binder binder = Binder.get(environment);
+        this.enabled = binder.bind(ENABLED_PROPERTY, Boolean.class).orElse(false);
+        this.lazyBeans = Set.copyOf(binder.bind(BEANS_PROPERTY, Bindable.listOf(String.class)).orElse(List.of()));
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        if (!enabled) {
+            return;
+        }
+        if (!beanFactory.containsSingleton(AxonHandlerMetadata.BEAN_NAME)) {
+            logger.info("Lazy handler inspection is enabled, but no handler metadata is available. "
+                                + "Handlers are inspected eagerly, as the application isn't running with AOT "
+                                + "generated artifacts.");
+            return;
+        }
+        AxonHandlerMetadata metadata = beanFactory.getBean(AxonHandlerMetadata.BEAN_NAME, AxonHandlerMetadata.class);
+        configureLazyHandlers(MessageHandlerConfigurer.Type.COMMAND, metadata, beanFactory);
+        configureLazyHandlers(MessageHandlerConfigurer.Type.QUERY, metadata, beanFactory);
+    }
+
+    private void configureLazyHandlers(MessageHandlerConfigurer.Type type,
+                                       AxonHandlerMetadata metadata,
+                                       ConfigurableListableBeanFactory beanFactory) {
+        String configurerBeanName = CONFIGURER_BEAN_PREFIX + type.name();
+        if (!beanFactory.containsBeanDefinition(configurerBeanName)) {
+            return;
+        }
+        ConstructorArgumentValues arguments =
+                beanFactory.getBeanDefinition(configurerBeanName).getConstructorArgumentValues();
+        ConstructorArgumentValues.ValueHolder handlerBeansArgument = arguments.getIndexedArgumentValue(1, List.class);
+        if (handlerBeansArgument == null || !(handlerBeansArgument.getValue() instanceof List<?> handlerBeans)) {
+            return;
+        }
+
+        List<String> eagerBeans = new ArrayList<>();
+        List<String> lazyBeanNames = new ArrayList<>();
+        for (Object handlerBean : handlerBeans) {
+            String beanName = handlerBean.toString();
+            if (isLazy(beanName, beanFactory) && metadata.handlerTypeOfBean(beanName).isPresent()) {
+                lazyBeanNames.add(beanName);
+            } else {
+                eagerBeans.add(beanName);
+            }
+        }
+        if (lazyBeanNames.isEmpty()) {
+            return;
+        }
+        logger.debug("Inspecting {} handlers {} lazily", type, lazyBeanNames);
+        arguments.addIndexedArgumentValue(1, eagerBeans);
+        beanFactory.registerSingleton(LAZY_CONFIGURER_BEAN_PREFIX + type.name(),
+                                      new LazyMessageHandlerConfigurer(type, lazyBeanNames, metadata, beanFactory));
+    }
+
+    private boolean isLazy(String beanName, ConfigurableListableBeanFactory beanFactory) {
+        if (!lazyBeans.isEmpty()) {
+            return lazyBeans.contains(beanName);
+        }
+        BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+        return definition.isSingleton() && !definition.isAbstract();
+    }
+}
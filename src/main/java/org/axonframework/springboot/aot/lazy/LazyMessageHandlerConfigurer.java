@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.lazy;
+
+import org.axonframework.commandhandling.AnnotationCommandHandlerAdapter;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.common.Registration;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.lifecycle.Phase;
+import org.axonframework.queryhandling.QueryMessage;
+import org.axonframework.queryhandling.annotation.AnnotationQueryHandlerAdapter;
+import org.axonframework.spring.config.MessageHandlerConfigurer;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.GenericTypeNames;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.springframework.beans.factory.BeanFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ConfigurerModule} that subscribes command or query handling beans by the message names found in the
+ * {@link AxonHandlerMetadata}, without inspecting the beans. The beans are inspected by a
+ * {@link LazyAnnotatedMessageHandler} when the first message for them arrives.
+ * <p/>
+ * This is the lazy counterpart of the {@link MessageHandlerConfigurer}, and is registered by the
+ * {@link LazyHandlerInspectionPostProcessor} for the beans that are configured to be inspected lazily.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class LazyMessageHandlerConfigurer implements ConfigurerModule {
+
+    private final MessageHandlerConfigurer.Type type;
+    private final List<String> handlerBeans;
+    private final AxonHandlerMetadata metadata;
+    private final BeanFactory beanFactory;
+
+    /**
+     * Creates a configurer that lazily registers the given {@code handlerBeans} as handlers of given {@code type}.
+     *
+     * @param type         the type of handlers to register, either {@code COMMAND} or {@code QUERY}
+     * @param handlerBeans the names of the beans to register
+     * @param metadata     the handler metadata describing the beans
+     * @param beanFactory  the bean factory to retrieve the beans from
+     */
+    public LazyMessageHandlerConfigurer(MessageHandlerConfigurer.Type type,
+                                        List<String> handlerBeans,
+                                        AxonHandlerMetadata metadata,
+                                        BeanFactory beanFactory) {
+        if (type == MessageHandlerConfigurer.Type.EVENT) {
+            throw new IllegalArgumentException("Event handlers are assigned to event processors, "
+                                                       + "and can't be inspected lazily");
+        }
+        this.type = type;
+        this.handlerBeans = List.copyOf(handlerBeans);
+        this.metadata = metadata;
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void configureModule(@Nonnull Configurer configurer) {
+        configurer.onInitialize(config -> {
+            List<Registration> registrations = new CopyOnWriteArrayList<>();
+            config.onStart(Phase.LOCAL_MESSAGE_HANDLER_REGISTRATIONS, () -> subscribe(config, registrations));
+            config.onShutdown(Phase.LOCAL_MESSAGE_HANDLER_REGISTRATIONS,
+                              () -> registrations.forEach(Registration::cancel));
+        });
+    }
+
+    private void subscribe(Configuration config, List<Registration> registrations) {
+        for (String beanName : handlerBeans) {
+            List<HandlerMemberMetadata> handlers = metadata.handlerTypeOfBean(beanName)
+                                                           .map(HandlerTypeMetadata::handlers)
+                                                           .orElseThrow(() -> new IllegalStateException(
+                                                                   "No handler metadata found for bean [" + beanName
+                                                                           + "]"));
+            if (type == MessageHandlerConfigurer.Type.COMMAND) {
+                registrations.addAll(subscribeCommandHandler(config, beanName, handlers));
+            } else {
+                registrations.addAll(subscribeQueryHandler(config, beanName, handlers));
+            }
+        }
+    }
+
+    private List<Registration> subscribeCommandHandler(Configuration config,
+                                                       String beanName,
+                                                       List<HandlerMemberMetadata> handlers) {
+        LazyAnnotatedMessageHandler<CommandMessage<?>> handler = new LazyAnnotatedMessageHandler<>(
+                () -> beanFactory.getBean(beanName),
+                bean -> new AnnotationCommandHandlerAdapter<>(bean,
+                                                              config.parameterResolverFactory(),
+                                                              config.handlerDefinition(bean.getClass()))
+        );
+        return handlers.stream()
+                       .filter(member -> member.handles(CommandMessage.class))
+                       .map(HandlerMemberMetadata::messageName)
+                       .distinct()
+                       .map(commandName -> config.commandBus().subscribe(commandName, handler))
+                       .toList();
+    }
+
+    private List<Registration> subscribeQueryHandler(Configuration config,
+                                                     String beanName,
+                                                     List<HandlerMemberMetadata> handlers) {
+        LazyAnnotatedMessageHandler<QueryMessage<?, ?>> handler = new LazyAnnotatedMessageHandler<>(
+                () -> beanFactory.getBean(beanName),
+                bean -> new AnnotationQueryHandlerAdapter<>(bean,
+                                                            config.parameterResolverFactory(),
+                                                            config.handlerDefinition(bean.getClass()))
+        );
+        Map<String, HandlerMemberMetadata> queryHandlers = new LinkedHashMap<>();
+        handlers.stream()
+                .filter(member -> member.handles(QueryMessage.class) && member.resultType() != null)
+                .forEach(member -> queryHandlers.putIfAbsent(member.messageName() + "|" + member.resultType(),
+                                                             member));
+        Class<?> beanType = beanFactory.getType(beanName);
+        ClassLoader classLoader = beanType != null ? beanType.getClassLoader() : getClass().getClassLoader();
+        List<Registration> registrations = new ArrayList<>();
+        queryHandlers.values().forEach(member -> registrations.add(config.queryBus().subscribe(
+                member.messageName(),
+                GenericTypeNames.resolve(member.resultType(), classLoader),
+                handler
+        )));
+        return registrations;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * The handler metadata of an application, as detected ahead of time. An instance of this class is generated by the
+ * {@link org.axonframework.springboot.aot.MessageHandlerRuntimeHintsRegistrar} and registered in the application
+ * context under the {@link #BEAN_NAME} name.
+ * <p/>
+ * The generated instance is held in a static field of a generated class, which is initialized at build time when
+ * compiling to a native image. That way, the metadata is part of the image heap instead of being computed at startup.
+ * The metadata is stored in a compact {@link HandlerMetadataIndex}, and the metadata records returned by this class are
+ * created when requested.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class AxonHandlerMetadata {
+
+    /**
+     * The name under which the generated metadata is registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonHandlerMetadata";
+
+    private final HandlerMetadataIndex index;
+
+    /**
+     * Creates the metadata for the given handling types, without any precomputed response type matches.
+     *
+     * @param handlerTypes the metadata of each type declaring message handlers
+     */
+    public AxonHandlerMetadata(List<HandlerTypeMetadata> handlerTypes) {
+        this(handlerTypes, List.of());
+    }
+
+    /**
+     * Creates the metadata for the given handling types and precomputed response type matches.
+     *
+     * @param handlerTypes        the metadata of each type declaring message handlers
+     * @param responseTypeMatches the outcome of matching likely response types against the query handler result types
+     */
+    public AxonHandlerMetadata(List<HandlerTypeMetadata> handlerTypes, List<ResponseTypeMatch> responseTypeMatches) {
+        this(handlerTypes, responseTypeMatches, List.of());
+    }
+
+    /**
+     * Creates the metadata for the given handling types, precomputed response type matches and event types handled per
+     * processing group.
+     *
+     * @param handlerTypes        the metadata of each type declaring message handlers
+     * @param responseTypeMatches the outcome of matching likely response types against the query handler result types
+     * @param processingGroups    the event payload types handled by each processing group
+     */
+    public AxonHandlerMetadata(List<HandlerTypeMetadata> handlerTypes,
+                               List<ResponseTypeMatch> responseTypeMatches,
+                               List<ProcessingGroupMetadata> processingGroups) {
+        this(HandlerMetadataIndex.of(handlerTypes, responseTypeMatches, processingGroups));
+    }
+
+    /**
+     * Creates the metadata stored in the given {@code index}.
+     *
+     * @param index the compact storage of the metadata
+     */
+    public AxonHandlerMetadata(HandlerMetadataIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Returns the compact storage of this metadata.
+     *
+     * @return the index storing this metadata
+     */
+    public HandlerMetadataIndex index() {
+        return index;
+    }
+
+    /**
+     * Returns the metadata of all types declaring message handlers, in the order of their name.
+     *
+     * @return the metadata of all handling types
+     */
+    public List<HandlerTypeMetadata> handlerTypes() {
+        return IntStream.range(0, index.typeCount()).mapToObj(index::handlerType).toList();
+    }
+
+    /**
+     * Returns the metadata of the handling type with given {@code typeName}, if it was detected ahead of time.
+     *
+     * @param typeName the fully qualified name of the handling type
+     * @return the metadata of the type, or an empty optional if the type wasn't detected
+     */
+    public Optional<HandlerTypeMetadata> handlerType(String typeName) {
+        return index.typeIndexOf(typeName).stream().mapToObj(index::handlerType).findFirst();
+    }
+
+    /**
+     * Returns the metadata of the handling type of the bean with given {@code beanName}, if it was detected ahead of
+     * time.
+     *
+     * @param beanName the name of the bean declaring message handlers
+     * @return the metadata of the bean's type, or an empty optional if the bean wasn't detected
+     */
+    public Optional<HandlerTypeMetadata> handlerTypeOfBean(String beanName) {
+        return index.typeIndexOfBean(beanName).stream().mapToObj(index::handlerType).findFirst();
+    }
+
+    /**
+     * Returns the outcome of matching the response types queries are likely to use against the result types of the
+     * query handlers, as computed ahead of time.
+     *
+     * @return the precomputed response type matches
+     */
+    public List<ResponseTypeMatch> responseTypeMatches() {
+        return index.responseTypeMatches();
+    }
+
+    /**
+     * Returns the event payload types handled by each processing group, as detected ahead of time.
+     *
+     * @return the metadata of all processing groups
+     */
+    public List<ProcessingGroupMetadata> processingGroups() {
+        return IntStream.range(0, index.groupCount()).mapToObj(index::processingGroup).toList();
+    }
+
+    /**
+     * Returns the event payload types handled by the processing group with given {@code name}, if it was detected ahead
+     * of time.
+     *
+     * @param name the name of the processing group
+     * @return the metadata of the group, or an empty optional if the group wasn't detected
+     */
+    public Optional<ProcessingGroupMetadata> processingGroup(String name) {
+        return index.groupIndexOf(name).stream().mapToObj(index::processingGroup).findFirst();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility to resolve the {@link Type#getTypeName() type names} stored in the handler metadata back into a
+ * {@link Type}, without inspecting the handler methods they were derived from.
+ * <p/>
+ * Supports classes, arrays and parameterized types. Wildcards are resolved to their upper bound, and type variables to
+ * {@link Object}, which is how Axon treats them when matching response types.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class GenericTypeNames {
+
+    private GenericTypeNames() {
+        // utility class
+    }
+
+    /**
+     * Resolves the given {@code typeName} into a {@link Type}.
+     *
+     * @param typeName    the name of the type, as returned by {@link Type#getTypeName()}
+     * @param classLoader the class loader to load classes with
+     * @return the type represented by the given name
+     * @throws IllegalArgumentException when a class referred to in the name can't be loaded
+     */
+    public static Type resolve(String typeName, @Nullable ClassLoader classLoader) {
+        return resolveType(typeName.trim(), classLoader).getType();
+    }
+
+    private static ResolvableType resolveType(String typeName, @Nullable ClassLoader classLoader) {
+        if (typeName.endsWith("[]")) {
+            return ResolvableType.forArrayComponent(
+                    resolveType(typeName.substring(0, typeName.length() - 2).trim(), classLoader)
+            );
+        }
+        if (typeName.startsWith("?")) {
+            int extendsIndex = typeName.indexOf(" extends ");
+            return extendsIndex < 0
+                    ? ResolvableType.forClass(Object.class)
+                    : resolveType(typeName.substring(extendsIndex + 9).trim(), classLoader);
+        }
+        int genericsStart = typeName.indexOf('<');
+        if (genericsStart < 0) {
+            return ResolvableType.forClass(loadClass(typeName, classLoader));
+        }
+        Class<?> rawType = loadClass(typeName.substring(0, genericsStart), classLoader);
+        List<String> argumentNames = splitArguments(typeName.substring(genericsStart + 1, typeName.lastIndexOf('>')));
+        ResolvableType[] arguments = argumentNames.stream()
+                                                  .map(argument -> resolveType(argument.trim(), classLoader))
+                                                  .toArray(ResolvableType[]::new);
+        return ResolvableType.forClassWithGenerics(rawType, arguments);
+    }
+
+    private static List<String> splitArguments(String arguments) {
+        List<String> result = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '<') {
+                depth++;
+            } else if (c == '>') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                result.add(arguments.substring(start, i));
+                start = i + 1;
+            }
+        }
+        result.add(arguments.substring(start));
+        return result;
+    }
+
+    private static Class<?> loadClass(String className, @Nullable ClassLoader classLoader) {
+        try {
+            return ClassUtils.forName(className, classLoader);
+        } catch (ClassNotFoundException e) {
+            // type variables can't be loaded, and are treated as Object
+            if (!className.contains(".")) {
+                return Object.class;
+            }
+            throw new IllegalArgumentException("Unable to load class [" + className + "]", e);
+        }
+    }
+}
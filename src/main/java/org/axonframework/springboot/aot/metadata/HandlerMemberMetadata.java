@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Describes a single message handling member, as detected ahead of time. Types are referred to by name, so no classes
+ * need to be loaded to use this metadata.
+ *
+ * @param signature   the discernible signature of the handler's executable
+ * @param messageType the name of the {@link org.axonframework.messaging.Message} type the member handles
+ * @param payloadType the name of the payload type the member handles
+ * @param messageName the name of the messages the member handles, such as the command or query name. Defaults to the
+ *                    payload type name for other messages
+ * @param resultType  the name of the (generic) result type of a query handler, or {@code null} for other members
+ * @param priority    the priority of the member, as used to order the handlers of a type
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public record HandlerMemberMetadata(String signature,
+                                    String messageType,
+                                    String payloadType,
+                                    String messageName,
+                                    @Nullable String resultType,
+                                    int priority) {
+
+    /**
+     * Indicates whether this member handles messages of the given {@code messageType}, like
+     * {@link org.axonframework.messaging.annotation.MessageHandlingMember#canHandleMessageType(Class)} does: when the
+     * message type of this member is the given type, or one of its supertypes. A generic handler of any
+     * {@link org.axonframework.messaging.Message} thus handles events too.
+     *
+     * @param messageType the type of message to check for
+     * @return {@code true} if this member handles messages of the given type, otherwise {@code false}
+     */
+    public boolean handles(Class<?> messageType) {
+        if (this.messageType.equals(messageType.getName())) {
+            return true;
+        }
+        try {
+            return ClassUtils.forName(this.messageType, messageType.getClassLoader()).isAssignableFrom(messageType);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+
+/**
+ * Compact storage of the {@link AxonHandlerMetadata}. All names are interned in a single name table, and all other
+ * information is stored in a single {@code int} array referring to the names by their position in that table. The
+ * handlers and interceptors of a type are stored in descending order of their {@link HandlerMemberMetadata#priority()
+ * priority}. Members of the same priority keep the order in which they were described, which is the order of Axon's
+ * handler inspector. Compared to a graph of metadata records, this avoids an object header, a list and a reference per
+ * name for each handler, which reduces the heap taken by the metadata in a native image.
+ * <p/>
+ * Handling types and processing groups are stored in the order of their name, so they can be found using a binary
+ * search.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class HandlerMetadataIndex {
+
+    private static final int NO_NAME = -1;
+    private static final int HEADER_SIZE = 6;
+    private static final int MEMBER_FIELDS = 5;
+    private static final int MATCH_FIELDS = 4;
+
+    private final String[] names;
+    private final int[] data;
+
+    private final int typeCount;
+    private final int memberCount;
+    private final int matchCount;
+    private final int groupCount;
+    private final int typeNamesOffset;
+    private final int beanNameStartsOffset;
+    private final int beanNamesOffset;
+    private final int memberStartsOffset;
+    private final int interceptorStartsOffset;
+    private final int membersOffset;
+    private final int prioritiesOffset;
+    private final int matchesOffset;
+    private final int groupNamesOffset;
+    private final int groupPayloadStartsOffset;
+    private final int groupPayloadsOffset;
+    private final int[] beansByName;
+
+    /**
+     * Creates an index from its encoded form, as returned by {@link #names()} and {@link #data()} of another index.
+     *
+     * @param names the name table
+     * @param data  the encoded metadata, referring to the names by their position in the name table
+     */
+    public HandlerMetadataIndex(String[] names, int[] data) {
+        this.names = names;
+        this.data = data;
+        this.typeCount = data[0];
+        this.memberCount = data[1];
+        int beanNameCount = data[2];
+        this.matchCount = data[3];
+        this.groupCount = data[4];
+        this.typeNamesOffset = HEADER_SIZE;
+        this.beanNameStartsOffset = typeNamesOffset + typeCount;
+        this.beanNamesOffset = beanNameStartsOffset + typeCount + 1;
+        this.memberStartsOffset = beanNamesOffset + beanNameCount;
+        this.interceptorStartsOffset = memberStartsOffset + typeCount + 1;
+        this.membersOffset = interceptorStartsOffset + typeCount;
+        this.prioritiesOffset = membersOffset + memberCount * MEMBER_FIELDS;
+        this.matchesOffset = prioritiesOffset + memberCount;
+        this.groupNamesOffset = matchesOffset + matchCount * MATCH_FIELDS;
+        this.groupPayloadStartsOffset = groupNamesOffset + groupCount;
+        this.groupPayloadsOffset = groupPayloadStartsOffset + groupCount + 1;
+        this.beansByName = IntStream.range(0, beanNameCount)
+                                    .boxed()
+                                    .sorted(Comparator.comparing(bean -> names[data[beanNamesOffset + bean]]))
+                                    .mapToInt(Integer::intValue)
+                                    .toArray();
+    }
+
+    /**
+     * Creates an index of the given metadata. Handling types and processing groups with the same name as an earlier one
+     * in the given lists are ignored.
+     *
+     * @param handlerTypes        the metadata of each type declaring message handlers
+     * @param responseTypeMatches the outcome of matching likely response types against the query handler result types
+     * @param processingGroups    the event payload types handled by each processing group
+     * @return the index of the given metadata
+     */
+    public static HandlerMetadataIndex of(List<HandlerTypeMetadata> handlerTypes,
+                                          List<ResponseTypeMatch> responseTypeMatches,
+                                          List<ProcessingGroupMetadata> processingGroups) {
+        Map<String, HandlerTypeMetadata> typesByName = new LinkedHashMap<>();
+        handlerTypes.forEach(type -> typesByName.putIfAbsent(type.typeName(), type));
+        List<HandlerTypeMetadata> types = typesByName.values()
+                                                     .stream()
+                                                     .sorted(Comparator.comparing(HandlerTypeMetadata::typeName))
+                                                     .toList();
+        Map<String, ProcessingGroupMetadata> groupsByName = new LinkedHashMap<>();
+        processingGroups.forEach(group -> groupsByName.putIfAbsent(group.name(), group));
+        List<ProcessingGroupMetadata> groups = groupsByName.values()
+                                                           .stream()
+                                                           .sorted(Comparator.comparing(ProcessingGroupMetadata::name))
+                                                           .toList();
+
+        NameTable nameTable = new NameTable();
+        IntList typeNames = new IntList();
+        IntList beanNameStarts = new IntList();
+        IntList beanNames = new IntList();
+        IntList memberStarts = new IntList();
+        IntList interceptorStarts = new IntList();
+        IntList members = new IntList();
+        IntList priorities = new IntList();
+        int memberCount = 0;
+        for (HandlerTypeMetadata type : types) {
+            typeNames.add(nameTable.idOf(type.typeName()));
+            beanNameStarts.add(beanNames.size());
+            type.beanNames().forEach(beanName -> beanNames.add(nameTable.idOf(beanName)));
+            memberStarts.add(memberCount);
+            interceptorStarts.add(memberCount + type.handlers().size());
+            List<HandlerMemberMetadata> typeMembers = new ArrayList<>(byPriority(type.handlers()));
+            typeMembers.addAll(byPriority(type.interceptors()));
+            for (HandlerMemberMetadata member : typeMembers) {
+                members.add(nameTable.idOf(member.signature()));
+                members.add(nameTable.idOf(member.messageType()));
+                members.add(nameTable.idOf(member.payloadType()));
+                members.add(nameTable.idOf(member.messageName()));
+                members.add(nameTable.idOf(member.resultType()));
+                priorities.add(member.priority());
+            }
+            memberCount += typeMembers.size();
+        }
+        beanNameStarts.add(beanNames.size());
+        memberStarts.add(memberCount);
+
+        IntList matches = new IntList();
+        for (ResponseTypeMatch match : responseTypeMatches) {
+            matches.add(nameTable.idOf(match.responseType()));
+            matches.add(nameTable.idOf(match.expectedResponseType()));
+            matches.add(nameTable.idOf(match.handlerResultType()));
+            matches.add(match.rank());
+        }
+
+        IntList groupNames = new IntList();
+        IntList groupPayloadStarts = new IntList();
+        IntList groupPayloads = new IntList();
+        for (ProcessingGroupMetadata group : groups) {
+            groupNames.add(nameTable.idOf(group.name()));
+            groupPayloadStarts.add(groupPayloads.size());
+            group.handledPayloadTypes().forEach(payloadType -> groupPayloads.add(nameTable.idOf(payloadType)));
+        }
+        groupPayloadStarts.add(groupPayloads.size());
+
+        IntList data = new IntList();
+        data.add(types.size());
+        data.add(memberCount);
+        data.add(beanNames.size());
+        data.add(responseTypeMatches.size());
+        data.add(groups.size());
+        data.add(groupPayloads.size());
+        for (IntList section : List.of(typeNames, beanNameStarts, beanNames, memberStarts, interceptorStarts, members,
+                                       priorities, matches, groupNames, groupPayloadStarts, groupPayloads)) {
+            data.addAll(section);
+        }
+        return new HandlerMetadataIndex(nameTable.toArray(), data.toArray());
+    }
+
+    private static List<HandlerMemberMetadata> byPriority(List<HandlerMemberMetadata> members) {
+        return members.stream()
+                      .sorted(Comparator.comparingInt(HandlerMemberMetadata::priority).reversed())
+                      .toList();
+    }
+
+    /**
+     * Returns the name table of this index. Together with {@link #data()}, this is the encoded form of the index, from
+     * which it can be recreated. The returned array must not be modified.
+     *
+     * @return the name table of this index
+     */
+    public String[] names() {
+        return names;
+    }
+
+    /**
+     * Returns the encoded metadata of this index, referring to the names by their position in the {@link #names() name
+     * table}. The returned array must not be modified.
+     *
+     * @return the encoded metadata of this index
+     */
+    public int[] data() {
+        return data;
+    }
+
+    /**
+     * Returns the number of handling types in this index.
+     *
+     * @return the number of handling types
+     */
+    public int typeCount() {
+        return typeCount;
+    }
+
+    /**
+     * Returns the position of the handling type with given {@code typeName}, if it is in this index.
+     *
+     * @param typeName the fully qualified name of the handling type
+     * @return the position of the type, or an empty optional if the type isn't in this index
+     */
+    public OptionalInt typeIndexOf(String typeName) {
+        return binarySearch(typeNamesOffset, typeCount, typeName);
+    }
+
+    /**
+     * Returns the position of the handling type of the bean with given {@code beanName}, if it is in this index.
+     *
+     * @param beanName the name of the bean declaring message handlers
+     * @return the position of the bean's type, or an empty optional if the bean isn't in this index
+     */
+    public OptionalInt typeIndexOfBean(String beanName) {
+        int low = 0;
+        int high = beansByName.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int bean = beansByName[middle];
+            int comparison = names[data[beanNamesOffset + bean]].compareTo(beanName);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return OptionalInt.of(typeOfBean(bean));
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Returns the metadata of the handling type at the given {@code typeIndex}.
+     *
+     * @param typeIndex the position of the type in this index
+     * @return the metadata of the handling type
+     */
+    public HandlerTypeMetadata handlerType(int typeIndex) {
+        List<String> beanNames = new ArrayList<>();
+        for (int i = data[beanNameStartsOffset + typeIndex]; i < data[beanNameStartsOffset + typeIndex + 1]; i++) {
+            beanNames.add(names[data[beanNamesOffset + i]]);
+        }
+        int memberStart = data[memberStartsOffset + typeIndex];
+        int interceptorStart = data[interceptorStartsOffset + typeIndex];
+        int memberEnd = data[memberStartsOffset + typeIndex + 1];
+        return new HandlerTypeMetadata(names[data[typeNamesOffset + typeIndex]],
+                                       beanNames,
+                                       members(memberStart, interceptorStart),
+                                       members(interceptorStart, memberEnd));
+    }
+
+    /**
+     * Returns the number of handlers and interceptors in this index.
+     *
+     * @return the number of message handling members
+     */
+    public int memberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Returns the precomputed response type matches in this index.
+     *
+     * @return the response type matches
+     */
+    public List<ResponseTypeMatch> responseTypeMatches() {
+        List<ResponseTypeMatch> matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            int offset = matchesOffset + i * MATCH_FIELDS;
+            matches.add(new ResponseTypeMatch(names[data[offset]],
+                                              names[data[offset + 1]],
+                                              names[data[offset + 2]],
+                                              data[offset + 3]));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of processing groups in this index.
+     *
+     * @return the number of processing groups
+     */
+    public int groupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Returns the position of the processing group with given {@code name}, if it is in this index.
+     *
+     * @param name the name of the processing group
+     * @return the position of the group, or an empty optional if the group isn't in this index
+     */
+    public OptionalInt groupIndexOf(String name) {
+        return binarySearch(groupNamesOffset, groupCount, name);
+    }
+
+    /**
+     * Returns the metadata of the processing group at the given {@code groupIndex}.
+     *
+     * @param groupIndex the position of the group in this index
+     * @return the metadata of the processing group
+     */
+    public ProcessingGroupMetadata processingGroup(int groupIndex) {
+        List<String> payloadTypes = new ArrayList<>();
+        for (int i = data[groupPayloadStartsOffset + groupIndex];
+             i < data[groupPayloadStartsOffset + groupIndex + 1]; i++) {
+            payloadTypes.add(names[data[groupPayloadsOffset + i]]);
+        }
+        return new ProcessingGroupMetadata(names[data[groupNamesOffset + groupIndex]], payloadTypes);
+    }
+
+    private List<HandlerMemberMetadata> members(int start, int end) {
+        List<HandlerMemberMetadata> members = new ArrayList<>(end - start);
+        for (int member = start; member < end; member++) {
+            int offset = membersOffset + member * MEMBER_FIELDS;
+            members.add(new HandlerMemberMetadata(names[data[offset]],
+                                                  names[data[offset + 1]],
+                                                  names[data[offset + 2]],
+                                                  names[data[offset + 3]],
+                                                  nameOrNull(data[offset + 4]),
+                                                  data[prioritiesOffset + member]));
+        }
+        return members;
+    }
+
+    private int typeOfBean(int bean) {
+        int low = 0;
+        int high = typeCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (data[beanNameStartsOffset + middle] <= bean) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private OptionalInt binarySearch(int offset, int count, String name) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = names[data[offset + middle]].compareTo(name);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return OptionalInt.of(middle);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    @Nullable
+    private String nameOrNull(int id) {
+        return id == NO_NAME ? null : names[id];
+    }
+
+    private static class NameTable {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        private int idOf(@Nullable String name) {
+            if (name == null) {
+                return NO_NAME;
+            }
+            return ids.computeIfAbsent(name, n -> {
+                names.add(n);
+                return names.size() - 1;
+            });
+        }
+
+        private String[] toArray() {
+            return names.toArray(String[]::new);
+        }
+    }
+
+    private static class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(IntList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import java.util.List;
+
+/**
+ * Describes the message handlers and interceptors of a single handling type, in the order in which Axon would consider
+ * them.
+ *
+ * @param typeName     the name of the type declaring the handlers
+ * @param beanNames    the names of the beans of this type, or an empty list for entities that aren't beans
+ * @param handlers     the message handlers of the type, including inherited ones
+ * @param interceptors the message handler interceptors of the type
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public record HandlerTypeMetadata(String typeName,
+                                  List<String> beanNames,
+                                  List<HandlerMemberMetadata> handlers,
+                                  List<HandlerMemberMetadata> interceptors) {
+
+    /**
+     * Creates the metadata for a single handling type, taking immutable copies of the given lists.
+     */
+    public HandlerTypeMetadata {
+        beanNames = List.copyOf(beanNames);
+        handlers = List.copyOf(handlers);
+        interceptors = List.copyOf(interceptors);
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.lang.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The handler metadata of the libraries on the classpath, as written to their jars at
+ * {@value #LOCATION} by the {@link org.axonframework.springboot.aot.LibraryMetadataWriter}. The ahead of time
+ * processing of an application uses this metadata instead of inspecting the handling types of these libraries again.
+ * <p/>
+ * The metadata is stored as text, with a line per element and tab separated values. Each type starts with a
+ * {@code type} line, followed by the {@code entity}, {@code handler} and {@code interceptor} lines of that type. The
+ * precomputed response type matches are stored in {@code match} lines. Empty lines and lines starting with {@code #}
+ * are ignored.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class LibraryHandlerMetadata {
+
+    /**
+     * The location of the handler metadata in the jar of a library.
+     */
+    public static final String LOCATION = "META-INF/axon/handler-metadata.txt";
+
+    private static final String SEPARATOR = "\t";
+    private static final LibraryHandlerMetadata EMPTY = new LibraryHandlerMetadata(List.of(), List.of());
+
+    private final Map<String, LibraryTypeMetadata> types;
+    private final List<ResponseTypeMatch> responseTypeMatches;
+
+    /**
+     * Creates the metadata of the given library {@code types} and precomputed {@code responseTypeMatches}. When a type
+     * is described more than once, the first description is used.
+     *
+     * @param types               the handling types of the libraries
+     * @param responseTypeMatches the outcome of matching likely response types against the query handler result types
+     *                            of the libraries
+     */
+    public LibraryHandlerMetadata(List<LibraryTypeMetadata> types, List<ResponseTypeMatch> responseTypeMatches) {
+        Map<String, LibraryTypeMetadata> typesByName = new LinkedHashMap<>();
+        types.forEach(type -> typesByName.putIfAbsent(type.typeName(), type));
+        this.types = typesByName;
+        this.responseTypeMatches = List.copyOf(new LinkedHashSet<>(responseTypeMatches));
+    }
+
+    /**
+     * Returns metadata that doesn't describe any library types.
+     *
+     * @return empty library metadata
+     */
+    public static LibraryHandlerMetadata empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Loads and combines the metadata of all libraries found on the classpath of the given {@code classLoader}.
+     *
+     * @param classLoader the class loader to find the library metadata with
+     * @return the metadata of all libraries, or empty metadata if none was found
+     */
+    public static LibraryHandlerMetadata load(@Nullable ClassLoader classLoader) {
+        ClassLoader loader = classLoader != null ? classLoader : LibraryHandlerMetadata.class.getClassLoader();
+        try {
+            Enumeration<URL> locations = loader.getResources(LOCATION);
+            if (!locations.hasMoreElements()) {
+                return EMPTY;
+            }
+            List<LibraryTypeMetadata> types = new ArrayList<>();
+            List<ResponseTypeMatch> matches = new ArrayList<>();
+            while (locations.hasMoreElements()) {
+                try (Reader reader = new InputStreamReader(locations.nextElement().openStream(),
+                                                           StandardCharsets.UTF_8)) {
+                    LibraryHandlerMetadata library = read(reader);
+                    types.addAll(library.types());
+                    matches.addAll(library.responseTypeMatches());
+                }
+            }
+            return new LibraryHandlerMetadata(types, matches);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the handler metadata of libraries at " + LOCATION, e);
+        }
+    }
+
+    /**
+     * Reads library metadata in the text format written by {@link #write(Writer)}.
+     *
+     * @param reader the reader to read the metadata from
+     * @return the metadata that was read
+     * @throws IOException              when reading fails
+     * @throws IllegalArgumentException when the metadata is malformed
+     */
+    public static LibraryHandlerMetadata read(Reader reader) throws IOException {
+        List<LibraryTypeMetadata> types = new ArrayList<>();
+        List<ResponseTypeMatch> matches = new ArrayList<>();
+        TypeBuilder current = null;
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] values = line.split(SEPARATOR, -1);
+            switch (values[0]) {
+                case "type" -> {
+                    if (current != null) {
+                        types.add(current.build());
+                    }
+                    current = new TypeBuilder(value(values, 1), nullable(value(values, 2)));
+                }
+                case "entity" -> typeOf(current, line).entityTypes.add(value(values, 1));
+                case "handler" -> typeOf(current, line).handlers.add(member(values));
+                case "interceptor" -> typeOf(current, line).interceptors.add(member(values));
+                case "match" -> matches.add(new ResponseTypeMatch(value(values, 1),
+                                                                  value(values, 2),
+                                                                  value(values, 3),
+                                                                  Integer.parseInt(value(values, 4))));
+                default -> throw new IllegalArgumentException("Unknown element in library metadata: " + line);
+            }
+        }
+        if (current != null) {
+            types.add(current.build());
+        }
+        return new LibraryHandlerMetadata(types, matches);
+    }
+
+    /**
+     * Writes this metadata in the text format read by {@link #read(Reader)}.
+     *
+     * @param writer the writer to write the metadata to
+     * @throws IOException when writing fails
+     */
+    public void write(Writer writer) throws IOException {
+        writer.write("# Axon handler metadata of this library, used by the AOT processing of applications\n");
+        for (LibraryTypeMetadata type : types.values()) {
+            writeLine(writer, "type", type.typeName(), type.processingGroup());
+            for (String entityType : type.entityTypes()) {
+                writeLine(writer, "entity", entityType);
+            }
+            for (HandlerMemberMetadata handler : type.metadata().handlers()) {
+                writeMember(writer, "handler", handler);
+            }
+            for (HandlerMemberMetadata interceptor : type.metadata().interceptors()) {
+                writeMember(writer, "interceptor", interceptor);
+            }
+        }
+        for (ResponseTypeMatch match : responseTypeMatches) {
+            writeLine(writer, "match", match.responseType(), match.expectedResponseType(), match.handlerResultType(),
+                      Integer.toString(match.rank()));
+        }
+    }
+
+    /**
+     * Returns the metadata of the library type with given {@code typeName}, if a library describes it.
+     *
+     * @param typeName the fully qualified name of the type
+     * @return the metadata of the type, or an empty optional if no library describes the type
+     */
+    public Optional<LibraryTypeMetadata> type(String typeName) {
+        return Optional.ofNullable(types.get(typeName));
+    }
+
+    /**
+     * Indicates whether a library describes the type with given {@code typeName}.
+     *
+     * @param typeName the fully qualified name of the type
+     * @return {@code true} if a library describes the type, otherwise {@code false}
+     */
+    public boolean contains(String typeName) {
+        return types.containsKey(typeName);
+    }
+
+    /**
+     * Returns the metadata of all library types.
+     *
+     * @return the metadata of all library types
+     */
+    public Collection<LibraryTypeMetadata> types() {
+        return types.values();
+    }
+
+    /**
+     * Returns the response type matches precomputed for the query handlers of the libraries.
+     *
+     * @return the precomputed response type matches
+     */
+    public List<ResponseTypeMatch> responseTypeMatches() {
+        return responseTypeMatches;
+    }
+
+    /**
+     * Returns the names of the given library {@code typeNames} and the types of all their entities.
+     *
+     * @param typeNames the names of library types
+     * @return the given type names and those of their entities
+     */
+    public Set<String> withEntityTypes(Collection<String> typeNames) {
+        Set<String> result = new LinkedHashSet<>();
+        typeNames.forEach(typeName -> {
+            result.add(typeName);
+            type(typeName).ifPresent(type -> result.addAll(type.entityTypes()));
+        });
+        return result;
+    }
+
+    private static TypeBuilder typeOf(@Nullable TypeBuilder type, String line) {
+        if (type == null) {
+            throw new IllegalArgumentException("Library metadata element appears before any type: " + line);
+        }
+        return type;
+    }
+
+    private static HandlerMemberMetadata member(String[] values) {
+        return new HandlerMemberMetadata(value(values, 1),
+                                         value(values, 2),
+                                         value(values, 3),
+                                         value(values, 4),
+                                         nullable(value(values, 5)),
+                                         Integer.parseInt(value(values, 6)));
+    }
+
+    private static String value(String[] values, int index) {
+        if (index >= values.length) {
+            throw new IllegalArgumentException("Missing value in library metadata: " + String.join(SEPARATOR, values));
+        }
+        return values[index];
+    }
+
+    @Nullable
+    private static String nullable(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void writeMember(Writer writer, String element, HandlerMemberMetadata member) throws IOException {
+        writeLine(writer, element, member.signature(), member.messageType(), member.payloadType(),
+                  member.messageName(), member.resultType(), Integer.toString(member.priority()));
+    }
+
+    private static void writeLine(Writer writer, String element, @Nullable String... values) throws IOException {
+        writer.write(element);
+        for (String value : values) {
+            writer.write(SEPARATOR);
+            writer.write(value != null ? value : "");
+        }
+        writer.write('\n');
+    }
+
+    private static class TypeBuilder {
+
+        private final String typeName;
+        @Nullable
+        private final String processingGroup;
+        private final List<String> entityTypes = new ArrayList<>();
+        private final List<HandlerMemberMetadata> handlers = new ArrayList<>();
+        private final List<HandlerMemberMetadata> interceptors = new ArrayList<>();
+
+        private TypeBuilder(String typeName, @Nullable String processingGroup) {
+            this.typeName = typeName;
+            this.processingGroup = processingGroup;
+        }
+
+        private LibraryTypeMetadata build() {
+            return new LibraryTypeMetadata(new HandlerTypeMetadata(typeName, List.of(), handlers, interceptors),
+                                           processingGroup,
+                                           entityTypes);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * Describes a handling type of a library, as written to the library's jar by the
+ * {@link org.axonframework.springboot.aot.LibraryMetadataWriter}. The {@link HandlerTypeMetadata} of a library type
+ * doesn't hold any bean names, as the beans are defined by the applications using the library.
+ *
+ * @param metadata        the handlers and interceptors of the type
+ * @param processingGroup the processing group the type belongs to when it's an event handling bean, or {@code null}
+ *                        for aggregates and sagas
+ * @param entityTypes     the names of the types of the aggregate members, and their members, of this type
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public record LibraryTypeMetadata(HandlerTypeMetadata metadata,
+                                  @Nullable String processingGroup,
+                                  List<String> entityTypes) {
+
+    /**
+     * Creates the metadata of a single library type, taking an immutable copy of the given entity types.
+     */
+    public LibraryTypeMetadata {
+        entityTypes = List.copyOf(entityTypes);
+    }
+
+    /**
+     * Returns the name of the described type.
+     *
+     * @return the fully qualified name of the type
+     */
+    public String typeName() {
+        return metadata.typeName();
+    }
+}
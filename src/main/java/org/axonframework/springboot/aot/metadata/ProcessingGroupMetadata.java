@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import java.util.List;
+
+/**
+ * The event payload types handled by the event handling beans of a processing group, as detected ahead of time. Events
+ * with a payload type that isn't one of these types, nor a subtype of one of them, are never handled by the group.
+ *
+ * @param name                the name of the processing group
+ * @param handledPayloadTypes the names of the payload types handled by the event handlers of the group
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public record ProcessingGroupMetadata(String name, List<String> handledPayloadTypes) {
+
+}
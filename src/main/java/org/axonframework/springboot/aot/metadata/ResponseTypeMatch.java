@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * The precomputed outcome of matching a {@link org.axonframework.messaging.responsetypes.ResponseType} against the
+ * result type of a query handler. The outcome only depends on the types involved, so a single entry serves all queries
+ * with the same response type and handler result type. Only {@link #isConcrete(Type) concrete} result types are
+ * matched ahead of time, as the names of type variables and wildcards, such as {@code T} or {@code List<T>}, are shared
+ * by unrelated handlers.
+ *
+ * @param responseType         the name of the {@code ResponseType} implementation, such as the
+ *                             {@link org.axonframework.messaging.responsetypes.InstanceResponseType}
+ * @param expectedResponseType the name of the expected response type of the {@code ResponseType}
+ * @param handlerResultType    the name of the (generic) result type of the query handler
+ * @param rank                 the match rank, as returned by
+ *                             {@link org.axonframework.messaging.responsetypes.ResponseType#matchRank(Type)}
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public record ResponseTypeMatch(String responseType,
+                                String expectedResponseType,
+                                String handlerResultType,
+                                int rank) {
+
+    /**
+     * Indicates whether the given {@code type} is concrete, meaning it's a class, or a parameterized or array type of
+     * which all type arguments are concrete. Only the matches of concrete handler result types are identified by the
+     * name of the type.
+     *
+     * @param type the type to verify
+     * @return {@code true} if the type contains no type variables or wildcards, otherwise {@code false}
+     */
+    public static boolean isConcrete(Type type) {
+        if (type instanceof Class<?>) {
+            return true;
+        }
+        if (type instanceof ParameterizedType parameterizedType) {
+            return isConcrete(parameterizedType.getRawType())
+                    && Arrays.stream(parameterizedType.getActualTypeArguments())
+                             .allMatch(ResponseTypeMatch::isConcrete);
+        }
+        if (type instanceof GenericArrayType arrayType) {
+            return isConcrete(arrayType.getGenericComponentType());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Immutable handler metadata computed ahead of time. All types in this package only hold immutable JDK types, which
+ * makes them safe to initialize while building a native image, so the structures end up in the image heap.
+ */
+@NonNullApi
+package org.axonframework.springboot.aot.metadata;
+
+import org.springframework.lang.NonNullApi;
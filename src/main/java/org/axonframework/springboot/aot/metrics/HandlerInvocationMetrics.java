@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * The invocation metrics of a single message handling member. The number of invocations, failures and the total
+ * invocation time are counted, as well as the number of invocations per latency bucket.
+ * <p/>
+ * All counters are allocated up front, so that {@link #record(long, boolean) recording} an invocation doesn't allocate
+ * any objects. The duration of each invocation is also passed on to the {@link #addDurationListener(LongConsumer)
+ * duration listeners}, for monitoring systems that keep their own distribution of latencies.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class HandlerInvocationMetrics {
+
+    private static final long[] BUCKET_BOUNDARIES = new long[]{
+            TimeUnit.MICROSECONDS.toNanos(10),
+            TimeUnit.MICROSECONDS.toNanos(50),
+            TimeUnit.MICROSECONDS.toNanos(100),
+            TimeUnit.MICROSECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.SECONDS.toNanos(5)
+    };
+
+    private final String handlerType;
+    private final String signature;
+    private final InvocationMode invocationMode;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalTimeNanos = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDARIES.length + 1];
+    private volatile LongConsumer[] durationListeners = new LongConsumer[0];
+
+    /**
+     * Creates the metrics for the handler with given {@code signature}, declared on the given {@code handlerType}.
+     *
+     * @param handlerType    the name of the type declaring the handler
+     * @param signature      the signature of the handler
+     * @param invocationMode the way the handler is invoked
+     */
+    public HandlerInvocationMetrics(String handlerType, String signature, InvocationMode invocationMode) {
+        this.handlerType = handlerType;
+        this.signature = signature;
+        this.invocationMode = invocationMode;
+        Arrays.setAll(buckets, i -> new LongAdder());
+    }
+
+    /**
+     * Returns the upper bounds, in nanoseconds, of the latency buckets. Invocations taking longer than the last bound
+     * are counted in an additional overflow bucket.
+     *
+     * @return a copy of the upper bounds of the latency buckets
+     */
+    public static long[] bucketBoundaries() {
+        return BUCKET_BOUNDARIES.clone();
+    }
+
+    /**
+     * Records a single invocation of the handler.
+     *
+     * @param durationNanos the duration of the invocation, in nanoseconds
+     * @param failed        whether the invocation failed with an exception
+     */
+    public void record(long durationNanos, boolean failed) {
+        invocations.increment();
+        if (failed) {
+            failures.increment();
+        }
+        totalTimeNanos.add(durationNanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDARIES.length && durationNanos > BUCKET_BOUNDARIES[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        for (LongConsumer durationListener : durationListeners) {
+            durationListener.accept(durationNanos);
+        }
+    }
+
+    /**
+     * Adds a listener that is passed the duration, in nanoseconds, of every invocation recorded from now on.
+     *
+     * @param durationListener the listener to pass the invocation durations to
+     */
+    public synchronized void addDurationListener(LongConsumer durationListener) {
+        LongConsumer[] listeners = Arrays.copyOf(durationListeners, durationListeners.length + 1);
+        listeners[durationListeners.length] = durationListener;
+        durationListeners = listeners;
+    }
+
+    /**
+     * Returns the name of the type declaring the handler.
+     *
+     * @return the name of the type declaring the handler
+     */
+    public String handlerType() {
+        return handlerType;
+    }
+
+    /**
+     * Returns the signature of the handler.
+     *
+     * @return the signature of the handler
+     */
+    public String signature() {
+        return signature;
+    }
+
+    /**
+     * Returns the way the handler is invoked.
+     *
+     * @return the invocation mode of the handler
+     */
+    public InvocationMode invocationMode() {
+        return invocationMode;
+    }
+
+    /**
+     * Returns the number of recorded invocations.
+     *
+     * @return the number of recorded invocations
+     */
+    public long invocationCount() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of recorded invocations that failed.
+     *
+     * @return the number of failed invocations
+     */
+    public long failureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * Returns the total time spent in the recorded invocations, in nanoseconds.
+     *
+     * @return the total invocation time in nanoseconds
+     */
+    public long totalTimeNanos() {
+        return totalTimeNanos.sum();
+    }
+
+    /**
+     * Returns the number of invocations that took at most the bound of the latency bucket with given
+     * {@code bucketIndex}. An index equal to the number of {@link #bucketBoundaries() bucket boundaries} refers to the
+     * overflow bucket, and thus returns the number of all invocations.
+     *
+     * @param bucketIndex the index of the latency bucket
+     * @return the cumulative number of invocations up to and including the given bucket
+     */
+    public long cumulativeCount(int bucketIndex) {
+        long count = 0;
+        for (int i = 0; i <= bucketIndex; i++) {
+            count += buckets[i].sum();
+        }
+        return count;
+    }
+}
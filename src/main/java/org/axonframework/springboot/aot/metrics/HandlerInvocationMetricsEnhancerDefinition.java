@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import org.axonframework.common.Priority;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.WrappedMessageHandlingMember;
+
+import javax.annotation.Nonnull;
+
+/**
+ * {@link HandlerEnhancerDefinition} recording the {@link HandlerInvocationMetrics} of each handler in a
+ * {@link HandlerInvocationMetricsRegistry}. It has the lowest priority, so that it wraps all other enhancements and
+ * can detect whether the handler is invoked through generated code.
+ * <p/>
+ * Only the synchronous part of an invocation is measured. Asynchronous results, such as a
+ * {@link java.util.concurrent.CompletableFuture} returned by a query handler, are not awaited.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@Priority(Priority.LAST)
+public class HandlerInvocationMetricsEnhancerDefinition implements HandlerEnhancerDefinition {
+
+    private final HandlerInvocationMetricsRegistry registry;
+
+    /**
+     * Creates an enhancer recording metrics in the given {@code registry}.
+     *
+     * @param registry the registry to record the metrics in
+     */
+    public HandlerInvocationMetricsEnhancerDefinition(HandlerInvocationMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> MessageHandlingMember<T> wrapHandler(@Nonnull MessageHandlingMember<T> original) {
+        return new MeasuringHandlingMember<>(original, registry.metricsOf(original));
+    }
+
+    private static class MeasuringHandlingMember<T> extends WrappedMessageHandlingMember<T> {
+
+        private final HandlerInvocationMetrics metrics;
+
+        private MeasuringHandlingMember(MessageHandlingMember<T> delegate, HandlerInvocationMetrics metrics) {
+            super(delegate);
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object handle(@Nonnull Message<?> message, T target) throws Exception {
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = super.handle(message, target);
+                failed = false;
+                return result;
+            } finally {
+                metrics.record(System.nanoTime() - start, failed);
+            }
+        }
+    }
+}
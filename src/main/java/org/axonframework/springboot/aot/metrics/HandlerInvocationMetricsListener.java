@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+/**
+ * Service provider interface to expose {@link HandlerInvocationMetrics} to a monitoring system. Listeners are notified
+ * of the metrics of each handler once, when the handler is first wrapped, or when the listener is added to the
+ * {@link HandlerInvocationMetricsRegistry}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@FunctionalInterface
+public interface HandlerInvocationMetricsListener {
+
+    /**
+     * Invoked when the metrics of a handler are registered.
+     *
+     * @param metrics the metrics of the handler
+     */
+    void onRegistered(HandlerInvocationMetrics metrics);
+}
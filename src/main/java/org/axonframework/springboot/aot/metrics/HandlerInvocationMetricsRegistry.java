@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry holding the {@link HandlerInvocationMetrics} of all measured handlers. A handler that is inspected more
+ * than once, for example because it is declared on a type that is inspected for multiple handling beans, shares a
+ * single instance of metrics.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class HandlerInvocationMetricsRegistry {
+
+    private final Map<String, HandlerInvocationMetrics> metrics = new ConcurrentHashMap<>();
+    private final List<HandlerInvocationMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the metrics of the given {@code member}, registering them if the member wasn't measured before.
+     *
+     * @param member the member to return the metrics for
+     * @return the metrics of the given member
+     */
+    public HandlerInvocationMetrics metricsOf(MessageHandlingMember<?> member) {
+        String handlerType = member.declaringClass().getName();
+        String signature = member.signature();
+        InvocationMode invocationMode = InvocationMode.of(member);
+        String key = handlerType + '#' + signature + '#' + invocationMode;
+        HandlerInvocationMetrics existing = metrics.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        HandlerInvocationMetrics created = new HandlerInvocationMetrics(handlerType, signature, invocationMode);
+        existing = metrics.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        listeners.forEach(listener -> listener.onRegistered(created));
+        return created;
+    }
+
+    /**
+     * Adds the given {@code listener}, and notifies it of the metrics that were already registered.
+     *
+     * @param listener the listener to notify of registered metrics
+     */
+    public void addListener(HandlerInvocationMetricsListener listener) {
+        listeners.add(listener);
+        metrics.values().forEach(listener::onRegistered);
+    }
+
+    /**
+     * Returns the metrics of all measured handlers.
+     *
+     * @return the metrics of all measured handlers
+     */
+    public Collection<HandlerInvocationMetrics> metrics() {
+        return List.copyOf(metrics.values());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+
+/**
+ * The way a message handling member invokes the handler it represents.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public enum InvocationMode {
+
+    /**
+     * The handler is invoked through reflection, such as {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+     */
+    REFLECTIVE,
+    /**
+     * The handler is invoked through code generated ahead of time, without using reflection.
+     */
+    GENERATED;
+
+    /**
+     * Returns the invocation mode of the given {@code member}. Members wrapping a
+     * {@link GeneratedHandlerInvocation} invoke their handler through generated code.
+     *
+     * @param member the member to return the invocation mode for
+     * @return the invocation mode of the given member
+     */
+    public static InvocationMode of(MessageHandlingMember<?> member) {
+        return member.unwrap(GeneratedHandlerInvocation.class).isPresent() ? GENERATED : REFLECTIVE;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link MeterBinder} exposing the {@link HandlerInvocationMetrics} of a {@link HandlerInvocationMetricsRegistry} to
+ * Micrometer. Each handler is exposed through the following meters, tagged with the {@code handlerType},
+ * {@code signature} and {@code invocationMode}:
+ * <ul>
+ *     <li>{@code axon.handler.invocations}, a timer of the invocations, publishing a percentile histogram and the
+ *     {@link HandlerInvocationMetrics#bucketBoundaries() latency bucket boundaries} as service level objectives</li>
+ *     <li>{@code axon.handler.failures}, a counter of the failed invocations</li>
+ * </ul>
+ * The timer records the invocations from the moment it is bound, as it keeps its own distribution of latencies.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class MicrometerHandlerInvocationMetricsBinder implements MeterBinder {
+
+    private static final Duration[] SERVICE_LEVEL_OBJECTIVES =
+            Arrays.stream(HandlerInvocationMetrics.bucketBoundaries())
+                  .mapToObj(Duration::ofNanos)
+                  .toArray(Duration[]::new);
+
+    private final HandlerInvocationMetricsRegistry registry;
+
+    /**
+     * Creates a binder exposing the metrics in the given {@code registry}.
+     *
+     * @param registry the registry holding the handler metrics
+     */
+    public MicrometerHandlerInvocationMetricsBinder(HandlerInvocationMetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void bindTo(@Nonnull MeterRegistry meterRegistry) {
+        registry.addListener(metrics -> bind(metrics, meterRegistry));
+    }
+
+    private static void bind(HandlerInvocationMetrics metrics, MeterRegistry meterRegistry) {
+        Tags tags = Tags.of("handlerType", metrics.handlerType(),
+                            "signature", metrics.signature(),
+                            "invocationMode", metrics.invocationMode().name());
+        Timer timer = Timer.builder("axon.handler.invocations")
+                           .tags(tags)
+                           .publishPercentileHistogram()
+                           .serviceLevelObjectives(SERVICE_LEVEL_OBJECTIVES)
+                           .register(meterRegistry);
+        metrics.addDurationListener(durationNanos -> timer.record(durationNanos, TimeUnit.NANOSECONDS));
+        FunctionCounter.builder("axon.handler.failures", metrics, HandlerInvocationMetrics::failureCount)
+                       .tags(tags)
+                       .register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.parameter;
+
+import org.axonframework.common.Priority;
+import org.axonframework.messaging.annotation.ParameterResolver;
+import org.axonframework.messaging.annotation.ParameterResolverFactory;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import javax.annotation.Nullable;
+
+/**
+ * {@link ParameterResolverFactory} resolving {@link org.axonframework.messaging.annotation.MetaDataValue} parameters
+ * through the {@link GeneratedMetaDataResolvers} generated ahead of time. Parameters without a generated resolver are
+ * left to the other factories.
+ * <p/>
+ * This factory has a neutral priority, so it takes precedence over Axon's default parameter resolution, which has a low
+ * priority, while factories with a higher priority are still consulted first.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@Priority(Priority.NEUTRAL)
+public class GeneratedMetaDataParameterResolverFactory implements ParameterResolverFactory {
+
+    private final GeneratedMetaDataResolvers resolvers;
+
+    /**
+     * Creates a factory using the given generated {@code resolvers}.
+     *
+     * @param resolvers the resolvers generated ahead of time
+     */
+    public GeneratedMetaDataParameterResolverFactory(GeneratedMetaDataResolvers resolvers) {
+        this.resolvers = resolvers;
+    }
+
+    @Nullable
+    @Override
+    public ParameterResolver<?> createInstance(Executable executable, Parameter[] parameters, int parameterIndex) {
+        return resolvers.resolverOf(executable, parameterIndex).orElse(null);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.parameter;
+
+import org.axonframework.messaging.Message;
+
+import java.util.List;
+
+/**
+ * Resolver of the {@link org.axonframework.messaging.annotation.MetaDataValue} parameters of message handlers,
+ * generated ahead of time for a single handling type. Each parameter is resolved with a single lookup of its constant
+ * metadata key, and its type is checked with an {@code instanceof} check on the declared parameter type.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public interface GeneratedMetaDataResolver {
+
+    /**
+     * Returns the {@link GeneratedMetaDataResolvers#keyOf(java.lang.reflect.Executable, int) keys} of the parameters
+     * this resolver can resolve. The position of a key in the list is the index to resolve the parameter with.
+     *
+     * @return the keys of the parameters of this resolver
+     */
+    List<String> parameterKeys();
+
+    /**
+     * Indicates whether the parameter with given {@code parameterIndex} can be resolved from the given
+     * {@code message}. Required parameters match when the metadata contains a value of the parameter type for their
+     * key. Other parameters always match.
+     *
+     * @param parameterIndex the index of the parameter in this resolver
+     * @param message        the message to resolve the parameter from
+     * @return {@code true} if the parameter can be resolved, otherwise {@code false}
+     */
+    boolean matches(int parameterIndex, Message<?> message);
+
+    /**
+     * Resolves the value of the parameter with given {@code parameterIndex} from the metadata of the given
+     * {@code message}.
+     *
+     * @param parameterIndex the index of the parameter in this resolver
+     * @param message        the message to resolve the parameter from
+     * @return the metadata value of the parameter, or {@code null} if the metadata doesn't contain it
+     */
+    Object resolve(int parameterIndex, Message<?> message);
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.parameter;
+
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.ParameterResolver;
+import org.axonframework.springboot.aot.invoke.GeneratedHandlerInvokers;
+
+import java.lang.reflect.Executable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Registry of the {@link GeneratedMetaDataResolver GeneratedMetaDataResolvers} generated ahead of time. An instance of
+ * this class is registered in the application context under the {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class GeneratedMetaDataResolvers {
+
+    /**
+     * The name under which the generated resolvers are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonGeneratedMetaDataResolvers";
+
+    private final Map<String, ParameterResolver<Object>> resolvers;
+
+    /**
+     * Creates a registry of the given {@code resolvers}. When several resolvers can resolve the same parameter, the
+     * first one is used.
+     *
+     * @param resolvers the generated resolvers
+     */
+    public GeneratedMetaDataResolvers(List<GeneratedMetaDataResolver> resolvers) {
+        Map<String, ParameterResolver<Object>> resolversByKey = new HashMap<>();
+        for (GeneratedMetaDataResolver resolver : resolvers) {
+            List<String> keys = resolver.parameterKeys();
+            for (int i = 0; i < keys.size(); i++) {
+                resolversByKey.putIfAbsent(keys.get(i), new GeneratedParameterResolver(resolver, i));
+            }
+        }
+        this.resolvers = Map.copyOf(resolversByKey);
+    }
+
+    /**
+     * Returns the key identifying the parameter with given {@code parameterIndex} of the given handler
+     * {@code executable}, consisting of the {@link GeneratedHandlerInvokers#keyOf(Executable) key of the handler} and
+     * the index of the parameter.
+     *
+     * @param executable     the method or constructor of the handler
+     * @param parameterIndex the index of the parameter in the handler
+     * @return the key identifying the parameter
+     */
+    public static String keyOf(Executable executable, int parameterIndex) {
+        return GeneratedHandlerInvokers.keyOf(executable) + "[" + parameterIndex + "]";
+    }
+
+    /**
+     * Returns the generated resolver of the parameter with given {@code parameterIndex} of the given handler
+     * {@code executable}, if one was generated.
+     *
+     * @param executable     the method or constructor of the handler
+     * @param parameterIndex the index of the parameter in the handler
+     * @return the generated resolver, or an empty optional if the parameter must be resolved otherwise
+     */
+    public Optional<ParameterResolver<Object>> resolverOf(Executable executable, int parameterIndex) {
+        return Optional.ofNullable(resolvers.get(keyOf(executable, parameterIndex)));
+    }
+
+    /**
+     * Returns the number of parameters that can be resolved through generated code.
+     *
+     * @return the number of parameters with a generated resolver
+     */
+    public int size() {
+        return resolvers.size();
+    }
+
+    private record GeneratedParameterResolver(GeneratedMetaDataResolver resolver, int parameterIndex)
+            implements ParameterResolver<Object> {
+
+        @Override
+        public Object resolveParameterValue(Message<?> message) {
+            return resolver.resolve(parameterIndex, message);
+        }
+
+        @Override
+        public boolean matches(Message<?> message) {
+            return resolver.matches(parameterIndex, message);
+        }
+    }
+}
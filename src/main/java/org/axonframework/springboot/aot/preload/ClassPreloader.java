@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.preload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads and initializes classes on a small pool of daemon threads. The threads take the next class from the list until
+ * all classes are loaded, after which they stop. Classes that can't be loaded or initialized are skipped, leaving the
+ * failure to surface where the class is first used.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ClassPreloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassPreloader.class);
+
+    private final ClassLoader classLoader;
+    private final int threads;
+
+    /**
+     * Creates a preloader loading classes with the given {@code classLoader} on at most the given number of
+     * {@code threads}.
+     *
+     * @param classLoader the class loader to load the classes with
+     * @param threads     the maximum number of threads to load the classes on
+     */
+    public ClassPreloader(ClassLoader classLoader, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads should be at least 1, but was " + threads);
+        }
+        this.classLoader = classLoader;
+        this.threads = threads;
+    }
+
+    /**
+     * Starts loading and initializing the classes with the given {@code classNames} in the background.
+     *
+     * @param classNames the names of the classes to load
+     * @return a future completing with the number of classes that were loaded, once all classes were processed
+     */
+    public CompletableFuture<Integer> preload(List<String> classNames) {
+        if (classNames.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+        long start = System.nanoTime();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger loaded = new AtomicInteger();
+        int workers = Math.min(threads, classNames.size());
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("AxonClassPreloader-");
+        threadFactory.setDaemon(true);
+        ExecutorService executor = Executors.newFixedThreadPool(workers, threadFactory);
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            tasks[i] = CompletableFuture.runAsync(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < classNames.size()) {
+                    if (load(classNames.get(index))) {
+                        loaded.incrementAndGet();
+                    }
+                }
+            }, executor);
+        }
+        executor.shutdown();
+        return CompletableFuture.allOf(tasks).thenApply(done -> {
+            logger.debug("Preloaded {} of {} classes on {} threads in {} ms",
+                         loaded.get(), classNames.size(), workers,
+                         TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            return loaded.get();
+        });
+    }
+
+    private boolean load(String className) {
+        try {
+            Class.forName(className, true, classLoader);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.debug("Skipped preloading class [{}]", className, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.preload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link BeanFactoryPostProcessor} that starts loading and initializing the {@link PreloadedClasses} found ahead of
+ * time in the background, so that the main thread finds them loaded when it creates the beans of the application. It
+ * runs before other post processors, to start as early as possible in the refresh of the application context.
+ * <p/>
+ * Preloading is enabled with the {@code axon.aot.class-preloading.enabled} property. The
+ * {@code axon.aot.class-preloading.threads} property sets the number of threads, which defaults to the number of
+ * available processors, up to 4. The classes to load are listed during AOT processing, so an application started
+ * from its regular bean definitions has no list and preloads nothing. Neither does a native image, in which classes
+ * aren't loaded at runtime.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ClassPreloadingPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware, PriorityOrdered {
+
+    /**
+     * Property to enable preloading the classes found ahead of time.
+     */
+    public static final String ENABLED_PROPERTY = "axon.aot.class-preloading.enabled";
+    /**
+     * Property setting the number of threads to preload the classes on.
+     */
+    public static final String THREADS_PROPERTY = "axon.aot.class-preloading.threads";
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassPreloadingPostProcessor.class);
+    private static final int MAX_DEFAULT_THREADS = 4;
+
+    private boolean enabled;
+    private int threads;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        Binder binder = Binder.get(environment);
+        this.enabled = binder.bind(ENABLED_PROPERTY, Boolean.class).orElse(false);
+        this.threads = binder.bind(THREADS_PROPERTY, Integer.class)
+                             .orElse(Math.min(MAX_DEFAULT_THREADS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        if (!enabled || NativeDetector.inNativeImage()) {
+            return;
+        }
+        if (!beanFactory.containsSingleton(PreloadedClasses.BEAN_NAME)) {
+            logger.info("Class preloading is enabled, but no preloaded classes are available, as the application "
+                                + "isn't running with AOT generated artifacts.");
+            return;
+        }
+        PreloadedClasses preloadedClasses = beanFactory.getBean(PreloadedClasses.BEAN_NAME, PreloadedClasses.class);
+        ClassLoader classLoader = beanFactory.getBeanClassLoader();
+        new ClassPreloader(classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader(), threads)
+                .preload(preloadedClasses.classNames());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
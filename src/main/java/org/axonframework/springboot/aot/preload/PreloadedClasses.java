@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.preload;
+
+import java.util.List;
+
+/**
+ * The names of the classes that Axon uses for the message handlers of the application, as found ahead of time: the
+ * handling types, the payload types of their handlers, and the Axon classes that are serialized at runtime. The
+ * {@link ClassPreloadingPostProcessor} loads and initializes these classes in the background while the application
+ * context starts. An instance of this class is registered in the application context under the {@link #BEAN_NAME}
+ * name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class PreloadedClasses {
+
+    /**
+     * The name under which the preloaded classes are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonPreloadedClasses";
+
+    private final List<String> classNames;
+
+    /**
+     * Creates an instance holding the given {@code classNames}.
+     *
+     * @param classNames the names of the classes to preload
+     */
+    public PreloadedClasses(List<String> classNames) {
+        this.classNames = List.copyOf(classNames);
+    }
+
+    /**
+     * Returns the names of the classes to preload.
+     *
+     * @return the names of the classes to preload
+     */
+    public List<String> classNames() {
+        return classNames;
+    }
+
+    /**
+     * Returns the number of classes to preload.
+     *
+     * @return the number of classes to preload
+     */
+    public int size() {
+        return classNames.size();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.queryhandling.DefaultQueryUpdateEmitterSpanFactory;
+import org.axonframework.queryhandling.QueryUpdateEmitter;
+import org.axonframework.queryhandling.QueryUpdateEmitterSpanFactory;
+import org.axonframework.queryhandling.SimpleQueryUpdateEmitter;
+import org.axonframework.springboot.aot.AxonAutoConfiguredBeans;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * {@link BeanPostProcessor} replacing the {@link SimpleQueryUpdateEmitter} Axon defines as the
+ * {@value #QUERY_UPDATE_EMITTER_BEAN_NAME} bean with a {@link RoutingQueryUpdateEmitter}, using the
+ * {@link QueryUpdateTypes} found ahead of time. Like Axon does for its emitter, the message monitor and span factory of
+ * the replacement are taken from the Axon {@link Configuration}.
+ * <p/>
+ * Emitters defined by the application are left as they are, even when they're named and typed like Axon's, as are
+ * all emitters when no query update types were generated.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class QueryUpdateRoutingPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    /**
+     * The name of the query update emitter bean defined by Axon's auto-configuration.
+     */
+    public static final String QUERY_UPDATE_EMITTER_BEAN_NAME = "queryUpdateEmitter";
+
+    private final Supplier<Optional<QueryUpdateTypes>> updateTypes;
+    private final Supplier<Configuration> configuration;
+    private BeanFactory beanFactory;
+
+    /**
+     * Creates a post processor replacing the query update emitter with one using the query update types provided by
+     * the given {@code updateTypes} supplier, configured through the given {@code configuration} supplier.
+     *
+     * @param updateTypes   supplier of the generated query update types, if any
+     * @param configuration supplier of the Axon configuration
+     */
+    public QueryUpdateRoutingPostProcessor(Supplier<Optional<QueryUpdateTypes>> updateTypes,
+                                           Supplier<Configuration> configuration) {
+        this.updateTypes = updateTypes;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!QUERY_UPDATE_EMITTER_BEAN_NAME.equals(beanName)
+                || bean.getClass() != SimpleQueryUpdateEmitter.class
+                || !AxonAutoConfiguredBeans.isDefinedByAxon(beanFactory, beanName)) {
+            return bean;
+        }
+        return updateTypes.get().<Object>map(types -> {
+            Configuration config = configuration.get();
+            return new RoutingQueryUpdateEmitter(
+                    config.messageMonitor(QueryUpdateEmitter.class, QUERY_UPDATE_EMITTER_BEAN_NAME),
+                    config.getComponent(QueryUpdateEmitterSpanFactory.class,
+                                        () -> DefaultQueryUpdateEmitterSpanFactory.builder()
+                                                                                  .spanFactory(NoOpSpanFactory.INSTANCE)
+                                                                                  .build()),
+                    types
+            );
+        }).orElse(bean);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * The types of updates the query handlers of each query produce, as found ahead of time from the result types of the
+ * handlers. The {@link RoutingQueryUpdateEmitter} uses them to check the compatibility of these updates with a group of
+ * subscription queries once, when the group is created. An instance of this class is registered in the application
+ * context under the {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class QueryUpdateTypes {
+
+    /**
+     * The name under which the query update types are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonQueryUpdateTypes";
+
+    private final Map<String, List<String>> updateTypes;
+    private final Map<String, Set<Class<?>>> resolvedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an instance holding the names of the update types per query name.
+     *
+     * @param updateTypes the names of the update types per query name
+     */
+    public QueryUpdateTypes(Map<String, List<String>> updateTypes) {
+        this.updateTypes = Map.copyOf(updateTypes);
+    }
+
+    /**
+     * Returns the types of updates produced by the handlers of the query with the given {@code queryName}. Types that
+     * can't be loaded by the given {@code classLoader} are left out.
+     *
+     * @param queryName   the name of the query
+     * @param classLoader the class loader to load the update types with
+     * @return the update types of the query, or an empty set if none were found
+     */
+    public Set<Class<?>> updateTypesOf(String queryName, ClassLoader classLoader) {
+        return resolvedTypes.computeIfAbsent(queryName, name -> resolve(name, classLoader));
+    }
+
+    private Set<Class<?>> resolve(String queryName, ClassLoader classLoader) {
+        return updateTypes.getOrDefault(queryName, List.of()).stream()
+                          .<Class<?>>mapMulti((typeName, types) -> {
+                              try {
+                                  types.accept(Class.forName(typeName, false, classLoader));
+                              } catch (ClassNotFoundException e) {
+                                  // the type isn't available at runtime, so no such updates are emitted
+                              }
+                          })
+                          .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Returns the number of queries of which the update types are known.
+     *
+     * @return the number of queries of which the update types are known
+     */
+    public int size() {
+        return updateTypes.size();
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.messaging.responsetypes.InstanceResponseType;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Table holding the outcome of matching response types against the result types of query handlers. The table is
+ * seeded with the {@link ResponseTypeMatch matches} computed ahead of time. Combinations that weren't computed ahead of
+ * time are matched by the response type itself.
+ * <p/>
+ * Only Axon's default {@link ResponseType} implementations are matched through the table, as their match outcome
+ * solely depends on their expected response type. They're {@link #decorate(ResponseType) decorated} by a subclass of
+ * the same response type, which is created once per expected response type and keeps the outcome per handler result
+ * type, keyed by the {@link Type} itself. The number of outcomes kept is bounded by {@link #MAX_CACHED_RANKS}; beyond
+ * that, the response type matches itself. Other implementations are always asked to match themselves.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class ResponseTypeMatchTable {
+
+    /**
+     * The maximum number of match outcomes kept by the table at runtime.
+     */
+    public static final int MAX_CACHED_RANKS = 10_000;
+
+    private static final Set<Class<?>> SUPPORTED_RESPONSE_TYPES = Set.of(InstanceResponseType.class,
+                                                                         OptionalResponseType.class,
+                                                                         MultipleInstancesResponseType.class,
+                                                                         PublisherResponseType.class);
+
+    private final Map<Key, Integer> precomputedRanks;
+    private final AtomicInteger cachedRanks = new AtomicInteger();
+    private final ClassValue<ResponseType<?>> instanceTypes = new ClassValue<>() {
+        @Override
+        protected ResponseType<?> computeValue(Class<?> expectedType) {
+            return new TableMatchingResponseTypes.Instance<>(expectedType, ResponseTypeMatchTable.this);
+        }
+    };
+    private final ClassValue<ResponseType<?>> optionalTypes = new ClassValue<>() {
+        @Override
+        protected ResponseType<?> computeValue(Class<?> expectedType) {
+            return new TableMatchingResponseTypes.Optional<>(expectedType, ResponseTypeMatchTable.this);
+        }
+    };
+    private final ClassValue<ResponseType<?>> multipleInstancesTypes = new ClassValue<>() {
+        @Override
+        protected ResponseType<?> computeValue(Class<?> expectedType) {
+            return new TableMatchingResponseTypes.MultipleInstances<>(expectedType, ResponseTypeMatchTable.this);
+        }
+    };
+    private final ClassValue<ResponseType<?>> publisherTypes = new ClassValue<>() {
+        @Override
+        protected ResponseType<?> computeValue(Class<?> expectedType) {
+            return new TableMatchingResponseTypes.Publisher<>(expectedType, ResponseTypeMatchTable.this);
+        }
+    };
+
+    /**
+     * Creates a table seeded with the given {@code matches}.
+     *
+     * @param matches the response type matches computed ahead of time
+     */
+    public ResponseTypeMatchTable(List<ResponseTypeMatch> matches) {
+        Map<Key, Integer> ranks = new ConcurrentHashMap<>();
+        matches.forEach(match -> ranks.put(new Key(match.responseType(),
+                                                   match.expectedResponseType(),
+                                                   match.handlerResultType()),
+                                           match.rank()));
+        this.precomputedRanks = Map.copyOf(ranks);
+    }
+
+    /**
+     * Indicates whether the match outcome of the given {@code responseType} can be kept in this table.
+     *
+     * @param responseType the response type to verify
+     * @return {@code true} if the outcome of matching the given response type can be kept in this table
+     */
+    public static boolean supports(ResponseType<?> responseType) {
+        return SUPPORTED_RESPONSE_TYPES.contains(responseType.getClass());
+    }
+
+    /**
+     * Returns a response type equivalent to the given {@code responseType}, which matches handler result types through
+     * this table. The returned response type is of the same {@link ResponseType} class as the given one, or a subclass
+     * thereof, and is shared by all response types with the same class and expected response type. Response types
+     * that aren't {@link #supports(ResponseType) supported} are returned as is.
+     *
+     * @param responseType the response type to decorate
+     * @param <R>          the type of response expected
+     * @return a response type matching through this table, or the given response type if it isn't supported
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ResponseType<R> decorate(ResponseType<R> responseType) {
+        Class<?> type = responseType.getClass();
+        ClassValue<ResponseType<?>> decorated;
+        if (type == InstanceResponseType.class) {
+            decorated = instanceTypes;
+        } else if (type == MultipleInstancesResponseType.class) {
+            decorated = multipleInstancesTypes;
+        } else if (type == OptionalResponseType.class) {
+            decorated = optionalTypes;
+        } else if (type == PublisherResponseType.class) {
+            decorated = publisherTypes;
+        } else {
+            return responseType;
+        }
+        return (ResponseType<R>) decorated.get(responseType.getExpectedResponseType());
+    }
+
+    /**
+     * Returns the rank of matching the given {@code responseType} against the given {@code handlerResultType}, as
+     * defined by {@link ResponseType#matchRank(Type)}.
+     *
+     * @param responseType      the response type of the query
+     * @param handlerResultType the result type of a query handler
+     * @return the match rank of the response type for the given handler result type
+     */
+    public int matchRank(ResponseType<?> responseType, Type handlerResultType) {
+        return decorate(responseType).matchRank(handlerResultType);
+    }
+
+    /**
+     * Returns the number of match outcomes kept in this table at runtime.
+     *
+     * @return the number of match outcomes kept in this table
+     */
+    public int size() {
+        return cachedRanks.get();
+    }
+
+    /**
+     * Returns the rank of a response type of the given {@code responseTypeClass} and {@code expectedResponseType}
+     * for the given {@code handlerResultType}, as kept in the given {@code ranks} of that response type. Outcomes
+     * that aren't kept yet are taken from the precomputed matches if the handler result type is concrete, or else
+     * computed by the given {@code matcher}.
+     */
+    int rank(Class<?> responseTypeClass,
+             Class<?> expectedResponseType,
+             Map<Type, Integer> ranks,
+             Type handlerResultType,
+             Function<Type, Integer> matcher) {
+        Integer rank = ranks.get(handlerResultType);
+        if (rank != null) {
+            return rank;
+        }
+        if (ResponseTypeMatch.isConcrete(handlerResultType)) {
+            rank = precomputedRanks.get(new Key(responseTypeClass.getName(),
+                                                expectedResponseType.getName(),
+                                                handlerResultType.getTypeName()));
+        }
+        if (rank == null) {
+            rank = matcher.apply(handlerResultType);
+        }
+        if (cachedRanks.getAndIncrement() >= MAX_CACHED_RANKS || ranks.putIfAbsent(handlerResultType, rank) != null) {
+            cachedRanks.decrementAndGet();
+        }
+        return rank;
+    }
+
+    private record Key(String responseType, String expectedResponseType, String handlerResultType) {
+
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.common.Registration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.lifecycle.Phase;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ConfigurerModule} registering a {@link ResponseTypeMatchingDispatchInterceptor} with the query bus, using a
+ * {@link ResponseTypeMatchTable} seeded with the response type matches of the given {@link AxonHandlerMetadata}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ResponseTypeMatchingConfigurerModule implements ConfigurerModule {
+
+    private final AxonHandlerMetadata metadata;
+
+    /**
+     * Creates a module matching response types using the matches of the given {@code metadata}.
+     *
+     * @param metadata the handler metadata detected ahead of time
+     */
+    public ResponseTypeMatchingConfigurerModule(AxonHandlerMetadata metadata) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void configureModule(@Nonnull Configurer configurer) {
+        configurer.onInitialize(config -> {
+            AtomicReference<Registration> registration = new AtomicReference<>();
+            config.onStart(Phase.OUTBOUND_QUERY_CONNECTORS, () -> registration.set(
+                    config.queryBus().registerDispatchInterceptor(new ResponseTypeMatchingDispatchInterceptor(
+                            new ResponseTypeMatchTable(metadata.responseTypeMatches())
+                    ))
+            ));
+            config.onShutdown(Phase.OUTBOUND_QUERY_CONNECTORS, () -> {
+                Registration current = registration.getAndSet(null);
+                if (current != null) {
+                    current.cancel();
+                }
+            });
+        });
+    }
+}
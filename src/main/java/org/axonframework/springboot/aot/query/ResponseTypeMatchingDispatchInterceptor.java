@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.QueryMessage;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link MessageDispatchInterceptor} that decorates the response type of dispatched queries, so that query buses find
+ * the matching handlers through a {@link ResponseTypeMatchTable}. The decorated response type is a subclass of the
+ * original one, shared by all queries expecting the same response, so only the query message itself is recreated.
+ * <p/>
+ * Only point-to-point and scatter-gather queries are decorated. Subscription and streaming queries are dispatched as
+ * is, as their response types are inspected by type by other components.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ResponseTypeMatchingDispatchInterceptor implements MessageDispatchInterceptor<QueryMessage<?, ?>> {
+
+    private final ResponseTypeMatchTable table;
+
+    /**
+     * Creates an interceptor that matches response types using the given {@code table}.
+     *
+     * @param table the table holding the match outcomes
+     */
+    public ResponseTypeMatchingDispatchInterceptor(ResponseTypeMatchTable table) {
+        this.table = table;
+    }
+
+    @Nonnull
+    @Override
+    public BiFunction<Integer, QueryMessage<?, ?>, QueryMessage<?, ?>> handle(
+            @Nonnull List<? extends QueryMessage<?, ?>> messages
+    ) {
+        return (index, query) -> decorate(query);
+    }
+
+    private <Q, R> QueryMessage<?, ?> decorate(QueryMessage<Q, R> query) {
+        if (query.getClass() != GenericQueryMessage.class) {
+            return query;
+        }
+        ResponseType<R> responseType = table.decorate(query.getResponseType());
+        if (responseType == query.getResponseType()) {
+            return query;
+        }
+        return new GenericQueryMessage<>(query, query.getQueryName(), responseType);
+    }
+}
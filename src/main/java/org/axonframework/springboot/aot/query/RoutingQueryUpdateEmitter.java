@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.common.Registration;
+import org.axonframework.messaging.MessageDispatchInterceptor;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.monitoring.MessageMonitor;
+import org.axonframework.queryhandling.QueryUpdateEmitter;
+import org.axonframework.queryhandling.QueryUpdateEmitterSpanFactory;
+import org.axonframework.queryhandling.SimpleQueryUpdateEmitter;
+import org.axonframework.queryhandling.SubscriptionQueryBackpressure;
+import org.axonframework.queryhandling.SubscriptionQueryMessage;
+import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
+import org.axonframework.queryhandling.UpdateHandlerRegistration;
+import org.axonframework.tracing.Span;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link QueryUpdateEmitter} that groups the active subscription queries by query name, query type and update response
+ * type, so that updates are routed to the groups they're compatible with, instead of being checked against every
+ * subscription.
+ * <p/>
+ * Whether an update of a given type is compatible with the update response type of a group is checked once per group.
+ * Only groups that provably can't take the update are skipped: an update is compatible when either the update
+ * response type {@link ResponseType#matches(java.lang.reflect.Type) matches} its payload type, or the rules of the
+ * {@link SimpleQueryUpdateEmitter} accept it, and updates without a payload are emitted to every group. The checks
+ * for the update types that the {@link QueryUpdateTypes} list for the query are done when the group is created,
+ * others when such an update is first emitted. Updates emitted for a query type skip the groups of other query types
+ * altogether, after which the filter is only tested against the subscriptions in the compatible groups.
+ * <p/>
+ * Like the {@code SimpleQueryUpdateEmitter}, updates are emitted after the current unit of work commits, if any, and
+ * subscriptions of which the update handler fails are cancelled. The deprecated registration with a
+ * {@link SubscriptionQueryBackpressure} ignores the backpressure, and buffers updates like the other registration.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class RoutingQueryUpdateEmitter implements QueryUpdateEmitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoutingQueryUpdateEmitter.class);
+    private static final String QUERY_UPDATE_TASKS_RESOURCE_KEY = "/update-tasks";
+
+    private final MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor;
+    private final QueryUpdateEmitterSpanFactory spanFactory;
+    private final QueryUpdateTypes updateTypes;
+    private final ConcurrentMap<GroupKey, SubscriptionGroup> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, GroupKey> subscriptionIdentifiers = new ConcurrentHashMap<>();
+    private final List<MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>>> dispatchInterceptors =
+            new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates an emitter monitoring updates with the given {@code updateMessageMonitor}, tracing them with the given
+     * {@code spanFactory}, and checking the compatibility of the given {@code updateTypes} when a group of
+     * subscriptions is created.
+     *
+     * @param updateMessageMonitor the monitor to report emitted updates to
+     * @param spanFactory          the span factory to trace emitted updates with
+     * @param updateTypes          the types of updates the query handlers produce, as found ahead of time
+     */
+    public RoutingQueryUpdateEmitter(MessageMonitor<? super SubscriptionQueryUpdateMessage<?>> updateMessageMonitor,
+                                     QueryUpdateEmitterSpanFactory spanFactory,
+                                     QueryUpdateTypes updateTypes) {
+        this.updateMessageMonitor = updateMessageMonitor;
+        this.spanFactory = spanFactory;
+        this.updateTypes = updateTypes;
+    }
+
+    @Override
+    public boolean queryUpdateHandlerRegistered(@Nonnull SubscriptionQueryMessage<?, ?, ?> query) {
+        return subscriptionIdentifiers.containsKey(query.getIdentifier());
+    }
+
+    @Override
+    @Deprecated
+    public <U> UpdateHandlerRegistration<U> registerUpdateHandler(@Nonnull SubscriptionQueryMessage<?, ?, ?> query,
+                                                                  @Nonnull SubscriptionQueryBackpressure backpressure,
+                                                                  int updateBufferSize) {
+        return registerUpdateHandler(query, updateBufferSize);
+    }
+
+    @Override
+    public <U> UpdateHandlerRegistration<U> registerUpdateHandler(@Nonnull SubscriptionQueryMessage<?, ?, ?> query,
+                                                                  int updateBufferSize) {
+        Sinks.Many<SubscriptionQueryUpdateMessage<U>> sink = Sinks.many().replay().limit(updateBufferSize);
+        UpdateSink<SubscriptionQueryUpdateMessage<U>> updateSink = new UpdateSink<>(sink);
+        GroupKey key = GroupKey.of(query);
+        groups.compute(key, (k, group) -> {
+            SubscriptionGroup current = group != null ? group : new SubscriptionGroup(k, initialCompatibility(query));
+            current.subscriptions.put(query, updateSink);
+            subscriptionIdentifiers.put(query.getIdentifier(), k);
+            return current;
+        });
+        Runnable removeHandler = () -> remove(key, query);
+        Registration registration = () -> {
+            removeHandler.run();
+            return true;
+        };
+        Flux<SubscriptionQueryUpdateMessage<U>> updateMessageFlux =
+                sink.asFlux().doOnCancel(removeHandler).doOnTerminate(removeHandler);
+        return new UpdateHandlerRegistration<>(registration, updateMessageFlux, updateSink::complete);
+    }
+
+    private Map<Class<?>, Boolean> initialCompatibility(SubscriptionQueryMessage<?, ?, ?> query) {
+        Map<Class<?>, Boolean> compatibility = new ConcurrentHashMap<>();
+        ClassLoader classLoader = query.getPayloadType().getClassLoader();
+        if (classLoader != null) {
+            updateTypes.updateTypesOf(query.getQueryName(), classLoader).forEach(
+                    type -> compatibility.put(type, isCompatible(query.getUpdateResponseType(), type))
+            );
+        }
+        return compatibility;
+    }
+
+    private void remove(GroupKey key, SubscriptionQueryMessage<?, ?, ?> query) {
+        groups.computeIfPresent(key, (k, group) -> {
+            if (group.subscriptions.remove(query) != null) {
+                subscriptionIdentifiers.remove(query.getIdentifier(), k);
+            }
+            return group.subscriptions.isEmpty() ? null : group;
+        });
+    }
+
+    @Override
+    public <U> void emit(@Nonnull Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
+                         @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        schedule(update, intercepted -> doEmit(group -> true, filter, intercepted));
+    }
+
+    @Override
+    public <Q, U> void emit(@Nonnull Class<Q> queryType,
+                            @Nonnull Predicate<? super Q> filter,
+                            @Nonnull SubscriptionQueryUpdateMessage<U> update) {
+        schedule(update, intercepted -> doEmit(
+                group -> queryType.isAssignableFrom(group.key.queryType()),
+                query -> filter.test(queryType.cast(query.getPayload())),
+                intercepted
+        ));
+    }
+
+    private <U> void schedule(SubscriptionQueryUpdateMessage<U> update,
+                              Consumer<SubscriptionQueryUpdateMessage<U>> emitTask) {
+        SubscriptionQueryUpdateMessage<U> updateMessage = spanFactory.propagateContext(update);
+        Span span = spanFactory.createUpdateScheduleEmitSpan(updateMessage);
+        span.run(() -> {
+            Span doEmitSpan = spanFactory.createUpdateEmitSpan(updateMessage);
+            runOnAfterCommitOrNow(doEmitSpan.wrapRunnable(
+                    () -> emitTask.accept(intercept(spanFactory.propagateContext(updateMessage)))
+            ));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> SubscriptionQueryUpdateMessage<U> intercept(SubscriptionQueryUpdateMessage<U> message) {
+        SubscriptionQueryUpdateMessage<U> intercepted = message;
+        for (MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> interceptor : dispatchInterceptors) {
+            intercepted = (SubscriptionQueryUpdateMessage<U>) interceptor.handle(intercepted);
+        }
+        return intercepted;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <U> void doEmit(Predicate<SubscriptionGroup> groupFilter,
+                            Predicate<SubscriptionQueryMessage<?, ?, U>> filter,
+                            SubscriptionQueryUpdateMessage<U> update) {
+        Class<?> payloadType = update.getPayload() != null ? update.getPayloadType() : null;
+        for (SubscriptionGroup group : groups.values()) {
+            if (!groupFilter.test(group) || (payloadType != null && !group.accepts(payloadType))) {
+                continue;
+            }
+            group.subscriptions.forEach((query, updateHandler) -> {
+                if (filter.test((SubscriptionQueryMessage) query)) {
+                    doEmit(group.key, query, updateHandler, update);
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <U> void doEmit(GroupKey key,
+                            SubscriptionQueryMessage<?, ?, ?> query,
+                            UpdateSink<?> updateHandler,
+                            SubscriptionQueryUpdateMessage<U> update) {
+        MessageMonitor.MonitorCallback monitorCallback = updateMessageMonitor.onMessageIngested(update);
+        try {
+            ((UpdateSink) updateHandler).next(update);
+            monitorCallback.reportSuccess();
+        } catch (Exception e) {
+            logger.info("An error occurred while trying to emit an update to a query '{}'. "
+                                + "The subscription will be cancelled. Exception summary: {}",
+                        query.getQueryName(), e.toString());
+            monitorCallback.reportFailure(e);
+            remove(key, query);
+            emitError(query, e, updateHandler);
+        }
+    }
+
+    @Override
+    public void complete(@Nonnull Predicate<SubscriptionQueryMessage<?, ?, ?>> filter) {
+        runOnAfterCommitOrNow(() -> forEachSubscription(filter, (query, updateHandler) -> {
+            try {
+                updateHandler.complete();
+            } catch (Exception e) {
+                emitError(query, e, updateHandler);
+            }
+        }));
+    }
+
+    @Override
+    public void completeExceptionally(@Nonnull Predicate<SubscriptionQueryMessage<?, ?, ?>> filter,
+                                      @Nonnull Throwable cause) {
+        runOnAfterCommitOrNow(() -> forEachSubscription(
+                filter, (query, updateHandler) -> emitError(query, cause, updateHandler)
+        ));
+    }
+
+    private void forEachSubscription(Predicate<SubscriptionQueryMessage<?, ?, ?>> filter,
+                                     BiConsumer<SubscriptionQueryMessage<?, ?, ?>,
+                                             UpdateSink<?>> action) {
+        groups.values().forEach(group -> group.subscriptions.forEach((query, updateHandler) -> {
+            if (filter.test(query)) {
+                action.accept(query, updateHandler);
+            }
+        }));
+    }
+
+    private void emitError(SubscriptionQueryMessage<?, ?, ?> query, Throwable cause, UpdateSink<?> updateHandler) {
+        try {
+            updateHandler.error(cause);
+        } catch (Exception e) {
+            logger.error("An error happened while trying to inform update handler about the error. Query: {}", query);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Registration registerDispatchInterceptor(
+            @Nonnull MessageDispatchInterceptor<? super SubscriptionQueryUpdateMessage<?>> interceptor
+    ) {
+        dispatchInterceptors.add(interceptor);
+        return () -> dispatchInterceptors.remove(interceptor);
+    }
+
+    @Override
+    public Set<SubscriptionQueryMessage<?, ?, ?>> activeSubscriptions() {
+        Set<SubscriptionQueryMessage<?, ?, ?>> subscriptions = new HashSet<>();
+        groups.values().forEach(group -> subscriptions.addAll(group.subscriptions.keySet()));
+        return Collections.unmodifiableSet(subscriptions);
+    }
+
+    /**
+     * Returns the number of groups of active subscription queries, which share their query name, query type and
+     * update response type.
+     *
+     * @return the number of groups of active subscription queries
+     */
+    public int groupCount() {
+        return groups.size();
+    }
+
+    private void runOnAfterCommitOrNow(Runnable queryUpdateTask) {
+        if (CurrentUnitOfWork.isStarted() && UnitOfWork.Phase.STARTED.equals(CurrentUnitOfWork.get().phase())) {
+            UnitOfWork<?> unitOfWork = CurrentUnitOfWork.get();
+            unitOfWork.getOrComputeResource(this + QUERY_UPDATE_TASKS_RESOURCE_KEY, resourceKey -> {
+                List<Runnable> queryUpdateTasks = new ArrayList<>();
+                unitOfWork.afterCommit(uow -> queryUpdateTasks.forEach(Runnable::run));
+                return queryUpdateTasks;
+            }).add(queryUpdateTask);
+        } else {
+            queryUpdateTask.run();
+        }
+    }
+
+    /**
+     * Indicates whether updates of the given {@code payloadType} may be compatible with the given
+     * {@code updateResponseType}. They are when the update response type matches the payload type, or when the rules of
+     * the {@link SimpleQueryUpdateEmitter} accept it, so that only provably incompatible updates are skipped.
+     *
+     * @param updateResponseType the update response type of a subscription query
+     * @param payloadType        the payload type of an update
+     * @return {@code true} if the update may be emitted to the subscription query, otherwise {@code false}
+     */
+    static boolean isCompatible(ResponseType<?> updateResponseType, Class<?> payloadType) {
+        if (Void.class.equals(payloadType) || updateResponseType.matches(payloadType)) {
+            return true;
+        }
+        if (updateResponseType instanceof MultipleInstancesResponseType) {
+            return payloadType.isArray() || Iterable.class.isAssignableFrom(payloadType);
+        }
+        if (updateResponseType instanceof OptionalResponseType) {
+            return Optional.class.isAssignableFrom(payloadType);
+        }
+        if (updateResponseType instanceof PublisherResponseType) {
+            return Publisher.class.isAssignableFrom(payloadType);
+        }
+        return updateResponseType.getExpectedResponseType().isAssignableFrom(payloadType);
+    }
+
+    private record GroupKey(String queryName, Class<?> queryType, ResponseType<?> updateResponseType) {
+
+        static GroupKey of(SubscriptionQueryMessage<?, ?, ?> query) {
+            return new GroupKey(query.getQueryName(), query.getPayloadType(), query.getUpdateResponseType());
+        }
+    }
+
+    private static final class SubscriptionGroup {
+
+        private final GroupKey key;
+        private final Map<Class<?>, Boolean> compatibility;
+        private final ConcurrentMap<SubscriptionQueryMessage<?, ?, ?>, UpdateSink<?>> subscriptions =
+                new ConcurrentHashMap<>();
+
+        private SubscriptionGroup(GroupKey key, Map<Class<?>, Boolean> compatibility) {
+            this.key = key;
+            this.compatibility = compatibility;
+        }
+
+        private boolean accepts(Class<?> payloadType) {
+            Boolean compatible = compatibility.get(payloadType);
+            if (compatible == null) {
+                compatible = isCompatible(key.updateResponseType(), payloadType);
+                compatibility.putIfAbsent(payloadType, compatible);
+            }
+            return compatible;
+        }
+    }
+
+    private static final class UpdateSink<T> {
+
+        private final Sinks.Many<T> sink;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private UpdateSink(Sinks.Many<T> sink) {
+            this.sink = sink;
+        }
+
+        private void next(T value) {
+            emit(() -> sink.tryEmitNext(value)).orThrow();
+        }
+
+        private void complete() {
+            emit(sink::tryEmitComplete).orThrow();
+        }
+
+        private void error(Throwable cause) {
+            emit(() -> sink.tryEmitError(cause)).orThrow();
+        }
+
+        private Sinks.EmitResult emit(Supplier<Sinks.EmitResult> action) {
+            lock.lock();
+            try {
+                Sinks.EmitResult result;
+                int attempt = 0;
+                while ((result = action.get()) == Sinks.EmitResult.FAIL_NON_SERIALIZED) {
+                    if (attempt < 100) {
+                        attempt++;
+                    } else if (attempt < 200) {
+                        attempt++;
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(100);
+                    }
+                }
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import org.axonframework.messaging.responsetypes.InstanceResponseType;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.messaging.responsetypes.PublisherResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+
+import java.io.Serial;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subclasses of Axon's default {@link ResponseType} implementations that look up their match rank in a
+ * {@link ResponseTypeMatchTable}, instead of analyzing the result type of each query handler. Being subclasses, they
+ * behave as the response type they replace in all other respects, and are serialized as that response type.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+final class TableMatchingResponseTypes {
+
+    private TableMatchingResponseTypes() {
+        // utility class
+    }
+
+    /**
+     * {@link InstanceResponseType} matching through a {@link ResponseTypeMatchTable}.
+     *
+     * @param <R> the type of response expected
+     */
+    static final class Instance<R> extends InstanceResponseType<R> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient ResponseTypeMatchTable table;
+        private final transient Map<Type, Integer> ranks = new ConcurrentHashMap<>();
+
+        Instance(Class<R> expectedResponseType, ResponseTypeMatchTable table) {
+            super(expectedResponseType);
+            this.table = table;
+        }
+
+        @Override
+        public boolean matches(Type responseType) {
+            return matchRank(responseType) > NO_MATCH;
+        }
+
+        @Override
+        public Integer matchRank(Type responseType) {
+            return table.rank(InstanceResponseType.class, expectedResponseType, ranks, responseType,
+                              type -> super.matches(type) ? MATCH : NO_MATCH);
+        }
+
+        @Override
+        public ResponseType<?> forSerialization() {
+            return new InstanceResponseType<>(expectedResponseType);
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return forSerialization();
+        }
+    }
+
+    /**
+     * {@link OptionalResponseType} matching through a {@link ResponseTypeMatchTable}.
+     *
+     * @param <R> the type of response expected
+     */
+    static final class Optional<R> extends OptionalResponseType<R> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient ResponseTypeMatchTable table;
+        private final transient Map<Type, Integer> ranks = new ConcurrentHashMap<>();
+
+        Optional(Class<R> expectedResponseType, ResponseTypeMatchTable table) {
+            super(expectedResponseType);
+            this.table = table;
+        }
+
+        @Override
+        public boolean matches(Type responseType) {
+            return matchRank(responseType) > NO_MATCH;
+        }
+
+        @Override
+        public Integer matchRank(Type responseType) {
+            return table.rank(OptionalResponseType.class, expectedResponseType, ranks, responseType,
+                              type -> super.matches(type) ? MATCH : NO_MATCH);
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return new OptionalResponseType<>(expectedResponseType);
+        }
+    }
+
+    /**
+     * {@link MultipleInstancesResponseType} matching through a {@link ResponseTypeMatchTable}.
+     *
+     * @param <R> the type of the elements of the response expected
+     */
+    static final class MultipleInstances<R> extends MultipleInstancesResponseType<R> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient ResponseTypeMatchTable table;
+        private final transient Map<Type, Integer> ranks = new ConcurrentHashMap<>();
+
+        MultipleInstances(Class<R> expectedResponseType, ResponseTypeMatchTable table) {
+            super(expectedResponseType);
+            this.table = table;
+        }
+
+        @Override
+        public boolean matches(Type responseType) {
+            return matchRank(responseType) > NO_MATCH;
+        }
+
+        @Override
+        public Integer matchRank(Type responseType) {
+            return table.rank(MultipleInstancesResponseType.class, expectedResponseType, ranks, responseType,
+                              super::matchRank);
+        }
+
+        @Override
+        public ResponseType<?> forSerialization() {
+            return new MultipleInstancesResponseType<>(expectedResponseType);
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return forSerialization();
+        }
+    }
+
+    /**
+     * {@link PublisherResponseType} matching through a {@link ResponseTypeMatchTable}.
+     *
+     * @param <R> the type of the elements of the response expected
+     */
+    static final class Publisher<R> extends PublisherResponseType<R> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient ResponseTypeMatchTable table;
+        private final transient Map<Type, Integer> ranks = new ConcurrentHashMap<>();
+
+        Publisher(Class<?> expectedResponseType, ResponseTypeMatchTable table) {
+            super(expectedResponseType);
+            this.table = table;
+        }
+
+        @Override
+        public boolean matches(Type responseType) {
+            return matchRank(responseType) > NO_MATCH;
+        }
+
+        @Override
+        public Integer matchRank(Type responseType) {
+            return table.rank(PublisherResponseType.class, expectedResponseType, ranks, responseType,
+                              super::matchRank);
+        }
+
+        @Serial
+        private Object writeReplace() {
+            return new PublisherResponseType<>(expectedResponseType);
+        }
+    }
+}
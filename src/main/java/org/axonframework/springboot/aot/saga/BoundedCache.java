@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link Cache} holding at most a given number of entries. The entries are spread over a number of stripes by the hash
+ * of their key, each holding an equal share of the maximum number of entries. When a stripe is full, adding an entry
+ * to it evicts the entry of that stripe that was used least recently, which is reported to the listeners as an expired
+ * entry.
+ * <p/>
+ * Each stripe is guarded by its own lock, so that threads using keys of different stripes don't contend. A lock is
+ * never held while calling the value supplier of {@link #computeIfAbsent(Object, Supplier)} or while notifying
+ * listeners. The update function of {@link #computeIfPresent(Object, UnaryOperator)} is called while holding the lock
+ * of the key's stripe, so it should be cheap.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class BoundedCache implements Cache {
+
+    private static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes;
+    private final Set<EntryListener> listeners = new CopyOnWriteArraySet<>();
+
+    /**
+     * Creates a cache holding at most the given {@code maximumSize} entries, spread over at most 16 stripes.
+     *
+     * @param maximumSize the maximum number of entries in the cache
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * Creates a cache holding at most the given {@code maximumSize} entries, spread over at most the given
+     * {@code stripeCount} stripes. The number of stripes is rounded down to a power of two that doesn't exceed the
+     * maximum size, so that each stripe holds at least one entry.
+     *
+     * @param maximumSize the maximum number of entries in the cache
+     * @param stripeCount the maximum number of stripes to spread the entries over
+     */
+    public BoundedCache(int maximumSize, int stripeCount) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of the cache must be positive");
+        }
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("The number of stripes of the cache must be positive");
+        }
+        int count = Integer.highestOneBit(Math.min(maximumSize, stripeCount));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(K key) {
+        Stripe stripe = stripeOf(key);
+        V value;
+        synchronized (stripe) {
+            value = (V) stripe.get(key);
+        }
+        if (value != null) {
+            listeners.forEach(listener -> listener.onEntryRead(key, value));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        assertNonNull(value);
+        Stripe stripe = stripeOf(key);
+        boolean updated;
+        List<Object> evictedKeys;
+        synchronized (stripe) {
+            updated = stripe.put(key, value) != null;
+            evictedKeys = stripe.drainEvicted();
+        }
+        if (updated) {
+            listeners.forEach(listener -> listener.onEntryUpdated(key, value));
+        } else {
+            listeners.forEach(listener -> listener.onEntryCreated(key, value));
+        }
+        notifyEvicted(evictedKeys);
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        assertNonNull(value);
+        Stripe stripe = stripeOf(key);
+        List<Object> evictedKeys;
+        synchronized (stripe) {
+            if (stripe.containsKey(key)) {
+                return false;
+            }
+            stripe.put(key, value);
+            evictedKeys = stripe.drainEvicted();
+        }
+        listeners.forEach(listener -> listener.onEntryCreated(key, value));
+        notifyEvicted(evictedKeys);
+        return true;
+    }
+
+    @Override
+    public <T> T computeIfAbsent(Object key, Supplier<T> valueSupplier) {
+        T existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        T value = valueSupplier.get();
+        if (value == null) {
+            throw new IllegalStateException("Value Supplier of Cache produced a null value for key [" + key + "]!");
+        }
+        if (putIfAbsent(key, value)) {
+            return value;
+        }
+        T concurrentValue = get(key);
+        return concurrentValue != null ? concurrentValue : value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> void computeIfPresent(Object key, UnaryOperator<V> update) {
+        Stripe stripe = stripeOf(key);
+        V updatedValue;
+        synchronized (stripe) {
+            V current = (V) stripe.get(key);
+            if (current == null) {
+                return;
+            }
+            updatedValue = update.apply(current);
+            if (updatedValue == null) {
+                stripe.remove(key);
+            } else {
+                stripe.put(key, updatedValue);
+            }
+        }
+        if (updatedValue == null) {
+            listeners.forEach(listener -> listener.onEntryRemoved(key));
+        } else {
+            listeners.forEach(listener -> listener.onEntryUpdated(key, updatedValue));
+        }
+    }
+
+    @Override
+    public boolean remove(Object key) {
+        Stripe stripe = stripeOf(key);
+        boolean removed;
+        synchronized (stripe) {
+            removed = stripe.remove(key) != null;
+        }
+        if (removed) {
+            listeners.forEach(listener -> listener.onEntryRemoved(key));
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeAll() {
+        for (Stripe stripe : stripes) {
+            List<Object> keys;
+            synchronized (stripe) {
+                keys = new ArrayList<>(stripe.keySet());
+                stripe.clear();
+            }
+            keys.forEach(key -> listeners.forEach(listener -> listener.onEntryRemoved(key)));
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            return stripe.containsKey(key);
+        }
+    }
+
+    @Override
+    public Registration registerCacheEntryListener(EntryListener entryListener) {
+        listeners.add(entryListener);
+        return () -> listeners.remove(entryListener);
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return the number of entries in the cache
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(Object key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private void notifyEvicted(List<Object> evictedKeys) {
+        evictedKeys.forEach(key -> listeners.forEach(listener -> listener.onEntryExpired(key)));
+    }
+
+    private static void assertNonNull(@Nullable Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values not supported");
+        }
+    }
+
+    private static final class Stripe extends LinkedHashMap<Object, Object> {
+
+        private final int capacity;
+        private final List<Object> evicted = new ArrayList<>();
+
+        private Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            if (size() > capacity) {
+                evicted.add(eldest.getKey());
+                return true;
+            }
+            return false;
+        }
+
+        private List<Object> drainEvicted() {
+            if (evicted.isEmpty()) {
+                return List.of();
+            }
+            List<Object> evictedKeys = List.copyOf(evicted);
+            evicted.clear();
+            return evictedKeys;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventhandling.tokenstore.TokenStore;
+import org.axonframework.eventhandling.tokenstore.UnableToClaimTokenException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * {@link TokenStore} notifying a listener of the processor and segment whenever a segment is claimed or released
+ * through it, after delegating to the token store that stores the tokens. Failed claims aren't notified. When a segment
+ * is identified by its identifier only, its mask is computed from the segments currently stored for the processor.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class ClaimListeningTokenStore implements TokenStore {
+
+    private final TokenStore delegate;
+    private final BiConsumer<String, Segment> claimListener;
+
+    /**
+     * Creates a token store delegating to the given {@code delegate}, and notifying the given {@code claimListener} of
+     * the processor name and segment whenever a segment is claimed or released.
+     *
+     * @param delegate      the token store storing the tokens
+     * @param claimListener the listener to notify when a segment is claimed or released
+     */
+    ClaimListeningTokenStore(TokenStore delegate, BiConsumer<String, Segment> claimListener) {
+        this.delegate = delegate;
+        this.claimListener = claimListener;
+    }
+
+    @Override
+    public void initializeTokenSegments(@Nonnull String processorName, int segmentCount)
+            throws UnableToClaimTokenException {
+        delegate.initializeTokenSegments(processorName, segmentCount);
+    }
+
+    @Override
+    public void initializeTokenSegments(@Nonnull String processorName,
+                                        int segmentCount,
+                                        @Nullable TrackingToken initialToken) throws UnableToClaimTokenException {
+        delegate.initializeTokenSegments(processorName, segmentCount, initialToken);
+    }
+
+    @Override
+    public void storeToken(@Nullable TrackingToken token, @Nonnull String processorName, int segment)
+            throws UnableToClaimTokenException {
+        delegate.storeToken(token, processorName, segment);
+    }
+
+    @Override
+    public TrackingToken fetchToken(@Nonnull String processorName, int segment) throws UnableToClaimTokenException {
+        TrackingToken token = delegate.fetchToken(processorName, segment);
+        claimListener.accept(processorName, segmentOf(processorName, segment));
+        return token;
+    }
+
+    @Override
+    public TrackingToken fetchToken(@Nonnull String processorName, @Nonnull Segment segment)
+            throws UnableToClaimTokenException {
+        TrackingToken token = delegate.fetchToken(processorName, segment);
+        claimListener.accept(processorName, segment);
+        return token;
+    }
+
+    @Override
+    public void extendClaim(@Nonnull String processorName, int segment) throws UnableToClaimTokenException {
+        delegate.extendClaim(processorName, segment);
+    }
+
+    @Override
+    public void releaseClaim(@Nonnull String processorName, int segment) {
+        delegate.releaseClaim(processorName, segment);
+        claimListener.accept(processorName, segmentOf(processorName, segment));
+    }
+
+    @Override
+    public void initializeSegment(@Nullable TrackingToken token, @Nonnull String processorName, int segment) {
+        delegate.initializeSegment(token, processorName, segment);
+    }
+
+    @Override
+    public void deleteToken(@Nonnull String processorName, int segment) throws UnableToClaimTokenException {
+        delegate.deleteToken(processorName, segment);
+    }
+
+    @Override
+    public boolean requiresExplicitSegmentInitialization() {
+        return delegate.requiresExplicitSegmentInitialization();
+    }
+
+    @Override
+    public int[] fetchSegments(@Nonnull String processorName) {
+        return delegate.fetchSegments(processorName);
+    }
+
+    @Override
+    public List<Segment> fetchAvailableSegments(@Nonnull String processorName) {
+        return delegate.fetchAvailableSegments(processorName);
+    }
+
+    @Override
+    public Optional<String> retrieveStorageIdentifier() {
+        return delegate.retrieveStorageIdentifier();
+    }
+
+    private Segment segmentOf(String processorName, int segmentId) {
+        return Segment.computeSegment(segmentId, delegate.fetchSegments(processorName));
+    }
+}
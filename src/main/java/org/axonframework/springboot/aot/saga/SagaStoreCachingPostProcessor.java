@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.eventhandling.tokenstore.TokenStore;
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@link BeanPostProcessor} placing a {@link WriteThroughCachingSagaStore} in front of each JPA or JDBC
+ * {@link SagaStore} bean. Each saga store gets its own {@link BoundedCache BoundedCaches} of association values and
+ * saga instances. Other saga stores, such as in-memory saga stores or those that already cache, are left as they are.
+ * <p/>
+ * The caches are only valid while the segments of the saga's processor are owned by this instance. Therefore, each
+ * {@link TokenStore} bean is wrapped to {@link WriteThroughCachingSagaStore#invalidate(String, Segment) invalidate}
+ * the entries of the claimed or released segment in all saga stores whenever a segment is claimed or released through
+ * it. Segments are only claimed and released when processors start, stop or rebalance, and other processors and
+ * segments keep their cached entries. Tokens of processors that aren't stored through a token store bean don't
+ * invalidate the caches.
+ * <p/>
+ * The wrappers only implement the {@link SagaStore} and {@link TokenStore} interfaces, so the beans can no longer be
+ * injected by their concrete type, such as {@code JpaSagaStore} or {@code JpaTokenStore}. Class-based proxies keeping
+ * these types aren't used, as they can't be created at runtime in a native image.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class SagaStoreCachingPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> CACHED_SAGA_STORES = Set.of(
+            "org.axonframework.modelling.saga.repository.jpa.JpaSagaStore",
+            "org.axonframework.modelling.saga.repository.jdbc.JdbcSagaStore"
+    );
+
+    private final int associationsCacheSize;
+    private final int sagaCacheSize;
+    private final List<WriteThroughCachingSagaStore<?>> cachingSagaStores = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a post processor caching at most the given number of association values and saga instances per saga
+     * store.
+     *
+     * @param associationsCacheSize the maximum number of association values to cache the saga identifiers of
+     * @param sagaCacheSize         the maximum number of saga instances to cache
+     */
+    public SagaStoreCachingPostProcessor(int associationsCacheSize, int sagaCacheSize) {
+        this.associationsCacheSize = associationsCacheSize;
+        this.sagaCacheSize = sagaCacheSize;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof TokenStore tokenStore && !(bean instanceof ClaimListeningTokenStore)) {
+            return new ClaimListeningTokenStore(tokenStore, this::invalidateCaches);
+        }
+        if (!(bean instanceof SagaStore<?>) || !isCachedSagaStore(bean.getClass())) {
+            return bean;
+        }
+        WriteThroughCachingSagaStore<Object> cachingSagaStore =
+                new WriteThroughCachingSagaStore<>((SagaStore<Object>) bean,
+                                                   new BoundedCache(associationsCacheSize),
+                                                   new BoundedCache(sagaCacheSize));
+        cachingSagaStores.add(cachingSagaStore);
+        return cachingSagaStore;
+    }
+
+    private static boolean isCachedSagaStore(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (CACHED_SAGA_STORES.contains(current.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void invalidateCaches(String processorName, Segment segment) {
+        cachingSagaStores.forEach(sagaStore -> sagaStore.invalidate(processorName, segment));
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.common.caching.Cache;
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.messaging.unitofwork.CurrentUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.AssociationValues;
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.springframework.lang.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * {@link SagaStore} caching the identifiers of the sagas per association value, and the saga instances, in front of a
+ * delegate saga store. Unlike Axon's {@link org.axonframework.modelling.saga.repository.CachingSagaStore}, changes are
+ * written to the delegate immediately, but only applied to the caches once the unit of work commits. When the unit of
+ * work rolls back, the instances of the sagas it loaded are evicted, as their handlers may have changed them.
+ * <p/>
+ * The association values of a saga type may be handled by several threads at once, such as the threads processing
+ * different segments. Saga identifiers found in the delegate are only cached when no associations were changed while
+ * they were looked up, so the cache doesn't miss sagas that were associated concurrently. The instance of a saga is
+ * only loaded and changed by the thread processing the segment the saga belongs to, so the cached sagas and
+ * associations are only valid while the segments of the saga's processor are owned by this instance. When another
+ * instance takes over a segment, it changes the sagas of that segment without this store knowing, so the caches must
+ * be {@link #invalidate(String, Segment) invalidated} whenever a segment is claimed or released, as the
+ * {@link SagaStoreCachingPostProcessor} does.
+ * <p/>
+ * Each cached entry remembers the processor that cached it, as found in the resources the event processors add to
+ * their unit of work. Invalidating a segment of a processor evicts the association values that processor cached, as
+ * they may miss sagas of that segment, and the instances of the sagas of that segment. Entries cached outside an event
+ * processor are invalidated along with the segments of any processor.
+ *
+ * @param <T> the type of saga stored
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class WriteThroughCachingSagaStore<T> implements SagaStore<T> {
+
+    private static final String PROCESSOR_RESOURCE_PREFIX = "Processor[";
+    private static final String SEGMENT_RESOURCE_SUFFIX = "]/SegmentId";
+    private static final Owner UNKNOWN_OWNER = new Owner(null);
+
+    private final SagaStore<T> delegate;
+    private final Cache associationsCache;
+    private final Cache sagaCache;
+    private final Map<Object, Owner> associationOwners = new ConcurrentHashMap<>();
+    private final Map<Object, Owner> sagaOwners = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private long associationsVersion;
+    private long invalidations;
+
+    /**
+     * Creates a store caching the association values and saga instances of the given {@code delegate} in the given
+     * caches.
+     *
+     * @param delegate          the saga store to read sagas from and write them to
+     * @param associationsCache the cache holding the identifiers of the sagas per association value
+     * @param sagaCache         the cache holding the saga instances per saga identifier
+     */
+    public WriteThroughCachingSagaStore(SagaStore<T> delegate, Cache associationsCache, Cache sagaCache) {
+        this.delegate = delegate;
+        this.associationsCache = associationsCache;
+        this.sagaCache = sagaCache;
+        associationsCache.registerCacheEntryListener(new OwnerRemovingListener(associationsCache, associationOwners));
+        sagaCache.registerCacheEntryListener(new OwnerRemovingListener(sagaCache, sagaOwners));
+    }
+
+    @Override
+    public Set<String> findSagas(Class<? extends T> sagaType, AssociationValue associationValue) {
+        String key = cacheKey(sagaType, associationValue);
+        Set<String> cached = associationsCache.get(key);
+        if (cached != null) {
+            return new HashSet<>(cached);
+        }
+        long version;
+        synchronized (lock) {
+            version = associationsVersion;
+        }
+        Set<String> found = delegate.findSagas(sagaType, associationValue);
+        synchronized (lock) {
+            if (version == associationsVersion
+                    && associationsCache.putIfAbsent(key, new ConcurrentSkipListSet<>(found))) {
+                associationOwners.put(key, currentOwner());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public <S extends T> Entry<S> loadSaga(Class<S> sagaType, String sagaIdentifier) {
+        Entry<S> saga = sagaCache.get(sagaIdentifier);
+        if (saga == null) {
+            long version;
+            synchronized (lock) {
+                version = invalidations;
+            }
+            saga = delegate.loadSaga(sagaType, sagaIdentifier);
+            if (saga == null) {
+                return null;
+            }
+            saga = new CachedSaga<>(saga.saga(), Set.copyOf(saga.associationValues()));
+            synchronized (lock) {
+                if (version == invalidations && sagaCache.putIfAbsent(sagaIdentifier, saga)) {
+                    sagaOwners.put(sagaIdentifier, currentOwner());
+                }
+            }
+        }
+        if (CurrentUnitOfWork.isStarted()) {
+            CurrentUnitOfWork.get().root().onRollback(u -> sagaCache.remove(sagaIdentifier));
+        }
+        return saga;
+    }
+
+    @Override
+    public void insertSaga(Class<? extends T> sagaType,
+                           String sagaIdentifier,
+                           T saga,
+                           Set<AssociationValue> associationValues) {
+        delegate.insertSaga(sagaType, sagaIdentifier, saga, associationValues);
+        Set<AssociationValue> added = Set.copyOf(associationValues);
+        Owner owner = currentOwner();
+        afterCommit(() -> {
+            cacheSaga(sagaIdentifier, new CachedSaga<>(saga, added), owner);
+            updateAssociations(sagaType, sagaIdentifier, added, Set.of());
+        });
+    }
+
+    @Override
+    public void updateSaga(Class<? extends T> sagaType,
+                           String sagaIdentifier,
+                           T saga,
+                           AssociationValues associationValues) {
+        delegate.updateSaga(sagaType, sagaIdentifier, saga, associationValues);
+        Set<AssociationValue> current = Set.copyOf(associationValues.asSet());
+        Set<AssociationValue> added = Set.copyOf(associationValues.addedAssociations());
+        Set<AssociationValue> removed = Set.copyOf(associationValues.removedAssociations());
+        Owner owner = currentOwner();
+        afterCommit(() -> {
+            cacheSaga(sagaIdentifier, new CachedSaga<>(saga, current), owner);
+            updateAssociations(sagaType, sagaIdentifier, added, removed);
+        });
+    }
+
+    @Override
+    public void deleteSaga(Class<? extends T> sagaType,
+                           String sagaIdentifier,
+                           Set<AssociationValue> associationValues) {
+        delegate.deleteSaga(sagaType, sagaIdentifier, associationValues);
+        Set<AssociationValue> removed = Set.copyOf(associationValues);
+        afterCommit(() -> {
+            sagaCache.remove(sagaIdentifier);
+            updateAssociations(sagaType, sagaIdentifier, Set.of(), removed);
+        });
+    }
+
+    /**
+     * Evicts the entries that may have become invalid now that the given {@code segment} of the processor with the
+     * given {@code processorName} is claimed or released. These are the association values cached by that processor,
+     * and the instances of the sagas that belong to the segment. Lookups that are in progress while the entries are
+     * evicted don't cache their results.
+     *
+     * @param processorName the name of the processor claiming or releasing the segment
+     * @param segment       the segment that is claimed or released
+     */
+    public void invalidate(String processorName, Segment segment) {
+        synchronized (lock) {
+            associationsVersion++;
+            invalidations++;
+            evict(associationsCache, associationOwners, owner -> owner.includes(processorName), key -> true);
+            evict(sagaCache, sagaOwners, owner -> owner.includes(processorName), segment::matches);
+        }
+    }
+
+    /**
+     * Evicts all association values and saga instances from the caches. Lookups that are in progress while the caches
+     * are cleared don't cache their results.
+     */
+    public void clear() {
+        synchronized (lock) {
+            associationsVersion++;
+            invalidations++;
+            associationsCache.removeAll();
+            sagaCache.removeAll();
+            associationOwners.clear();
+            sagaOwners.clear();
+        }
+    }
+
+    private void cacheSaga(String sagaIdentifier, Entry<?> saga, Owner owner) {
+        synchronized (lock) {
+            sagaCache.put(sagaIdentifier, saga);
+            sagaOwners.put(sagaIdentifier, owner);
+        }
+    }
+
+    private void updateAssociations(Class<?> sagaType,
+                                    String sagaIdentifier,
+                                    Set<AssociationValue> added,
+                                    Set<AssociationValue> removed) {
+        if (added.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        synchronized (lock) {
+            associationsVersion++;
+            for (AssociationValue associationValue : added) {
+                associationsCache.<Set<String>>computeIfPresent(cacheKey(sagaType, associationValue), identifiers -> {
+                    identifiers.add(sagaIdentifier);
+                    return identifiers;
+                });
+            }
+            for (AssociationValue associationValue : removed) {
+                associationsCache.<Set<String>>computeIfPresent(cacheKey(sagaType, associationValue), identifiers -> {
+                    identifiers.remove(sagaIdentifier);
+                    return identifiers.isEmpty() ? null : identifiers;
+                });
+            }
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (CurrentUnitOfWork.isStarted()) {
+            UnitOfWork<?> root = CurrentUnitOfWork.get().root();
+            root.afterCommit(u -> task.run());
+        } else {
+            task.run();
+        }
+    }
+
+    private static void evict(Cache cache,
+                              Map<Object, Owner> owners,
+                              Predicate<Owner> ownerCondition,
+                              Predicate<Object> keyCondition) {
+        owners.entrySet().removeIf(entry -> {
+            if (ownerCondition.test(entry.getValue()) && keyCondition.test(entry.getKey())) {
+                cache.remove(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static Owner currentOwner() {
+        if (CurrentUnitOfWork.isStarted()) {
+            for (String resource : CurrentUnitOfWork.get().root().resources().keySet()) {
+                if (resource.startsWith(PROCESSOR_RESOURCE_PREFIX) && resource.endsWith(SEGMENT_RESOURCE_SUFFIX)) {
+                    return new Owner(resource.substring(PROCESSOR_RESOURCE_PREFIX.length(),
+                                                        resource.length() - SEGMENT_RESOURCE_SUFFIX.length()));
+                }
+            }
+        }
+        return UNKNOWN_OWNER;
+    }
+
+    private static String cacheKey(Class<?> sagaType, AssociationValue associationValue) {
+        return sagaType.getName() + "/" + associationValue.getKey() + "=" + associationValue.getValue();
+    }
+
+    private record CachedSaga<S>(S saga, Set<AssociationValue> associationValues) implements Entry<S> {
+
+    }
+
+    private record Owner(@Nullable String processorName) {
+
+        private boolean includes(String processor) {
+            return processorName == null || processorName.equals(processor);
+        }
+    }
+
+    private static class OwnerRemovingListener extends Cache.EntryListenerAdapter {
+
+        private final Cache cache;
+        private final Map<Object, Owner> owners;
+
+        private OwnerRemovingListener(Cache cache, Map<Object, Owner> owners) {
+            this.cache = cache;
+            this.owners = owners;
+        }
+
+        @Override
+        public void onEntryExpired(Object key) {
+            forget(key);
+        }
+
+        @Override
+        public void onEntryRemoved(Object key) {
+            forget(key);
+        }
+
+        private void forget(Object key) {
+            owners.computeIfPresent(key, (k, owner) -> cache.containsKey(k) ? owner : null);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.serialization;
+
+import org.axonframework.serialization.ChainedConverter;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.ContentTypeConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The routes through the {@link ContentTypeConverter ContentTypeConverters} available to serializers, calculated ahead
+ * of time. Each route is a sequence of converter types, converting between two content types for which no single
+ * converter is available. An instance of this class is registered in the application context under the
+ * {@link #BEAN_NAME} name by the generated code.
+ * <p/>
+ * A {@link ChainingConverter} calculates these routes the first time it converts between such content types.
+ * {@link #registerWith(ChainingConverter) Registering} the routes with a converter up front avoids these calculations.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class ContentTypeConverterRoutes {
+
+    /**
+     * The name under which the routes are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonContentTypeConverterRoutes";
+
+    private final List<List<Class<?>>> routes;
+
+    /**
+     * Creates an instance with the given {@code routes}. Each route lists the types of the converters to apply, in
+     * order.
+     *
+     * @param routes the routes through the content type converters
+     */
+    public ContentTypeConverterRoutes(List<List<Class<?>>> routes) {
+        this.routes = routes.stream().map(List::copyOf).toList();
+    }
+
+    /**
+     * Returns the routes through the content type converters, each listing the types of the converters to apply.
+     *
+     * @return the routes through the content type converters
+     */
+    public List<List<Class<?>>> routes() {
+        return routes;
+    }
+
+    /**
+     * Registers a {@link ChainedConverter} for each route of which the given {@code converter} has all converters.
+     * The converters of a route are matched by their exact type. Routes of which a converter is missing are skipped,
+     * leaving it to the given {@code converter} to calculate a route when needed.
+     *
+     * @param converter the converter to register the routes with
+     * @return the number of registered routes
+     */
+    public int registerWith(ChainingConverter converter) {
+        List<ContentTypeConverter<?, ?>> available = converter.getContentTypeConverters()
+                                                              .stream()
+                                                              .<ContentTypeConverter<?, ?>>map(c -> c)
+                                                              .toList();
+        List<ChainedConverter<?, ?>> chains = new ArrayList<>();
+        for (List<Class<?>> route : routes) {
+            chainOf(route, available).ifPresent(chains::add);
+        }
+        chains.forEach(converter::registerConverter);
+        return chains.size();
+    }
+
+    private static Optional<ChainedConverter<?, ?>> chainOf(List<Class<?>> route,
+                                                            List<ContentTypeConverter<?, ?>> available) {
+        List<ContentTypeConverter<?, ?>> steps = new ArrayList<>(route.size());
+        for (Class<?> converterType : route) {
+            Optional<ContentTypeConverter<?, ?>> step = available.stream()
+                                                                 .filter(c -> c.getClass() == converterType)
+                                                                 .findFirst();
+            if (step.isEmpty()) {
+                return Optional.empty();
+            }
+            steps.add(step.get());
+        }
+        return Optional.of(new ChainedConverter<>(steps));
+    }
+}
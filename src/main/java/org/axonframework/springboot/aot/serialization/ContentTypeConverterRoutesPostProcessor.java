@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.serialization;
+
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@link BeanPostProcessor} registering the {@link ContentTypeConverterRoutes} calculated ahead of time with the
+ * {@link ChainingConverter} of each {@link Serializer} bean. Routes are registered once per converter, also when it's
+ * shared by several serializers.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class ContentTypeConverterRoutesPostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentTypeConverterRoutesPostProcessor.class);
+
+    private final Supplier<ContentTypeConverterRoutes> routes;
+    private final Set<ChainingConverter> processedConverters =
+            Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * Creates a post processor registering the routes provided by the given {@code routes} supplier. The supplier is
+     * invoked when the first serializer is processed.
+     *
+     * @param routes the supplier of the routes calculated ahead of time
+     */
+    public ContentTypeConverterRoutesPostProcessor(Supplier<ContentTypeConverterRoutes> routes) {
+        this.routes = routes;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof Serializer serializer
+                && serializer.getConverter() instanceof ChainingConverter converter
+                && processedConverters.add(converter)) {
+            int registered = routes.get().registerWith(converter);
+            logger.debug("Registered {} converter routes with the converter of serializer [{}]",
+                         registered, beanName);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+/**
+ * Codec of the state of an aggregate type, generated ahead of time. The codec reads and writes the fields of the
+ * aggregate and the entities it contains directly, instead of binding them reflectively. Codecs are generated in the
+ * same way for the payload types of deadlines, which are then treated as an aggregate without entities.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public interface GeneratedSnapshotCodec {
+
+    /**
+     * Returns the aggregate type this codec reads and writes. Only instances of exactly this type are written by it.
+     *
+     * @return the aggregate type this codec reads and writes
+     */
+    Class<?> aggregateType();
+
+    /**
+     * Writes the state of the given {@code aggregate} to the given {@code output}.
+     *
+     * @param aggregate the aggregate to write, an instance of the {@link #aggregateType() aggregate type}
+     * @param output    the output to write the state to
+     * @throws org.axonframework.serialization.SerializationException when the aggregate contains entities of a type the
+     *                                                               codec wasn't generated for
+     */
+    void write(Object aggregate, SnapshotOutput output);
+
+    /**
+     * Reads an aggregate from the given {@code input}, as written by {@link #write(Object, SnapshotOutput)}.
+     *
+     * @param input the input to read the state from
+     * @return the aggregate read from the input
+     * @throws org.axonframework.serialization.SerializationException when the input doesn't hold a valid snapshot
+     */
+    Object read(SnapshotInput input);
+}
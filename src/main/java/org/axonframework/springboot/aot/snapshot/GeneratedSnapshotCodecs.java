@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Registry of the {@link GeneratedSnapshotCodec GeneratedSnapshotCodecs} generated ahead of time. An instance of this
+ * class is registered in the application context under the {@link #BEAN_NAME} name by the generated code.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class GeneratedSnapshotCodecs {
+
+    /**
+     * The name under which the generated codecs are registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonGeneratedSnapshotCodecs";
+
+    private final Map<Class<?>, GeneratedSnapshotCodec> codecs;
+    private final Map<String, GeneratedSnapshotCodec> codecsByName;
+
+    /**
+     * Creates a registry of the given {@code codecs}. When several codecs handle the same aggregate type, the first
+     * one is used.
+     *
+     * @param codecs the generated codecs
+     */
+    public GeneratedSnapshotCodecs(List<GeneratedSnapshotCodec> codecs) {
+        Map<Class<?>, GeneratedSnapshotCodec> codecsByType = new HashMap<>();
+        codecs.forEach(c -> codecsByType.putIfAbsent(c.aggregateType(), c));
+        Map<String, GeneratedSnapshotCodec> byName = new HashMap<>();
+        codecsByType.forEach((type, codec) -> byName.put(type.getName(), codec));
+        this.codecs = Map.copyOf(codecsByType);
+        this.codecsByName = Map.copyOf(byName);
+    }
+
+    /**
+     * Returns the generated codec of the given {@code aggregateType}, if one was generated.
+     *
+     * @param aggregateType the exact type of the aggregate to write
+     * @return the generated codec, or an empty optional if the aggregate must be serialized otherwise
+     */
+    public Optional<GeneratedSnapshotCodec> codecOf(Class<?> aggregateType) {
+        return Optional.ofNullable(codecs.get(aggregateType));
+    }
+
+    /**
+     * Returns the generated codec of the aggregate type with the given {@code typeName}, if one was generated.
+     *
+     * @param typeName the fully qualified class name of the aggregate type to read
+     * @return the generated codec, or an empty optional if the aggregate must be deserialized otherwise
+     */
+    public Optional<GeneratedSnapshotCodec> codecOf(String typeName) {
+        return Optional.ofNullable(codecsByName.get(typeName));
+    }
+
+    /**
+     * Returns a registry of the codecs in this registry of which the aggregate type matches the given
+     * {@code typeFilter}.
+     *
+     * @param typeFilter the predicate the aggregate type of a codec must match to be included
+     * @return a registry of the codecs of the matching aggregate types
+     */
+    public GeneratedSnapshotCodecs filter(Predicate<Class<?>> typeFilter) {
+        return new GeneratedSnapshotCodecs(codecs.entrySet()
+                                                 .stream()
+                                                 .filter(entry -> typeFilter.test(entry.getKey()))
+                                                 .map(Map.Entry::getValue)
+                                                 .toList());
+    }
+
+    /**
+     * Returns the number of aggregate types that have a generated codec.
+     *
+     * @return the number of aggregate types with a generated codec
+     */
+    public int size() {
+        return codecs.size();
+    }
+}
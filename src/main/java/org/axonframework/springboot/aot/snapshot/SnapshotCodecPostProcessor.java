@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.common.annotation.AnnotationUtils;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.serialization.Serializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * {@link BeanPostProcessor} wrapping the general {@link Serializer} bean, which the event storage engines Axon
+ * configures use to serialize snapshots, in a {@link SnapshotCodecSerializer}. The serializer is left as is when no
+ * codecs were generated ahead of time.
+ * <p/>
+ * By default, Axon also uses the general serializer to serialize events and other messages. The event and message
+ * serializer beans are therefore unwrapped when they are the wrapped general serializer, so that messages are never
+ * written in the format of the codecs.
+ * <p/>
+ * The codecs generated for deadline payloads only write these payloads when enabled explicitly, as deadline managers
+ * that persist their deadlines store them in the format of the codecs, which is only readable while the codecs are.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class SnapshotCodecPostProcessor implements BeanPostProcessor {
+
+    /**
+     * The name of the general serializer bean, which serializes snapshots.
+     */
+    public static final String SERIALIZER_BEAN_NAME = "serializer";
+
+    private static final Set<String> MESSAGE_SERIALIZER_BEAN_NAMES = Set.of("eventSerializer", "messageSerializer");
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCodecPostProcessor.class);
+
+    private final Supplier<Optional<GeneratedSnapshotCodecs>> codecs;
+    private final boolean writeSnapshots;
+    private final boolean writeDeadlinePayloads;
+
+    /**
+     * Creates a post processor wrapping the general serializer with the codecs provided by the given {@code codecs}
+     * supplier. The supplier is invoked when the serializer is processed.
+     *
+     * @param codecs the supplier of the codecs generated ahead of time, if any
+     */
+    public SnapshotCodecPostProcessor(Supplier<Optional<GeneratedSnapshotCodecs>> codecs) {
+        this(codecs, true, false);
+    }
+
+    /**
+     * Creates a post processor wrapping the general serializer with the codecs provided by the given {@code codecs}
+     * supplier. The supplier is invoked when the serializer is processed. The wrapped serializer writes snapshots and
+     * deadline payloads with the codecs as specified, and always reads the objects that were written by the codecs
+     * before.
+     *
+     * @param codecs                the supplier of the codecs generated ahead of time, if any
+     * @param writeSnapshots        whether to write snapshots with the codecs
+     * @param writeDeadlinePayloads whether to write deadline payloads with the codecs
+     */
+    public SnapshotCodecPostProcessor(Supplier<Optional<GeneratedSnapshotCodecs>> codecs,
+                                      boolean writeSnapshots,
+                                      boolean writeDeadlinePayloads) {
+        this.codecs = codecs;
+        this.writeSnapshots = writeSnapshots;
+        this.writeDeadlinePayloads = writeDeadlinePayloads;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (MESSAGE_SERIALIZER_BEAN_NAMES.contains(beanName) && bean instanceof SnapshotCodecSerializer serializer) {
+            return serializer.getDelegate();
+        }
+        if (!SERIALIZER_BEAN_NAME.equals(beanName)
+                || !(bean instanceof Serializer serializer)
+                || bean instanceof SnapshotCodecSerializer) {
+            return bean;
+        }
+        return codecs.get()
+                     .filter(c -> c.size() > 0)
+                     .<Object>map(c -> {
+                         GeneratedSnapshotCodecs writingCodecs = c.filter(this::writes);
+                         logger.debug("Reading {} types with generated codecs, of which {} are written by them",
+                                      c.size(), writingCodecs.size());
+                         return new SnapshotCodecSerializer(serializer, c, writingCodecs);
+                     })
+                     .orElse(bean);
+    }
+
+    private boolean writes(Class<?> type) {
+        return AnnotationUtils.isAnnotationPresent(type, AggregateRoot.class) ? writeSnapshots : writeDeadlinePayloads;
+    }
+}
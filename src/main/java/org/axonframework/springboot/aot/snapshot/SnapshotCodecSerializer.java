@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.Optional;
+
+/**
+ * {@link Serializer} writing aggregates with their {@link GeneratedSnapshotCodec}, and serializing all other objects
+ * with a delegate serializer. Aggregates are only written by their codec when they're serialized to a byte array, which
+ * is the representation the event storage engines store snapshots in. The serialized type of such a snapshot is the
+ * name of the aggregate class, with the revision the delegate serializer assigns to it. Deadline payloads with a codec
+ * are written the same way, when a deadline manager serializes them into its job data, but only when their codecs are
+ * among the codecs to write with.
+ * <p/>
+ * Snapshots of aggregates with a codec are only read by that codec when they start with the header of the snapshot
+ * format. Snapshots written by the delegate serializer, for example before the codec existed, are read by the delegate.
+ * When an aggregate contains an entity of a type the codec wasn't generated for, the aggregate is serialized by the
+ * delegate as well. Objects are read by their codec even when the codec isn't among the codecs to write with, so that
+ * writing with a codec can be turned off without losing the objects written by it before.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class SnapshotCodecSerializer implements Serializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotCodecSerializer.class);
+
+    private final Serializer delegate;
+    private final GeneratedSnapshotCodecs codecs;
+    private final GeneratedSnapshotCodecs writingCodecs;
+
+    /**
+     * Creates a serializer writing aggregates with the given {@code codecs}, and all other objects with the given
+     * {@code delegate}.
+     *
+     * @param delegate the serializer for all objects that aren't written by a codec
+     * @param codecs   the codecs of the aggregate types
+     */
+    public SnapshotCodecSerializer(Serializer delegate, GeneratedSnapshotCodecs codecs) {
+        this(delegate, codecs, codecs);
+    }
+
+    /**
+     * Creates a serializer reading the objects written by the given {@code codecs}, writing the types of the given
+     * {@code writingCodecs} with these codecs, and serializing all other objects with the given {@code delegate}.
+     *
+     * @param delegate      the serializer for all objects that aren't written by a codec
+     * @param codecs        the codecs of the aggregate types, to read the objects written by them
+     * @param writingCodecs the codecs to write the objects of their aggregate type with
+     */
+    public SnapshotCodecSerializer(Serializer delegate,
+                                   GeneratedSnapshotCodecs codecs,
+                                   GeneratedSnapshotCodecs writingCodecs) {
+        this.delegate = delegate;
+        this.codecs = codecs;
+        this.writingCodecs = writingCodecs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> SerializedObject<T> serialize(@Nullable Object object, Class<T> expectedRepresentation) {
+        if (object != null && expectedRepresentation == byte[].class) {
+            Optional<GeneratedSnapshotCodec> codec = writingCodecs.codecOf(object.getClass());
+            if (codec.isPresent()) {
+                try {
+                    SnapshotOutput output = new SnapshotOutput(delegate);
+                    codec.get().write(object, output);
+                    SerializedType type = new SimpleSerializedType(
+                            object.getClass().getName(), delegate.typeForClass(object.getClass()).getRevision()
+                    );
+                    return new SimpleSerializedObject<>((T) output.toByteArray(), expectedRepresentation, type);
+                } catch (SerializationException e) {
+                    logger.debug("Serializing aggregate [{}] with the delegate serializer, as its snapshot codec "
+                                         + "can't write it: {}", object.getClass().getName(), e.getMessage());
+                }
+            }
+        }
+        return delegate.serialize(object, expectedRepresentation);
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return delegate.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (serializedObject.getContentType() == byte[].class
+                && serializedObject.getData() instanceof byte[] data
+                && SnapshotFormat.isSnapshot(data)) {
+            Optional<GeneratedSnapshotCodec> codec = codecs.codecOf(serializedObject.getType().getName());
+            if (codec.isPresent()) {
+                return (T) codec.get().read(new SnapshotInput(delegate, data));
+            }
+        }
+        return delegate.deserialize(serializedObject);
+    }
+
+    @Override
+    public Class<?> classForType(SerializedType type) {
+        return delegate.classForType(type);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public SerializedType typeForClass(@Nullable Class type) {
+        return delegate.typeForClass(type);
+    }
+
+    @Override
+    public Converter getConverter() {
+        return delegate.getConverter();
+    }
+
+    /**
+     * Returns the serializer serializing all objects that aren't written by a codec.
+     *
+     * @return the delegate serializer
+     */
+    public Serializer getDelegate() {
+        return delegate;
+    }
+}
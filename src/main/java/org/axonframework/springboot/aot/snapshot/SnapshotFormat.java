@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+/**
+ * Constants of the binary format written by the {@link GeneratedSnapshotCodec GeneratedSnapshotCodecs}. A snapshot
+ * starts with the {@link #MAGIC} bytes and the {@link #VERSION} of the format, followed by the aggregate as a tagged
+ * value. Every value starts with a tag identifying its type, so that values of fields that no longer exist can be
+ * skipped. Objects are written as their number of fields, followed by the key and value of each field, where the key
+ * is the hash code of the name of the field.
+ * <p/>
+ * Integers, and the lengths of strings, collections and maps are written as variable length numbers, where integers
+ * are zigzag encoded first to keep small negative numbers small as well.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+final class SnapshotFormat {
+
+    static final byte[] MAGIC = {0, 'A', 'X', 'S'};
+    static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte CHAR = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    static final byte STRING = 10;
+    static final byte ENUM = 11;
+    static final byte IDENTIFIER = 12;
+    static final byte INSTANT = 13;
+    static final byte BIG_INTEGER = 14;
+    static final byte BIG_DECIMAL = 15;
+    static final byte OBJECT = 16;
+    static final byte COLLECTION = 17;
+    static final byte MAP = 18;
+    static final byte SERIALIZED = 19;
+
+    private SnapshotFormat() {
+        // utility class
+    }
+
+    /**
+     * Indicates whether the given {@code data} starts with the header of this format.
+     *
+     * @param data the data to check
+     * @return {@code true} if the data was written in this format, otherwise {@code false}
+     */
+    static boolean isSnapshot(byte[] data) {
+        if (data.length <= MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
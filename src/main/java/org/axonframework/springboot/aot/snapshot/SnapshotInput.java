@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.SimpleSerializedObject;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.axonframework.springboot.aot.snapshot.SnapshotFormat.*;
+
+/**
+ * Input the {@link GeneratedSnapshotCodec GeneratedSnapshotCodecs} read the state of aggregates from, in the format
+ * described by {@link SnapshotFormat}. Values that were serialized to bytes are deserialized with the
+ * {@link Serializer} given to this input.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class SnapshotInput {
+
+    private final Serializer serializer;
+    private final byte[] data;
+    private int position;
+
+    /**
+     * Creates an input reading the given {@code data}, which deserializes values with the given {@code serializer}.
+     *
+     * @param serializer the serializer for values without a representation in the snapshot format
+     * @param data       the snapshot to read, starting with the snapshot header
+     * @throws SerializationException when the data was written in an unsupported version of the snapshot format
+     */
+    SnapshotInput(Serializer serializer, byte[] data) {
+        this.serializer = serializer;
+        this.data = data;
+        this.position = MAGIC.length;
+        byte version = readRaw();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported snapshot format version [" + version + "]");
+        }
+    }
+
+    /**
+     * Starts reading an object, returning the number of fields to read. For each field, its {@link #readKey() key}
+     * and its value must be read, or skipped.
+     *
+     * @return the number of fields of the object, or {@code -1} if the object is {@code null}
+     */
+    public int beginObject() {
+        byte tag = readRaw();
+        if (tag == NULL) {
+            return -1;
+        }
+        expect(OBJECT, tag);
+        return readVarInt();
+    }
+
+    /**
+     * Reads the key of the field of which the value is read next.
+     *
+     * @return the hash code of the name of the field
+     */
+    public int readKey() {
+        return readFixedInt();
+    }
+
+    /**
+     * Reads a boolean value.
+     *
+     * @return the value read
+     */
+    public boolean readBoolean() {
+        byte tag = readRaw();
+        if (tag != TRUE) {
+            expect(FALSE, tag);
+        }
+        return tag == TRUE;
+    }
+
+    /**
+     * Reads a byte value.
+     *
+     * @return the value read
+     */
+    public byte readByte() {
+        expect(BYTE, readRaw());
+        return readRaw();
+    }
+
+    /**
+     * Reads a short value.
+     *
+     * @return the value read
+     */
+    public short readShort() {
+        expect(SHORT, readRaw());
+        return (short) readZigZagInt();
+    }
+
+    /**
+     * Reads a char value.
+     *
+     * @return the value read
+     */
+    public char readChar() {
+        expect(CHAR, readRaw());
+        return (char) readVarInt();
+    }
+
+    /**
+     * Reads an int value.
+     *
+     * @return the value read
+     */
+    public int readInt() {
+        expect(INT, readRaw());
+        return readZigZagInt();
+    }
+
+    /**
+     * Reads a long value.
+     *
+     * @return the value read
+     */
+    public long readLong() {
+        expect(LONG, readRaw());
+        return readZigZagLong();
+    }
+
+    /**
+     * Reads a float value.
+     *
+     * @return the value read
+     */
+    public float readFloat() {
+        expect(FLOAT, readRaw());
+        return Float.intBitsToFloat(readFixedInt());
+    }
+
+    /**
+     * Reads a double value.
+     *
+     * @return the value read
+     */
+    public double readDouble() {
+        expect(DOUBLE, readRaw());
+        return Double.longBitsToDouble(readFixedLong());
+    }
+
+    /**
+     * Reads a constant of the given {@code enumType}, which was written by its name.
+     *
+     * @param enumType the type of the enum to read
+     * @param <E>      the type of the enum to read
+     * @return the constant read, or {@code null} if no constant was written
+     * @throws SerializationException when the enum type no longer declares the constant that was written
+     */
+    @Nullable
+    public <E extends Enum<E>> E readEnum(Class<E> enumType) {
+        byte tag = readRaw();
+        if (tag == NULL) {
+            return null;
+        }
+        expect(ENUM, tag);
+        String name = readString();
+        try {
+            return Enum.valueOf(enumType, name);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Enum [" + enumType.getName() + "] has no constant [" + name + "]", e);
+        }
+    }
+
+    /**
+     * Starts reading a collection, returning the number of elements to read.
+     *
+     * @return the number of elements of the collection, or {@code -1} if the collection is {@code null}
+     */
+    public int beginCollection() {
+        byte tag = readRaw();
+        if (tag == NULL) {
+            return -1;
+        }
+        expect(COLLECTION, tag);
+        return readVarInt();
+    }
+
+    /**
+     * Starts reading a map, returning the number of entries to read. For each entry, its key and its value must be
+     * read.
+     *
+     * @return the number of entries of the map, or {@code -1} if the map is {@code null}
+     */
+    public int beginMap() {
+        byte tag = readRaw();
+        if (tag == NULL) {
+            return -1;
+        }
+        expect(MAP, tag);
+        return readVarInt();
+    }
+
+    /**
+     * Clears the given {@code collection}, held by a final field, to read the elements of that field into.
+     *
+     * @param collection the collection held by the field
+     * @param size       the number of elements to read, as returned by {@link #beginCollection()}
+     * @param <E>        the type of the elements of the collection
+     * @return the given collection, cleared
+     * @throws SerializationException when either the collection held by the field or the collection to read is
+     *                                {@code null}
+     */
+    public <E> Collection<E> reuse(@Nullable Collection<E> collection, int size) {
+        if (collection == null || size < 0) {
+            throw new SerializationException("Cannot read a null collection into a final field");
+        }
+        collection.clear();
+        return collection;
+    }
+
+    /**
+     * Clears the given {@code map}, held by a final field, to read the entries of that field into.
+     *
+     * @param map  the map held by the field
+     * @param size the number of entries to read, as returned by {@link #beginMap()}
+     * @param <K>  the type of the keys of the map
+     * @param <V>  the type of the values of the map
+     * @return the given map, cleared
+     * @throws SerializationException when either the map held by the field or the map to read is {@code null}
+     */
+    public <K, V> Map<K, V> reuse(@Nullable Map<K, V> map, int size) {
+        if (map == null || size < 0) {
+            throw new SerializationException("Cannot read a null map into a final field");
+        }
+        map.clear();
+        return map;
+    }
+
+    /**
+     * Reads a value written by {@link SnapshotOutput#writeValue(Object)}.
+     *
+     * @return the value read
+     */
+    @Nullable
+    public Object readValue() {
+        byte tag = readRaw();
+        return switch (tag) {
+            case NULL -> null;
+            case TRUE -> Boolean.TRUE;
+            case FALSE -> Boolean.FALSE;
+            case BYTE -> readRaw();
+            case SHORT -> (short) readZigZagInt();
+            case CHAR -> (char) readVarInt();
+            case INT -> readZigZagInt();
+            case LONG -> readZigZagLong();
+            case FLOAT -> Float.intBitsToFloat(readFixedInt());
+            case DOUBLE -> Double.longBitsToDouble(readFixedLong());
+            case STRING -> readString();
+            case IDENTIFIER -> new UUID(readFixedLong(), readFixedLong());
+            case INSTANT -> Instant.ofEpochSecond(readZigZagLong(), readVarInt());
+            case BIG_INTEGER -> new BigInteger(readByteArray());
+            case BIG_DECIMAL -> {
+                int scale = readZigZagInt();
+                yield new BigDecimal(new BigInteger(readByteArray()), scale);
+            }
+            case SERIALIZED -> {
+                String type = readString();
+                String revision = readNullableString();
+                yield serializer.deserialize(new SimpleSerializedObject<>(readByteArray(), byte[].class,
+                                                                          type, revision));
+            }
+            default -> throw new SerializationException("Expected a value, but found tag [" + tag + "]");
+        };
+    }
+
+    /**
+     * Skips the next value, which belongs to a field the codec doesn't know about.
+     */
+    public void skipValue() {
+        byte tag = readRaw();
+        switch (tag) {
+            case NULL, TRUE, FALSE -> {
+            }
+            case BYTE -> skip(1);
+            case SHORT, CHAR, INT -> readVarInt();
+            case LONG -> readVarLong();
+            case FLOAT -> skip(4);
+            case DOUBLE -> skip(8);
+            case IDENTIFIER -> skip(16);
+            case INSTANT -> {
+                readVarLong();
+                readVarInt();
+            }
+            case STRING, ENUM, BIG_INTEGER -> skip(readVarInt());
+            case BIG_DECIMAL -> {
+                readVarInt();
+                skip(readVarInt());
+            }
+            case OBJECT -> {
+                int fields = readVarInt();
+                for (int i = 0; i < fields; i++) {
+                    skip(4);
+                    skipValue();
+                }
+            }
+            case COLLECTION -> {
+                int size = readVarInt();
+                for (int i = 0; i < size; i++) {
+                    skipValue();
+                }
+            }
+            case MAP -> {
+                int size = readVarInt();
+                for (int i = 0; i < size * 2; i++) {
+                    skipValue();
+                }
+            }
+            case SERIALIZED -> {
+                skip(readVarInt());
+                skip(Math.max(0, readVarInt() - 1));
+                skip(readVarInt());
+            }
+            default -> throw new SerializationException("Unknown tag [" + tag + "] in snapshot");
+        }
+    }
+
+    private void skip(int length) {
+        position += checkAvailable(length);
+    }
+
+    private void expect(byte expected, byte tag) {
+        if (tag != expected) {
+            throw new SerializationException("Expected tag [" + expected + "] in snapshot, but found [" + tag + "]");
+        }
+    }
+
+    private String readString() {
+        return new String(readByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Nullable
+    private String readNullableString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        String value = new String(data, position, checkAvailable(length - 1), StandardCharsets.UTF_8);
+        position += length - 1;
+        return value;
+    }
+
+    private byte[] readByteArray() {
+        int length = checkAvailable(readVarInt());
+        byte[] bytes = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    private int readFixedInt() {
+        checkAvailable(4);
+        return ((data[position++] & 0xFF) << 24)
+                | ((data[position++] & 0xFF) << 16)
+                | ((data[position++] & 0xFF) << 8)
+                | (data[position++] & 0xFF);
+    }
+
+    private long readFixedLong() {
+        return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+    }
+
+    private int readZigZagInt() {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = readRaw();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed number in snapshot");
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = readRaw();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed number in snapshot");
+    }
+
+    private byte readRaw() {
+        checkAvailable(1);
+        return data[position++];
+    }
+
+    private int checkAvailable(int length) {
+        if (length < 0 || position + length > data.length) {
+            throw new SerializationException("Unexpected end of snapshot");
+        }
+        return length;
+    }
+}
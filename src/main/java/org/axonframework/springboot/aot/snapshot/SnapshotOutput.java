@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.axonframework.springboot.aot.snapshot.SnapshotFormat.*;
+
+/**
+ * Output the {@link GeneratedSnapshotCodec GeneratedSnapshotCodecs} write the state of aggregates to, in the format
+ * described by {@link SnapshotFormat}. Values of types without a representation of their own in the format are
+ * serialized with the {@link Serializer} given to this output.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class SnapshotOutput {
+
+    private final Serializer serializer;
+    private byte[] buffer = new byte[256];
+    private int position;
+
+    /**
+     * Creates an output writing the snapshot header, which serializes values of other types with the given
+     * {@code serializer}.
+     *
+     * @param serializer the serializer for values without a representation in the snapshot format
+     */
+    SnapshotOutput(Serializer serializer) {
+        this.serializer = serializer;
+        writeBytes(MAGIC);
+        writeRaw(VERSION);
+    }
+
+    /**
+     * Starts writing the given object {@code value} of the given {@code type}, consisting of the given number of
+     * fields. When the value is {@code null}, it's written as such, and no fields must be written.
+     *
+     * @param value      the object to write
+     * @param type       the type the codec expects the object to be of
+     * @param fieldCount the number of fields that will be written
+     * @return {@code true} if the fields of the object must be written, {@code false} if the value is {@code null}
+     * @throws SerializationException when the value isn't exactly of the given {@code type}
+     */
+    public boolean beginObject(@Nullable Object value, Class<?> type, int fieldCount) {
+        if (value == null) {
+            writeRaw(NULL);
+            return false;
+        }
+        if (value.getClass() != type) {
+            throw new SerializationException("No snapshot codec was generated for entity type ["
+                                                     + value.getClass().getName() + "], expected [" + type.getName()
+                                                     + "]");
+        }
+        writeRaw(OBJECT);
+        writeVarInt(fieldCount);
+        return true;
+    }
+
+    /**
+     * Writes the key of the field of which the value is written next.
+     *
+     * @param key the hash code of the name of the field
+     */
+    public void writeKey(int key) {
+        writeFixedInt(key);
+    }
+
+    /**
+     * Writes the given boolean {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    /**
+     * Writes the given byte {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeByte(byte value) {
+        writeRaw(BYTE);
+        writeRaw(value);
+    }
+
+    /**
+     * Writes the given short {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeShort(short value) {
+        writeRaw(SHORT);
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes the given char {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeChar(char value) {
+        writeRaw(CHAR);
+        writeVarInt(value);
+    }
+
+    /**
+     * Writes the given int {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeInt(int value) {
+        writeRaw(INT);
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes the given long {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeLong(long value) {
+        writeRaw(LONG);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes the given float {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeFloat(float value) {
+        writeRaw(FLOAT);
+        writeFixedInt(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Writes the given double {@code value}.
+     *
+     * @param value the value to write
+     */
+    public void writeDouble(double value) {
+        writeRaw(DOUBLE);
+        long bits = Double.doubleToLongBits(value);
+        writeFixedInt((int) (bits >>> 32));
+        writeFixedInt((int) bits);
+    }
+
+    /**
+     * Writes the given enum {@code value} by its name.
+     *
+     * @param value the value to write
+     */
+    public void writeEnum(@Nullable Enum<?> value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else {
+            writeRaw(ENUM);
+            writeString(value.name());
+        }
+    }
+
+    /**
+     * Starts writing the given {@code collection}. When the collection isn't {@code null}, each of its elements must
+     * be written next.
+     *
+     * @param collection the collection to write
+     * @return {@code true} if the elements of the collection must be written, {@code false} if it's {@code null}
+     */
+    public boolean beginCollection(@Nullable Collection<?> collection) {
+        if (collection == null) {
+            writeRaw(NULL);
+            return false;
+        }
+        writeRaw(COLLECTION);
+        writeVarInt(collection.size());
+        return true;
+    }
+
+    /**
+     * Starts writing the given {@code map}. When the map isn't {@code null}, the key and value of each of its entries
+     * must be written next.
+     *
+     * @param map the map to write
+     * @return {@code true} if the entries of the map must be written, {@code false} if it's {@code null}
+     */
+    public boolean beginMap(@Nullable Map<?, ?> map) {
+        if (map == null) {
+            writeRaw(NULL);
+            return false;
+        }
+        writeRaw(MAP);
+        writeVarInt(map.size());
+        return true;
+    }
+
+    /**
+     * Writes the given {@code value}. Strings, boxed primitives, {@link UUID UUIDs}, {@link Instant Instants},
+     * {@link BigInteger BigIntegers} and {@link BigDecimal BigDecimals} are written in the snapshot format. Values of
+     * other types are serialized to bytes with the serializer of this output.
+     *
+     * @param value the value to write
+     */
+    public void writeValue(@Nullable Object value) {
+        if (value == null) {
+            writeRaw(NULL);
+        } else if (value instanceof String string) {
+            writeRaw(STRING);
+            writeString(string);
+        } else if (value instanceof Integer integer) {
+            writeInt(integer);
+        } else if (value instanceof Long longValue) {
+            writeLong(longValue);
+        } else if (value instanceof Boolean booleanValue) {
+            writeBoolean(booleanValue);
+        } else if (value instanceof Double doubleValue) {
+            writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            writeFloat(floatValue);
+        } else if (value instanceof Short shortValue) {
+            writeShort(shortValue);
+        } else if (value instanceof Byte byteValue) {
+            writeByte(byteValue);
+        } else if (value instanceof Character character) {
+            writeChar(character);
+        } else if (value instanceof UUID uuid) {
+            writeRaw(IDENTIFIER);
+            writeFixedInt((int) (uuid.getMostSignificantBits() >>> 32));
+            writeFixedInt((int) uuid.getMostSignificantBits());
+            writeFixedInt((int) (uuid.getLeastSignificantBits() >>> 32));
+            writeFixedInt((int) uuid.getLeastSignificantBits());
+        } else if (value instanceof Instant instant) {
+            writeRaw(INSTANT);
+            writeVarLong((instant.getEpochSecond() << 1) ^ (instant.getEpochSecond() >> 63));
+            writeVarInt(instant.getNano());
+        } else if (value instanceof BigInteger bigInteger) {
+            writeRaw(BIG_INTEGER);
+            writeByteArray(bigInteger.toByteArray());
+        } else if (value instanceof BigDecimal bigDecimal) {
+            writeRaw(BIG_DECIMAL);
+            writeVarInt((bigDecimal.scale() << 1) ^ (bigDecimal.scale() >> 31));
+            writeByteArray(bigDecimal.unscaledValue().toByteArray());
+        } else {
+            SerializedObject<byte[]> serialized = serializer.serialize(value, byte[].class);
+            writeRaw(SERIALIZED);
+            writeString(serialized.getType().getName());
+            writeNullableString(serialized.getType().getRevision());
+            writeByteArray(serialized.getData());
+        }
+    }
+
+    /**
+     * Returns the bytes written to this output.
+     *
+     * @return the bytes written to this output
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writeString(String value) {
+        writeByteArray(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeNullableString(@Nullable String value) {
+        if (value == null) {
+            writeVarInt(0);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length + 1);
+            writeBytes(bytes);
+        }
+    }
+
+    private void writeByteArray(byte[] bytes) {
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeFixedInt(int value) {
+        ensureCapacity(4);
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeRaw(byte value) {
+        ensureCapacity(1);
+        buffer[position++] = value;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Upcaster passing each event only to the upcasters that declared the type and revision of the event, in the order
+ * of the upcasters. An event of which no upcaster declared the type and revision is returned as it is.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+class DispatchingEventUpcaster implements EventUpcaster {
+
+    private static final int[] NO_UPCASTERS = new int[0];
+
+    private final List<EventUpcaster> upcasters;
+    private final Map<String, Map<String, int[]>> upcastersPerType = new HashMap<>();
+
+    /**
+     * Creates an upcaster dispatching to the given {@code upcasters}, of which each declared the types at the same
+     * position in the given {@code declaredTypes}.
+     *
+     * @param upcasters     the upcasters to dispatch to, in order
+     * @param declaredTypes the types declared by each of the upcasters
+     */
+    DispatchingEventUpcaster(List<EventUpcaster> upcasters, List<List<SerializedType>> declaredTypes) {
+        this.upcasters = List.copyOf(upcasters);
+        for (int i = 0; i < declaredTypes.size(); i++) {
+            for (SerializedType type : declaredTypes.get(i)) {
+                Map<String, int[]> revisions = upcastersPerType.computeIfAbsent(type.getName(), n -> new HashMap<>());
+                int[] indices = revisions.getOrDefault(type.getRevision(), NO_UPCASTERS);
+                if (indices.length == 0 || indices[indices.length - 1] != i) {
+                    revisions.put(type.getRevision(), IntStream.concat(IntStream.of(indices), IntStream.of(i))
+                                                               .toArray());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Stream<IntermediateEventRepresentation> upcast(
+            Stream<IntermediateEventRepresentation> intermediateRepresentations
+    ) {
+        return intermediateRepresentations.flatMap(representation -> upcast(representation, 0));
+    }
+
+    private Stream<IntermediateEventRepresentation> upcast(IntermediateEventRepresentation representation,
+                                                           int fromIndex) {
+        int next = nextUpcaster(representation.getType(), fromIndex);
+        if (next < 0) {
+            return Stream.of(representation);
+        }
+        return upcasters.get(next)
+                        .upcast(Stream.of(representation))
+                        .flatMap(upcasted -> upcast(upcasted, next + 1));
+    }
+
+    private int nextUpcaster(SerializedType type, int fromIndex) {
+        Map<String, int[]> revisions = upcastersPerType.get(type.getName());
+        if (revisions == null) {
+            return -1;
+        }
+        for (int index : revisions.getOrDefault(type.getRevision(), NO_UPCASTERS)) {
+            if (index >= fromIndex) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
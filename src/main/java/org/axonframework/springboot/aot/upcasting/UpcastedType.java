@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a payload type and revision of the serialized events an upcaster upcasts. The annotation is repeated for
+ * each type and revision the upcaster upcasts.
+ * <p/>
+ * During ahead of time processing, the declarations of all upcaster beans are collected in an
+ * {@link UpcasterDispatchTable}, which is used to pass serialized events only to the upcasters that declare their
+ * type and revision. An upcaster with this annotation therefore never sees events of any other type or revision, even
+ * when its own checks would accept them. The annotation is only taken into account on upcasters that upcast each
+ * event by itself, being subclasses of {@link org.axonframework.serialization.upcasting.event.SingleEventUpcaster} or
+ * {@link org.axonframework.serialization.upcasting.event.EventMultiUpcaster}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(UpcastedTypes.class)
+public @interface UpcastedType {
+
+    /**
+     * The name of the payload type of the serialized events the upcaster upcasts.
+     *
+     * @return the name of the payload type
+     */
+    String type();
+
+    /**
+     * The revision of the serialized events the upcaster upcasts. Defaults to an empty string, which stands for events
+     * without a revision.
+     *
+     * @return the revision of the serialized events
+     */
+    String revision() default "";
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link BeanPostProcessor} replacing the {@link ConfigurerModule} through which Axon's auto-configuration registers
+ * all {@link EventUpcaster} beans, by one that registers the upcasters returned by
+ * {@link UpcasterDispatchTable#dispatch(List)} instead. This module is the bean named
+ * {@value #UPCASTERS_CONFIGURER_BEAN_NAME}.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public class UpcasterDispatchPostProcessor implements BeanPostProcessor {
+
+    /**
+     * The name of the bean registering the upcaster beans with the configurer in Axon's auto-configuration.
+     */
+    public static final String UPCASTERS_CONFIGURER_BEAN_NAME = "eventUpcastersConfigurer";
+
+    private static final Logger logger = LoggerFactory.getLogger(UpcasterDispatchPostProcessor.class);
+
+    private final Supplier<UpcasterDispatchTable> table;
+    private final Supplier<List<EventUpcaster>> upcasters;
+
+    /**
+     * Creates a post processor that registers the given {@code upcasters} through the given {@code table}. Both
+     * suppliers are invoked when the configurer is configured.
+     *
+     * @param table     the supplier of the dispatch table calculated ahead of time
+     * @param upcasters the supplier of the upcaster beans, in order
+     */
+    public UpcasterDispatchPostProcessor(Supplier<UpcasterDispatchTable> table,
+                                         Supplier<List<EventUpcaster>> upcasters) {
+        this.table = table;
+        this.upcasters = upcasters;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConfigurerModule && UPCASTERS_CONFIGURER_BEAN_NAME.equals(beanName)) {
+            return (ConfigurerModule) configurer -> {
+                List<EventUpcaster> eventUpcasters = upcasters.get();
+                List<EventUpcaster> dispatched = table.get().dispatch(eventUpcasters);
+                logger.debug("Registering {} upcasters as {} upcasters of the upcaster chain",
+                             eventUpcasters.size(), dispatched.size());
+                dispatched.forEach(upcaster -> configurer.registerEventUpcaster(c -> upcaster));
+            };
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The payload types and revisions of serialized events declared by upcasters through {@link UpcastedType}
+ * annotations, collected ahead of time. The declared types are kept per upcaster class name. An instance of this class
+ * is registered in the application context under the {@link #BEAN_NAME} name by the generated code.
+ * <p/>
+ * An upcaster chain passes every event through every upcaster, each checking whether it upcasts the event.
+ * {@link #dispatch(List) Dispatching} replaces subsequent upcasters that declared their types with a single upcaster
+ * that looks up the upcasters for the type and revision of an event, passing it to those upcasters only.
+ *
+ * @author Allard Buijze
+ * @since 4.12.1
+ */
+public final class UpcasterDispatchTable {
+
+    /**
+     * The name under which the table is registered in the application context.
+     */
+    public static final String BEAN_NAME = "axonUpcasterDispatchTable";
+
+    private final Map<String, List<SerializedType>> upcastedTypes;
+
+    /**
+     * Creates a table with the given {@code upcastedTypes}, the serialized types declared per upcaster class name.
+     *
+     * @param upcastedTypes the serialized types declared per upcaster class name
+     */
+    public UpcasterDispatchTable(Map<String, List<SerializedType>> upcastedTypes) {
+        this.upcastedTypes = Map.copyOf(upcastedTypes);
+    }
+
+    /**
+     * Returns the serialized types declared per upcaster class name.
+     *
+     * @return the serialized types declared per upcaster class name
+     */
+    public Map<String, List<SerializedType>> upcastedTypes() {
+        return upcastedTypes;
+    }
+
+    /**
+     * Returns the upcasters to register with the upcaster chain instead of the given {@code upcasters}. Subsequent
+     * upcasters of which the class declared its types are combined into a single upcaster, dispatching each event to
+     * the upcasters that declared its type and revision. Other upcasters are returned as they are, keeping the order
+     * of the given {@code upcasters}.
+     *
+     * @param upcasters the upcasters of the upcaster chain, in order
+     * @return the upcasters to register with the upcaster chain
+     */
+    public List<EventUpcaster> dispatch(List<? extends EventUpcaster> upcasters) {
+        List<EventUpcaster> result = new ArrayList<>();
+        List<EventUpcaster> declaring = new ArrayList<>();
+        List<List<SerializedType>> declaredTypes = new ArrayList<>();
+        for (EventUpcaster upcaster : upcasters) {
+            List<SerializedType> types = upcastedTypes.get(upcaster.getClass().getName());
+            if (types != null) {
+                declaring.add(upcaster);
+                declaredTypes.add(types);
+            } else {
+                addDispatching(declaring, declaredTypes, result);
+                result.add(upcaster);
+            }
+        }
+        addDispatching(declaring, declaredTypes, result);
+        return result;
+    }
+
+    private static void addDispatching(List<EventUpcaster> declaring,
+                                       List<List<SerializedType>> declaredTypes,
+                                       List<EventUpcaster> result) {
+        if (!declaring.isEmpty()) {
+            result.add(new DispatchingEventUpcaster(declaring, declaredTypes));
+            declaring.clear();
+            declaredTypes.clear();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.axoniq.someproject.pgo;
+
+import com.axoniq.someproject.App;
+import com.axoniq.someproject.api.AddChildToListCommand;
+import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.SomeChildCommand;
+import com.axoniq.someproject.api.SomeCommand;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import com.axoniq.someproject.api.SomeQuery;
+import com.axoniq.someproject.api.SomeResult;
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.eventhandling.EventTrackerStatus;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.StreamingEventProcessor;
+import org.axonframework.eventhandling.gateway.EventGateway;
+import org.axonframework.eventsourcing.eventstore.EventStorageEngine;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.QueryGateway;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Workload driving the message paths of the sample domain, used to collect a profile for profile-guided optimization
+ * of native images. The workload runs in-process on an in-memory event store. It creates a number of
+ * {@link WorkloadAggregate WorkloadAggregates}, sends them commands that are handled by the aggregate and its members,
+ * publishes events to the projections of the sample domain, queries them, and replays the events of all streaming event
+ * processors.
+ * <p/>
+ * The number of aggregates is set by the {@code pgo.aggregates} property and the number of rounds by the
+ * {@code pgo.rounds} property, for example by passing {@code --pgo.aggregates=1000} as an argument.
+ *
+ * @author Allard Buijze
+ */
+@SpringBootApplication
+@Import(App.class)
+public class PgoWorkload {
+
+    private static final Duration REPLAY_TIMEOUT = Duration.ofMinutes(1);
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(PgoWorkload.class);
+        application.setDefaultProperties(Map.of("axon.axonserver.enabled", "false"));
+        ConfigurableApplicationContext context = application.run(args);
+        int aggregates = context.getEnvironment().getProperty("pgo.aggregates", Integer.class, 100);
+        int rounds = context.getEnvironment().getProperty("pgo.rounds", Integer.class, 10);
+        Instant start = Instant.now();
+        new Driver(context).run(aggregates, rounds);
+        System.out.printf("Workload of %d aggregates in %d rounds completed in %s%n",
+                          aggregates, rounds, Duration.between(start, Instant.now()));
+        // exit explicitly, so the profile is written even when non-daemon threads remain
+        System.exit(SpringApplication.exit(context));
+    }
+
+    @Bean
+    public EventStorageEngine eventStorageEngine() {
+        return new InMemoryEventStorageEngine();
+    }
+
+    @Bean
+    public ConfigurerModule pgoAggregateConfigurerModule() {
+        return configurer -> configurer.configureAggregate(WorkloadAggregate.class);
+    }
+
+    @Bean
+    public SomeProjectionWithGroupAnnotation projectionWithGroup() {
+        return new SomeProjectionWithGroupAnnotation();
+    }
+
+    @Bean
+    public SomeProjectionWithoutGroupAnnotation projectionWithoutGroup() {
+        return new SomeProjectionWithoutGroupAnnotation();
+    }
+
+    private record Driver(ConfigurableApplicationContext context) {
+
+        void run(int aggregates, int rounds) {
+            CommandGateway commandGateway = context.getBean(CommandGateway.class);
+            EventGateway eventGateway = context.getBean(EventGateway.class);
+            QueryGateway queryGateway = context.getBean(QueryGateway.class);
+
+            for (int i = 0; i < aggregates; i++) {
+                commandGateway.sendAndWait(new SomeCommand(aggregateId(i)));
+            }
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < aggregates; i++) {
+                    String id = aggregateId(i);
+                    commandGateway.sendAndWait(GenericCommandMessage.asCommandMessage(
+                            new ChangeStatusCommand(id, "status-" + round)
+                    ).andMetaData(MetaData.with("traceId", id + "-" + round)));
+                    commandGateway.sendAndWait(new AddChildToListCommand(id, "list-" + round));
+                    commandGateway.sendAndWait(new SomeChildCommand(id));
+                    eventGateway.publish(GenericEventMessage.asEventMessage(new SomeProjectionEvent(id))
+                                                            .andMetaData(MetaData.with("traceId", id + "-" + round)));
+                }
+                streamingProcessors().forEach(this::awaitCaughtUp);
+                List<SomeResult> results =
+                        queryGateway.query(new SomeQuery(), ResponseTypes.multipleInstancesOf(SomeResult.class))
+                                    .join();
+                System.out.printf("Round %d completed, query returned %d results%n", round, results.size());
+            }
+            replayAll();
+        }
+
+        private void replayAll() {
+            for (StreamingEventProcessor processor : streamingProcessors()) {
+                processor.shutDown();
+                processor.resetTokens();
+                processor.start();
+                awaitCaughtUp(processor);
+            }
+        }
+
+        private List<StreamingEventProcessor> streamingProcessors() {
+            return context.getBean(Configuration.class)
+                          .eventProcessingConfiguration()
+                          .eventProcessors()
+                          .values()
+                          .stream()
+                          .filter(StreamingEventProcessor.class::isInstance)
+                          .map(StreamingEventProcessor.class::cast)
+                          .toList();
+        }
+
+        private void awaitCaughtUp(StreamingEventProcessor processor) {
+            Instant deadline = Instant.now().plus(REPLAY_TIMEOUT);
+            while (!processor.processingStatus().values().stream().allMatch(EventTrackerStatus::isCaughtUp)
+                    || processor.processingStatus().isEmpty()) {
+                if (Instant.now().isAfter(deadline)) {
+                    throw new IllegalStateException("Replay of " + processor.getName() + " did not complete");
+                }
+                LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+            }
+        }
+
+        private static String aggregateId(int index) {
+            return "aggregate-" + index;
+        }
+    }
+}
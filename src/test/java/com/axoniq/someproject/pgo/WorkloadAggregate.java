@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.axoniq.someproject.pgo;
+
+import com.axoniq.someproject.api.AddChildToListCommand;
+import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.ChildAddedToListEvent;
+import com.axoniq.someproject.api.SomeCommand;
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.StatusChangedEvent;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.eventsourcing.EventSourcingHandler;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.annotation.MetaDataValue;
+import org.axonframework.messaging.interceptors.ExceptionHandler;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.AggregateMember;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.modelling.command.CommandHandlerInterceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.axonframework.modelling.command.AggregateLifecycle.apply;
+
+/**
+ * Event sourced aggregate of the {@link PgoWorkload}, handling the commands of the sample domain. Unlike the sample
+ * aggregate, its members aren't records, so it can be used with a running Axon configuration. The aggregate starts with
+ * a child entity sharing its identifier, which handles the {@link com.axoniq.someproject.api.SomeChildCommand} sent to
+ * the aggregate.
+ *
+ * @author Allard Buijze
+ */
+@AggregateRoot(type = "workload_aggregate")
+public class WorkloadAggregate {
+
+    @AggregateIdentifier
+    private String id;
+    private String status;
+    @AggregateMember
+    private final List<WorkloadAggregateChild> children = new ArrayList<>();
+
+    @CommandHandler
+    public WorkloadAggregate(SomeCommand command) {
+        apply(new SomeEvent(command.id()));
+    }
+
+    public WorkloadAggregate() {
+        // Required by Axon to construct an empty instance to initiate Event Sourcing.
+    }
+
+    @ExceptionHandler
+    public void exceptionHandler(IllegalStateException error) {
+        throw error;
+    }
+
+    @CommandHandlerInterceptor
+    public Object intercept(@MetaDataValue("traceId") String traceId, InterceptorChain chain) throws Exception {
+        return chain.proceed();
+    }
+
+    @CommandHandler
+    public void handle(ChangeStatusCommand command) {
+        if (Objects.equals(status, command.newStatus())) {
+            throw new IllegalStateException("new state should be different than current state");
+        }
+        apply(new StatusChangedEvent(command.id(), command.newStatus()));
+    }
+
+    @CommandHandler
+    public void handle(AddChildToListCommand command) {
+        apply(new ChildAddedToListEvent(command.property(), command.property()));
+    }
+
+    @EventSourcingHandler
+    protected void on(SomeEvent event) {
+        this.id = event.id();
+        this.children.add(new WorkloadAggregateChild(event.id()));
+    }
+
+    @EventSourcingHandler
+    protected void on(StatusChangedEvent event) {
+        this.status = event.newStatus();
+    }
+
+    @EventSourcingHandler
+    protected void on(ChildAddedToListEvent event) {
+        this.children.add(new WorkloadAggregateChild(event.id()));
+    }
+}
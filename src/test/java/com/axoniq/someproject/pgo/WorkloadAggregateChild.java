@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.axoniq.someproject.pgo;
+
+import com.axoniq.someproject.SomeBean;
+import com.axoniq.someproject.api.SomeChildCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.modelling.command.EntityId;
+
+/**
+ * Child entity of the {@link WorkloadAggregate}, handling the commands addressed to it by its identifier.
+ *
+ * @author Allard Buijze
+ */
+public class WorkloadAggregateChild {
+
+    @EntityId(routingKey = "id")
+    private final String childId;
+    private int handledCommands;
+
+    WorkloadAggregateChild(String childId) {
+        this.childId = childId;
+    }
+
+    @CommandHandler
+    public int handle(SomeChildCommand command, SomeBean someBean) {
+        return ++handledCommands;
+    }
+}
@@ -24,7 +24,9 @@ import com.axoniq.someproject.api.ChildAddedToMapEvent;
 import com.axoniq.someproject.api.SomeCommand;
 import com.axoniq.someproject.api.SomeEvent;
 import com.axoniq.someproject.api.StatusChangedEvent;
+import com.axoniq.someproject.api.StatusReminder;
 import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.deadline.annotation.DeadlineHandler;
 import org.axonframework.eventsourcing.EventSourcingHandler;
 import org.axonframework.messaging.InterceptorChain;
 import org.axonframework.messaging.Message;
@@ -93,6 +95,16 @@ public class SomeAggregate {
         apply(new ChildAddedToMapEvent(command.id(), command.key(), command.property()));
     }
 
+    @DeadlineHandler(deadlineName = "statusReminder")
+    public void onStatusReminder(StatusReminder reminder) {
+        apply(new StatusChangedEvent(reminder.id(), reminder.status()));
+    }
+
+    @DeadlineHandler(deadlineName = "expiry")
+    public void onExpiry() {
+        apply(new StatusChangedEvent(id, "expired"));
+    }
+
     @EventSourcingHandler
     protected void onSomeEvent(SomeEvent event) {
         this.id = event.id();
@@ -19,6 +19,7 @@ package com.axoniq.someproject.something;
 import com.axoniq.someproject.api.SomeProjectionEvent;
 import com.axoniq.someproject.api.SomeQuery;
 import com.axoniq.someproject.api.SomeResult;
+import org.axonframework.eventhandling.DisallowReplay;
 import org.axonframework.eventhandling.EventHandler;
 import org.axonframework.queryhandling.QueryHandler;
 
@@ -30,6 +31,7 @@ public class SomeProjectionWithoutGroupAnnotation {
     private final List<String> ids = new ArrayList<>();
 
     @EventHandler
+    @DisallowReplay
     public void on(SomeProjectionEvent event) {
         ids.add(event.id());
     }
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2010-2023. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.axoniq.someproject.something;
+
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.messaging.annotation.MetaDataValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SomeTracedProjection {
+
+    private final List<String> traceIds = new ArrayList<>();
+
+    @EventHandler
+    public void on(SomeProjectionEvent event,
+                   @MetaDataValue(value = "traceId", required = true) String traceId,
+                   @MetaDataValue("tenant") String tenant) {
+        traceIds.add(traceId);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.queryhandling.QueryUpdateEmitter;
+import org.axonframework.queryhandling.SimpleQueryUpdateEmitter;
+import org.axonframework.springboot.autoconfig.AxonAutoConfiguration;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.aot.BeanInstanceSupplier;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link AxonAutoConfiguredBeans}.
+ *
+ * @author Allard Buijze
+ */
+class AxonAutoConfiguredBeansTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @Test
+    void beansSuppliedByAxonAutoConfigurationAreDefinedByAxon() {
+        RootBeanDefinition definition = new RootBeanDefinition(QueryUpdateEmitter.class);
+        definition.setInstanceSupplier(BeanInstanceSupplier.forFactoryMethod(
+                AxonAutoConfiguration.class, "queryUpdateEmitter", Configuration.class
+        ));
+        beanFactory.registerBeanDefinition("queryUpdateEmitter", definition);
+
+        assertTrue(AxonAutoConfiguredBeans.isDefinedByAxon(beanFactory, "queryUpdateEmitter"));
+    }
+
+    @Test
+    void beansSuppliedByTheApplicationAreNotDefinedByAxon() {
+        RootBeanDefinition definition = new RootBeanDefinition(QueryUpdateEmitter.class);
+        definition.setInstanceSupplier(BeanInstanceSupplier.forFactoryMethod(
+                ApplicationConfiguration.class, "queryUpdateEmitter"
+        ));
+        beanFactory.registerBeanDefinition("queryUpdateEmitter", definition);
+
+        assertFalse(AxonAutoConfiguredBeans.isDefinedByAxon(beanFactory, "queryUpdateEmitter"));
+    }
+
+    @Test
+    void unknownBeansAreNotDefinedByAxon() {
+        assertFalse(AxonAutoConfiguredBeans.isDefinedByAxon(beanFactory, "queryUpdateEmitter"));
+    }
+
+    private static class ApplicationConfiguration {
+
+        @SuppressWarnings("unused")
+        public QueryUpdateEmitter queryUpdateEmitter() {
+            return SimpleQueryUpdateEmitter.builder().build();
+        }
+    }
+}
@@ -20,6 +20,8 @@ package org.axonframework.springboot.aot;
 import io.netty.channel.epoll.EpollChannelOption;
 import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
 import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.modelling.command.AggregateScopeDescriptor;
+import org.axonframework.modelling.saga.SagaScopeDescriptor;
 import org.junit.jupiter.api.*;
 import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.RuntimeHintsRegistrar;
@@ -54,6 +56,8 @@ class AxonRuntimeHintsTest {
         //some default framework classes
         testForConstructor(GlobalSequenceTrackingToken.class);
         testForConstructor(OptionalResponseType.class);
+        testForConstructor(AggregateScopeDescriptor.class);
+        testForConstructor(SagaScopeDescriptor.class);
     }
 
     @Test
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.ContentTypeConverter;
+import org.axonframework.serialization.converters.ByteArrayToStringConverter;
+import org.axonframework.serialization.converters.StringToByteArrayConverter;
+import org.axonframework.serialization.json.ByteArrayToJsonNodeConverter;
+import org.axonframework.serialization.json.JsonNodeToByteArrayConverter;
+import org.axonframework.springboot.aot.serialization.ContentTypeConverterRoutes;
+import org.junit.jupiter.api.*;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ContentTypeConverterRoutesAotProcessor}.
+ *
+ * @author Allard Buijze
+ */
+class ContentTypeConverterRoutesAotProcessorTest {
+
+    @Test
+    void routesAreCalculatedForContentTypesWithoutDirectConverter() {
+        List<ContentTypeConverter<?, ?>> converters = List.of(new StringToByteArrayConverter(),
+                                                              new ByteArrayToStringConverter(),
+                                                              new ByteArrayToJsonNodeConverter(null),
+                                                              new JsonNodeToByteArrayConverter(null));
+
+        List<List<Class<?>>> routes = ContentTypeConverterRoutesAotProcessor.routes(converters);
+
+        assertEquals(List.of(List.of(StringToByteArrayConverter.class, ByteArrayToJsonNodeConverter.class),
+                             List.of(JsonNodeToByteArrayConverter.class, ByteArrayToStringConverter.class)),
+                     routes);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void routesAreRegisteredInTheApplicationContext() {
+        TestGenerationContext generationContext = new TestGenerationContext();
+        ClassName initializerClassName = new ApplicationContextAotGenerator()
+                .processAheadOfTime(new GenericApplicationContext(), generationContext);
+        generationContext.writeGeneratedContent();
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            GenericApplicationContext freshContext = new GenericApplicationContext();
+            compiled.getInstance(ApplicationContextInitializer.class, initializerClassName.reflectionName())
+                    .initialize(freshContext);
+            ContentTypeConverterRoutes routes = freshContext.getDefaultListableBeanFactory().getBean(
+                    ContentTypeConverterRoutes.BEAN_NAME, ContentTypeConverterRoutes.class
+            );
+
+            assertTrue(routes.routes().contains(List.of(StringToByteArrayConverter.class,
+                                                        ByteArrayToJsonNodeConverter.class)));
+            assertTrue(routes.registerWith(new ChainingConverter()) > 0);
+        });
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.junit.jupiter.api.*;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.core.test.tools.Compiled;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.CodeBlock;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import javax.lang.model.element.Modifier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedNameLists}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedNameListsTest {
+
+    private final TestGenerationContext generationContext = new TestGenerationContext();
+    private final GeneratedClass generatedClass = generationContext.getGeneratedClasses().addForFeature(
+            "NameLists", type -> type.addModifiers(Modifier.PUBLIC)
+    );
+
+    @Test
+    void listsOfNamesBeyondTheSizeOfASingleMethodAreGenerated() {
+        List<String> names = names("name", 5_000);
+        String namesMethod = addMethod(GeneratedNameLists.listOf(generatedClass.getMethods(), "names", names));
+        String noNamesMethod = addMethod(GeneratedNameLists.listOf(generatedClass.getMethods(), "names", List.of()));
+
+        compile(compiled -> {
+            assertEquals(names, invoke(compiled, namesMethod));
+            assertEquals(List.of(), invoke(compiled, noNamesMethod));
+        });
+    }
+
+    @Test
+    void mapsOfListsOfNamesBeyondTheSizeOfASingleMethodAreGenerated() {
+        Map<String, List<String>> lists = new LinkedHashMap<>();
+        lists.put("large", names("large", 5_000));
+        IntStream.range(0, 1_000).forEach(i -> lists.put("small" + i, names("small" + i, 3)));
+        lists.put("empty", List.of());
+        String listsMethod = addMethod(GeneratedNameLists.mapOf(generatedClass.getMethods(), "lists", lists));
+
+        compile(compiled -> {
+            Map<?, ?> result = (Map<?, ?>) invoke(compiled, listsMethod);
+            assertEquals(lists, result);
+            assertEquals(List.copyOf(lists.keySet()), List.copyOf(result.keySet()));
+        });
+    }
+
+    private static List<String> names(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "." + i).toList();
+    }
+
+    private String addMethod(CodeBlock code) {
+        return generatedClass.getMethods()
+                             .add("get", method -> method.addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                                         .returns(Object.class)
+                                                         .addStatement("return $L", code))
+                             .getName();
+    }
+
+    private void compile(Consumer<Compiled> assertions) {
+        generationContext.writeGeneratedContent();
+        TestCompiler.forSystem().with(generationContext).compile(assertions);
+    }
+
+    private Object invoke(Compiled compiled, String methodName) {
+        try {
+            Method method = compiled.getClassLoader()
+                                    .loadClass(generatedClass.getName().reflectionName())
+                                    .getMethod(methodName);
+            return method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return fail(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import com.axoniq.someproject.something.SingleAggregateChild;
+import com.axoniq.someproject.something.SomeAggregate;
+import com.axoniq.someproject.something.SomeAggregateChild;
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.MultiParameterResolverFactory;
+import org.axonframework.messaging.annotation.ParameterResolver;
+import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.axonframework.springboot.aot.metadata.HandlerMemberMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerMetadataIndex;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the heap taken by the handler metadata of the sample project, scaled up to many handling types, when stored
+ * as a graph of metadata records and when stored in a {@link HandlerMetadataIndex}.
+ * <p/>
+ * All names are interned in both representations, like the string literals of the generated code are.
+ *
+ * @author Allard Buijze
+ */
+class HandlerMetadataFootprintTest {
+
+    private static final int COPIES = 100;
+    private static final List<Class<?>> SAMPLE_TYPES = List.of(SomeAggregate.class,
+                                                               SomeAggregateChild.class,
+                                                               SingleAggregateChild.class,
+                                                               SomeProjectionWithGroupAnnotation.class,
+                                                               SomeProjectionWithoutGroupAnnotation.class);
+
+    @Test
+    void indexTakesLessHeapThanMetadataRecords() {
+        List<HandlerTypeMetadata> sample = SAMPLE_TYPES.stream()
+                                                       .map(type -> HandlerMetadataGenerator.describe(
+                                                               type, List.of(type.getSimpleName()),
+                                                               AnnotatedHandlerInspector.inspectType(
+                                                                       type, parameterResolverFactory(type)
+                                                               )
+                                                       ))
+                                                       .toList();
+
+        long recordBytes = retainedBytes(() -> scaledUp(sample));
+        long indexBytes = retainedBytes(() -> HandlerMetadataIndex.of(scaledUp(sample), List.of(), List.of()));
+
+        assertTrue(indexBytes < recordBytes,
+                   "The index took " + indexBytes + " bytes, the metadata records " + recordBytes + " bytes");
+    }
+
+    private static ParameterResolverFactory parameterResolverFactory(Class<?> type) {
+        // the sample handlers take Spring beans as parameters, which are resolved leniently here
+        ParameterResolver<Object> lenientResolver = new ParameterResolver<>() {
+            @Override
+            public Object resolveParameterValue(Message<?> message) {
+                throw new UnsupportedOperationException("Handlers are only inspected");
+            }
+
+            @Override
+            public boolean matches(Message<?> message) {
+                return true;
+            }
+        };
+        return MultiParameterResolverFactory.ordered(ClasspathParameterResolverFactory.forClass(type),
+                                                     (executable, parameters, index) -> lenientResolver);
+    }
+
+    private static List<HandlerTypeMetadata> scaledUp(List<HandlerTypeMetadata> sample) {
+        List<HandlerTypeMetadata> types = new ArrayList<>();
+        for (int copy = 0; copy < COPIES; copy++) {
+            String suffix = "$" + copy;
+            for (HandlerTypeMetadata type : sample) {
+                types.add(new HandlerTypeMetadata(
+                        (type.typeName() + suffix).intern(),
+                        type.beanNames().stream().map(name -> (name + suffix).intern()).toList(),
+                        copied(type.handlers(), suffix),
+                        copied(type.interceptors(), suffix)
+                ));
+            }
+        }
+        return types;
+    }
+
+    private static List<HandlerMemberMetadata> copied(List<HandlerMemberMetadata> members, String suffix) {
+        return members.stream()
+                      .map(member -> new HandlerMemberMetadata(
+                              (member.signature() + suffix).intern(),
+                              member.messageType().intern(),
+                              (member.payloadType() + suffix).intern(),
+                              (member.messageName() + suffix).intern(),
+                              member.resultType() == null ? null : (member.resultType() + suffix).intern(),
+                              member.priority()
+                      ))
+                      .toList();
+    }
+
+    private static long retainedBytes(Supplier<Object> factory) {
+        // measured by releasing the object, so garbage left by earlier tests doesn't count
+        AtomicReference<Object> retained = new AtomicReference<>(factory.get());
+        long withObject = usedHeap();
+        retained.set(null);
+        long withoutObject = usedHeap();
+        return withObject - withoutObject;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import com.axoniq.someproject.api.SomeCommand;
+import com.axoniq.someproject.something.SingleAggregateChild;
+import com.axoniq.someproject.something.SomeAggregate;
+import com.axoniq.someproject.something.SomeAggregateChild;
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import org.axonframework.springboot.aot.metadata.LibraryHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.LibraryTypeMetadata;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link LibraryMetadataWriter}.
+ *
+ * @author Allard Buijze
+ */
+class LibraryMetadataWriterTest {
+
+    @TempDir
+    Path classesDirectory;
+
+    @Test
+    void handlerMetadataAndNativeConfigurationAreWrittenToTheClassesDirectory() throws Exception {
+        copyLibraryClasses(SomeAggregate.class, classesDirectory);
+
+        LibraryHandlerMetadata written = LibraryMetadataWriter.write(classesDirectory, "com.example", "library",
+                                                                     getClass().getClassLoader());
+
+        LibraryHandlerMetadata read;
+        try (Reader reader = Files.newBufferedReader(classesDirectory.resolve(LibraryHandlerMetadata.LOCATION))) {
+            read = LibraryHandlerMetadata.read(reader);
+        }
+        assertEquals(written.types().size(), read.types().size());
+        assertTrue(Files.isRegularFile(
+                classesDirectory.resolve("META-INF/native-image/com.example/library/reflect-config.json")
+        ));
+    }
+
+    @Test
+    void aggregatesAreDescribedWithTheirEntities() throws Exception {
+        copyLibraryClasses(SomeAggregate.class, classesDirectory);
+
+        LibraryHandlerMetadata written = LibraryMetadataWriter.write(classesDirectory, "com.example", "library",
+                                                                     getClass().getClassLoader());
+
+        LibraryTypeMetadata aggregate = written.type(SomeAggregate.class.getName()).orElseThrow();
+        assertNull(aggregate.processingGroup());
+        assertTrue(aggregate.entityTypes().contains(SomeAggregateChild.class.getName()));
+        assertTrue(aggregate.entityTypes().contains(SingleAggregateChild.class.getName()));
+        assertTrue(aggregate.metadata().handlers().stream()
+                            .anyMatch(handler -> handler.payloadType().equals(SomeCommand.class.getName())));
+        assertTrue(written.contains(SomeAggregateChild.class.getName()));
+        assertEquals("some_group",
+                     written.type(SomeProjectionWithGroupAnnotation.class.getName()).orElseThrow().processingGroup());
+        assertFalse(written.responseTypeMatches().isEmpty());
+    }
+
+    @Test
+    void argumentsAreValidated() {
+        assertThrows(IllegalArgumentException.class, () -> LibraryMetadataWriter.main(new String[]{"classes"}));
+    }
+
+    /**
+     * Copies the compiled classes of the package of the given {@code type} to the given {@code classesDirectory}, to
+     * serve as the classes of a library.
+     */
+    static void copyLibraryClasses(Class<?> type, Path classesDirectory) throws IOException, URISyntaxException {
+        Path root = Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path packageDirectory = root.resolve(type.getPackageName().replace('.', '/'));
+        try (Stream<Path> classFiles = Files.list(packageDirectory)) {
+            for (Path classFile : classFiles.toList()) {
+                Path target = classesDirectory.resolve(root.relativize(classFile).toString());
+                Files.createDirectories(target.getParent());
+                Files.copy(classFile, target);
+            }
+        }
+    }
+}
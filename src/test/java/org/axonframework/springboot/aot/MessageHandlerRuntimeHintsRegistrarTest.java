@@ -16,7 +16,11 @@
 
 package org.axonframework.springboot.aot;
 
+import com.axoniq.someproject.api.AddChildToListCommand;
+import com.axoniq.someproject.api.AddChildToMapCommand;
 import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.ChildAddedToListEvent;
+import com.axoniq.someproject.api.ChildAddedToMapEvent;
 import com.axoniq.someproject.api.SingleChildCommand;
 import com.axoniq.someproject.api.SomeChildCommand;
 import com.axoniq.someproject.api.SomeCommand;
@@ -25,22 +29,77 @@ import com.axoniq.someproject.api.SomeProjectionEvent;
 import com.axoniq.someproject.api.SomeQuery;
 import com.axoniq.someproject.api.SomeResult;
 import com.axoniq.someproject.api.StatusChangedEvent;
+import com.axoniq.someproject.api.StatusReminder;
+import com.axoniq.someproject.something.PremiumAccount;
+import com.axoniq.someproject.something.SavingsAccount;
 import com.axoniq.someproject.something.SingleAggregateChild;
 import com.axoniq.someproject.something.SomeAggregate;
+import com.axoniq.someproject.something.SomeAccount;
 import com.axoniq.someproject.something.SomeAggregateChild;
 import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
 import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import com.axoniq.someproject.something.SomeTracedProjection;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.annotation.ParameterResolver;
+import org.axonframework.messaging.responsetypes.InstanceResponseType;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
 import org.axonframework.modelling.command.ForwardMatchingInstances;
 import org.axonframework.modelling.command.ForwardToAll;
+import org.axonframework.modelling.saga.repository.jpa.SagaEntry;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.springboot.aot.aggregate.AggregateHierarchies;
+import org.axonframework.springboot.aot.aggregate.GeneratedAggregateInstantiators;
+import org.axonframework.springboot.aot.command.CommandNameTable;
+import org.axonframework.springboot.aot.event.ReplayableEventTypes;
+import org.axonframework.springboot.aot.hints.ObservedHints;
+import org.axonframework.springboot.aot.invoke.GeneratedHandlerInvokers;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.axonframework.springboot.aot.metadata.ProcessingGroupMetadata;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+import org.axonframework.springboot.aot.parameter.GeneratedMetaDataResolvers;
+import org.axonframework.springboot.aot.preload.PreloadedClasses;
+import org.axonframework.springboot.aot.query.QueryUpdateTypes;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodecs;
+import org.axonframework.springboot.aot.snapshot.SnapshotCodecSerializer;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.generate.GeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
 import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
 import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.aot.ApplicationContextAotGenerator;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.test.tools.CompileWithForkedClassLoader;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,13 +108,16 @@ class MessageHandlerRuntimeHintsRegistrarTest {
     private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
     private final TestGenerationContext generationContext = new TestGenerationContext();
     private final GenericApplicationContext applicationContext = new AnnotationConfigApplicationContext(beanFactory);
+    private ClassName initializerClassName;
 
     @BeforeEach
     void processAheadOfTime() {
         addClassToBeanFactory(SomeAggregate.class);
         addClassToBeanFactory(SomeProjectionWithGroupAnnotation.class);
         addClassToBeanFactory(SomeProjectionWithoutGroupAnnotation.class);
-        new ApplicationContextAotGenerator().processAheadOfTime(this.applicationContext, this.generationContext);
+        addClassToBeanFactory(SomeTracedProjection.class);
+        this.initializerClassName = new ApplicationContextAotGenerator()
+                .processAheadOfTime(this.applicationContext, this.generationContext);
         this.generationContext.writeGeneratedContent();
     }
 
@@ -68,6 +130,7 @@ class MessageHandlerRuntimeHintsRegistrarTest {
         testForConstructor(SomeQuery.class);
         testForConstructor(SomeResult.class);
         testForConstructor(StatusChangedEvent.class);
+        testForConstructor(StatusReminder.class);
         //the ones from the aggregate childs
         testForConstructor(SingleChildCommand.class);
         testForConstructor(SomeChildCommand.class);
@@ -79,6 +142,8 @@ class MessageHandlerRuntimeHintsRegistrarTest {
         testReflectionMethod(SomeAggregate.class, "handle");
         testReflectionMethod(SomeAggregate.class, "onSomeEvent");
         testReflectionMethod(SomeAggregate.class, "onStatusChangedEvent");
+        testReflectionMethod(SomeAggregate.class, "onStatusReminder");
+        testReflectionMethod(SomeAggregate.class, "onExpiry");
         testReflectionMethod(SomeProjectionWithGroupAnnotation.class, "handle");
         testReflectionMethod(SomeProjectionWithGroupAnnotation.class, "on");
         testReflectionMethod(SomeProjectionWithoutGroupAnnotation.class, "handle");
@@ -103,6 +168,394 @@ class MessageHandlerRuntimeHintsRegistrarTest {
         testForConstructor(ForwardToAll.class);
     }
 
+    @Test
+    void handlerMetadataIsInitializedAtBuildTime() {
+        Map<String, InputStreamSource> resources =
+                this.generationContext.getGeneratedFiles().getGeneratedFiles(GeneratedFiles.Kind.RESOURCE);
+        String nativeImageProperties = resources.keySet()
+                                                .stream()
+                                                .filter(path -> path.endsWith("native-image.properties"))
+                                                .findFirst()
+                                                .map(this::resourceContent)
+                                                .orElseThrow();
+        assertTrue(nativeImageProperties.contains("--initialize-at-build-time="
+                                                          + AxonHandlerMetadata.class.getPackageName()));
+        assertTrue(nativeImageProperties.contains("__AxonHandlerMetadata"));
+    }
+
+    @Test
+    void handlerMetadataIsRegisteredInTheApplicationContext() {
+        withInitializedBeanFactory(beanFactory -> {
+            AxonHandlerMetadata metadata =
+                    beanFactory.getBean(AxonHandlerMetadata.BEAN_NAME, AxonHandlerMetadata.class);
+            HandlerTypeMetadata aggregate = metadata.handlerType(SomeAggregate.class.getName()).orElseThrow();
+            assertTrue(aggregate.handlers().stream().anyMatch(
+                    h -> h.payloadType().equals(ChangeStatusCommand.class.getName())
+                            && h.messageType().equals(CommandMessage.class.getName())));
+            assertTrue(aggregate.handlers().stream().anyMatch(
+                    h -> h.payloadType().equals(StatusChangedEvent.class.getName())));
+            assertFalse(aggregate.interceptors().isEmpty());
+            assertTrue(metadata.handlerType(SomeAggregateChild.class.getName()).isPresent());
+            assertTrue(metadata.handlerType(SomeProjectionWithGroupAnnotation.class.getName()).isPresent());
+        });
+    }
+
+    @Test
+    void responseTypeMatchesArePrecomputedForQueryHandlers() {
+        withInitializedBeanFactory(beanFactory -> {
+            AxonHandlerMetadata metadata = beanFactory.getBean(AxonHandlerMetadata.BEAN_NAME, AxonHandlerMetadata.class);
+            String listOfResults = "java.util.List<" + SomeResult.class.getName() + ">";
+            assertTrue(metadata.responseTypeMatches().contains(new ResponseTypeMatch(
+                    MultipleInstancesResponseType.class.getName(), SomeResult.class.getName(), listOfResults, MultipleInstancesResponseType.ITERABLE_MATCH
+            )));
+            assertTrue(metadata.responseTypeMatches().contains(new ResponseTypeMatch(
+                    InstanceResponseType.class.getName(), SomeResult.class.getName(), listOfResults, ResponseType.NO_MATCH
+            )));
+        });
+    }
+
+    @Test
+    void updateTypesAreCollectedPerQuery() {
+        withInitializedBeanFactory(beanFactory -> {
+            QueryUpdateTypes updateTypes = beanFactory.getBean(QueryUpdateTypes.BEAN_NAME, QueryUpdateTypes.class);
+            assertEquals(Set.of(List.class, SomeResult.class),
+                         updateTypes.updateTypesOf(SomeQuery.class.getName(), getClass().getClassLoader()));
+            assertEquals(1, updateTypes.size());
+        });
+    }
+
+    @Test
+    void commandNamesAreCollectedInATable() {
+        withInitializedBeanFactory(beanFactory -> {
+            CommandNameTable commandNames = beanFactory.getBean(CommandNameTable.BEAN_NAME, CommandNameTable.class);
+            List<String> expectedNames = Stream.of(AddChildToListCommand.class,
+                                                   AddChildToMapCommand.class,
+                                                   ChangeStatusCommand.class,
+                                                   SingleChildCommand.class,
+                                                   SomeChildCommand.class,
+                                                   SomeCommand.class)
+                                               .map(Class::getName)
+                                               .toList();
+            assertEquals(expectedNames.size(), commandNames.size());
+            for (int ordinal = 0; ordinal < expectedNames.size(); ordinal++) {
+                assertEquals(expectedNames.get(ordinal), commandNames.commandName(ordinal));
+                assertEquals(ordinal, commandNames.ordinalOf(expectedNames.get(ordinal)));
+            }
+        });
+    }
+
+    @Test
+    void handlingAndPayloadTypesAreListedForPreloading() {
+        withInitializedBeanFactory(beanFactory -> {
+            List<String> classNames =
+                    beanFactory.getBean(PreloadedClasses.BEAN_NAME, PreloadedClasses.class).classNames();
+            assertTrue(classNames.containsAll(List.of(SomeAggregate.class.getName(),
+                                                      SomeAggregateChild.class.getName(),
+                                                      SomeCommand.class.getName(),
+                                                      SomeProjectionEvent.class.getName(),
+                                                      SagaEntry.class.getName())));
+            assertTrue(classNames.stream().noneMatch(className -> className.startsWith("java.")));
+        });
+    }
+
+    @Test
+    void replayableEventTypesAreCollectedPerHandlerType() {
+        withInitializedBeanFactory(beanFactory -> {
+            ReplayableEventTypes replayableEventTypes =
+                    beanFactory.getBean(ReplayableEventTypes.BEAN_NAME, ReplayableEventTypes.class);
+            assertEquals(List.of(SomeProjectionEvent.class.getName()),
+                         replayableEventTypes.replayableBy(SomeProjectionWithGroupAnnotation.class.getName())
+                                             .orElseThrow());
+            assertEquals(List.of(),
+                         replayableEventTypes.replayableBy(SomeProjectionWithoutGroupAnnotation.class.getName())
+                                             .orElseThrow());
+            assertEquals(List.of(SomeProjectionEvent.class.getName()),
+                         replayableEventTypes.replayableBy(SomeTracedProjection.class.getName()).orElseThrow());
+            assertEquals(3, replayableEventTypes.size());
+        });
+    }
+
+    @Test
+    void handledEventTypesAreCollectedPerProcessingGroup() {
+        withInitializedBeanFactory(beanFactory -> {
+            AxonHandlerMetadata metadata = beanFactory.getBean(AxonHandlerMetadata.BEAN_NAME, AxonHandlerMetadata.class);
+            assertEquals(new ProcessingGroupMetadata("some_group", List.of(SomeProjectionEvent.class.getName())),
+                         metadata.processingGroup("some_group").orElseThrow());
+            assertEquals(List.of(SomeProjectionEvent.class.getName()),
+                         metadata.processingGroup(SomeProjectionWithoutGroupAnnotation.class.getPackageName())
+                                 .orElseThrow()
+                                 .handledPayloadTypes());
+            assertEquals(2, metadata.processingGroups().size());
+        });
+    }
+
+    @Test
+    @CompileWithForkedClassLoader
+    void generatedInvokersCallHandlersDirectly() {
+        withInitializedBeanFactory(beanFactory -> {
+            GeneratedHandlerInvokers invokers =
+                    beanFactory.getBean(GeneratedHandlerInvokers.BEAN_NAME, GeneratedHandlerInvokers.class);
+            SomeAggregate aggregate = new SomeAggregate();
+            try {
+                invokers.invocationOf(SomeAggregate.class.getDeclaredMethod("onStatusChangedEvent",
+                                                                            StatusChangedEvent.class))
+                        .orElseThrow()
+                        .invoke(aggregate, new StatusChangedEvent("id", "active"));
+                GeneratedHandlerInvokers.Invocation changeStatus = invokers.invocationOf(
+                        SomeAggregate.class.getMethod("handle", ChangeStatusCommand.class)
+                ).orElseThrow();
+                assertThrows(IllegalStateException.class,
+                             () -> changeStatus.invoke(aggregate, new ChangeStatusCommand("id", "active")));
+                assertTrue(invokers.invocationOf(SomeAggregate.class.getConstructor(SomeCommand.class))
+                                   .isPresent());
+                assertTrue(invokers.invocationOf(SomeAggregate.class.getMethod("onStatusReminder",
+                                                                               StatusReminder.class))
+                                   .isPresent());
+                assertTrue(invokers.invocationOf(SomeAggregate.class.getMethod("onExpiry")).isPresent());
+                assertTrue(invokers.invocationOf(SomeAggregate.class.getMethod("exceptionHandler", Exception.class))
+                                   .isEmpty());
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+    }
+
+    @Test
+    @CompileWithForkedClassLoader
+    void generatedInstantiatorsCreateAggregates() {
+        withInitializedBeanFactory(beanFactory -> {
+            GeneratedAggregateInstantiators instantiators = beanFactory.getBean(
+                    GeneratedAggregateInstantiators.BEAN_NAME, GeneratedAggregateInstantiators.class
+            );
+
+            assertInstanceOf(SomeAggregate.class,
+                             instantiators.instantiatorOf(SomeAggregate.class).orElseThrow().newInstance());
+            assertTrue(instantiators.instantiatorOf(SomeAggregateChild.class).isEmpty());
+            assertEquals(1, instantiators.size());
+        });
+    }
+
+    @Test
+    @CompileWithForkedClassLoader
+    void generatedSnapshotCodecsWriteTheAggregateAndItsEntities() {
+        withInitializedBeanFactory(beanFactory -> {
+            GeneratedSnapshotCodecs codecs =
+                    beanFactory.getBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class);
+            SnapshotCodecSerializer serializer = new SnapshotCodecSerializer(JavaSerializer.builder().build(), codecs);
+            SomeAggregate aggregate = new SomeAggregate();
+            ReflectionTestUtils.setField(aggregate, "id", "aggregateId");
+            ReflectionTestUtils.setField(aggregate, "status", "active");
+            ReflectionTestUtils.setField(aggregate, "child", new SingleAggregateChild("single", "one"));
+            ReflectionTestUtils.invokeMethod(aggregate, "onAddedToList", new ChildAddedToListEvent("listed", "two"));
+            ReflectionTestUtils.invokeMethod(aggregate, "onAddedToMap",
+                                             new ChildAddedToMapEvent("mapped", "key", "three"));
+
+            SomeAggregate result = serializer.deserialize(serializer.serialize(aggregate, byte[].class));
+
+            assertEquals("aggregateId", ReflectionTestUtils.getField(result, "id"));
+            assertEquals("active", ReflectionTestUtils.getField(result, "status"));
+            assertEquals(new SingleAggregateChild("single", "one"), ReflectionTestUtils.getField(result, "child"));
+            assertEquals(List.of(new SomeAggregateChild("listed", "two")),
+                         ReflectionTestUtils.getField(result, "childList"));
+            assertEquals(Map.of("key", new SomeAggregateChild("mapped", "three")),
+                         ReflectionTestUtils.getField(result, "childMap"));
+        });
+    }
+
+    @Test
+    @CompileWithForkedClassLoader
+    void generatedSnapshotCodecsWriteDeadlinePayloads() {
+        withInitializedBeanFactory(beanFactory -> {
+            GeneratedSnapshotCodecs codecs =
+                    beanFactory.getBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class);
+            SnapshotCodecSerializer serializer = new SnapshotCodecSerializer(JavaSerializer.builder().build(), codecs);
+            StatusReminder reminder = new StatusReminder("aggregateId", "reminded");
+
+            SerializedObject<byte[]> serialized = serializer.serialize(reminder, byte[].class);
+
+            assertTrue(codecs.codecOf(StatusReminder.class).isPresent());
+            assertTrue(codecs.codecOf(StatusChangedEvent.class).isEmpty());
+            assertEquals(2, codecs.size());
+            assertEquals(reminder, serializer.deserialize(serialized));
+        });
+    }
+
+    @Test
+    void generatedResolversResolveMetaDataValueParameters() {
+        withInitializedBeanFactory(beanFactory -> {
+            GeneratedMetaDataResolvers resolvers =
+                    beanFactory.getBean(GeneratedMetaDataResolvers.BEAN_NAME, GeneratedMetaDataResolvers.class);
+            try {
+                Method handler = SomeTracedProjection.class.getMethod(
+                        "on", SomeProjectionEvent.class, String.class, String.class
+                );
+                ParameterResolver<Object> traceId = resolvers.resolverOf(handler, 1).orElseThrow();
+                ParameterResolver<Object> tenant = resolvers.resolverOf(handler, 2).orElseThrow();
+                GenericEventMessage<SomeProjectionEvent> traced = new GenericEventMessage<>(
+                        new SomeProjectionEvent("id"), MetaData.with("traceId", "trace")
+                );
+                GenericEventMessage<SomeProjectionEvent> wronglyTraced = new GenericEventMessage<>(
+                        new SomeProjectionEvent("id"), MetaData.with("traceId", 42)
+                );
+
+                assertTrue(resolvers.resolverOf(handler, 0).isEmpty());
+                assertTrue(traceId.matches(traced));
+                assertEquals("trace", traceId.resolveParameterValue(traced));
+                assertFalse(traceId.matches(wronglyTraced));
+                assertTrue(tenant.matches(traced));
+                assertNull(tenant.resolveParameterValue(traced));
+            } catch (NoSuchMethodException e) {
+                fail(e);
+            }
+        });
+    }
+
+    @Test
+    void onlyObservedHandlersAreHintedWhenAnObservedHintProfileIsPresent(@TempDir Path profileRoot) throws Exception {
+        Method observedHandler = SomeProjectionWithGroupAnnotation.class.getMethod("handle", SomeQuery.class);
+        Path profile = profileRoot.resolve(ObservedHints.PROFILE_LOCATION);
+        Files.createDirectories(profile.getParent());
+        Files.writeString(profile, SomeProjectionWithGroupAnnotation.class.getName() + "#"
+                + observedHandler.toGenericString() + "\n");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{profileRoot.toUri().toURL()},
+                                                             getClass().getClassLoader())) {
+            GenericApplicationContext profiledContext = new GenericApplicationContext();
+            profiledContext.setClassLoader(classLoader);
+            profiledContext.registerBeanDefinition(SomeProjectionWithGroupAnnotation.class.getName(),
+                                                   new RootBeanDefinition(SomeProjectionWithGroupAnnotation.class));
+            TestGenerationContext profiledGenerationContext = new TestGenerationContext();
+            new ApplicationContextAotGenerator().processAheadOfTime(profiledContext, profiledGenerationContext);
+
+            RuntimeHints hints = profiledGenerationContext.getRuntimeHints();
+            assertTrue(RuntimeHintsPredicates.reflection().onMethod(observedHandler).invoke().test(hints));
+            assertFalse(RuntimeHintsPredicates.reflection()
+                                              .onMethod(SomeProjectionWithGroupAnnotation.class, "on")
+                                              .invoke()
+                                              .test(hints));
+            assertFalse(RuntimeHintsPredicates.reflection()
+                                              .onType(SomeProjectionEvent.class)
+                                              .test(hints));
+        }
+    }
+
+    @Test
+    void typesDescribedByLibrariesAreInspectedByDefault(@TempDir Path libraryRoot) throws Exception {
+        processLibraryAggregate(libraryRoot, new MockEnvironment(), (generationContext, beanFactory) -> {
+            assertTrue(RuntimeHintsPredicates.reflection()
+                                             .onMethod(SomeAggregate.class, "handle")
+                                             .invoke()
+                                             .test(generationContext.getRuntimeHints()));
+            assertTrue(beanFactory.containsBean(GeneratedAggregateInstantiators.BEAN_NAME));
+            assertTrue(beanFactory.containsBean(GeneratedHandlerInvokers.BEAN_NAME));
+        });
+    }
+
+    @Test
+    void typesDescribedByLibrariesAreNotInspectedAgainWhenEnabled(@TempDir Path libraryRoot) throws Exception {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(MessageHandlerRuntimeHintsRegistrar.LIBRARY_METADATA_PROPERTY, "true");
+        processLibraryAggregate(libraryRoot, environment, (generationContext, beanFactory) -> {
+            assertFalse(RuntimeHintsPredicates.reflection()
+                                              .onMethod(SomeAggregate.class, "handle")
+                                              .invoke()
+                                              .test(generationContext.getRuntimeHints()));
+            AxonHandlerMetadata metadata =
+                    beanFactory.getBean(AxonHandlerMetadata.BEAN_NAME, AxonHandlerMetadata.class);
+            HandlerTypeMetadata aggregate = metadata.handlerType(SomeAggregate.class.getName()).orElseThrow();
+            assertEquals(List.of("someAggregate"), aggregate.beanNames());
+            assertTrue(aggregate.handlers().stream().anyMatch(
+                    h -> h.payloadType().equals(ChangeStatusCommand.class.getName())
+            ));
+            assertTrue(metadata.handlerType(SomeAggregateChild.class.getName()).isPresent());
+            assertTrue(metadata.handlerType(SingleAggregateChild.class.getName()).isPresent());
+            assertFalse(beanFactory.containsBean(GeneratedAggregateInstantiators.BEAN_NAME));
+        });
+    }
+
+    private static void processLibraryAggregate(Path libraryRoot,
+                                                MockEnvironment environment,
+                                                BiConsumer<TestGenerationContext, ListableBeanFactory> assertions)
+            throws Exception {
+        LibraryMetadataWriterTest.copyLibraryClasses(SomeAggregate.class, libraryRoot);
+        ClassLoader parent = MessageHandlerRuntimeHintsRegistrarTest.class.getClassLoader();
+        LibraryMetadataWriter.write(libraryRoot, "com.example", "library", parent);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{libraryRoot.toUri().toURL()}, parent)) {
+            GenericApplicationContext libraryContext = new GenericApplicationContext();
+            libraryContext.setClassLoader(classLoader);
+            libraryContext.setEnvironment(environment);
+            libraryContext.registerBeanDefinition("someAggregate", new RootBeanDefinition(SomeAggregate.class));
+            TestGenerationContext libraryGenerationContext = new TestGenerationContext();
+            ClassName libraryInitializerClassName =
+                    new ApplicationContextAotGenerator().processAheadOfTime(libraryContext, libraryGenerationContext);
+            libraryGenerationContext.writeGeneratedContent();
+
+            withInitializedBeanFactory(libraryGenerationContext, libraryInitializerClassName,
+                                       beanFactory -> assertions.accept(libraryGenerationContext, beanFactory));
+        }
+    }
+
+    @Test
+    void aggregateSubtypesAreRegisteredPerAggregateType() {
+        assertFalse(RuntimeHintsPredicates.reflection()
+                                          .onType(SavingsAccount.class)
+                                          .test(this.generationContext.getRuntimeHints()));
+        withInitializedBeanFactory(
+                beanFactory -> assertFalse(beanFactory.containsBean(AggregateHierarchies.BEAN_NAME))
+        );
+
+        GenericApplicationContext polymorphicContext = new GenericApplicationContext();
+        for (Class<?> accountType : List.of(SomeAccount.class, SavingsAccount.class, PremiumAccount.class)) {
+            RootBeanDefinition account = new RootBeanDefinition(accountType);
+            account.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+            polymorphicContext.registerBeanDefinition(accountType.getSimpleName(), account);
+        }
+        TestGenerationContext polymorphicGenerationContext = new TestGenerationContext();
+        ClassName polymorphicInitializerClassName =
+                new ApplicationContextAotGenerator().processAheadOfTime(polymorphicContext,
+                                                                        polymorphicGenerationContext);
+        polymorphicGenerationContext.writeGeneratedContent();
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+                                         .onMethod(SavingsAccount.class, "changeStatus")
+                                         .invoke()
+                                         .test(polymorphicGenerationContext.getRuntimeHints()));
+        withInitializedBeanFactory(polymorphicGenerationContext, polymorphicInitializerClassName, beanFactory -> {
+            AggregateHierarchies hierarchies =
+                    beanFactory.getBean(AggregateHierarchies.BEAN_NAME, AggregateHierarchies.class);
+            assertEquals(Set.of(SavingsAccount.class, PremiumAccount.class), hierarchies.subtypesOf(SomeAccount.class));
+            assertEquals(Set.of(PremiumAccount.class), hierarchies.subtypesOf(SavingsAccount.class));
+            assertEquals(Set.of(), hierarchies.subtypesOf(PremiumAccount.class));
+        });
+    }
+
+    private void withInitializedBeanFactory(Consumer<ListableBeanFactory> assertions) {
+        withInitializedBeanFactory(this.generationContext, this.initializerClassName, assertions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void withInitializedBeanFactory(TestGenerationContext generationContext,
+                                                   ClassName initializerClassName,
+                                                   Consumer<ListableBeanFactory> assertions) {
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            GenericApplicationContext freshContext = new GenericApplicationContext();
+            ApplicationContextInitializer<GenericApplicationContext> initializer =
+                    compiled.getInstance(ApplicationContextInitializer.class, initializerClassName.reflectionName());
+            initializer.initialize(freshContext);
+            assertions.accept(freshContext.getDefaultListableBeanFactory());
+        });
+    }
+
+    private String resourceContent(String path) {
+        try {
+            return this.generationContext.getGeneratedFiles().getGeneratedFileContent(GeneratedFiles.Kind.RESOURCE,
+                                                                                       path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void addClassToBeanFactory(Class<?> clazz) {
         BeanDefinition definition = new RootBeanDefinition(clazz);
         beanFactory.registerBeanDefinition(clazz.getName(), definition);
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import com.axoniq.someproject.api.StatusReminder;
+import com.axoniq.someproject.something.SomeAggregate;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.AggregateMember;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.modelling.command.EntityId;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodecs;
+import org.axonframework.springboot.aot.snapshot.SnapshotCodecSerializer;
+import org.junit.jupiter.api.*;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.test.tools.CompileWithForkedClassLoader;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link SnapshotCodecGenerator}.
+ *
+ * @author Allard Buijze
+ */
+@CompileWithForkedClassLoader
+class SnapshotCodecGeneratorTest {
+
+    private final TestGenerationContext generationContext = new TestGenerationContext();
+    private ClassName initializerClassName;
+
+    @BeforeEach
+    void processAheadOfTime() {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.registerBeanDefinition("richAggregate", new RootBeanDefinition(RichAggregate.class));
+        applicationContext.registerBeanDefinition("unsupportedAggregate",
+                                                  new RootBeanDefinition(UnsupportedAggregate.class));
+        initializerClassName = new ApplicationContextAotGenerator().processAheadOfTime(applicationContext,
+                                                                                      generationContext);
+        generationContext.writeGeneratedContent();
+    }
+
+    @Test
+    void codecsAreOnlyGeneratedForAggregatesOfWhichAllStateCanBeWritten() {
+        withCodecs(codecs -> {
+            assertTrue(codecs.codecOf(RichAggregate.class).isPresent());
+            assertTrue(codecs.codecOf(UnsupportedAggregate.class).isEmpty());
+            assertEquals(1, codecs.size());
+        });
+    }
+
+    @Test
+    void deadlinePayloadTypesAreTheTypesOnlyHandledByDeadlineHandlers() {
+        List<MessageHandlingMember<?>> members =
+                AnnotatedHandlerInspector.inspectType(SomeAggregate.class)
+                                         .getAllHandlers().values().stream()
+                                         .flatMap(Collection::stream)
+                                         .<MessageHandlingMember<?>>map(member -> member)
+                                         .toList();
+
+        assertEquals(Set.of(StatusReminder.class), SnapshotCodecGenerator.deadlinePayloadTypes(members));
+    }
+
+    @Test
+    void fieldsAccessedByCodecsAreRegisteredForReflection() throws NoSuchFieldException {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                                         .onField(RichAggregate.class.getDeclaredField("status"))
+                                         .test(generationContext.getRuntimeHints()));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                                         .onField(Item.class.getDeclaredField("quantity"))
+                                         .test(generationContext.getRuntimeHints()));
+    }
+
+    @Test
+    void generatedCodecsWriteAndReadTheStateOfAggregates() {
+        withCodecs(codecs -> {
+            SnapshotCodecSerializer serializer =
+                    new SnapshotCodecSerializer(JavaSerializer.builder().build(), codecs);
+            RichAggregate aggregate = RichAggregate.sample();
+
+            SerializedObject<byte[]> serialized = serializer.serialize(aggregate, byte[].class);
+            RichAggregate result = serializer.deserialize(serialized);
+
+            assertEquals(RichAggregate.class.getName(), serialized.getType().getName());
+            assertEquals(0, serialized.getData()[0]);
+            assertEquals(aggregate.id, result.id);
+            assertEquals(aggregate.count, result.count);
+            assertEquals(aggregate.version, result.version);
+            assertEquals(aggregate.active, result.active);
+            assertEquals(aggregate.ratio, result.ratio);
+            assertEquals(aggregate.grade, result.grade);
+            assertEquals(aggregate.status, result.status);
+            assertEquals(aggregate.reference, result.reference);
+            assertEquals(aggregate.createdAt, result.createdAt);
+            assertEquals(aggregate.amount, result.amount);
+            assertEquals(aggregate.tags, result.tags);
+            assertEquals(aggregate.scores, result.scores);
+            assertEquals(aggregate.history, result.history);
+            assertEquals(aggregate.money, result.money);
+            assertEquals(List.of("first", "second"), result.items.stream().map(i -> i.id).toList());
+            assertEquals(List.of(1, 2), result.items.stream().map(i -> i.quantity).toList());
+            assertEquals("main", result.mainItem.id);
+            assertNull(result.cache);
+        });
+    }
+
+    @Test
+    void aggregatesWithEntitiesOfOtherTypesAreWrittenByTheDelegate() {
+        withCodecs(codecs -> {
+            SnapshotCodecSerializer serializer =
+                    new SnapshotCodecSerializer(JavaSerializer.builder().build(), codecs);
+            RichAggregate aggregate = RichAggregate.sample();
+            aggregate.mainItem = new SpecialItem();
+
+            SerializedObject<byte[]> serialized = serializer.serialize(aggregate, byte[].class);
+
+            assertEquals((byte) 0xAC, serialized.getData()[0]);
+            assertInstanceOf(SpecialItem.class, serializer.<byte[], RichAggregate>deserialize(serialized).mainItem);
+        });
+    }
+
+    private void withCodecs(Consumer<GeneratedSnapshotCodecs> assertions) {
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            GenericApplicationContext freshContext = new GenericApplicationContext();
+            @SuppressWarnings("unchecked")
+            ApplicationContextInitializer<GenericApplicationContext> initializer =
+                    compiled.getInstance(ApplicationContextInitializer.class, initializerClassName.reflectionName());
+            initializer.initialize(freshContext);
+            assertions.accept(freshContext.getDefaultListableBeanFactory()
+                                          .getBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class));
+        });
+    }
+
+    public enum Status {
+        NEW, ACTIVE, CLOSED
+    }
+
+    public record Money(BigDecimal amount, String currency) implements Serializable {
+
+    }
+
+    public record RichCommand(String id) {
+
+    }
+
+    @AggregateRoot
+    public static class RichAggregate implements Serializable {
+
+        @AggregateIdentifier
+        private String id;
+        private int count;
+        private long version;
+        private boolean active;
+        private double ratio;
+        private char grade;
+        private Status status;
+        private UUID reference;
+        private Instant createdAt;
+        private BigDecimal amount;
+        private final List<String> tags = new ArrayList<>();
+        private Map<String, Integer> scores;
+        private Set<Status> history;
+        private Money money;
+        @AggregateMember
+        private final List<Item> items = new ArrayList<>();
+        @AggregateMember
+        private Item mainItem;
+        private transient String cache;
+
+        static RichAggregate sample() {
+            RichAggregate aggregate = new RichAggregate();
+            aggregate.id = "aggregateId";
+            aggregate.count = -42;
+            aggregate.version = Long.MAX_VALUE;
+            aggregate.active = true;
+            aggregate.ratio = 0.25;
+            aggregate.grade = 'A';
+            aggregate.status = Status.ACTIVE;
+            aggregate.reference = UUID.randomUUID();
+            aggregate.createdAt = Instant.parse("2025-01-02T03:04:05.123456789Z");
+            aggregate.amount = new BigDecimal("-1234.5678");
+            aggregate.tags.addAll(List.of("a", "b"));
+            aggregate.scores = new HashMap<>(Map.of("x", 1, "y", 2));
+            aggregate.history = new LinkedHashSet<>(EnumSet.of(Status.NEW, Status.ACTIVE));
+            aggregate.money = new Money(BigDecimal.TEN, "EUR");
+            aggregate.items.add(new Item("first", 1));
+            aggregate.items.add(new Item("second", 2));
+            aggregate.mainItem = new Item("main", 3);
+            aggregate.cache = "cached";
+            return aggregate;
+        }
+
+        @CommandHandler
+        public void handle(RichCommand command) {
+            // no state changes needed to test snapshots
+        }
+    }
+
+    public static class Item implements Serializable {
+
+        @EntityId
+        private String id;
+        private int quantity;
+
+        public Item() {
+        }
+
+        Item(String id, int quantity) {
+            this.id = id;
+            this.quantity = quantity;
+        }
+    }
+
+    public static class SpecialItem extends Item {
+
+    }
+
+    @AggregateRoot
+    public static class UnsupportedAggregate {
+
+        @AggregateIdentifier
+        private final String id = "fixed";
+
+        @CommandHandler
+        public void handle(RichCommand command) {
+            // the final identifier can't be written by a codec
+        }
+    }
+}
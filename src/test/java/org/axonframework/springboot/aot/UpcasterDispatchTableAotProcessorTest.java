@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot;
+
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.ContextAwareSingleEventUpcaster;
+import org.axonframework.serialization.upcasting.event.EventTypeUpcaster;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.axonframework.springboot.aot.upcasting.UpcastedType;
+import org.axonframework.springboot.aot.upcasting.UpcasterDispatchTable;
+import org.junit.jupiter.api.*;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link UpcasterDispatchTableAotProcessor}.
+ *
+ * @author Allard Buijze
+ */
+class UpcasterDispatchTableAotProcessorTest {
+
+    @Test
+    void upcastedTypesAreReadFromAnnotations() {
+        assertEquals(Optional.of(List.of(new SimpleSerializedType("Old", null),
+                                         new SimpleSerializedType("Old", "1"))),
+                     UpcasterDispatchTableAotProcessor.upcastedTypes(DeclaringUpcaster.class));
+    }
+
+    @Test
+    void upcastersNotUpcastingEachEventByItselfAreIgnored() {
+        assertEquals(Optional.empty(), UpcasterDispatchTableAotProcessor.upcastedTypes(ContextAwareUpcaster.class));
+        assertEquals(Optional.empty(), UpcasterDispatchTableAotProcessor.upcastedTypes(UndeclaredUpcaster.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tableIsRegisteredInTheApplicationContext() {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("declaringUpcaster", DeclaringUpcaster.class);
+        applicationContext.registerBean("undeclaredUpcaster", UndeclaredUpcaster.class);
+        TestGenerationContext generationContext = new TestGenerationContext();
+        ClassName initializerClassName = new ApplicationContextAotGenerator()
+                .processAheadOfTime(applicationContext, generationContext);
+        generationContext.writeGeneratedContent();
+
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            GenericApplicationContext freshContext = new GenericApplicationContext();
+            compiled.getInstance(ApplicationContextInitializer.class, initializerClassName.reflectionName())
+                    .initialize(freshContext);
+            UpcasterDispatchTable table = freshContext.getDefaultListableBeanFactory().getBean(
+                    UpcasterDispatchTable.BEAN_NAME, UpcasterDispatchTable.class
+            );
+
+            assertEquals(Map.of(DeclaringUpcaster.class.getName(), List.of(new SimpleSerializedType("Old", null),
+                                                                            new SimpleSerializedType("Old", "1"))),
+                         table.upcastedTypes());
+        });
+    }
+
+    @Test
+    void noTableIsRegisteredWithoutDeclaringUpcasters() {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean("undeclaredUpcaster", UndeclaredUpcaster.class);
+        applicationContext.refreshForAotProcessing(new RuntimeHints());
+
+        assertNull(new UpcasterDispatchTableAotProcessor().processAheadOfTime(applicationContext.getBeanFactory()));
+    }
+
+    @UpcastedType(type = "Old")
+    @UpcastedType(type = "Old", revision = "1")
+    public static class DeclaringUpcaster extends EventTypeUpcaster {
+
+        public DeclaringUpcaster() {
+            super("Old", null, "New", null);
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            return intermediateRepresentation.getType().getName().equals("Old");
+        }
+    }
+
+    public static class UndeclaredUpcaster extends EventTypeUpcaster {
+
+        public UndeclaredUpcaster() {
+            super("Other", null, "Other", "1");
+        }
+    }
+
+    @UpcastedType(type = "Old")
+    public static class ContextAwareUpcaster extends ContextAwareSingleEventUpcaster<Object> {
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation, Object context) {
+            return false;
+        }
+
+        @Override
+        protected IntermediateEventRepresentation doUpcast(IntermediateEventRepresentation intermediateRepresentation,
+                                                           Object context) {
+            return intermediateRepresentation;
+        }
+
+        @Override
+        protected Object buildContext() {
+            return new Object();
+        }
+    }
+}
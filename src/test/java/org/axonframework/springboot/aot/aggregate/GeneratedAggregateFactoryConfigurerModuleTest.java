@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.config.AggregateConfigurer;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.spring.stereotype.Aggregate;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedAggregateFactoryConfigurerModule}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedAggregateFactoryConfigurerModuleTest {
+
+    private final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+    private final GeneratedAggregateInstantiators instantiators =
+            new GeneratedAggregateInstantiators(List.of(new GeneratedAggregateInstantiator() {
+                @Override
+                public Class<?> aggregateType() {
+                    return SpringAggregate.class;
+                }
+
+                @Override
+                public Object newInstance() {
+                    return new SpringAggregate();
+                }
+            }));
+
+    @BeforeEach
+    void setUp() {
+        RootBeanDefinition aggregateDefinition = new RootBeanDefinition(SpringAggregate.class);
+        aggregateDefinition.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+        applicationContext.registerBeanDefinition("springAggregate", aggregateDefinition);
+        applicationContext.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationContext.close();
+    }
+
+    @Test
+    void springAggregatesAreCreatedThroughGeneratedInstantiators() {
+        InjectedService injectedService = new InjectedService();
+        AggregateConfigurer<SpringAggregate> aggregate = AggregateConfigurer.defaultConfiguration(SpringAggregate.class);
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false)
+                                                 .registerComponent(InjectedService.class, c -> injectedService)
+                                                 .configureAggregate(aggregate);
+
+        new GeneratedAggregateFactoryConfigurerModule(applicationContext.getBeanFactory(), instantiators)
+                .configureModule(configurer);
+        configurer.buildConfiguration();
+
+        GeneratedAggregateFactory<?> factory =
+                assertInstanceOf(GeneratedAggregateFactory.class, aggregate.aggregateFactory());
+        SpringAggregate created = (SpringAggregate) factory.createAggregateRoot(
+                "id", new GenericDomainEventMessage<>("SpringAggregate", "id", 0, "created")
+        );
+        assertSame(injectedService, created.injectedService);
+        assertInstanceOf(GeneratedCreationPolicyAggregateFactory.class, aggregate.creationPolicyAggregateFactory());
+    }
+
+    @Test
+    void otherAggregatesKeepTheirFactories() {
+        AggregateConfigurer<PlainAggregate> aggregate = AggregateConfigurer.defaultConfiguration(PlainAggregate.class);
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false).configureAggregate(aggregate);
+
+        new GeneratedAggregateFactoryConfigurerModule(applicationContext.getBeanFactory(), instantiators)
+                .configureModule(configurer);
+        configurer.buildConfiguration();
+
+        assertFalse(aggregate.aggregateFactory() instanceof GeneratedAggregateFactory);
+        assertNull(aggregate.creationPolicyAggregateFactory());
+    }
+
+    @Aggregate
+    static class SpringAggregate {
+
+        @AggregateIdentifier
+        private String id;
+        @Autowired
+        private transient InjectedService injectedService;
+    }
+
+    static class PlainAggregate {
+
+        @AggregateIdentifier
+        private String id;
+    }
+
+    static class InjectedService {
+
+    }
+}
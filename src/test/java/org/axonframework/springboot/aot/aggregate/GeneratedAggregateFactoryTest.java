@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.EventSourcingHandler;
+import org.axonframework.eventsourcing.IncompatibleAggregateException;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.AggregateRoot;
+import org.junit.jupiter.api.*;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedAggregateFactory}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedAggregateFactoryTest {
+
+    @Test
+    void aggregateIsCreatedThroughTheInstantiatorOfItsType() {
+        GeneratedAggregateFactory<Vehicle> factory =
+                new GeneratedAggregateFactory<>(Vehicle.class, Map.of(Car.class, Car::new, Bike.class, Bike::new));
+
+        assertInstanceOf(Car.class, factory.createAggregateRoot("id", eventOf("Car", "created")));
+        assertInstanceOf(Bike.class, factory.createAggregateRoot("id", eventOf("Bike", "created")));
+    }
+
+    @Test
+    void aggregateIsCreatedThroughTheInstantiatorOfItsDeclaredType() {
+        GeneratedAggregateFactory<Vehicle> factory =
+                new GeneratedAggregateFactory<>(Vehicle.class, Map.of(Truck.class, Truck::new));
+
+        assertInstanceOf(Truck.class, factory.createAggregateRoot("id", eventOf("lorry", "created")));
+    }
+
+    @Test
+    void aggregateFromSnapshotIsUsedAsItIs() {
+        GeneratedAggregateFactory<Vehicle> factory = new GeneratedAggregateFactory<>(Vehicle.class, Map.of());
+        Car snapshot = new Car();
+
+        assertSame(snapshot, factory.createAggregateRoot("id", eventOf("Car", snapshot)));
+    }
+
+    @Test
+    void createdAggregatesArePostProcessed() {
+        GeneratedAggregateFactory<Vehicle> factory = new GeneratedAggregateFactory<>(
+                Vehicle.class, Map.of(Car.class, Car::new), vehicle -> {
+                    vehicle.postProcessed = true;
+                    return vehicle;
+                }
+        );
+
+        assertTrue(factory.createAggregateRoot("id", eventOf("Car", "created")).postProcessed);
+    }
+
+    @Test
+    void aggregateWithoutInstantiatorCannotBeCreated() {
+        GeneratedAggregateFactory<Vehicle> factory =
+                new GeneratedAggregateFactory<>(Vehicle.class, Map.of(Car.class, Car::new));
+
+        assertThrows(IncompatibleAggregateException.class,
+                     () -> factory.createAggregateRoot("id", eventOf("Bike", "created")));
+    }
+
+    private static GenericDomainEventMessage<Object> eventOf(String aggregateType, Object payload) {
+        return new GenericDomainEventMessage<>(aggregateType, "id", 0, payload);
+    }
+
+    @AggregateRoot
+    abstract static class Vehicle {
+
+        @AggregateIdentifier
+        private String id;
+        private boolean postProcessed;
+    }
+
+    static class Car extends Vehicle {
+
+        @EventSourcingHandler
+        void on(String event) {
+        }
+    }
+
+    @AggregateRoot(type = "lorry")
+    static class Truck extends Vehicle {
+
+        @EventSourcingHandler
+        void on(String event) {
+        }
+    }
+
+    static class Bike extends Vehicle {
+
+        @EventSourcingHandler
+        void on(String event) {
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedCreationPolicyAggregateFactory}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedCreationPolicyAggregateFactoryTest {
+
+    @Test
+    void aggregateIsCreatedThroughTheInstantiator() {
+        AtomicInteger instantiations = new AtomicInteger();
+        GeneratedCreationPolicyAggregateFactory<StringBuilder> factory = new GeneratedCreationPolicyAggregateFactory<>(
+                StringBuilder.class, new GeneratedAggregateInstantiator() {
+            @Override
+            public Class<?> aggregateType() {
+                return StringBuilder.class;
+            }
+
+            @Override
+            public Object newInstance() {
+                instantiations.incrementAndGet();
+                return new StringBuilder();
+            }
+        });
+
+        assertNotSame(factory.create("id"), factory.create(null));
+        assertEquals(2, instantiations.get());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.SomeCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.interceptors.ExceptionHandler;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.CommandHandlerInterceptor;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link InterceptorLinkingAggregateModel}.
+ *
+ * @author Allard Buijze
+ */
+class InterceptorLinkingAggregateModelTest {
+
+    @Test
+    void interceptorsAndExceptionHandlersAreLinkedToInstanceCommandHandlers() {
+        AggregateModel<InterceptedAggregate> model = linkingModelOf(InterceptedAggregate.class);
+
+        MessageHandlingMember<? super InterceptedAggregate> handler = handlerOf(model, ChangeStatusCommand.class);
+
+        LinkedInterceptorsMember<?> linked = assertInstanceOf(LinkedInterceptorsMember.class, handler);
+        assertEquals(3, linked.interceptors().size());
+        assertEquals(0, model.commandHandlerInterceptors(InterceptedAggregate.class).count());
+        assertEquals(AnnotatedAggregateMetaModelFactory.inspectAggregate(InterceptedAggregate.class)
+                                                       .commandHandlers(InterceptedAggregate.class)
+                                                       .count(),
+                     model.commandHandlers(InterceptedAggregate.class).count());
+    }
+
+    @Test
+    void constructorCommandHandlersAreNotLinked() {
+        AggregateModel<InterceptedAggregate> model = linkingModelOf(InterceptedAggregate.class);
+
+        MessageHandlingMember<? super InterceptedAggregate> handler = handlerOf(model, SomeCommand.class);
+
+        assertFalse(handler instanceof LinkedInterceptorsMember);
+    }
+
+    @Test
+    void linkedInterceptorsAreInvokedInOrderBeforeTheHandler() throws Exception {
+        AggregateModel<InterceptedAggregate> model = linkingModelOf(InterceptedAggregate.class);
+        InterceptedAggregate aggregate = new InterceptedAggregate();
+
+        handlerOf(model, ChangeStatusCommand.class).handle(
+                GenericCommandMessage.asCommandMessage(new ChangeStatusCommand("id", "status")), aggregate
+        );
+
+        assertEquals(List.of("changeStatus", "anyCommand", "handle"), aggregate.invocations);
+    }
+
+    @Test
+    void interceptorsForUnrelatedPayloadTypesAreNotLinked() throws Exception {
+        AggregateModel<InterceptedAggregate> model = linkingModelOf(InterceptedAggregate.class);
+        InterceptedAggregate aggregate = new InterceptedAggregate();
+
+        MessageHandlingMember<? super InterceptedAggregate> handler = handlerOf(model, String.class);
+        handler.handle(GenericCommandMessage.asCommandMessage("command"), aggregate);
+
+        assertEquals(2, assertInstanceOf(LinkedInterceptorsMember.class, handler).interceptors().size());
+        assertEquals(List.of("anyCommand", "handle"), aggregate.invocations);
+    }
+
+    private static <T> AggregateModel<T> linkingModelOf(Class<T> aggregateType) {
+        return new InterceptorLinkingAggregateModel<>(AnnotatedAggregateMetaModelFactory.inspectAggregate(aggregateType));
+    }
+
+    private static <T> MessageHandlingMember<? super T> handlerOf(AggregateModel<T> model, Class<?> payloadType) {
+        return model.commandHandlers(model.entityClass())
+                    .filter(handler -> handler.payloadType().equals(payloadType))
+                    .findFirst()
+                    .orElseThrow();
+    }
+
+    static class InterceptedAggregate {
+
+        @AggregateIdentifier
+        private String id;
+        private final List<String> invocations = new ArrayList<>();
+
+        public InterceptedAggregate() {
+        }
+
+        @CommandHandler
+        public InterceptedAggregate(SomeCommand command) {
+            this.id = command.id();
+        }
+
+        @ExceptionHandler
+        public void exceptionHandler(Exception error) throws Exception {
+            throw error;
+        }
+
+        @CommandHandlerInterceptor
+        public Object anyCommand(InterceptorChain chain) throws Exception {
+            invocations.add("anyCommand");
+            return chain.proceed();
+        }
+
+        @CommandHandlerInterceptor
+        public Object changeStatus(ChangeStatusCommand command, InterceptorChain chain) throws Exception {
+            invocations.add("changeStatus");
+            return chain.proceed();
+        }
+
+        @CommandHandler
+        public void handle(ChangeStatusCommand command) {
+            invocations.add("handle");
+        }
+
+        @CommandHandler
+        public void handle(String command) {
+            invocations.add("handle");
+        }
+    }
+}
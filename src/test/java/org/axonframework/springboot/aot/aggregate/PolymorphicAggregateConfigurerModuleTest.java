@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.modelling.command.inspection.AggregateMetaModelFactory;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.springboot.aot.aggregate.PolymorphicAggregateMetaModelFactoryTest.Account;
+import org.axonframework.springboot.aot.aggregate.PolymorphicAggregateMetaModelFactoryTest.SavingsAccount;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PolymorphicAggregateConfigurerModule}.
+ *
+ * @author Allard Buijze
+ */
+class PolymorphicAggregateConfigurerModuleTest {
+
+    private final AggregateHierarchies hierarchies = new AggregateHierarchies(Map.of(
+            Account.class.getName(), List.of(SavingsAccount.class.getName())
+    ));
+
+    @Test
+    void modelsAreCreatedByThePreviouslyRegisteredFactory() {
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false);
+        configurer.registerComponent(AggregateMetaModelFactory.class, InterceptorLinkingAggregateMetaModelFactory::new);
+        new PolymorphicAggregateConfigurerModule(() -> Optional.of(hierarchies)).configureModule(configurer);
+        Configuration configuration = configurer.buildConfiguration();
+
+        AggregateMetaModelFactory factory = configuration.getComponent(AggregateMetaModelFactory.class);
+        AggregateModel<Account> polymorphicModel = factory.createModel(Account.class);
+        AggregateModel<SavingsAccount> model = factory.createModel(SavingsAccount.class);
+
+        assertInstanceOf(PolymorphicAggregateModel.class, polymorphicModel);
+        assertTrue(polymorphicModel.commandHandlers(SavingsAccount.class)
+                                   .anyMatch(LinkedInterceptorsMember.class::isInstance));
+        assertInstanceOf(InterceptorLinkingAggregateModel.class, model);
+    }
+
+    @Test
+    void modelsAreCreatedAsByDefaultWithoutRegisteredFactory() {
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false);
+        new PolymorphicAggregateConfigurerModule(() -> Optional.of(hierarchies)).configureModule(configurer);
+        Configuration configuration = configurer.buildConfiguration();
+
+        AggregateMetaModelFactory factory = configuration.getComponent(AggregateMetaModelFactory.class);
+
+        assertInstanceOf(PolymorphicAggregateModel.class, factory.createModel(Account.class));
+        assertFalse(factory.createModel(SavingsAccount.class) instanceof PolymorphicAggregateModel);
+    }
+
+    @Test
+    void nothingIsRegisteredWithoutPolymorphicAggregates() {
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false);
+        configurer.registerComponent(AggregateMetaModelFactory.class, InterceptorLinkingAggregateMetaModelFactory::new);
+        new PolymorphicAggregateConfigurerModule(Optional::empty).configureModule(configurer);
+        new PolymorphicAggregateConfigurerModule(() -> Optional.of(new AggregateHierarchies(Map.of())))
+                .configureModule(configurer);
+
+        assertInstanceOf(InterceptorLinkingAggregateMetaModelFactory.class,
+                         configurer.buildConfiguration().getComponent(AggregateMetaModelFactory.class));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.aggregate;
+
+import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.SomeCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.messaging.InterceptorChain;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.modelling.command.AggregateIdentifier;
+import org.axonframework.modelling.command.CommandHandlerInterceptor;
+import org.axonframework.modelling.command.inspection.AggregateModel;
+import org.axonframework.modelling.command.inspection.AnnotatedAggregateMetaModelFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link PolymorphicAggregateMetaModelFactory}.
+ *
+ * @author Allard Buijze
+ */
+class PolymorphicAggregateMetaModelFactoryTest {
+
+    private final Configuration configuration = DefaultConfigurer.defaultConfiguration(false).buildConfiguration();
+    private final AggregateHierarchies hierarchies = new AggregateHierarchies(Map.of(
+            Account.class.getName(), List.of(SavingsAccount.class.getName(), "com.example.MissingAccount")
+    ));
+
+    @Test
+    void subtypesFoundAheadOfTimeAreInspected() {
+        AggregateModel<Account> model = new PolymorphicAggregateMetaModelFactory(configuration, hierarchies)
+                .createModel(Account.class, Set.of());
+
+        assertInstanceOf(PolymorphicAggregateModel.class, model);
+        assertTrue(model.allCommandHandlers().containsKey(SavingsAccount.class));
+        assertEquals(Set.of(ChangeStatusCommand.class, SomeCommand.class, String.class),
+                     payloadTypes(model.commandHandlers(SavingsAccount.class).toList()));
+        assertEquals(Set.of(ChangeStatusCommand.class, SomeCommand.class),
+                     payloadTypes(model.commandHandlers(Account.class).toList()));
+    }
+
+    @Test
+    void handlersOfConcreteTypesMatchTheDelegate() {
+        AggregateModel<Account> delegate =
+                AnnotatedAggregateMetaModelFactory.inspectAggregate(Account.class, Set.of(SavingsAccount.class));
+        AggregateModel<Account> model =
+                new PolymorphicAggregateModel<>(delegate, List.of(Account.class, SavingsAccount.class));
+
+        for (Class<? extends Account> type : List.of(Account.class, SavingsAccount.class, PremiumAccount.class)) {
+            assertEquals(delegate.commandHandlers(type).toList(), model.commandHandlers(type).toList());
+            assertEquals(delegate.commandHandlerInterceptors(type).toList(),
+                         model.commandHandlerInterceptors(type).toList());
+        }
+        assertEquals(1, model.commandHandlerInterceptors(PremiumAccount.class).count());
+    }
+
+    @Test
+    void modelsAreCreatedByTheDelegate() {
+        AggregateModel<Account> model = new PolymorphicAggregateMetaModelFactory(
+                new InterceptorLinkingAggregateMetaModelFactory(configuration), hierarchies
+        ).createModel(Account.class, Set.of());
+
+        assertEquals(0, model.commandHandlerInterceptors(SavingsAccount.class).count());
+        assertTrue(model.commandHandlers(SavingsAccount.class).anyMatch(LinkedInterceptorsMember.class::isInstance));
+    }
+
+    @Test
+    void modelsOfAggregatesWithoutSubtypesAreNotWrapped() {
+        AggregateModel<SavingsAccount> model =
+                new PolymorphicAggregateMetaModelFactory(configuration, hierarchies)
+                        .createModel(SavingsAccount.class, Set.of());
+
+        assertFalse(model instanceof PolymorphicAggregateModel);
+    }
+
+    private static Set<Class<?>> payloadTypes(List<? extends MessageHandlingMember<?>> handlers) {
+        return Set.copyOf(handlers.stream().map(MessageHandlingMember::payloadType).toList());
+    }
+
+    static class Account {
+
+        @AggregateIdentifier
+        protected String id;
+
+        public Account() {
+        }
+
+        @CommandHandler
+        public Account(SomeCommand command) {
+            this.id = command.id();
+        }
+
+        @CommandHandlerInterceptor
+        public Object intercept(InterceptorChain chain) throws Exception {
+            return chain.proceed();
+        }
+
+        @CommandHandler
+        public void handle(ChangeStatusCommand command) {
+        }
+    }
+
+    static class SavingsAccount extends Account {
+
+        @CommandHandler
+        public void handle(String command) {
+        }
+    }
+
+    static class PremiumAccount extends SavingsAccount {
+
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodec;
+import org.axonframework.springboot.aot.snapshot.GeneratedSnapshotCodecs;
+import org.axonframework.springboot.aot.snapshot.SnapshotCodecSerializer;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link GeneratedSnapshotCodecAutoConfiguration}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedSnapshotCodecAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                          .withPropertyValues("axon.axonserver.enabled=false");
+
+    @Test
+    void generalSerializerWritesSnapshotsWithGeneratedCodecsWhenEnabled() {
+        contextRunner.withBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class,
+                               GeneratedSnapshotCodecAutoConfigurationTest::codecs)
+                     .withPropertyValues("axon.aot.snapshot-codec.enabled=true")
+                     .run(context -> {
+                         assertInstanceOf(SnapshotCodecSerializer.class,
+                                          context.getBean("serializer", Serializer.class));
+                         assertFalse(context.getBean("eventSerializer") instanceof SnapshotCodecSerializer);
+                         assertFalse(context.getBean("messageSerializer") instanceof SnapshotCodecSerializer);
+                     });
+    }
+
+    @Test
+    void generalSerializerIsLeftAsIsWithoutGeneratedCodecs() {
+        contextRunner.run(context -> assertFalse(
+                context.getBean("serializer", Serializer.class) instanceof SnapshotCodecSerializer
+        ));
+    }
+
+    @Test
+    void generatedCodecsOnlyReadSnapshotsByDefault() {
+        GeneratedSnapshotCodecs codecs = codecs();
+        contextRunner.withBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class, () -> codecs)
+                     .run(context -> {
+                         Serializer serializer = context.getBean("serializer", Serializer.class);
+                         assertInstanceOf(SnapshotCodecSerializer.class, serializer);
+
+                         serializer.serialize(new TestAggregate(), byte[].class);
+
+                         verify(codecs.codecOf(TestAggregate.class).orElseThrow(), never()).write(any(), any());
+                     });
+    }
+
+    @Test
+    void generatedCodecsOnlyReadSnapshotsWhenDisabled() {
+        GeneratedSnapshotCodecs codecs = codecs();
+        contextRunner.withBean(GeneratedSnapshotCodecs.BEAN_NAME, GeneratedSnapshotCodecs.class, () -> codecs)
+                     .withPropertyValues("axon.aot.snapshot-codec.enabled=false")
+                     .run(context -> {
+                         Serializer serializer = context.getBean("serializer", Serializer.class);
+                         assertInstanceOf(SnapshotCodecSerializer.class, serializer);
+
+                         serializer.serialize(new TestAggregate(), byte[].class);
+
+                         verify(codecs.codecOf(TestAggregate.class).orElseThrow(), never()).write(any(), any());
+                     });
+    }
+
+    private static GeneratedSnapshotCodecs codecs() {
+        GeneratedSnapshotCodec codec = mock(GeneratedSnapshotCodec.class);
+        doReturn(TestAggregate.class).when(codec).aggregateType();
+        return new GeneratedSnapshotCodecs(List.of(codec));
+    }
+
+    @AggregateRoot
+    private static class TestAggregate {
+
+    }
+
+    @ContextConfiguration
+    @EnableAutoConfiguration
+    private static class TestContext {
+
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import com.axoniq.someproject.api.SomeCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.springboot.aot.metrics.HandlerInvocationMetrics;
+import org.axonframework.springboot.aot.metrics.HandlerInvocationMetricsRegistry;
+import org.axonframework.springboot.aot.metrics.MicrometerHandlerInvocationMetricsBinder;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandlerInvocationMetricsAutoConfiguration}.
+ *
+ * @author Allard Buijze
+ */
+class HandlerInvocationMetricsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                          .withPropertyValues("axon.axonserver.enabled=false");
+
+    @Test
+    void handlerMetricsAreDisabledByDefault() {
+        contextRunner.run(context -> assertTrue(
+                context.getBeansOfType(HandlerInvocationMetricsRegistry.class).isEmpty()
+        ));
+    }
+
+    @Test
+    void handlerInvocationsAreRecorded() {
+        contextRunner.withPropertyValues("axon.aot.handler-metrics.enabled=true").run(context -> {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            context.getBean(MicrometerHandlerInvocationMetricsBinder.class).bindTo(meterRegistry);
+            context.getBean(CommandGateway.class).sendAndWait(new SomeCommand("1"));
+
+            HandlerInvocationMetrics metrics =
+                    context.getBean(HandlerInvocationMetricsRegistry.class)
+                           .metrics()
+                           .stream()
+                           .filter(m -> m.handlerType().equals(MeasuredCommandHandler.class.getName()))
+                           .findFirst()
+                           .orElseThrow();
+            assertEquals(1, metrics.invocationCount());
+            assertEquals(1, meterRegistry.get("axon.handler.invocations")
+                                         .tag("handlerType", MeasuredCommandHandler.class.getName())
+                                         .timer()
+                                         .count());
+        });
+    }
+
+    @ContextConfiguration
+    @EnableAutoConfiguration
+    private static class TestContext {
+
+        @Bean
+        public MeasuredCommandHandler measuredCommandHandler() {
+            return new MeasuredCommandHandler();
+        }
+    }
+
+    static class MeasuredCommandHandler {
+
+        @CommandHandler
+        public void handle(SomeCommand command) {
+        }
+    }
+}
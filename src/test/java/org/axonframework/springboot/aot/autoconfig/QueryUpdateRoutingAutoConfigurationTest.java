@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.queryhandling.QueryUpdateEmitter;
+import org.axonframework.queryhandling.SimpleQueryUpdateEmitter;
+import org.axonframework.springboot.aot.query.QueryUpdateRoutingPostProcessor;
+import org.axonframework.springboot.aot.query.QueryUpdateTypes;
+import org.axonframework.springboot.aot.query.RoutingQueryUpdateEmitter;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link QueryUpdateRoutingAutoConfiguration}.
+ *
+ * @author Allard Buijze
+ */
+class QueryUpdateRoutingAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                          .withPropertyValues("axon.axonserver.enabled=false",
+                                                              "axon.aot.query-update-routing.enabled=true");
+
+    @Test
+    void queryUpdatesAreRoutedWithGeneratedUpdateTypes() {
+        contextRunner.withBean(QueryUpdateTypes.BEAN_NAME, QueryUpdateTypes.class, () -> new QueryUpdateTypes(Map.of()))
+                     .run(context -> assertInstanceOf(RoutingQueryUpdateEmitter.class,
+                                                      context.getBean(QueryUpdateEmitter.class)));
+    }
+
+    @Test
+    void queryUpdateEmitterIsLeftAsIsWithoutGeneratedUpdateTypes() {
+        contextRunner.run(context -> assertFalse(
+                context.getBean(QueryUpdateEmitter.class) instanceof RoutingQueryUpdateEmitter
+        ));
+    }
+
+    @Test
+    void queryUpdatesAreNotRoutedWhenDisabled() {
+        contextRunner.withBean(QueryUpdateTypes.BEAN_NAME, QueryUpdateTypes.class, () -> new QueryUpdateTypes(Map.of()))
+                     .withPropertyValues("axon.aot.query-update-routing.enabled=false")
+                     .run(context -> assertFalse(
+                             context.getBean(QueryUpdateEmitter.class) instanceof RoutingQueryUpdateEmitter
+                     ));
+    }
+
+    @Test
+    void queryUpdatesAreNotRoutedByDefault() {
+        new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                      .withPropertyValues("axon.axonserver.enabled=false")
+                                      .withBean(QueryUpdateTypes.BEAN_NAME, QueryUpdateTypes.class,
+                                                () -> new QueryUpdateTypes(Map.of()))
+                                      .run(context -> assertFalse(
+                                              context.getBean(QueryUpdateEmitter.class)
+                                                      instanceof RoutingQueryUpdateEmitter
+                                      ));
+    }
+
+    @Test
+    void queryUpdateEmitterDefinedByTheApplicationIsLeftAsIs() {
+        contextRunner.withBean(QueryUpdateTypes.BEAN_NAME, QueryUpdateTypes.class, () -> new QueryUpdateTypes(Map.of()))
+                     .withAllowBeanDefinitionOverriding(true)
+                     .withInitializer(context -> ((GenericApplicationContext) context).registerBean(
+                             QueryUpdateRoutingPostProcessor.QUERY_UPDATE_EMITTER_BEAN_NAME,
+                             SimpleQueryUpdateEmitter.class,
+                             () -> SimpleQueryUpdateEmitter.builder().build(),
+                             definition -> definition.setPrimary(true)
+                     ))
+                     .run(context -> assertFalse(
+                             context.getBean(QueryUpdateEmitter.class) instanceof RoutingQueryUpdateEmitter
+                     ));
+    }
+
+    @ContextConfiguration
+    @EnableAutoConfiguration
+    private static class TestContext {
+
+    }
+}
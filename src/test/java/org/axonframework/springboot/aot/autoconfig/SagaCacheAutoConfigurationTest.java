@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.modelling.saga.repository.jpa.JpaSagaStore;
+import org.axonframework.springboot.aot.saga.WriteThroughCachingSagaStore;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link SagaCacheAutoConfiguration}.
+ *
+ * @author Allard Buijze
+ */
+class SagaCacheAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                          .withPropertyValues("axon.axonserver.enabled=false");
+
+    @Test
+    void sagaStoreIsCachedWhenEnabled() {
+        contextRunner.withPropertyValues("axon.aot.saga-cache.enabled=true")
+                     .run(context -> assertInstanceOf(WriteThroughCachingSagaStore.class,
+                                                      context.getBean(SagaStore.class)));
+    }
+
+    @Test
+    void sagaStoreIsNotCachedByDefault() {
+        contextRunner.run(context -> assertInstanceOf(JpaSagaStore.class, context.getBean(SagaStore.class)));
+    }
+
+    @ContextConfiguration
+    @EnableAutoConfiguration
+    private static class TestContext {
+
+    }
+}
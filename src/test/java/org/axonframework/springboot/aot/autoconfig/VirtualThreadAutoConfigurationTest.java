@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.autoconfig;
+
+import org.axonframework.commandhandling.AsynchronousCommandBus;
+import org.axonframework.commandhandling.CommandBus;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.config.EventProcessingModule;
+import org.axonframework.springboot.aot.event.CustomizingEventProcessingModule;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.context.ContextConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link VirtualThreadAutoConfiguration}.
+ *
+ * @author Allard Buijze
+ */
+class VirtualThreadAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+            new ApplicationContextRunner().withUserConfiguration(TestContext.class)
+                                          .withPropertyValues("axon.axonserver.enabled=false");
+
+    @Test
+    void platformThreadsAreUsedByDefault() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(VirtualThreadPooledStreamingProcessorConfiguration.class).isEmpty());
+            assertInstanceOf(SimpleCommandBus.class, context.getBean(CommandBus.class));
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadsAreNotUsedBeforeJava21() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true",
+                                         "axon.virtual-threads.enabled=true",
+                                         "axon.virtual-threads.asynchronous-command-bus=true")
+                     .run(context -> {
+                         assertTrue(context.getBeansOfType(VirtualThreadPooledStreamingProcessorConfiguration.class)
+                                           .isEmpty());
+                         assertInstanceOf(SimpleCommandBus.class, context.getBean(CommandBus.class));
+                     });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void pooledStreamingProcessorsRunOnVirtualThreads() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "axon.virtual-threads.enabled=true")
+                     .run(context -> {
+                         assertNotNull(context.getBean(VirtualThreadPooledStreamingProcessorConfiguration.class));
+                         assertInstanceOf(CustomizingEventProcessingModule.class,
+                                          context.getBean(EventProcessingModule.class));
+                         assertInstanceOf(SimpleCommandBus.class, context.getBean(CommandBus.class));
+                     });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void asynchronousCommandBusRunsOnVirtualThreads() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true",
+                                         "axon.virtual-threads.enabled=true",
+                                         "axon.virtual-threads.asynchronous-command-bus=true")
+                     .run(context -> assertInstanceOf(AsynchronousCommandBus.class,
+                                                      context.getBean(CommandBus.class)));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsAreOnlyUsedByAxonWhenEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true")
+                     .run(context -> assertTrue(
+                             context.getBeansOfType(VirtualThreadPooledStreamingProcessorConfiguration.class).isEmpty()
+                     ));
+    }
+
+    @ContextConfiguration
+    @EnableAutoConfiguration
+    private static class TestContext {
+
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.config.EventProcessingConfigurer.PooledStreamingProcessorConfiguration;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventhandling.pooled.PooledStreamingEventProcessor;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link CustomizingEventProcessingModule}.
+ *
+ * @author Allard Buijze
+ */
+class CustomizingEventProcessingModuleTest {
+
+    private static final String GROUP_PROCESSOR = "some_group";
+    private static final String PACKAGE_PROCESSOR = "com.axoniq.someproject.something";
+
+    private final Map<String, StreamableMessageSource<TrackedEventMessage<?>>> sources = new ConcurrentHashMap<>();
+    private Configuration configuration;
+
+    @AfterEach
+    void tearDown() {
+        if (configuration != null) {
+            configuration.shutdown();
+        }
+    }
+
+    @Test
+    void customizerConfigurationIsAppliedBeforeTheConfigurationsOfTheApplication() {
+        CustomizingEventProcessingModule module = moduleWithCustomizer();
+        module.registerPooledStreamingEventProcessorConfiguration(PACKAGE_PROCESSOR, (c, b) -> b.maxClaimedSegments(8));
+
+        start(module);
+
+        assertEquals(4, processor(GROUP_PROCESSOR).maxCapacity());
+        assertEquals(8, processor(PACKAGE_PROCESSOR).maxCapacity());
+    }
+
+    @Test
+    void customizerConfigurationIsComposedWithTheDefaultConfigurationOfTheApplication() {
+        CustomizingEventProcessingModule module = moduleWithCustomizer();
+        module.registerPooledStreamingEventProcessorConfiguration((c, b) -> b.batchSize(10));
+        module.registerPooledStreamingEventProcessorConfiguration(PACKAGE_PROCESSOR, (c, b) -> b.maxClaimedSegments(8));
+
+        start(module);
+
+        assertEquals(4, processor(GROUP_PROCESSOR).maxCapacity());
+        assertEquals(8, processor(PACKAGE_PROCESSOR).maxCapacity());
+    }
+
+    @Test
+    void messageSourceOfEachProcessorIsPassedThroughTheCustomizers() {
+        start(moduleWithCustomizer());
+
+        assertEquals(Map.of(GROUP_PROCESSOR, configuration.eventStore(), PACKAGE_PROCESSOR, configuration.eventStore()),
+                     sources);
+    }
+
+    private CustomizingEventProcessingModule moduleWithCustomizer() {
+        CustomizingEventProcessingModule module = new CustomizingEventProcessingModule(List.of(new RecordingCustomizer()));
+        module.usingPooledStreamingEventProcessors()
+              .registerEventHandler(c -> new SomeProjectionWithGroupAnnotation())
+              .registerEventHandler(c -> new SomeProjectionWithoutGroupAnnotation());
+        return module;
+    }
+
+    private void start(CustomizingEventProcessingModule module) {
+        Configurer configurer = DefaultConfigurer.defaultConfiguration()
+                                                 .configureEmbeddedEventStore(c -> new InMemoryEventStorageEngine());
+        configurer.registerModule(module);
+        configuration = configurer.start();
+    }
+
+    private PooledStreamingEventProcessor processor(String name) {
+        return configuration.eventProcessingConfiguration()
+                            .eventProcessor(name, PooledStreamingEventProcessor.class)
+                            .orElseThrow();
+    }
+
+    private class RecordingCustomizer implements PooledStreamingProcessorCustomizer {
+
+        @Override
+        public PooledStreamingProcessorConfiguration configuration() {
+            return (c, builder) -> builder.maxClaimedSegments(4);
+        }
+
+        @Override
+        public StreamableMessageSource<TrackedEventMessage<?>> messageSource(
+                String processorName,
+                Configuration configuration,
+                EventHandlerInvoker eventHandlerInvoker,
+                StreamableMessageSource<TrackedEventMessage<?>> messageSource
+        ) {
+            sources.put(processorName, messageSource);
+            return messageSource;
+        }
+    }
+}
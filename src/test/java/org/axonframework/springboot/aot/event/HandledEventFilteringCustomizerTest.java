@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import com.axoniq.someproject.api.StatusChangedEvent;
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.eventhandling.EventHandlerInvoker;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.MultiEventHandlerInvoker;
+import org.axonframework.eventhandling.SimpleEventHandlerInvoker;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.StreamableMessageSource;
+import org.axonframework.messaging.annotation.MessageHandler;
+import org.axonframework.springboot.aot.metadata.HandlerTypeMetadata;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.handler;
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.handlerType;
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.metadata;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandledEventFilteringCustomizer}.
+ *
+ * @author Allard Buijze
+ */
+class HandledEventFilteringCustomizerTest {
+
+    private EmbeddedEventStore eventStore;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStore.shutDown();
+    }
+
+    @Test
+    void eventsHandledByAnyHandlerOfTheProcessorAreKept() throws InterruptedException {
+        HandledEventFilteringCustomizer testSubject = new HandledEventFilteringCustomizer(
+                metadata(projection(SomeProjectionWithGroupAnnotation.class, SomeProjectionEvent.class),
+                         projection(SomeProjectionWithoutGroupAnnotation.class, SomeEvent.class)),
+                List.of()
+        );
+        eventStore.publish(GenericEventMessage.asEventMessage(new SomeEvent("handled-1")),
+                           GenericEventMessage.asEventMessage(new StatusChangedEvent("skipped", "status")),
+                           GenericEventMessage.asEventMessage(new SomeProjectionEvent("handled-2")));
+
+        StreamableMessageSource<TrackedEventMessage<?>> source =
+                testSubject.messageSource("processor", null, invokerOfBothProjections(), eventStore);
+
+        assertInstanceOf(HandledEventFilteringMessageSource.class, source);
+        assertEquals(List.of(new SomeEvent("handled-1"), new SomeProjectionEvent("handled-2")), payloadsIn(source));
+    }
+
+    @Test
+    void eventsHandledByGenericMessageHandlersAreKept() throws InterruptedException {
+        HandledEventFilteringCustomizer testSubject = new HandledEventFilteringCustomizer(
+                metadata(projection(SomeProjectionWithGroupAnnotation.class, SomeProjectionEvent.class),
+                         handlerType(GenericMessageHandler.class, List.of(),
+                                     handler("on", Message.class, StatusChangedEvent.class))),
+                List.of()
+        );
+        eventStore.publish(GenericEventMessage.asEventMessage(new SomeEvent("skipped")),
+                           GenericEventMessage.asEventMessage(new StatusChangedEvent("handled-1", "status")),
+                           GenericEventMessage.asEventMessage(new SomeProjectionEvent("handled-2")));
+        EventHandlerInvoker invoker = new MultiEventHandlerInvoker(
+                SimpleEventHandlerInvoker.builder().eventHandlers(new SomeProjectionWithGroupAnnotation()).build(),
+                SimpleEventHandlerInvoker.builder().eventHandlers(new GenericMessageHandler()).build()
+        );
+
+        StreamableMessageSource<TrackedEventMessage<?>> source =
+                testSubject.messageSource("processor", null, invoker, eventStore);
+
+        assertEquals(List.of(new StatusChangedEvent("handled-1", "status"), new SomeProjectionEvent("handled-2")),
+                     payloadsIn(source));
+    }
+
+    @Test
+    void eventsOfProcessorWithUndetectedHandlerAreNotFiltered() {
+        HandledEventFilteringCustomizer testSubject = new HandledEventFilteringCustomizer(
+                metadata(projection(SomeProjectionWithGroupAnnotation.class, SomeProjectionEvent.class)),
+                List.of()
+        );
+
+        assertSame(eventStore, testSubject.messageSource("processor", null, invokerOfBothProjections(), eventStore));
+    }
+
+    @Test
+    void eventsOfUnlistedProcessorsAreNotFiltered() {
+        HandledEventFilteringCustomizer testSubject = new HandledEventFilteringCustomizer(
+                metadata(projection(SomeProjectionWithGroupAnnotation.class, SomeProjectionEvent.class),
+                         projection(SomeProjectionWithoutGroupAnnotation.class, SomeEvent.class)),
+                List.of("other")
+        );
+
+        assertSame(eventStore, testSubject.messageSource("processor", null, invokerOfBothProjections(), eventStore));
+        assertNotSame(eventStore, testSubject.messageSource("other", null, invokerOfBothProjections(), eventStore));
+    }
+
+    private static EventHandlerInvoker invokerOfBothProjections() {
+        return new MultiEventHandlerInvoker(
+                SimpleEventHandlerInvoker.builder().eventHandlers(new SomeProjectionWithGroupAnnotation()).build(),
+                SimpleEventHandlerInvoker.builder().eventHandlers(new SomeProjectionWithoutGroupAnnotation()).build()
+        );
+    }
+
+    private static HandlerTypeMetadata projection(Class<?> type, Class<?> payloadType) {
+        return handlerType(type, List.of(), handler("on", EventMessage.class, payloadType));
+    }
+
+    private static class GenericMessageHandler {
+
+        @MessageHandler
+        public void on(StatusChangedEvent event) {
+        }
+    }
+
+    private static List<Object> payloadsIn(StreamableMessageSource<TrackedEventMessage<?>> source)
+            throws InterruptedException {
+        List<Object> payloads = new ArrayList<>();
+        try (BlockingStream<TrackedEventMessage<?>> stream = source.openStream(null)) {
+            while (stream.hasNextAvailable(10, TimeUnit.MILLISECONDS)) {
+                payloads.add(stream.nextAvailable().getPayload());
+            }
+        }
+        return payloads;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import org.axonframework.common.stream.BlockingStream;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.TrackedEventMessage;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandledEventFilteringMessageSource}.
+ *
+ * @author Allard Buijze
+ */
+class HandledEventFilteringMessageSourceTest {
+
+    private EmbeddedEventStore eventStore;
+    private HandledEventFilteringMessageSource testSubject;
+
+    @BeforeEach
+    void setUp() {
+        eventStore = EmbeddedEventStore.builder().storageEngine(new InMemoryEventStorageEngine()).build();
+        testSubject = new HandledEventFilteringMessageSource(
+                eventStore, new HandledEventTypes(List.of(SomeProjectionEvent.class.getName()))
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStore.shutDown();
+    }
+
+    @Test
+    void unhandledEventsAreDroppedFromTheStream() throws InterruptedException {
+        eventStore.publish(GenericEventMessage.asEventMessage(new SomeEvent("skipped-1")),
+                           GenericEventMessage.asEventMessage(new SomeProjectionEvent("handled-1")),
+                           GenericEventMessage.asEventMessage(new SomeEvent("skipped-2")),
+                           GenericEventMessage.asEventMessage(new SomeProjectionEvent("handled-2")),
+                           GenericEventMessage.asEventMessage(new SomeEvent("skipped-3")));
+
+        try (BlockingStream<TrackedEventMessage<?>> stream = testSubject.openStream(null)) {
+            assertTrue(stream.hasNextAvailable(1, TimeUnit.SECONDS));
+            assertEquals(new SomeProjectionEvent("handled-1"), stream.peek().orElseThrow().getPayload());
+            assertEquals(new SomeProjectionEvent("handled-1"), stream.nextAvailable().getPayload());
+            assertEquals(new SomeProjectionEvent("handled-2"), stream.nextAvailable().getPayload());
+            assertEquals(new SomeEvent("skipped-3"), lastSkippedEvent(stream).getPayload());
+            assertFalse(stream.hasNextAvailable(10, TimeUnit.MILLISECONDS));
+            assertTrue(stream.peek().isEmpty());
+        }
+    }
+
+    @Test
+    void lastSkippedEventIsPassedOnWhenNoHandledEventFollows() throws InterruptedException {
+        eventStore.publish(GenericEventMessage.asEventMessage(new SomeEvent("skipped-1")),
+                           GenericEventMessage.asEventMessage(new SomeEvent("skipped-2")));
+
+        try (BlockingStream<TrackedEventMessage<?>> stream = testSubject.openStream(null)) {
+            TrackedEventMessage<?> lastSkipped = lastSkippedEvent(stream);
+
+            assertEquals(new SomeEvent("skipped-2"), lastSkipped.getPayload());
+            assertEquals(eventStore.createHeadToken(), lastSkipped.trackingToken());
+            assertFalse(stream.hasNextAvailable(10, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private static TrackedEventMessage<?> lastSkippedEvent(BlockingStream<TrackedEventMessage<?>> stream)
+            throws InterruptedException {
+        assertTrue(stream.hasNextAvailable(10, TimeUnit.MILLISECONDS));
+        assertTrue(stream.peek().isPresent());
+        return stream.nextAvailable();
+    }
+
+    @Test
+    void tokensAreCreatedByTheDelegate() {
+        eventStore.publish(GenericEventMessage.asEventMessage(new SomeEvent("id")));
+
+        assertEquals(eventStore.createTailToken(), testSubject.createTailToken());
+        assertEquals(eventStore.createHeadToken(), testSubject.createHeadToken());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import org.junit.jupiter.api.*;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandledEventTypes}.
+ *
+ * @author Allard Buijze
+ */
+class HandledEventTypesTest {
+
+    @Test
+    void exactTypesAreHandled() {
+        HandledEventTypes testSubject = new HandledEventTypes(List.of(SomeProjectionEvent.class.getName()));
+
+        assertTrue(testSubject.isHandled(SomeProjectionEvent.class));
+        assertFalse(testSubject.isHandled(SomeEvent.class));
+    }
+
+    @Test
+    void subtypesOfHandledClassesAndInterfacesAreHandled() {
+        HandledEventTypes handledList = new HandledEventTypes(List.of(List.class.getName()));
+        HandledEventTypes handledSerializable = new HandledEventTypes(List.of(Serializable.class.getName()));
+
+        assertTrue(handledList.isHandled(ArrayList.class));
+        assertTrue(handledSerializable.isHandled(ArrayList.class));
+        assertFalse(handledList.isHandled(SomeEvent.class));
+    }
+
+    @Test
+    void allTypesAreHandledWhenObjectIsHandled() {
+        HandledEventTypes testSubject = new HandledEventTypes(List.of(Object.class.getName()));
+
+        assertTrue(testSubject.isHandled(SomeEvent.class));
+        assertTrue(testSubject.isHandled(String[].class));
+    }
+}
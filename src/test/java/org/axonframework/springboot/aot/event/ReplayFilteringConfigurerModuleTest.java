@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import com.axoniq.someproject.api.StatusChangedEvent;
+import com.axoniq.someproject.something.SomeProjectionWithGroupAnnotation;
+import com.axoniq.someproject.something.SomeProjectionWithoutGroupAnnotation;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.GenericTrackedEventMessage;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.ReplayToken;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.messaging.MessageHandlerInterceptor;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ReplayFilteringConfigurerModule}.
+ *
+ * @author Allard Buijze
+ */
+class ReplayFilteringConfigurerModuleTest {
+
+    private static final TrackingToken REPLAY_TOKEN =
+            ReplayToken.createReplayToken(new GlobalSequenceTrackingToken(10), new GlobalSequenceTrackingToken(2));
+
+    private Configuration configuration;
+
+    @AfterEach
+    void tearDown() {
+        configuration.shutdown();
+    }
+
+    @Test
+    void replayedEventsOfAnyHandlerAssignedToTheProcessorAreHandled() throws Exception {
+        start(new ReplayableEventTypes(Map.of(
+                SomeProjectionWithGroupAnnotation.class.getName(), List.of(SomeProjectionEvent.class.getName()),
+                SomeProjectionWithoutGroupAnnotation.class.getName(), List.of(SomeEvent.class.getName())
+        )));
+
+        assertTrue(proceeds(replayed(new SomeProjectionEvent("handled"))));
+        assertTrue(proceeds(replayed(new SomeEvent("handled"))));
+        assertFalse(proceeds(replayed(new StatusChangedEvent("skipped", "status"))));
+    }
+
+    @Test
+    void replayedEventsOfProcessorWithUnknownHandlerAreHandled() throws Exception {
+        start(new ReplayableEventTypes(Map.of(
+                SomeProjectionWithGroupAnnotation.class.getName(), List.of(SomeProjectionEvent.class.getName())
+        )));
+
+        assertTrue(proceeds(replayed(new StatusChangedEvent("handled", "status"))));
+    }
+
+    private void start(ReplayableEventTypes replayableEventTypes) {
+        Configurer configurer = DefaultConfigurer.defaultConfiguration()
+                                                 .configureEmbeddedEventStore(c -> new InMemoryEventStorageEngine());
+        configurer.eventProcessing()
+                  .usingSubscribingEventProcessors()
+                  .registerEventHandler(c -> new SomeProjectionWithGroupAnnotation())
+                  .registerEventHandler(c -> new SomeProjectionWithoutGroupAnnotation())
+                  .assignProcessingGroup(group -> "shared");
+        new ReplayFilteringConfigurerModule(replayableEventTypes, List.of()).configureModule(configurer);
+        configuration = configurer.start();
+    }
+
+    private boolean proceeds(EventMessage<?> event) throws Exception {
+        MessageHandlerInterceptor<? super EventMessage<?>> interceptor =
+                configuration.eventProcessingConfiguration()
+                             .interceptorsFor("shared")
+                             .stream()
+                             .filter(ReplayFilteringInterceptor.class::isInstance)
+                             .findFirst()
+                             .orElseThrow();
+        AtomicBoolean proceeded = new AtomicBoolean();
+        UnitOfWork<EventMessage<?>> unitOfWork = DefaultUnitOfWork.startAndGet(event);
+        try {
+            interceptor.handle(unitOfWork, () -> {
+                proceeded.set(true);
+                return null;
+            });
+        } finally {
+            unitOfWork.rollback();
+        }
+        return proceeded.get();
+    }
+
+    private static EventMessage<?> replayed(Object payload) {
+        return new GenericTrackedEventMessage<>(REPLAY_TOKEN, GenericEventMessage.asEventMessage(payload));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.event;
+
+import com.axoniq.someproject.api.SomeEvent;
+import com.axoniq.someproject.api.SomeProjectionEvent;
+import org.axonframework.eventhandling.EventMessage;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.eventhandling.GenericTrackedEventMessage;
+import org.axonframework.eventhandling.GlobalSequenceTrackingToken;
+import org.axonframework.eventhandling.ReplayToken;
+import org.axonframework.eventhandling.TrackingToken;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ReplayFilteringInterceptor}.
+ *
+ * @author Allard Buijze
+ */
+class ReplayFilteringInterceptorTest {
+
+    private static final TrackingToken REPLAY_TOKEN =
+            ReplayToken.createReplayToken(new GlobalSequenceTrackingToken(10), new GlobalSequenceTrackingToken(2));
+
+    private final ReplayFilteringInterceptor testSubject =
+            new ReplayFilteringInterceptor(new HandledEventTypes(List.of(SomeProjectionEvent.class.getName())));
+
+    @Test
+    void replayedEventsThatAreNotReplayableAreSkipped() throws Exception {
+        assertFalse(proceeds(new GenericTrackedEventMessage<>(REPLAY_TOKEN, event(new SomeEvent("skipped")))));
+    }
+
+    @Test
+    void replayedEventsThatAreReplayableAreHandled() throws Exception {
+        assertTrue(proceeds(new GenericTrackedEventMessage<>(REPLAY_TOKEN,
+                                                             event(new SomeProjectionEvent("handled")))));
+    }
+
+    @Test
+    void eventsThatAreNotReplayedAreHandled() throws Exception {
+        assertTrue(proceeds(new GenericTrackedEventMessage<>(new GlobalSequenceTrackingToken(11),
+                                                             event(new SomeEvent("handled")))));
+        assertTrue(proceeds(event(new SomeEvent("handled"))));
+    }
+
+    @Test
+    void replayableEventTypesAreResolvedOnceWhenTheFirstReplayedEventIsIntercepted() throws Exception {
+        AtomicInteger resolutions = new AtomicInteger();
+        ReplayFilteringInterceptor lazySubject = new ReplayFilteringInterceptor(() -> {
+            resolutions.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertTrue(proceeds(lazySubject, event(new SomeEvent("handled"))));
+        assertEquals(0, resolutions.get());
+        assertTrue(proceeds(lazySubject, new GenericTrackedEventMessage<>(REPLAY_TOKEN, event(new SomeEvent("1")))));
+        assertTrue(proceeds(lazySubject, new GenericTrackedEventMessage<>(REPLAY_TOKEN, event(new SomeEvent("2")))));
+        assertEquals(1, resolutions.get());
+    }
+
+    private boolean proceeds(EventMessage<?> event) throws Exception {
+        return proceeds(testSubject, event);
+    }
+
+    private static boolean proceeds(ReplayFilteringInterceptor interceptor, EventMessage<?> event) throws Exception {
+        AtomicBoolean proceeded = new AtomicBoolean();
+        UnitOfWork<EventMessage<?>> unitOfWork = DefaultUnitOfWork.startAndGet(event);
+        try {
+            interceptor.handle(unitOfWork, () -> {
+                proceeded.set(true);
+                return null;
+            });
+        } finally {
+            unitOfWork.rollback();
+        }
+        return proceeded.get();
+    }
+
+    private static EventMessage<?> event(Object payload) {
+        return GenericEventMessage.asEventMessage(payload);
+    }
+}
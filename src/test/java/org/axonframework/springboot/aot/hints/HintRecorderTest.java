@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.hints;
+
+import com.axoniq.someproject.api.ChangeStatusCommand;
+import com.axoniq.someproject.api.SomeCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.AnnotatedMessageHandlingMemberDefinition;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.MultiHandlerDefinition;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HintRecorder}, recording through the {@link HintRecordingEnhancerDefinition} and reading the
+ * written profile through {@link ObservedHints}.
+ *
+ * @author Allard Buijze
+ */
+class HintRecorderTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void invokedHandlersAreWrittenToTheProfile() throws Exception {
+        HintRecorder recorder = new HintRecorder(outputDirectory);
+        List<MessageHandlingMember<? super TestHandler>> handlers =
+                AnnotatedHandlerInspector.inspectType(
+                        TestHandler.class,
+                        ClasspathParameterResolverFactory.forClass(TestHandler.class),
+                        MultiHandlerDefinition.ordered(new HintRecordingEnhancerDefinition(recorder),
+                                                       new AnnotatedMessageHandlingMemberDefinition())
+                ).getHandlers(TestHandler.class).toList();
+        MessageHandlingMember<? super TestHandler> someCommandHandler =
+                handlers.stream().filter(h -> h.payloadType() == SomeCommand.class).findFirst().orElseThrow();
+        String someCommandKey = ObservedHints.keyOf(someCommandHandler).orElseThrow();
+        String changeStatusKey = handlers.stream()
+                                         .filter(h -> h.payloadType() == ChangeStatusCommand.class)
+                                         .findFirst()
+                                         .flatMap(ObservedHints::keyOf)
+                                         .orElseThrow();
+
+        someCommandHandler.handle(GenericCommandMessage.asCommandMessage(new SomeCommand("1")), new TestHandler());
+        recorder.destroy();
+
+        assertEquals(Set.of(changeStatusKey), recorder.unobserved());
+        assertTrue(Files.readAllLines(outputDirectory.resolve(HintRecorder.REPORT_FILE_NAME))
+                        .contains(changeStatusKey));
+        Path profile = outputDirectory.resolve(ObservedHints.PROFILE_LOCATION);
+        Files.createDirectories(profile.getParent());
+        Files.move(outputDirectory.resolve(HintRecorder.PROFILE_FILE_NAME), profile);
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, null)) {
+            assertEquals(Set.of(someCommandKey), ObservedHints.load(classLoader).orElseThrow());
+        }
+    }
+
+    @Test
+    void recordersWritingToTheSameDirectoryMergeTheirProfiles() throws Exception {
+        HintRecorder first = new HintRecorder(outputDirectory);
+        first.inspected("first");
+        first.inspected("shared");
+        first.observed("first");
+        HintRecorder second = new HintRecorder(outputDirectory);
+        second.inspected("second");
+        second.inspected("shared");
+        second.inspected("unused");
+        second.observed("second");
+        second.observed("shared");
+
+        first.destroy();
+        second.destroy();
+
+        assertEquals(List.of("first", "second", "shared"), entriesOf(HintRecorder.PROFILE_FILE_NAME));
+        assertEquals(List.of("unused"), entriesOf(HintRecorder.REPORT_FILE_NAME));
+    }
+
+    @Test
+    void noProfileIsLoadedWhenAbsent() {
+        assertTrue(ObservedHints.load(getClass().getClassLoader()).isEmpty());
+    }
+
+    private List<String> entriesOf(String fileName) throws IOException {
+        return Files.readAllLines(outputDirectory.resolve(fileName))
+                    .stream()
+                    .filter(line -> !line.startsWith("#"))
+                    .toList();
+    }
+
+    static class TestHandler {
+
+        @CommandHandler
+        public void handle(SomeCommand command) {
+        }
+
+        @CommandHandler
+        public void handle(ChangeStatusCommand command) {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.invoke;
+
+import com.axoniq.someproject.api.SomeCommand;
+import com.axoniq.someproject.api.SomeQuery;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.AnnotatedMessageHandlingMemberDefinition;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.MultiHandlerDefinition;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.QueryHandler;
+import org.axonframework.springboot.aot.metrics.InvocationMode;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedInvocationEnhancerDefinition}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedInvocationEnhancerDefinitionTest {
+
+    private final TestHandlerInvoker invoker = new TestHandlerInvoker();
+    private final GeneratedInvocationEnhancerDefinition testSubject =
+            new GeneratedInvocationEnhancerDefinition(new GeneratedHandlerInvokers(List.of(invoker)));
+
+    @Test
+    void handlersWithGeneratedInvokerAreInvokedThroughTheInvoker() throws Exception {
+        MessageHandlingMember<? super TestHandler> handler = handlerOf(SomeCommand.class);
+        TestHandler target = new TestHandler();
+
+        Object result = handler.handle(GenericCommandMessage.asCommandMessage(new SomeCommand("id")), target);
+
+        assertEquals("id", result);
+        assertEquals(List.of(0), invoker.invocations);
+        assertEquals(InvocationMode.GENERATED, InvocationMode.of(handler));
+    }
+
+    @Test
+    void handlersWithoutGeneratedInvokerAreInvokedReflectively() throws Exception {
+        MessageHandlingMember<? super TestHandler> handler = handlerOf(SomeQuery.class);
+
+        Object result = handler.handle(new GenericQueryMessage<>(new SomeQuery(), ResponseTypes.instanceOf(String.class)), new TestHandler());
+
+        assertEquals("reflective", result);
+        assertTrue(invoker.invocations.isEmpty());
+        assertEquals(InvocationMode.REFLECTIVE, InvocationMode.of(handler));
+    }
+
+    private MessageHandlingMember<? super TestHandler> handlerOf(Class<?> payloadType) {
+        AnnotatedHandlerInspector<TestHandler> inspector = AnnotatedHandlerInspector.inspectType(
+                TestHandler.class,
+                ClasspathParameterResolverFactory.forClass(TestHandler.class),
+                MultiHandlerDefinition.ordered(testSubject, new AnnotatedMessageHandlingMemberDefinition())
+        );
+        return inspector.getHandlers(TestHandler.class)
+                        .filter(h -> h.payloadType().equals(payloadType))
+                        .findFirst()
+                        .orElseThrow();
+    }
+
+    static class TestHandler {
+
+        @CommandHandler
+        public String handle(SomeCommand command) {
+            return "reflective";
+        }
+
+        @QueryHandler
+        public String handle(SomeQuery query) {
+            return "reflective";
+        }
+    }
+
+    private static class TestHandlerInvoker implements GeneratedHandlerInvoker {
+
+        private final List<Integer> invocations = new ArrayList<>();
+
+        @Override
+        public List<String> handlerKeys() {
+            try {
+                Method handler = TestHandler.class.getMethod("handle", SomeCommand.class);
+                return List.of(GeneratedHandlerInvokers.keyOf(handler));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public Object invoke(int handlerIndex, Object target, Object payload) {
+            invocations.add(handlerIndex);
+            return ((SomeCommand) payload).id();
+        }
+    }
+}
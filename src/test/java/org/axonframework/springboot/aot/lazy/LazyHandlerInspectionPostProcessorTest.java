@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.lazy;
+
+import com.axoniq.someproject.api.SomeCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.config.Configuration;
+import org.axonframework.config.Configurer;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.spring.config.MessageHandlerConfigurer;
+import org.axonframework.springboot.aot.metadata.AxonHandlerMetadata;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.handler;
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.handlerType;
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.metadata;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link LazyHandlerInspectionPostProcessor} and the lazy handler registration it configures.
+ *
+ * @author Allard Buijze
+ */
+class LazyHandlerInspectionPostProcessorTest {
+
+    private static final String CONFIGURER_BEAN = "MessageHandlerConfigurer$$Axon$$COMMAND";
+    private static final String LAZY_CONFIGURER_BEAN = "LazyMessageHandlerConfigurer$$Axon$$COMMAND";
+    private static final String HANDLER_BEAN = "countingHandler";
+
+    private final AxonHandlerMetadata handlerMetadata = metadata(handlerType(
+            CountingCommandHandler.class, List.of(HANDLER_BEAN),
+            handler("handle", CommandMessage.class, SomeCommand.class)
+    ));
+    private DefaultListableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition(HANDLER_BEAN, new RootBeanDefinition(CountingCommandHandler.class));
+        AbstractBeanDefinition configurerDefinition =
+                BeanDefinitionBuilder.genericBeanDefinition(MessageHandlerConfigurer.class)
+                                     .addConstructorArgValue(MessageHandlerConfigurer.Type.COMMAND.name())
+                                     .addConstructorArgValue(List.of(HANDLER_BEAN))
+                                     .getBeanDefinition();
+        beanFactory.registerBeanDefinition(CONFIGURER_BEAN, configurerDefinition);
+    }
+
+    @Test
+    void handlersAreInspectedEagerlyByDefault() {
+        beanFactory.registerSingleton(AxonHandlerMetadata.BEAN_NAME, handlerMetadata);
+
+        postProcess(new MockEnvironment());
+
+        assertEquals(List.of(HANDLER_BEAN), configuredHandlerBeans());
+        assertFalse(beanFactory.containsSingleton(LAZY_CONFIGURER_BEAN));
+    }
+
+    @Test
+    void handlersAreInspectedEagerlyWithoutMetadata() {
+        postProcess(new MockEnvironment().withProperty(LazyHandlerInspectionPostProcessor.ENABLED_PROPERTY, "true"));
+
+        assertEquals(List.of(HANDLER_BEAN), configuredHandlerBeans());
+        assertFalse(beanFactory.containsSingleton(LAZY_CONFIGURER_BEAN));
+    }
+
+    @Test
+    void handlersNotListedAreInspectedEagerly() {
+        beanFactory.registerSingleton(AxonHandlerMetadata.BEAN_NAME, handlerMetadata);
+
+        postProcess(new MockEnvironment().withProperty(LazyHandlerInspectionPostProcessor.ENABLED_PROPERTY, "true")
+                                         .withProperty(LazyHandlerInspectionPostProcessor.BEANS_PROPERTY,
+                                                       "someOtherBean"));
+
+        assertEquals(List.of(HANDLER_BEAN), configuredHandlerBeans());
+        assertFalse(beanFactory.containsSingleton(LAZY_CONFIGURER_BEAN));
+    }
+
+    @Test
+    void lazyHandlersAreInspectedOnFirstMessage() {
+        beanFactory.registerSingleton(AxonHandlerMetadata.BEAN_NAME, handlerMetadata);
+
+        postProcess(new MockEnvironment().withProperty(LazyHandlerInspectionPostProcessor.ENABLED_PROPERTY, "true"));
+
+        assertEquals(List.of(), configuredHandlerBeans());
+        LazyMessageHandlerConfigurer lazyConfigurer =
+                beanFactory.getBean(LAZY_CONFIGURER_BEAN, LazyMessageHandlerConfigurer.class);
+
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false);
+        lazyConfigurer.configureModule(configurer);
+        Configuration configuration = configurer.start();
+        try {
+            assertFalse(beanFactory.containsSingleton(HANDLER_BEAN));
+
+            configuration.commandGateway().sendAndWait(new SomeCommand("1"));
+
+            assertEquals(1, beanFactory.getBean(HANDLER_BEAN, CountingCommandHandler.class).counter.get());
+        } finally {
+            configuration.shutdown();
+        }
+    }
+
+    private void postProcess(MockEnvironment environment) {
+        LazyHandlerInspectionPostProcessor postProcessor = new LazyHandlerInspectionPostProcessor();
+        postProcessor.setEnvironment(environment);
+        postProcessor.postProcessBeanFactory(beanFactory);
+    }
+
+    private Object configuredHandlerBeans() {
+        return beanFactory.getBeanDefinition(CONFIGURER_BEAN)
+                          .getConstructorArgumentValues()
+                          .getIndexedArgumentValue(1, List.class)
+                          .getValue();
+    }
+
+    static class CountingCommandHandler {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @CommandHandler
+        public void handle(SomeCommand command) {
+            counter.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import com.axoniq.someproject.api.SomeResult;
+import org.junit.jupiter.api.*;
+import org.springframework.core.ResolvableType;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests resolving type names stored in the handler metadata.
+ *
+ * @author Allard Buijze
+ */
+class GenericTypeNamesTest {
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    void resolvesPlainClasses() {
+        assertEquals(SomeResult.class, GenericTypeNames.resolve(SomeResult.class.getName(), classLoader));
+        assertEquals(int.class, GenericTypeNames.resolve("int", classLoader));
+    }
+
+    @Test
+    void resolvesArrays() {
+        assertEquals(SomeResult[].class, GenericTypeNames.resolve(SomeResult[].class.getTypeName(), classLoader));
+    }
+
+    @Test
+    void resolvesParameterizedTypes() {
+        Type expected = ResolvableType.forClassWithGenerics(
+                Map.class,
+                ResolvableType.forClass(String.class),
+                ResolvableType.forClassWithGenerics(List.class, SomeResult.class)
+        ).getType();
+
+        Type actual = GenericTypeNames.resolve(expected.getTypeName(), classLoader);
+
+        assertEquals(expected.getTypeName(), actual.getTypeName());
+    }
+
+    @Test
+    void resolvesWildcardsToTheirUpperBound() {
+        Type actual = GenericTypeNames.resolve("java.util.Optional<? extends " + SomeResult.class.getName() + ">",
+                                               classLoader);
+
+        assertEquals(ResolvableType.forClassWithGenerics(Optional.class, SomeResult.class).getType().getTypeName(),
+                     actual.getTypeName());
+    }
+
+    @Test
+    void failsOnUnknownClasses() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> GenericTypeNames.resolve("com.axoniq.DoesNotExist", classLoader));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandlerMetadataIndex}.
+ *
+ * @author Allard Buijze
+ */
+class HandlerMetadataIndexTest {
+
+    private final List<HandlerTypeMetadata> types = List.of(
+            new HandlerTypeMetadata("com.example.Zeta", List.of("zeta", "otherZeta"),
+                                    List.of(COMMAND_HANDLER, QUERY_HANDLER), List.of(INTERCEPTOR)),
+            new HandlerTypeMetadata("com.example.Alpha", List.of(), List.of(QUERY_HANDLER), List.of()),
+            new HandlerTypeMetadata("com.example.Middle", List.of("middle"), List.of(), List.of())
+    );
+    private final List<ResponseTypeMatch> matches = List.of(
+            new ResponseTypeMatch("MultipleInstancesResponseType", "SomeResult", "java.util.List<SomeResult>", 1024)
+    );
+    private final List<ProcessingGroupMetadata> groups = List.of(
+            new ProcessingGroupMetadata("projections", List.of("SomeEvent", "OtherEvent")),
+            new ProcessingGroupMetadata("audit", List.of("java.lang.Object"))
+    );
+
+    private final HandlerMetadataIndex testSubject = HandlerMetadataIndex.of(types, matches, groups);
+
+    @Test
+    void handlerTypesAreRestoredInTheOrderOfTheirName() {
+        assertEquals(3, testSubject.typeCount());
+        assertEquals(4, testSubject.memberCount());
+        assertEquals(types.get(1), testSubject.handlerType(0));
+        assertEquals(types.get(2), testSubject.handlerType(1));
+        assertEquals(types.get(0), testSubject.handlerType(2));
+    }
+
+    @Test
+    void handlersAreStoredInDescendingOrderOfPriority() {
+        HandlerMetadataIndex index = HandlerMetadataIndex.of(List.of(new HandlerTypeMetadata(
+                "com.example.Zeta", List.of(), List.of(QUERY_HANDLER, COMMAND_HANDLER), List.of()
+        )), List.of(), List.of());
+
+        assertEquals(List.of(COMMAND_HANDLER, QUERY_HANDLER), index.handlerType(0).handlers());
+    }
+
+    @Test
+    void handlerTypesAreFoundByTypeNameAndBeanName() {
+        assertEquals(2, testSubject.typeIndexOf("com.example.Zeta").orElseThrow());
+        assertTrue(testSubject.typeIndexOf("com.example.Unknown").isEmpty());
+        assertEquals(2, testSubject.typeIndexOfBean("otherZeta").orElseThrow());
+        assertEquals(2, testSubject.typeIndexOfBean("zeta").orElseThrow());
+        assertEquals(1, testSubject.typeIndexOfBean("middle").orElseThrow());
+        assertTrue(testSubject.typeIndexOfBean("alpha").isEmpty());
+    }
+
+    @Test
+    void responseTypeMatchesAndProcessingGroupsAreRestored() {
+        assertEquals(matches, testSubject.responseTypeMatches());
+        assertEquals(2, testSubject.groupCount());
+        assertEquals(groups.get(1), testSubject.processingGroup(testSubject.groupIndexOf("audit").orElseThrow()));
+        assertEquals(groups.get(0),
+                     testSubject.processingGroup(testSubject.groupIndexOf("projections").orElseThrow()));
+    }
+
+    @Test
+    void indexIsRecreatedFromItsEncodedForm() {
+        HandlerMetadataIndex recreated = new HandlerMetadataIndex(testSubject.names(), testSubject.data());
+
+        assertEquals(new AxonHandlerMetadata(testSubject).handlerTypes(),
+                     new AxonHandlerMetadata(recreated).handlerTypes());
+        assertEquals(testSubject.responseTypeMatches(), recreated.responseTypeMatches());
+    }
+
+    @Test
+    void namesAreStoredOnce() {
+        List<String> names = List.of(testSubject.names());
+
+        assertEquals(names.stream().distinct().count(), names.size());
+        assertTrue(names.contains("SomeQuery"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Set;
+
+import static org.axonframework.springboot.aot.metadata.TestHandlerMetadata.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link LibraryHandlerMetadata}.
+ *
+ * @author Allard Buijze
+ */
+class LibraryHandlerMetadataTest {
+
+    private final LibraryHandlerMetadata testSubject = new LibraryHandlerMetadata(
+            List.of(new LibraryTypeMetadata(new HandlerTypeMetadata("com.example.Aggregate", List.of(),
+                                                                    List.of(COMMAND_HANDLER), List.of(INTERCEPTOR)),
+                                            null,
+                                            List.of("com.example.Entity", "com.example.Member")),
+                    new LibraryTypeMetadata(new HandlerTypeMetadata("com.example.Entity", List.of(),
+                                                                    List.of(), List.of()),
+                                            "com.example",
+                                            List.of()),
+                    new LibraryTypeMetadata(new HandlerTypeMetadata("com.example.Projection", List.of(),
+                                                                    List.of(QUERY_HANDLER), List.of()),
+                                            "projections",
+                                            List.of())),
+            List.of(new ResponseTypeMatch("MultipleInstancesResponseType", "SomeResult",
+                                          "java.util.List<SomeResult>", 1024))
+    );
+
+    @Test
+    void metadataIsRestoredFromItsTextFormat() throws IOException {
+        StringWriter written = new StringWriter();
+        testSubject.write(written);
+
+        LibraryHandlerMetadata read = LibraryHandlerMetadata.read(new StringReader(written.toString()));
+
+        assertEquals(List.copyOf(testSubject.types()), List.copyOf(read.types()));
+        assertEquals(testSubject.responseTypeMatches(), read.responseTypeMatches());
+        assertNull(read.type("com.example.Aggregate").orElseThrow().processingGroup());
+    }
+
+    @Test
+    void typesAreFoundByName() {
+        assertTrue(testSubject.contains("com.example.Projection"));
+        assertFalse(testSubject.contains("com.example.Unknown"));
+        assertEquals("projections", testSubject.type("com.example.Projection").orElseThrow().processingGroup());
+        assertTrue(testSubject.type("com.example.Unknown").isEmpty());
+    }
+
+    @Test
+    void entityTypesAreAddedToTheirAggregate() {
+        assertEquals(Set.of("com.example.Aggregate", "com.example.Entity", "com.example.Member"),
+                     testSubject.withEntityTypes(List.of("com.example.Aggregate")));
+        assertEquals(Set.of("com.example.Projection"), testSubject.withEntityTypes(List.of("com.example.Projection")));
+    }
+
+    @Test
+    void firstDescriptionOfATypeIsUsed() {
+        LibraryTypeMetadata other = new LibraryTypeMetadata(
+                new HandlerTypeMetadata("com.example.Projection", List.of(), List.of(), List.of()), "other", List.of()
+        );
+        List<LibraryTypeMetadata> types = List.copyOf(testSubject.types());
+
+        LibraryHandlerMetadata combined = new LibraryHandlerMetadata(
+                List.of(types.get(2), other), testSubject.responseTypeMatches()
+        );
+
+        assertEquals(types.get(2), combined.type("com.example.Projection").orElseThrow());
+    }
+
+    @Test
+    void malformedMetadataIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> LibraryHandlerMetadata.read(new StringReader("handler\tfoo()\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> LibraryHandlerMetadata.read(new StringReader("type\tcom.example.Type\t\nunknown\n")));
+        assertThrows(IllegalArgumentException.class,
+                     () -> LibraryHandlerMetadata.read(new StringReader("match\tInstanceResponseType\n")));
+    }
+
+    @Test
+    void metadataIsEmptyWithoutLibrariesOnTheClasspath() {
+        LibraryHandlerMetadata loaded = LibraryHandlerMetadata.load(getClass().getClassLoader());
+
+        assertTrue(loaded.types().isEmpty());
+        assertTrue(loaded.responseTypeMatches().isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metadata;
+
+import org.axonframework.commandhandling.CommandMessage;
+import org.axonframework.messaging.Message;
+import org.axonframework.queryhandling.QueryMessage;
+
+import java.util.List;
+
+/**
+ * Creates {@link AxonHandlerMetadata} and the metadata of handlers for tests.
+ *
+ * @author Allard Buijze
+ */
+public final class TestHandlerMetadata {
+
+    /**
+     * A command handler of {@code SomeCommand} payloads.
+     */
+    public static final HandlerMemberMetadata COMMAND_HANDLER = new HandlerMemberMetadata(
+            "handle(SomeCommand)", CommandMessage.class.getName(), "SomeCommand", "SomeCommand", null, 1
+    );
+    /**
+     * A query handler of {@code SomeQuery} payloads, returning a list of {@code SomeResult}.
+     */
+    public static final HandlerMemberMetadata QUERY_HANDLER = new HandlerMemberMetadata(
+            "handle(SomeQuery)", QueryMessage.class.getName(), "SomeQuery", "SomeQuery", "java.util.List<SomeResult>", 0
+    );
+    /**
+     * An interceptor of all messages.
+     */
+    public static final HandlerMemberMetadata INTERCEPTOR = new HandlerMemberMetadata(
+            "intercept(Message)", Message.class.getName(), "java.lang.Object", "java.lang.Object", null, 0
+    );
+
+    private TestHandlerMetadata() {
+    }
+
+    /**
+     * Creates the metadata of the given {@code handlerTypes}.
+     *
+     * @param handlerTypes the metadata of the handling types
+     * @return the metadata of the given handling types
+     */
+    public static AxonHandlerMetadata metadata(HandlerTypeMetadata... handlerTypes) {
+        return new AxonHandlerMetadata(List.of(handlerTypes));
+    }
+
+    /**
+     * Creates the metadata of the given handling {@code type}, defined by beans with the given {@code beanNames}.
+     *
+     * @param type      the handling type
+     * @param beanNames the names of the beans of the handling type
+     * @param handlers  the handlers declared by the type
+     * @return the metadata of the handling type
+     */
+    public static HandlerTypeMetadata handlerType(Class<?> type,
+                                                  List<String> beanNames,
+                                                  HandlerMemberMetadata... handlers) {
+        return new HandlerTypeMetadata(type.getName(), beanNames, List.of(handlers), List.of());
+    }
+
+    /**
+     * Creates the metadata of a handler method with the given {@code methodName}, handling messages of the given
+     * {@code messageType} with the given {@code payloadType}.
+     *
+     * @param methodName  the name of the handler method
+     * @param messageType the type of message handled
+     * @param payloadType the type of payload handled
+     * @return the metadata of the handler
+     */
+    public static HandlerMemberMetadata handler(String methodName, Class<?> messageType, Class<?> payloadType) {
+        return new HandlerMemberMetadata(methodName + "(" + payloadType.getSimpleName() + ")",
+                                         messageType.getName(),
+                                         payloadType.getName(),
+                                         payloadType.getName(),
+                                         null,
+                                         0);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import com.axoniq.someproject.api.SomeCommand;
+import org.axonframework.commandhandling.CommandHandler;
+import org.axonframework.commandhandling.GenericCommandMessage;
+import org.axonframework.messaging.annotation.AnnotatedHandlerInspector;
+import org.axonframework.messaging.annotation.AnnotatedMessageHandlingMemberDefinition;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.HandlerEnhancerDefinition;
+import org.axonframework.messaging.annotation.MessageHandlingMember;
+import org.axonframework.messaging.annotation.MultiHandlerDefinition;
+import org.axonframework.messaging.annotation.MultiHandlerEnhancerDefinition;
+import org.axonframework.messaging.annotation.WrappedMessageHandlingMember;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HandlerInvocationMetricsEnhancerDefinition}.
+ *
+ * @author Allard Buijze
+ */
+class HandlerInvocationMetricsEnhancerDefinitionTest {
+
+    private final HandlerInvocationMetricsRegistry registry = new HandlerInvocationMetricsRegistry();
+
+    @Test
+    void invocationsAreRecordedPerHandler() throws Exception {
+        MessageHandlingMember<? super TestHandler> handler =
+                handlerOf(new HandlerInvocationMetricsEnhancerDefinition(registry));
+        TestHandler target = new TestHandler();
+
+        handler.handle(GenericCommandMessage.asCommandMessage(new SomeCommand("ok")), target);
+        assertThrows(IllegalArgumentException.class,
+                     () -> handler.handle(GenericCommandMessage.asCommandMessage(new SomeCommand("fail")), target));
+
+        HandlerInvocationMetrics metrics = registry.metrics().iterator().next();
+        assertEquals(TestHandler.class.getName(), metrics.handlerType());
+        assertTrue(metrics.signature().contains("handle"));
+        assertEquals(InvocationMode.REFLECTIVE, metrics.invocationMode());
+        assertEquals(2, metrics.invocationCount());
+        assertEquals(1, metrics.failureCount());
+        assertTrue(metrics.totalTimeNanos() > 0);
+    }
+
+    @Test
+    void generatedInvocationsAreDistinguished() {
+        handlerOf(MultiHandlerEnhancerDefinition.ordered(new GeneratedInvocationEnhancerDefinition(),
+                                                         new HandlerInvocationMetricsEnhancerDefinition(registry)));
+
+        assertEquals(InvocationMode.GENERATED, registry.metrics().iterator().next().invocationMode());
+    }
+
+    @Test
+    void listenersAreNotifiedOfExistingAndNewMetrics() {
+        List<HandlerInvocationMetrics> notified = new ArrayList<>();
+        HandlerInvocationMetricsEnhancerDefinition enhancer = new HandlerInvocationMetricsEnhancerDefinition(registry);
+        handlerOf(enhancer);
+        registry.addListener(notified::add);
+
+        assertEquals(1, notified.size());
+        handlerOf(enhancer);
+        assertEquals(1, notified.size());
+    }
+
+    private static MessageHandlingMember<? super TestHandler> handlerOf(HandlerEnhancerDefinition enhancer) {
+        AnnotatedHandlerInspector<TestHandler> inspector = AnnotatedHandlerInspector.inspectType(
+                TestHandler.class,
+                ClasspathParameterResolverFactory.forClass(TestHandler.class),
+                MultiHandlerDefinition.ordered(enhancer, new AnnotatedMessageHandlingMemberDefinition())
+        );
+        return inspector.getHandlers(TestHandler.class).findFirst().orElseThrow();
+    }
+
+    static class TestHandler {
+
+        @CommandHandler
+        public void handle(SomeCommand command) {
+            if (command.id().equals("fail")) {
+                throw new IllegalArgumentException("failing on purpose");
+            }
+        }
+    }
+
+    private static class GeneratedInvocationEnhancerDefinition implements HandlerEnhancerDefinition {
+
+        @Override
+        public <T> MessageHandlingMember<T> wrapHandler(@Nonnull MessageHandlingMember<T> original) {
+            return new GeneratedMember<>(original);
+        }
+    }
+
+    private static class GeneratedMember<T> extends WrappedMessageHandlingMember<T>
+            implements GeneratedHandlerInvocation {
+
+        private GeneratedMember(MessageHandlingMember<T> delegate) {
+            super(delegate);
+        }
+    }
+}
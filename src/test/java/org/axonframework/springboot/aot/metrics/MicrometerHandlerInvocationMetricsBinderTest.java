@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link MicrometerHandlerInvocationMetricsBinder}, as well as the latency buckets of the
+ * {@link HandlerInvocationMetrics}.
+ *
+ * @author Allard Buijze
+ */
+class MicrometerHandlerInvocationMetricsBinderTest {
+
+    @Test
+    void handlerMetricsAreExposedAsMeters() {
+        HandlerInvocationMetrics metrics = new HandlerInvocationMetrics("com.example.Handler",
+                                                                        "handle(SomeCommand)",
+                                                                        InvocationMode.REFLECTIVE);
+        HandlerInvocationMetricsRegistry registry = new HandlerInvocationMetricsRegistry() {
+            @Override
+            public void addListener(HandlerInvocationMetricsListener listener) {
+                listener.onRegistered(metrics);
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new MicrometerHandlerInvocationMetricsBinder(registry).bindTo(meterRegistry);
+
+        metrics.record(TimeUnit.MICROSECONDS.toNanos(5), false);
+        metrics.record(TimeUnit.MILLISECONDS.toNanos(2), true);
+        metrics.record(TimeUnit.SECONDS.toNanos(10), false);
+
+        Timer timer = meterRegistry.get("axon.handler.invocations")
+                                   .tag("handlerType", "com.example.Handler")
+                                   .tag("invocationMode", "REFLECTIVE")
+                                   .timer();
+        assertEquals(3, timer.count());
+        assertEquals(1, meterRegistry.get("axon.handler.failures").functionCounter().count());
+        CountAtBucket[] buckets = timer.takeSnapshot().histogramCounts();
+        assertEquals(1, countAt(buckets, TimeUnit.MICROSECONDS.toNanos(10)));
+        assertEquals(1, countAt(buckets, TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(2, countAt(buckets, TimeUnit.MILLISECONDS.toNanos(5)));
+        assertEquals(2, countAt(buckets, TimeUnit.SECONDS.toNanos(5)));
+
+        assertEquals(1, metrics.cumulativeCount(0));
+        assertEquals(2, metrics.cumulativeCount(HandlerInvocationMetrics.bucketBoundaries().length - 1));
+        assertEquals(3, metrics.cumulativeCount(HandlerInvocationMetrics.bucketBoundaries().length));
+    }
+
+    private static double countAt(CountAtBucket[] buckets, long upperBoundNanos) {
+        return Arrays.stream(buckets)
+                     .filter(bucket -> bucket.bucket(TimeUnit.NANOSECONDS) == upperBoundNanos)
+                     .findFirst()
+                     .orElseThrow()
+                     .count();
+    }
+}
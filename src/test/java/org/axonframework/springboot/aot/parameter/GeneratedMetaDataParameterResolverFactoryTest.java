@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.parameter;
+
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.GenericEventMessage;
+import org.axonframework.messaging.Message;
+import org.axonframework.messaging.MetaData;
+import org.axonframework.messaging.annotation.ClasspathParameterResolverFactory;
+import org.axonframework.messaging.annotation.MetaDataValue;
+import org.axonframework.messaging.annotation.MultiParameterResolverFactory;
+import org.axonframework.messaging.annotation.ParameterResolver;
+import org.axonframework.messaging.annotation.ParameterResolverFactory;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link GeneratedMetaDataParameterResolverFactory}.
+ *
+ * @author Allard Buijze
+ */
+class GeneratedMetaDataParameterResolverFactoryTest {
+
+    private Method handler;
+    private ParameterResolverFactory parameterResolverFactory;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        handler = TestHandler.class.getMethod("on", String.class, String.class, Integer.class);
+        GeneratedMetaDataResolvers resolvers =
+                new GeneratedMetaDataResolvers(List.of(new TraceIdResolver(handler)));
+        parameterResolverFactory = MultiParameterResolverFactory.ordered(
+                ClasspathParameterResolverFactory.forClass(TestHandler.class),
+                new GeneratedMetaDataParameterResolverFactory(resolvers)
+        );
+    }
+
+    @Test
+    void generatedResolverTakesPrecedenceOverDefaultResolution() {
+        ParameterResolver<?> resolver = parameterResolverFactory.createInstance(handler, handler.getParameters(), 1);
+        Message<?> message = new GenericEventMessage<>("payload", MetaData.with("traceId", "trace"));
+
+        assertTrue(resolver.matches(message));
+        assertEquals("generated:trace", resolver.resolveParameterValue(message));
+    }
+
+    @Test
+    void parametersWithoutGeneratedResolverAreResolvedByDefault() {
+        ParameterResolver<?> resolver = parameterResolverFactory.createInstance(handler, handler.getParameters(), 2);
+        Message<?> message = new GenericEventMessage<>("payload", MetaData.with("attempt", 3));
+
+        assertTrue(resolver.matches(message));
+        assertEquals(3, resolver.resolveParameterValue(message));
+    }
+
+    static class TestHandler {
+
+        @EventHandler
+        public void on(String event,
+                       @MetaDataValue(value = "traceId", required = true) String traceId,
+                       @MetaDataValue("attempt") Integer attempt) {
+        }
+    }
+
+    private record TraceIdResolver(Method handler) implements GeneratedMetaDataResolver {
+
+        @Override
+        public List<String> parameterKeys() {
+            return List.of(GeneratedMetaDataResolvers.keyOf(handler, 1));
+        }
+
+        @Override
+        public boolean matches(int parameterIndex, Message<?> message) {
+            return message.getMetaData().get("traceId") instanceof String;
+        }
+
+        @Override
+        public Object resolve(int parameterIndex, Message<?> message) {
+            return "generated:" + message.getMetaData().get("traceId");
+        }
+    }
+}
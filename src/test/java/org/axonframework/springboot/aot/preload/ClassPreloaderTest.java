@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.preload;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ClassPreloader}.
+ *
+ * @author Allard Buijze
+ */
+class ClassPreloaderTest {
+
+    private static volatile boolean initialized;
+
+    private final ClassPreloader preloader = new ClassPreloader(getClass().getClassLoader(), 2);
+
+    @Test
+    void classesAreLoadedAndInitialized() throws Exception {
+        int loaded = preloader.preload(List.of(InitializationMarker.class.getName(), PreloadedClasses.class.getName()))
+                              .get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, loaded);
+        assertTrue(initialized);
+    }
+
+    @Test
+    void classesThatCantBeLoadedAreSkipped() throws Exception {
+        int loaded = preloader.preload(List.of("com.example.DoesNotExist", PreloadedClasses.class.getName()))
+                              .get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, loaded);
+    }
+
+    @Test
+    void nothingIsLoadedWithoutClasses() throws Exception {
+        assertEquals(0, preloader.preload(List.of()).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void atLeastOneThreadIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> new ClassPreloader(getClass().getClassLoader(), 0));
+    }
+
+    private static class InitializationMarker {
+
+        static {
+            initialized = true;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import com.axoniq.someproject.api.SomeResult;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.OptionalResponseType;
+import org.axonframework.messaging.responsetypes.ResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ResponseTypeMatchTable}.
+ *
+ * @author Allard Buijze
+ */
+class ResponseTypeMatchTableTest {
+
+    @Test
+    void precomputedMatchesAreUsedWithoutMatchingTheResponseType() {
+        ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of(new ResponseTypeMatch(
+                MultipleInstancesResponseType.class.getName(), SomeResult.class.getName(), String.class.getName(), 42
+        )));
+
+        assertEquals(42, table.matchRank(ResponseTypes.multipleInstancesOf(SomeResult.class), String.class));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void precomputedMatchesAreNotUsedForTypeVariables() throws NoSuchMethodException {
+        Type typeVariable = GenericHandlers.class.getDeclaredMethod("single").getGenericReturnType();
+        ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of(new ResponseTypeMatch(
+                MultipleInstancesResponseType.class.getName(), SomeResult.class.getName(),
+                typeVariable.getTypeName(), 42
+        )));
+        ResponseType<List<SomeResult>> responseType = ResponseTypes.multipleInstancesOf(SomeResult.class);
+
+        assertEquals(responseType.matchRank(typeVariable), table.matchRank(responseType, typeVariable));
+    }
+
+    @Test
+    void onlyTypesWithoutTypeVariablesOrWildcardsAreConcrete() throws NoSuchMethodException {
+        assertTrue(ResponseTypeMatch.isConcrete(SomeResult.class));
+        assertTrue(ResponseTypeMatch.isConcrete(
+                GenericHandlers.class.getDeclaredMethod("concreteList").getGenericReturnType()
+        ));
+        assertFalse(ResponseTypeMatch.isConcrete(
+                GenericHandlers.class.getDeclaredMethod("single").getGenericReturnType()
+        ));
+        assertFalse(ResponseTypeMatch.isConcrete(
+                GenericHandlers.class.getDeclaredMethod("list").getGenericReturnType()
+        ));
+        assertFalse(ResponseTypeMatch.isConcrete(
+                GenericHandlers.class.getDeclaredMethod("wildcardList").getGenericReturnType()
+        ));
+    }
+
+    @Test
+    void missingMatchesAreComputedAndKept() {
+        ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of());
+        ResponseType<List<SomeResult>> responseType = ResponseTypes.multipleInstancesOf(SomeResult.class);
+        Type resultType = SomeResult[].class;
+
+        assertEquals(responseType.matchRank(resultType), table.matchRank(responseType, resultType));
+        assertEquals(ResponseType.NO_MATCH,
+                     table.matchRank(ResponseTypes.instanceOf(SomeResult.class), String.class));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void decoratedResponseTypesAreSharedSubclassesOfTheOriginal() {
+        ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of());
+
+        ResponseType<List<SomeResult>> decorated = table.decorate(ResponseTypes.multipleInstancesOf(SomeResult.class));
+
+        assertInstanceOf(MultipleInstancesResponseType.class, decorated);
+        assertNotEquals(MultipleInstancesResponseType.class, decorated.getClass());
+        assertSame(decorated, table.decorate(ResponseTypes.multipleInstancesOf(SomeResult.class)));
+        assertSame(decorated, table.decorate(decorated));
+        assertInstanceOf(OptionalResponseType.class,
+                         table.decorate(ResponseTypes.optionalInstanceOf(SomeResult.class)));
+    }
+
+    @Test
+    void customResponseTypesAreNotKept() {
+        ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of());
+        ResponseType<SomeResult> customResponseType = new CustomResponseType();
+
+        assertFalse(ResponseTypeMatchTable.supports(customResponseType));
+        assertEquals(7, table.matchRank(customResponseType, SomeResult.class));
+        assertSame(customResponseType, table.decorate(customResponseType));
+        assertEquals(0, table.size());
+    }
+
+    @SuppressWarnings("unused")
+    private interface GenericHandlers<T> {
+
+        T single();
+
+        List<T> list();
+
+        List<? extends SomeResult> wildcardList();
+
+        List<SomeResult> concreteList();
+    }
+
+    private static class CustomResponseType implements ResponseType<SomeResult> {
+
+        @Override
+        public boolean matches(Type responseType) {
+            return true;
+        }
+
+        @Override
+        public Integer matchRank(Type responseType) {
+            return 7;
+        }
+
+        @Override
+        public Class<SomeResult> responseMessagePayloadType() {
+            return SomeResult.class;
+        }
+
+        @Override
+        public Class<?> getExpectedResponseType() {
+            return SomeResult.class;
+        }
+    }
+}
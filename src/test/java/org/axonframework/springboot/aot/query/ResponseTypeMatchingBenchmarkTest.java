@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import com.axoniq.someproject.api.SomeQuery;
+import com.axoniq.someproject.api.SomeResult;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.QueryMessage;
+import org.junit.jupiter.api.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark comparing the cost of matching the response type of a query against the result types of its handlers,
+ * as done by the query bus for each query, with and without the {@link ResponseTypeMatchingDispatchInterceptor}. Each
+ * operation creates a query the way applications do, with a new response type, and matches it against four handler
+ * result types. With the interceptor, the operation includes decorating the query.
+ * <p/>
+ * The fastest of several rounds is compared, and both ways of matching must give the same ranks.
+ *
+ * @author Allard Buijze
+ */
+class ResponseTypeMatchingBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+    private static final int OPERATIONS = 50_000;
+
+    private final ResponseTypeMatchingDispatchInterceptor interceptor =
+            new ResponseTypeMatchingDispatchInterceptor(new ResponseTypeMatchTable(List.of()));
+    private Type[] handlerResultTypes;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        handlerResultTypes = new Type[]{
+                SomeResult.class,
+                ResultTypes.class.getDeclaredMethod("list").getGenericReturnType(),
+                ResultTypes.class.getDeclaredMethod("optional").getGenericReturnType(),
+                ResultTypes.class.getDeclaredMethod("future").getGenericReturnType()
+        };
+    }
+
+    @Test
+    void matchingThroughTheTableIsFasterThanResponseTypeMatching() {
+        long fastestDirect = Long.MAX_VALUE;
+        long fastestTable = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Measurement direct = measure(false);
+            Measurement table = measure(true);
+            assertEquals(direct.ranks(), table.ranks());
+            fastestDirect = Math.min(fastestDirect, direct.nanos());
+            fastestTable = Math.min(fastestTable, table.nanos());
+        }
+
+        assertTrue(fastestTable < fastestDirect,
+                   "Table matching took " + fastestTable + " ns, response type matching " + fastestDirect + " ns");
+    }
+
+    private Measurement measure(boolean throughTable) {
+        long ranks = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            QueryMessage<?, ?> query =
+                    new GenericQueryMessage<>(new SomeQuery(), ResponseTypes.multipleInstancesOf(SomeResult.class));
+            if (throughTable) {
+                query = interceptor.handle(query);
+            }
+            for (Type handlerResultType : handlerResultTypes) {
+                ranks += query.getResponseType().matchRank(handlerResultType);
+            }
+        }
+        return new Measurement(System.nanoTime() - start, ranks);
+    }
+
+    private record Measurement(long nanos, long ranks) {
+
+    }
+
+    @SuppressWarnings("unused")
+    private interface ResultTypes {
+
+        List<SomeResult> list();
+
+        Optional<SomeResult> optional();
+
+        CompletableFuture<List<SomeResult>> future();
+    }
+}
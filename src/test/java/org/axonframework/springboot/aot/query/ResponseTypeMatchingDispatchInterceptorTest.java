@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import com.axoniq.someproject.api.SomeQuery;
+import com.axoniq.someproject.api.SomeResult;
+import org.axonframework.messaging.responsetypes.InstanceResponseType;
+import org.axonframework.messaging.responsetypes.MultipleInstancesResponseType;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.queryhandling.GenericQueryMessage;
+import org.axonframework.queryhandling.GenericSubscriptionQueryMessage;
+import org.axonframework.queryhandling.QueryMessage;
+import org.axonframework.queryhandling.SimpleQueryBus;
+import org.axonframework.springboot.aot.metadata.ResponseTypeMatch;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ResponseTypeMatchingDispatchInterceptor}.
+ *
+ * @author Allard Buijze
+ */
+class ResponseTypeMatchingDispatchInterceptorTest {
+
+    private final ResponseTypeMatchTable table = new ResponseTypeMatchTable(List.of());
+    private final ResponseTypeMatchingDispatchInterceptor testSubject =
+            new ResponseTypeMatchingDispatchInterceptor(table);
+
+    @Test
+    void queriesAreRoutedThroughTheTable() throws Exception {
+        SimpleQueryBus queryBus = SimpleQueryBus.builder().build();
+        queryBus.registerDispatchInterceptor(testSubject);
+        queryBus.subscribe(SomeQuery.class.getName(), SomeResult.class, m -> new SomeResult("single"));
+        queryBus.subscribe(SomeQuery.class.getName(),
+                           ResponseTypes.multipleInstancesOf(SomeResult.class).responseMessagePayloadType(),
+                           m -> List.of(new SomeResult("multiple")));
+
+        SomeResult single = queryBus.query(new GenericQueryMessage<>(new SomeQuery(),
+                                                                     ResponseTypes.instanceOf(SomeResult.class)))
+                                    .get()
+                                    .getPayload();
+
+        assertEquals("single", single.id());
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void responseTypeIsDecoratedAndSerializedAsTheOriginal() {
+        QueryMessage<SomeQuery, List<SomeResult>> query =
+                new GenericQueryMessage<>(new SomeQuery(), ResponseTypes.multipleInstancesOf(SomeResult.class));
+
+        QueryMessage<?, ?> intercepted = testSubject.handle(query);
+
+        assertInstanceOf(MultipleInstancesResponseType.class, intercepted.getResponseType());
+        assertNotSame(query.getResponseType(), intercepted.getResponseType());
+        assertEquals(MultipleInstancesResponseType.class, intercepted.getResponseType().forSerialization().getClass());
+        assertEquals(query.getIdentifier(), intercepted.getIdentifier());
+        assertEquals(query.getQueryName(), intercepted.getQueryName());
+        assertEquals(query.getPayload(), intercepted.getPayload());
+    }
+
+    @Test
+    void subscriptionQueriesAreNotDecorated() {
+        QueryMessage<SomeQuery, SomeResult> query = new GenericSubscriptionQueryMessage<>(
+                new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class), ResponseTypes.instanceOf(String.class)
+        );
+
+        assertSame(query, testSubject.handle(query));
+        assertInstanceOf(InstanceResponseType.class, query.getResponseType());
+    }
+
+    @Test
+    void precomputedMatchesDecideWhichHandlerIsInvoked() throws Exception {
+        ResponseTypeMatchTable precomputedTable = new ResponseTypeMatchTable(List.of(
+                new ResponseTypeMatch(InstanceResponseType.class.getName(),
+                                      SomeResult.class.getName(),
+                                      SomeResult.class.getName(),
+                                      0)
+        ));
+        SimpleQueryBus queryBus = SimpleQueryBus.builder().build();
+        queryBus.registerDispatchInterceptor(new ResponseTypeMatchingDispatchInterceptor(precomputedTable));
+        queryBus.subscribe(SomeQuery.class.getName(), SomeResult.class, m -> new SomeResult("single"));
+
+        QueryMessage<SomeQuery, SomeResult> query =
+                new GenericQueryMessage<>(new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class));
+
+        assertTrue(queryBus.query(query).isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.query;
+
+import com.axoniq.someproject.api.SomeQuery;
+import com.axoniq.someproject.api.SomeResult;
+import org.axonframework.messaging.responsetypes.ResponseTypes;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.monitoring.NoOpMessageMonitor;
+import org.axonframework.queryhandling.DefaultQueryUpdateEmitterSpanFactory;
+import org.axonframework.queryhandling.GenericSubscriptionQueryMessage;
+import org.axonframework.queryhandling.GenericSubscriptionQueryUpdateMessage;
+import org.axonframework.queryhandling.SubscriptionQueryMessage;
+import org.axonframework.queryhandling.SubscriptionQueryUpdateMessage;
+import org.axonframework.queryhandling.UpdateHandlerRegistration;
+import org.axonframework.tracing.NoOpSpanFactory;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.axonframework.queryhandling.GenericSubscriptionQueryUpdateMessage.asUpdateMessage;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link RoutingQueryUpdateEmitter}.
+ *
+ * @author Allard Buijze
+ */
+class RoutingQueryUpdateEmitterTest {
+
+    private static final Object NO_PAYLOAD = new Object();
+
+    private final RoutingQueryUpdateEmitter emitter = new RoutingQueryUpdateEmitter(
+            NoOpMessageMonitor.INSTANCE,
+            DefaultQueryUpdateEmitterSpanFactory.builder().spanFactory(NoOpSpanFactory.INSTANCE).build(),
+            new QueryUpdateTypes(Map.of(SomeQuery.class.getName(), List.of(SomeResult.class.getName())))
+    );
+
+    @Test
+    void updatesAreOnlyEmittedToSubscriptionsWithACompatibleUpdateResponseType() {
+        List<Object> singleUpdates = subscribe(new GenericSubscriptionQueryMessage<>(
+                new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class),
+                ResponseTypes.instanceOf(SomeResult.class)
+        ));
+        List<Object> otherUpdates = subscribe(new GenericSubscriptionQueryMessage<>(
+                new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class),
+                ResponseTypes.instanceOf(String.class)
+        ));
+
+        emitter.emit(query -> true, new SomeResult("single"));
+        emitter.emit(query -> true, List.of(new SomeResult("multiple")));
+
+        assertEquals(List.of(new SomeResult("single")), singleUpdates);
+        assertEquals(List.of(), otherUpdates);
+        assertEquals(2, emitter.groupCount());
+    }
+
+    @Test
+    void updatesMatchedByTheUpdateResponseTypeAreEmittedToOptionalSubscriptions() {
+        List<Object> updates = subscribe(new GenericSubscriptionQueryMessage<>(
+                new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class),
+                ResponseTypes.optionalInstanceOf(SomeResult.class)
+        ));
+
+        emitter.emit(query -> true, new SomeResult("update"));
+
+        assertEquals(List.of(new SomeResult("update")), updates);
+    }
+
+    @Test
+    void updatesWithoutPayloadAreEmittedToEverySubscription() {
+        List<Object> singleUpdates = subscribe(someQuery());
+        List<Object> multipleUpdates = subscribe(new GenericSubscriptionQueryMessage<>(
+                new SomeQuery(), ResponseTypes.instanceOf(SomeResult.class),
+                ResponseTypes.multipleInstancesOf(SomeResult.class)
+        ));
+
+        SubscriptionQueryUpdateMessage<SomeResult> update =
+                new GenericSubscriptionQueryUpdateMessage<>(SomeResult.class, null);
+        Predicate<SubscriptionQueryMessage<?, ?, SomeResult>> allQueries = query -> true;
+        emitter.emit(allQueries, update);
+
+        assertEquals(1, singleUpdates.size());
+        assertEquals(1, multipleUpdates.size());
+    }
+
+    @Test
+    void subscriptionsAreRegisteredByIdentifier() {
+        SubscriptionQueryMessage<SomeQuery, SomeResult, SomeResult> query = someQuery();
+        emitter.registerUpdateHandler(query, 16);
+
+        assertTrue(emitter.queryUpdateHandlerRegistered(new GenericSubscriptionQueryMessage<>(
+                query, query.getQueryName(), query.getResponseType(), query.getUpdateResponseType()
+        )));
+        assertFalse(emitter.queryUpdateHandlerRegistered(someQuery()));
+    }
+
+    @Test
+    void subscriptionsWithTheSameQueryAndUpdateResponseTypeShareAGroup() {
+        List<Object> first = subscribe(someQuery());
+        List<Object> second = subscribe(someQuery());
+
+        emitter.emit(SomeQuery.class, query -> true, new SomeResult("update"));
+
+        assertEquals(1, emitter.groupCount());
+        assertEquals(2, emitter.activeSubscriptions().size());
+        assertEquals(List.of(new SomeResult("update")), first);
+        assertEquals(List.of(new SomeResult("update")), second);
+    }
+
+    @Test
+    void filtersOfUpdatesForAQueryTypeAreOnlyTestedAgainstQueriesOfThatType() {
+        List<Object> someQueryUpdates = subscribe(someQuery());
+        List<Object> otherQueryUpdates = subscribe(new GenericSubscriptionQueryMessage<>(
+                "other", ResponseTypes.instanceOf(SomeResult.class), ResponseTypes.instanceOf(SomeResult.class)
+        ));
+        AtomicInteger filterInvocations = new AtomicInteger();
+
+        emitter.emit(SomeQuery.class, query -> filterInvocations.incrementAndGet() > 0, new SomeResult("update"));
+
+        assertEquals(1, filterInvocations.get());
+        assertEquals(List.of(new SomeResult("update")), someQueryUpdates);
+        assertEquals(List.of(), otherQueryUpdates);
+    }
+
+    @Test
+    void updatesAreEmittedAfterTheUnitOfWorkCommits() {
+        List<Object> updates = subscribe(someQuery());
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+
+        emitter.emit(query -> true, new SomeResult("update"));
+        assertEquals(List.of(), updates);
+        unitOfWork.commit();
+
+        assertEquals(List.of(new SomeResult("update")), updates);
+    }
+
+    @Test
+    void cancelledSubscriptionsAreRemovedWithTheirGroup() {
+        SubscriptionQueryMessage<SomeQuery, SomeResult, SomeResult> query = someQuery();
+        UpdateHandlerRegistration<Object> registration = emitter.registerUpdateHandler(query, 16);
+        assertTrue(emitter.queryUpdateHandlerRegistered(query));
+
+        registration.getRegistration().cancel();
+
+        assertFalse(emitter.queryUpdateHandlerRegistered(query));
+        assertEquals(0, emitter.groupCount());
+    }
+
+    @Test
+    void completedSubscriptionsCompleteTheirUpdates() {
+        SubscriptionQueryMessage<SomeQuery, SomeResult, SomeResult> query = someQuery();
+        UpdateHandlerRegistration<Object> registration = emitter.registerUpdateHandler(query, 16);
+        emitter.emit(SomeQuery.class, q -> true, new SomeResult("update"));
+
+        emitter.complete(SomeQuery.class, q -> true);
+
+        List<SubscriptionQueryUpdateMessage<Object>> updates = registration.getUpdates().collectList().block();
+        assertNotNull(updates);
+        assertEquals(1, updates.size());
+        assertEquals(0, emitter.groupCount());
+    }
+
+    @Test
+    void dispatchInterceptorsApplyToEmittedUpdates() {
+        List<Object> updates = subscribe(someQuery());
+        emitter.registerDispatchInterceptor(
+                messages -> (index, message) -> asUpdateMessage(new SomeResult("intercepted"))
+        );
+
+        emitter.emit(query -> true, new SomeResult("update"));
+
+        assertEquals(List.of(new SomeResult("intercepted")), updates);
+    }
+
+    private static SubscriptionQueryMessage<SomeQuery, SomeResult, SomeResult> someQuery() {
+        return new GenericSubscriptionQueryMessage<>(new SomeQuery(),
+                                                     ResponseTypes.instanceOf(SomeResult.class),
+                                                     ResponseTypes.instanceOf(SomeResult.class));
+    }
+
+    private List<Object> subscribe(SubscriptionQueryMessage<?, ?, ?> query) {
+        List<Object> updates = new CopyOnWriteArrayList<>();
+        emitter.<Object>registerUpdateHandler(query, 16)
+               .getUpdates()
+               .subscribe(update -> updates.add(Optional.ofNullable(update.getPayload())
+                                                        .orElse(NO_PAYLOAD)));
+        return updates;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.common.caching.Cache;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link BoundedCache}.
+ *
+ * @author Allard Buijze
+ */
+class BoundedCacheTest {
+
+    private final BoundedCache testSubject = new BoundedCache(2, 1);
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        List<Object> expired = new ArrayList<>();
+        testSubject.registerCacheEntryListener(new Cache.EntryListenerAdapter() {
+            @Override
+            public void onEntryExpired(Object key) {
+                expired.add(key);
+            }
+        });
+        testSubject.put("a", 1);
+        testSubject.put("b", 2);
+        testSubject.get("a");
+
+        testSubject.put("c", 3);
+
+        assertEquals(2, testSubject.size());
+        assertTrue(testSubject.containsKey("a"));
+        assertFalse(testSubject.containsKey("b"));
+        assertTrue(testSubject.containsKey("c"));
+        assertEquals(List.of("b"), expired);
+    }
+
+    @Test
+    void entriesAreSpreadOverStripesWithinTheMaximumSize() {
+        BoundedCache stripedCache = new BoundedCache(8, 4);
+
+        for (int i = 0; i < 100; i++) {
+            stripedCache.put("key" + i, i);
+        }
+
+        assertEquals(8, stripedCache.size());
+        assertTrue(stripedCache.containsKey("key99"));
+        assertEquals(99, stripedCache.<String, Integer>get("key99"));
+    }
+
+    @Test
+    void existingValueIsKeptByPutIfAbsentAndComputeIfAbsent() {
+        testSubject.put("a", 1);
+
+        assertFalse(testSubject.putIfAbsent("a", 2));
+        assertEquals(1, testSubject.<Integer>computeIfAbsent("a", () -> 3));
+        assertEquals(4, testSubject.<Integer>computeIfAbsent("b", () -> 4));
+        assertEquals(1, testSubject.<String, Integer>get("a"));
+    }
+
+    @Test
+    void entryIsRemovedWhenUpdatedToNull() {
+        testSubject.put("a", 1);
+
+        testSubject.<Integer>computeIfPresent("a", value -> value + 1);
+        assertEquals(2, testSubject.<String, Integer>get("a"));
+        testSubject.<Integer>computeIfPresent("b", value -> value + 1);
+        assertFalse(testSubject.containsKey("b"));
+        testSubject.<Integer>computeIfPresent("a", value -> null);
+        assertFalse(testSubject.containsKey("a"));
+    }
+
+    @Test
+    void entriesAreRemoved() {
+        testSubject.put("a", 1);
+        testSubject.put("b", 2);
+
+        assertTrue(testSubject.remove("a"));
+        assertFalse(testSubject.remove("a"));
+        testSubject.removeAll();
+        assertEquals(0, testSubject.size());
+    }
+
+    @Test
+    void nullValuesAndSizesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> testSubject.put("a", null));
+        assertThrows(IllegalStateException.class, () -> testSubject.computeIfAbsent("a", () -> null));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache(1, 0));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.eventhandling.tokenstore.TokenStore;
+import org.axonframework.eventhandling.tokenstore.inmemory.InMemoryTokenStore;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.modelling.saga.repository.inmemory.InMemorySagaStore;
+import org.axonframework.modelling.saga.repository.jdbc.JdbcSagaStore;
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link SagaStoreCachingPostProcessor}.
+ *
+ * @author Allard Buijze
+ */
+class SagaStoreCachingPostProcessorTest {
+
+    private static final AssociationValue ORDER = new AssociationValue("orderId", "1");
+
+    private final SagaStoreCachingPostProcessor testSubject = new SagaStoreCachingPostProcessor(100, 100);
+
+    @Test
+    void jdbcSagaStoreIsCached() {
+        assertInstanceOf(WriteThroughCachingSagaStore.class,
+                         testSubject.postProcessAfterInitialization(mock(JdbcSagaStore.class), "sagaStore"));
+    }
+
+    @Test
+    void otherSagaStoresAreLeftAsTheyAre() {
+        InMemorySagaStore sagaStore = new InMemorySagaStore();
+
+        assertSame(sagaStore, testSubject.postProcessAfterInitialization(sagaStore, "sagaStore"));
+    }
+
+    @Test
+    void claimingOrReleasingSegmentsInvalidatesTheCaches() {
+        JdbcSagaStore delegate = mock(JdbcSagaStore.class);
+        when(delegate.findSagas(Object.class, ORDER)).thenReturn(Set.of("saga1"));
+        @SuppressWarnings("unchecked")
+        SagaStore<Object> sagaStore =
+                (SagaStore<Object>) testSubject.postProcessAfterInitialization(delegate, "sagaStore");
+        TokenStore tokenStore =
+                (TokenStore) testSubject.postProcessAfterInitialization(new InMemoryTokenStore(), "tokenStore");
+        tokenStore.initializeTokenSegments("processor", 1);
+        sagaStore.findSagas(Object.class, ORDER);
+
+        tokenStore.fetchToken("processor", 0);
+        sagaStore.findSagas(Object.class, ORDER);
+        tokenStore.releaseClaim("processor", 0);
+        sagaStore.findSagas(Object.class, ORDER);
+
+        verify(delegate, times(3)).findSagas(Object.class, ORDER);
+    }
+
+    @Test
+    void claimingSegmentsOfAnotherProcessorKeepsTheCaches() {
+        JdbcSagaStore delegate = mock(JdbcSagaStore.class);
+        when(delegate.findSagas(Object.class, ORDER)).thenReturn(Set.of("saga1"));
+        @SuppressWarnings("unchecked")
+        SagaStore<Object> sagaStore =
+                (SagaStore<Object>) testSubject.postProcessAfterInitialization(delegate, "sagaStore");
+        TokenStore tokenStore =
+                (TokenStore) testSubject.postProcessAfterInitialization(new InMemoryTokenStore(), "tokenStore");
+        tokenStore.initializeTokenSegments("other", 2);
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        unitOfWork.resources().put("Processor[processor]/SegmentId", 0);
+        sagaStore.findSagas(Object.class, ORDER);
+        unitOfWork.commit();
+
+        tokenStore.fetchToken("other", 1);
+        sagaStore.findSagas(Object.class, ORDER);
+
+        verify(delegate, times(1)).findSagas(Object.class, ORDER);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.saga;
+
+import org.axonframework.eventhandling.Segment;
+import org.axonframework.messaging.unitofwork.DefaultUnitOfWork;
+import org.axonframework.messaging.unitofwork.UnitOfWork;
+import org.axonframework.modelling.saga.AssociationValue;
+import org.axonframework.modelling.saga.AssociationValuesImpl;
+import org.axonframework.modelling.saga.repository.SagaStore;
+import org.axonframework.modelling.saga.repository.inmemory.InMemorySagaStore;
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link WriteThroughCachingSagaStore}.
+ *
+ * @author Allard Buijze
+ */
+class WriteThroughCachingSagaStoreTest {
+
+    private static final AssociationValue ORDER = new AssociationValue("orderId", "1");
+
+    private SagaStore<Object> delegate;
+    private BoundedCache associationsCache;
+    private BoundedCache sagaCache;
+    private WriteThroughCachingSagaStore<Object> testSubject;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(new InMemorySagaStore());
+        associationsCache = new BoundedCache(100);
+        sagaCache = new BoundedCache(100);
+        testSubject = new WriteThroughCachingSagaStore<>(delegate, associationsCache, sagaCache);
+    }
+
+    @Test
+    void sagasFoundByAssociationValueAreCached() {
+        delegate.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+
+        assertEquals(Set.of("saga1"), testSubject.findSagas(TestSaga.class, ORDER));
+        assertEquals(Set.of("saga1"), testSubject.findSagas(TestSaga.class, ORDER));
+
+        verify(delegate, times(1)).findSagas(TestSaga.class, ORDER);
+    }
+
+    @Test
+    void loadedSagasAreCached() {
+        TestSaga saga = new TestSaga();
+        delegate.insertSaga(TestSaga.class, "saga1", saga, Set.of(ORDER));
+
+        assertSame(saga, testSubject.loadSaga(TestSaga.class, "saga1").saga());
+        assertSame(saga, testSubject.loadSaga(TestSaga.class, "saga1").saga());
+        assertNull(testSubject.loadSaga(TestSaga.class, "unknown"));
+
+        verify(delegate, times(1)).loadSaga(TestSaga.class, "saga1");
+    }
+
+    @Test
+    void changesAreOnlyCachedWhenTheUnitOfWorkCommits() {
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, ORDER));
+        TestSaga saga = new TestSaga();
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+
+        testSubject.insertSaga(TestSaga.class, "saga1", saga, Set.of(ORDER));
+
+        assertFalse(sagaCache.containsKey("saga1"));
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, ORDER));
+        unitOfWork.commit();
+        assertTrue(sagaCache.containsKey("saga1"));
+        assertEquals(Set.of("saga1"), testSubject.findSagas(TestSaga.class, ORDER));
+        verify(delegate, times(1)).findSagas(TestSaga.class, ORDER);
+    }
+
+    @Test
+    void loadedSagaIsEvictedWhenTheUnitOfWorkRollsBack() {
+        testSubject.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+        assertTrue(sagaCache.containsKey("saga1"));
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+
+        testSubject.loadSaga(TestSaga.class, "saga1");
+        unitOfWork.rollback();
+
+        assertFalse(sagaCache.containsKey("saga1"));
+    }
+
+    @Test
+    void changedAssociationsAreAppliedToTheCache() {
+        AssociationValue shipment = new AssociationValue("shipmentId", "2");
+        TestSaga saga = new TestSaga();
+        testSubject.insertSaga(TestSaga.class, "saga1", saga, Set.of(ORDER));
+        assertEquals(Set.of("saga1"), testSubject.findSagas(TestSaga.class, ORDER));
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, shipment));
+        AssociationValuesImpl associationValues = new AssociationValuesImpl(Set.of(ORDER));
+        associationValues.remove(ORDER);
+        associationValues.add(shipment);
+
+        testSubject.updateSaga(TestSaga.class, "saga1", saga, associationValues);
+
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, ORDER));
+        assertEquals(Set.of("saga1"), testSubject.findSagas(TestSaga.class, shipment));
+        testSubject.deleteSaga(TestSaga.class, "saga1", Set.of(shipment));
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, shipment));
+        assertFalse(sagaCache.containsKey("saga1"));
+    }
+
+    @Test
+    void associationsChangedDuringLookupAreNotCached() {
+        doAnswer(invocation -> {
+            Set<?> found = (Set<?>) invocation.callRealMethod();
+            testSubject.insertSaga(TestSaga.class, "saga2", new TestSaga(), Set.of(ORDER));
+            return found;
+        }).doCallRealMethod().when(delegate).findSagas(TestSaga.class, ORDER);
+
+        assertEquals(Set.of(), testSubject.findSagas(TestSaga.class, ORDER));
+
+        assertEquals(Set.of("saga2"), testSubject.findSagas(TestSaga.class, ORDER));
+    }
+
+    @Test
+    void clearingEvictsCachedSagasAndAssociations() {
+        delegate.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+
+        testSubject.clear();
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+
+        verify(delegate, times(2)).findSagas(TestSaga.class, ORDER);
+        verify(delegate, times(2)).loadSaga(TestSaga.class, "saga1");
+    }
+
+    @Test
+    void invalidatingASegmentEvictsItsSagasAndTheAssociationsOfItsProcessor() {
+        delegate.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+        delegate.insertSaga(TestSaga.class, "saga2", new TestSaga(), Set.of(ORDER));
+        Segment[] segments = Segment.ROOT_SEGMENT.split();
+        Segment segmentOfSaga1 = segments[0].matches("saga1") ? segments[0] : segments[1];
+        assertFalse(segmentOfSaga1.matches("saga2"));
+        UnitOfWork<?> unitOfWork = startProcessorUnitOfWork("orders");
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+        testSubject.loadSaga(TestSaga.class, "saga2");
+        unitOfWork.commit();
+
+        testSubject.invalidate("orders", segmentOfSaga1);
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+        testSubject.loadSaga(TestSaga.class, "saga2");
+
+        verify(delegate, times(2)).findSagas(TestSaga.class, ORDER);
+        verify(delegate, times(2)).loadSaga(TestSaga.class, "saga1");
+        verify(delegate, times(1)).loadSaga(TestSaga.class, "saga2");
+    }
+
+    @Test
+    void invalidatingASegmentOfAnotherProcessorKeepsTheCachedEntries() {
+        delegate.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+        UnitOfWork<?> unitOfWork = startProcessorUnitOfWork("orders");
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+        unitOfWork.commit();
+
+        testSubject.invalidate("shipments", Segment.ROOT_SEGMENT);
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+
+        verify(delegate, times(1)).findSagas(TestSaga.class, ORDER);
+        verify(delegate, times(1)).loadSaga(TestSaga.class, "saga1");
+    }
+
+    @Test
+    void entriesCachedOutsideOfAProcessorAreInvalidatedByAnyProcessor() {
+        delegate.insertSaga(TestSaga.class, "saga1", new TestSaga(), Set.of(ORDER));
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+
+        testSubject.invalidate("shipments", Segment.ROOT_SEGMENT);
+        testSubject.findSagas(TestSaga.class, ORDER);
+        testSubject.loadSaga(TestSaga.class, "saga1");
+
+        verify(delegate, times(2)).findSagas(TestSaga.class, ORDER);
+        verify(delegate, times(2)).loadSaga(TestSaga.class, "saga1");
+    }
+
+    private static UnitOfWork<?> startProcessorUnitOfWork(String processorName) {
+        UnitOfWork<?> unitOfWork = DefaultUnitOfWork.startAndGet(null);
+        unitOfWork.resources().put("Processor[" + processorName + "]/SegmentId", 0);
+        return unitOfWork;
+    }
+
+    private static class TestSaga {
+
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.serialization;
+
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.converters.ByteArrayToInputStreamConverter;
+import org.axonframework.serialization.converters.StringToByteArrayConverter;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ContentTypeConverterRoutesPostProcessor}.
+ *
+ * @author Allard Buijze
+ */
+@SuppressWarnings("deprecation")
+class ContentTypeConverterRoutesPostProcessorTest {
+
+    private final AtomicInteger routeLookups = new AtomicInteger();
+    private final ContentTypeConverterRoutesPostProcessor postProcessor =
+            new ContentTypeConverterRoutesPostProcessor(() -> {
+                routeLookups.incrementAndGet();
+                return new ContentTypeConverterRoutes(List.of(
+                        List.of(StringToByteArrayConverter.class, ByteArrayToInputStreamConverter.class)
+                ));
+            });
+
+    @Test
+    void routesAreRegisteredOncePerConverter() {
+        JavaSerializer serializer = JavaSerializer.builder().build();
+        ChainingConverter converter = (ChainingConverter) serializer.getConverter();
+        int converterCount = converter.getContentTypeConverters().size();
+
+        assertSame(serializer, postProcessor.postProcessAfterInitialization(serializer, "serializer"));
+        postProcessor.postProcessAfterInitialization(serializer, "messageSerializer");
+
+        assertEquals(converterCount + 1, converter.getContentTypeConverters().size());
+        assertEquals(1, routeLookups.get());
+    }
+
+    @Test
+    void otherBeansAreIgnored() {
+        Object bean = new Object();
+
+        assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "bean"));
+        assertEquals(0, routeLookups.get());
+    }
+}
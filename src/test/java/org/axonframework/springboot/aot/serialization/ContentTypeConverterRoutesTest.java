@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.serialization;
+
+import org.axonframework.serialization.ChainedConverter;
+import org.axonframework.serialization.ChainingConverter;
+import org.axonframework.serialization.ContentTypeConverter;
+import org.axonframework.serialization.converters.ByteArrayToInputStreamConverter;
+import org.axonframework.serialization.converters.StringToByteArrayConverter;
+import org.axonframework.serialization.json.ByteArrayToJsonNodeConverter;
+import org.junit.jupiter.api.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link ContentTypeConverterRoutes}.
+ *
+ * @author Allard Buijze
+ */
+class ContentTypeConverterRoutesTest {
+
+    private final ChainingConverter converter = new ChainingConverter();
+
+    @Test
+    void routesAreRegisteredAsChainedConverters() throws Exception {
+        ContentTypeConverterRoutes routes = new ContentTypeConverterRoutes(List.of(
+                List.of(StringToByteArrayConverter.class, ByteArrayToInputStreamConverter.class)
+        ));
+
+        assertEquals(1, routes.registerWith(converter));
+
+        ContentTypeConverter<?, ?> first = converter.getContentTypeConverters().get(0);
+        ChainedConverter<?, ?> chain = assertInstanceOf(ChainedConverter.class, first);
+        assertEquals(String.class, chain.expectedSourceType());
+        assertEquals(InputStream.class, chain.targetType());
+        try (InputStream converted = converter.convert("content", String.class, InputStream.class)) {
+            assertEquals("content", new String(converted.readAllBytes()));
+        }
+    }
+
+    @Test
+    void routesWithUnavailableConvertersAreSkipped() {
+        int converterCount = converter.getContentTypeConverters().size();
+        ContentTypeConverterRoutes routes = new ContentTypeConverterRoutes(List.of(
+                List.of(StringToByteArrayConverter.class, ByteArrayToJsonNodeConverter.class)
+        ));
+
+        assertEquals(0, routes.registerWith(converter));
+        assertEquals(converterCount, converter.getContentTypeConverters().size());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.modelling.command.AggregateRoot;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.Serializer;
+import org.junit.jupiter.api.*;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests the {@link SnapshotCodecPostProcessor}.
+ *
+ * @author Allard Buijze
+ */
+class SnapshotCodecPostProcessorTest {
+
+    private final Serializer serializer = JavaSerializer.builder().build();
+    private GeneratedSnapshotCodec aggregateCodec;
+    private GeneratedSnapshotCodec payloadCodec;
+    private GeneratedSnapshotCodecs codecs;
+
+    @BeforeEach
+    void setUp() {
+        aggregateCodec = mock(GeneratedSnapshotCodec.class);
+        doReturn(TestAggregate.class).when(aggregateCodec).aggregateType();
+        payloadCodec = mock(GeneratedSnapshotCodec.class);
+        doReturn(TestPayload.class).when(payloadCodec).aggregateType();
+        codecs = new GeneratedSnapshotCodecs(List.of(aggregateCodec, payloadCodec));
+    }
+
+    @Test
+    void generalSerializerIsWrapped() {
+        SnapshotCodecPostProcessor testSubject = new SnapshotCodecPostProcessor(() -> Optional.of(codecs));
+
+        Object result = testSubject.postProcessAfterInitialization(serializer, "serializer");
+
+        assertInstanceOf(SnapshotCodecSerializer.class, result);
+        assertSame(serializer, ((SnapshotCodecSerializer) result).getDelegate());
+        assertSame(result, testSubject.postProcessAfterInitialization(result, "serializer"));
+    }
+
+    @Test
+    void otherBeansAreLeftAsIs() {
+        SnapshotCodecPostProcessor testSubject = new SnapshotCodecPostProcessor(() -> Optional.of(codecs));
+
+        assertSame(serializer, testSubject.postProcessAfterInitialization(serializer, "eventSerializer"));
+        assertEquals("serializer", testSubject.postProcessAfterInitialization("serializer", "serializer"));
+    }
+
+    @Test
+    void messageSerializersThatAreTheWrappedGeneralSerializerAreUnwrapped() {
+        SnapshotCodecPostProcessor testSubject = new SnapshotCodecPostProcessor(() -> Optional.of(codecs));
+        Object generalSerializer = testSubject.postProcessAfterInitialization(serializer, "serializer");
+
+        assertSame(serializer, testSubject.postProcessAfterInitialization(generalSerializer, "eventSerializer"));
+        assertSame(serializer, testSubject.postProcessAfterInitialization(generalSerializer, "messageSerializer"));
+    }
+
+    @Test
+    void snapshotsAreWrittenAndDeadlinePayloadsAreNotByDefault() {
+        Serializer result = wrap(new SnapshotCodecPostProcessor(() -> Optional.of(codecs)));
+
+        result.serialize(new TestAggregate(), byte[].class);
+        result.serialize(new TestPayload(), byte[].class);
+
+        verify(aggregateCodec).write(any(), any());
+        verify(payloadCodec, never()).write(any(), any());
+    }
+
+    @Test
+    void deadlinePayloadsAreWrittenWhenEnabled() {
+        Serializer result = wrap(new SnapshotCodecPostProcessor(() -> Optional.of(codecs), false, true));
+
+        result.serialize(new TestAggregate(), byte[].class);
+        result.serialize(new TestPayload(), byte[].class);
+
+        verify(aggregateCodec, never()).write(any(), any());
+        verify(payloadCodec).write(any(), any());
+    }
+
+    @Test
+    void serializerIsLeftAsIsWithoutCodecs() {
+        SnapshotCodecPostProcessor withoutCodecs = new SnapshotCodecPostProcessor(Optional::empty);
+        SnapshotCodecPostProcessor withEmptyCodecs =
+                new SnapshotCodecPostProcessor(() -> Optional.of(new GeneratedSnapshotCodecs(List.of())));
+
+        assertSame(serializer, withoutCodecs.postProcessAfterInitialization(serializer, "serializer"));
+        assertSame(serializer, withEmptyCodecs.postProcessAfterInitialization(serializer, "serializer"));
+    }
+
+    private Serializer wrap(SnapshotCodecPostProcessor testSubject) {
+        return assertInstanceOf(SnapshotCodecSerializer.class,
+                                testSubject.postProcessAfterInitialization(serializer, "serializer"));
+    }
+
+    @AggregateRoot
+    private static class TestAggregate implements Serializable {
+
+    }
+
+    private static class TestPayload implements Serializable {
+
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.junit.jupiter.api.*;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link SnapshotCodecSerializer}.
+ *
+ * @author Allard Buijze
+ */
+class SnapshotCodecSerializerTest {
+
+    private final Serializer delegate = JavaSerializer.builder().build();
+    private final SnapshotCodecSerializer testSubject =
+            new SnapshotCodecSerializer(delegate, new GeneratedSnapshotCodecs(List.of(new TestAggregateCodec())));
+
+    @Test
+    void aggregatesAreWrittenByTheirCodec() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new TestAggregate("name"), byte[].class);
+
+        assertTrue(SnapshotFormat.isSnapshot(serialized.getData()));
+        assertEquals(TestAggregate.class.getName(), serialized.getType().getName());
+        assertEquals(delegate.typeForClass(TestAggregate.class).getRevision(), serialized.getType().getRevision());
+        assertEquals(new TestAggregate("name"), testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void otherObjectsAreSerializedByTheDelegate() {
+        SerializedObject<byte[]> serialized = testSubject.serialize("text", byte[].class);
+
+        assertFalse(SnapshotFormat.isSnapshot(serialized.getData()));
+        assertEquals("text", testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void aggregatesAreSerializedByTheDelegateToOtherRepresentations() {
+        SerializedObject<String> serialized = testSubject.serialize(new TestAggregate("name"), String.class);
+
+        assertEquals(delegate.serialize(new TestAggregate("name"), String.class).getData(), serialized.getData());
+    }
+
+    @Test
+    void snapshotsWrittenByTheDelegateAreReadByTheDelegate() {
+        SerializedObject<byte[]> serialized = delegate.serialize(new TestAggregate("name"), byte[].class);
+
+        assertEquals(new TestAggregate("name"), testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void aggregatesTheCodecCannotWriteAreSerializedByTheDelegate() {
+        SerializedObject<byte[]> serialized = testSubject.serialize(new TestAggregate("fail"), byte[].class);
+
+        assertFalse(SnapshotFormat.isSnapshot(serialized.getData()));
+        assertEquals(new TestAggregate("fail"), testSubject.deserialize(serialized));
+    }
+
+    @Test
+    void serializerNotWritingSnapshotsStillReadsSnapshotsWrittenByCodecs() {
+        SnapshotCodecSerializer readOnly = new SnapshotCodecSerializer(delegate,
+                                                                       new GeneratedSnapshotCodecs(
+                                                                               List.of(new TestAggregateCodec())
+                                                                       ),
+                                                                       new GeneratedSnapshotCodecs(List.of()));
+        SerializedObject<byte[]> written = testSubject.serialize(new TestAggregate("name"), byte[].class);
+
+        assertFalse(SnapshotFormat.isSnapshot(readOnly.serialize(new TestAggregate("name"), byte[].class).getData()));
+        assertEquals(new TestAggregate("name"), readOnly.deserialize(written));
+    }
+
+    private static class TestAggregate implements Serializable {
+
+        private String name;
+
+        private TestAggregate(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestAggregate other && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(name);
+        }
+    }
+
+    private static class TestAggregateCodec implements GeneratedSnapshotCodec {
+
+        private static final int NAME = "name".hashCode();
+
+        @Override
+        public Class<?> aggregateType() {
+            return TestAggregate.class;
+        }
+
+        @Override
+        public void write(Object aggregate, SnapshotOutput output) {
+            TestAggregate testAggregate = (TestAggregate) aggregate;
+            if ("fail".equals(testAggregate.name)) {
+                throw new SerializationException("Cannot write this aggregate");
+            }
+            if (output.beginObject(testAggregate, TestAggregate.class, 1)) {
+                output.writeKey(NAME);
+                output.writeValue(testAggregate.name);
+            }
+        }
+
+        @Override
+        public Object read(SnapshotInput input) {
+            int fields = input.beginObject();
+            TestAggregate aggregate = new TestAggregate(null);
+            for (int i = 0; i < fields; i++) {
+                if (input.readKey() == NAME) {
+                    aggregate.name = (String) input.readValue();
+                } else {
+                    input.skipValue();
+                }
+            }
+            return aggregate;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.snapshot;
+
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.SerializationException;
+import org.axonframework.serialization.Serializer;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link SnapshotInput}, reading what was written by a {@link SnapshotOutput}.
+ *
+ * @author Allard Buijze
+ */
+class SnapshotInputTest {
+
+    private final Serializer serializer = JavaSerializer.builder().build();
+    private final SnapshotOutput output = new SnapshotOutput(serializer);
+
+    @Test
+    void primitivesAreReadBack() {
+        output.writeBoolean(true);
+        output.writeByte((byte) -1);
+        output.writeShort(Short.MIN_VALUE);
+        output.writeChar('x');
+        output.writeInt(-300);
+        output.writeLong(Long.MIN_VALUE);
+        output.writeFloat(1.5f);
+        output.writeDouble(-0.125);
+        output.writeEnum(TimeUnit.SECONDS);
+        output.writeEnum(null);
+
+        SnapshotInput input = input();
+        assertTrue(input.readBoolean());
+        assertEquals((byte) -1, input.readByte());
+        assertEquals(Short.MIN_VALUE, input.readShort());
+        assertEquals('x', input.readChar());
+        assertEquals(-300, input.readInt());
+        assertEquals(Long.MIN_VALUE, input.readLong());
+        assertEquals(1.5f, input.readFloat());
+        assertEquals(-0.125, input.readDouble());
+        assertEquals(TimeUnit.SECONDS, input.readEnum(TimeUnit.class));
+        assertNull(input.readEnum(TimeUnit.class));
+    }
+
+    @Test
+    void valuesAreReadBack() {
+        List<Object> values = List.of("text", 42, 42L, (short) 7, (byte) 3, 'c', 1.5f, 2.5, false,
+                                      UUID.randomUUID(), Instant.ofEpochSecond(-5, 7),
+                                      new BigInteger("-123456789012345678901234567890"),
+                                      new BigDecimal("12.3400"), LocalDate.of(2025, 1, 2));
+        values.forEach(output::writeValue);
+        output.writeValue(null);
+
+        SnapshotInput input = input();
+        for (Object value : values) {
+            assertEquals(value, input.readValue());
+        }
+        assertNull(input.readValue());
+    }
+
+    @Test
+    void valuesOfUnknownFieldsAreSkipped() {
+        output.beginObject(new Object(), Object.class, 2);
+        output.writeKey(1);
+        writeAllTags();
+        output.writeKey(2);
+        output.writeInt(42);
+
+        SnapshotInput input = input();
+        assertEquals(2, input.beginObject());
+        assertEquals(1, input.readKey());
+        input.skipValue();
+        assertEquals(2, input.readKey());
+        assertEquals(42, input.readInt());
+    }
+
+    @Test
+    void containersOfFinalFieldsAreClearedBeforeReading() {
+        Collection<String> collection = new ArrayList<>(List.of("old"));
+        Map<String, String> map = new HashMap<>(Map.of("old", "value"));
+        output.writeInt(0);
+
+        SnapshotInput input = input();
+        assertSame(collection, input.reuse(collection, 1));
+        assertSame(map, input.reuse(map, 1));
+        assertTrue(collection.isEmpty());
+        assertTrue(map.isEmpty());
+        assertThrows(SerializationException.class, () -> input.reuse(collection, -1));
+        assertThrows(SerializationException.class, () -> input.reuse((Map<String, String>) null, 1));
+    }
+
+    @Test
+    void valuesOfAnotherTypeAreRejected() {
+        output.writeValue("text");
+        output.writeEnum(TimeUnit.SECONDS);
+        output.writeInt(1);
+
+        SnapshotInput input = input();
+        assertThrows(SerializationException.class, input::readInt);
+        assertThrows(SerializationException.class, () -> input.readEnum(Thread.State.class));
+        assertThrows(SerializationException.class, input::readLong);
+    }
+
+    @Test
+    void unsupportedFormatVersionsAndTruncatedSnapshotsAreRejected() {
+        output.writeValue("text");
+        byte[] data = output.toByteArray();
+        byte[] otherVersion = data.clone();
+        otherVersion[SnapshotFormat.MAGIC.length] = 42;
+        byte[] truncated = Arrays.copyOf(data, data.length - 1);
+
+        assertThrows(SerializationException.class, () -> new SnapshotInput(serializer, otherVersion));
+        assertThrows(SerializationException.class, () -> new SnapshotInput(serializer, truncated).readValue());
+    }
+
+    private void writeAllTags() {
+        output.beginObject(new Object(), Object.class, 4);
+        output.writeKey(10);
+        output.beginCollection(List.of(1, 2));
+        output.writeValue(true);
+        output.writeValue(new BigDecimal("1.5"));
+        output.writeKey(11);
+        output.beginMap(Map.of("key", "value"));
+        output.writeValue("key");
+        output.writeEnum(TimeUnit.DAYS);
+        output.writeKey(12);
+        output.beginCollection(null);
+        output.writeKey(13);
+        List<Object> values = List.of("text", 42, 42L, (short) 7, (byte) 3, 'c', 1.5f, 2.5, false,
+                                      UUID.randomUUID(), Instant.now(), BigInteger.TEN, LocalDate.now());
+        output.beginCollection(values);
+        values.forEach(output::writeValue);
+    }
+
+    private SnapshotInput input() {
+        return new SnapshotInput(serializer, output.toByteArray());
+    }
+}
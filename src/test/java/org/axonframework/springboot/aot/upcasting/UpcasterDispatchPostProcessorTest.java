@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import org.axonframework.config.Configurer;
+import org.axonframework.config.ConfigurerModule;
+import org.axonframework.config.DefaultConfigurer;
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.EventTypeUpcaster;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link UpcasterDispatchPostProcessor}.
+ *
+ * @author Allard Buijze
+ */
+class UpcasterDispatchPostProcessorTest {
+
+    private final EventTypeUpcaster declaringUpcaster = new EventTypeUpcaster("Old", null, "New", null);
+    private final EventTypeUpcaster undeclaredUpcaster = new EventTypeUpcaster("Other", null, "Other", "1");
+    private final UpcasterDispatchPostProcessor postProcessor = new UpcasterDispatchPostProcessor(
+            () -> new UpcasterDispatchTable(Map.of(
+                    EventTypeUpcaster.class.getName(), List.of(new SimpleSerializedType("Old", null))
+            )),
+            () -> List.of(declaringUpcaster)
+    );
+
+    @Test
+    void upcastersConfigurerIsReplacedByDispatchingConfigurer() {
+        ConfigurerModule original = configurer -> configurer.registerEventUpcaster(c -> undeclaredUpcaster);
+
+        Object processed = postProcessor.postProcessAfterInitialization(
+                original, UpcasterDispatchPostProcessor.UPCASTERS_CONFIGURER_BEAN_NAME
+        );
+
+        assertNotSame(original, processed);
+        Configurer configurer = DefaultConfigurer.defaultConfiguration(false);
+        ((ConfigurerModule) processed).configureModule(configurer);
+        EventUpcaster upcasterChain = configurer.buildConfiguration().upcasterChain();
+
+        assertEquals(new SimpleSerializedType("New", null), upcastedType(upcasterChain, "Old"));
+        assertEquals(new SimpleSerializedType("Other", null), upcastedType(upcasterChain, "Other"));
+    }
+
+    @Test
+    void otherBeansAreIgnored() {
+        ConfigurerModule otherModule = configurer -> {
+        };
+
+        assertSame(otherModule, postProcessor.postProcessAfterInitialization(otherModule, "otherModule"));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static SerializedType upcastedType(EventUpcaster upcaster, String type) {
+        IntermediateEventRepresentation representation = new InitialEventRepresentation(
+                new GenericDomainEventEntry<>("Aggregate", "id", 0, "event", Instant.now(), type, null,
+                                              new byte[0], new byte[0]),
+                JavaSerializer.builder().build()
+        );
+        SerializedType upcastedType = upcaster.upcast(Stream.of(representation)).findFirst().orElseThrow().getType();
+        return new SimpleSerializedType(upcastedType.getName(), upcastedType.getRevision());
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010-2025. Axon Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.axonframework.springboot.aot.upcasting;
+
+import org.axonframework.eventhandling.GenericDomainEventEntry;
+import org.axonframework.serialization.JavaSerializer;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.SimpleSerializedType;
+import org.axonframework.serialization.upcasting.event.EventTypeUpcaster;
+import org.axonframework.serialization.upcasting.event.EventUpcaster;
+import org.axonframework.serialization.upcasting.event.EventUpcasterChain;
+import org.axonframework.serialization.upcasting.event.InitialEventRepresentation;
+import org.axonframework.serialization.upcasting.event.IntermediateEventRepresentation;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link UpcasterDispatchTable}.
+ *
+ * @author Allard Buijze
+ */
+class UpcasterDispatchTableTest {
+
+    private final UpcasterDispatchTable table = new UpcasterDispatchTable(Map.of(
+            InitialRevisionUpcaster.class.getName(), List.of(new SimpleSerializedType("Old", null)),
+            RenamingUpcaster.class.getName(), List.of(new SimpleSerializedType("Old", "1")),
+            RecordingUpcaster.class.getName(), List.of(new SimpleSerializedType("Recorded", "1"))
+    ));
+
+    @Test
+    void subsequentDeclaringUpcastersAreCombined() {
+        List<EventUpcaster> upcasters = List.of(new InitialRevisionUpcaster(),
+                                                new RenamingUpcaster(),
+                                                new UndeclaredUpcaster());
+
+        List<EventUpcaster> dispatched = table.dispatch(upcasters);
+
+        assertEquals(2, dispatched.size());
+        assertInstanceOf(DispatchingEventUpcaster.class, dispatched.get(0));
+        assertSame(upcasters.get(2), dispatched.get(1));
+    }
+
+    @Test
+    void undeclaringUpcastersKeepTheirPositionInTheChain() {
+        List<EventUpcaster> upcasters = List.of(new InitialRevisionUpcaster(),
+                                                new UndeclaredUpcaster(),
+                                                new RenamingUpcaster());
+
+        List<EventUpcaster> dispatched = table.dispatch(upcasters);
+
+        assertEquals(3, dispatched.size());
+        assertInstanceOf(DispatchingEventUpcaster.class, dispatched.get(0));
+        assertSame(upcasters.get(1), dispatched.get(1));
+        assertInstanceOf(DispatchingEventUpcaster.class, dispatched.get(2));
+    }
+
+    @Test
+    void dispatchedUpcastersUpcastLikeTheUpcasterChain() {
+        List<EventUpcaster> upcasters = List.of(new RenamingUpcaster(),
+                                                new UndeclaredUpcaster(),
+                                                new InitialRevisionUpcaster(),
+                                                new RenamingUpcaster());
+        List<SerializedType> types = List.of(new SimpleSerializedType("Old", null),
+                                             new SimpleSerializedType("Old", "1"),
+                                             new SimpleSerializedType("Other", null),
+                                             new SimpleSerializedType("Unrelated", "1"));
+
+        assertEquals(upcastedTypes(new EventUpcasterChain(upcasters), types),
+                     upcastedTypes(new EventUpcasterChain(table.dispatch(upcasters)), types));
+        assertEquals(List.of(new SimpleSerializedType("New", "2"),
+                             new SimpleSerializedType("New", "2"),
+                             new SimpleSerializedType("Other", "1"),
+                             new SimpleSerializedType("Unrelated", "1")),
+                     upcastedTypes(new EventUpcasterChain(table.dispatch(upcasters)), types));
+    }
+
+    @Test
+    void eventsAreOnlyPassedToUpcastersDeclaringTheirType() {
+        RecordingUpcaster recordingUpcaster = new RecordingUpcaster();
+        EventUpcaster dispatched = table.dispatch(List.of(recordingUpcaster)).get(0);
+
+        upcastedTypes(dispatched, List.of(new SimpleSerializedType("Recorded", "1"),
+                                          new SimpleSerializedType("Recorded", "2"),
+                                          new SimpleSerializedType("Old", null)));
+
+        assertEquals(List.of(new SimpleSerializedType("Recorded", "1")), recordingUpcaster.checkedTypes);
+    }
+
+    @Test
+    void emptyTableReturnsTheUpcastersAsTheyAre() {
+        List<EventUpcaster> upcasters = List.of(new InitialRevisionUpcaster(), new RenamingUpcaster());
+
+        assertEquals(upcasters, new UpcasterDispatchTable(Map.of()).dispatch(upcasters));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static List<SerializedType> upcastedTypes(EventUpcaster upcaster, List<SerializedType> types) {
+        JavaSerializer serializer = JavaSerializer.builder().build();
+        Stream<IntermediateEventRepresentation> representations = types.stream().map(
+                type -> new InitialEventRepresentation(new GenericDomainEventEntry<>(
+                        "Aggregate", "id", 0, "event", Instant.now(), type.getName(), type.getRevision(),
+                        new byte[0], new byte[0]
+                ), serializer)
+        );
+        return upcaster.upcast(representations)
+                       .<SerializedType>map(r -> new SimpleSerializedType(r.getType().getName(),
+                                                                          r.getType().getRevision()))
+                       .toList();
+    }
+
+    private static class InitialRevisionUpcaster extends EventTypeUpcaster {
+
+        private InitialRevisionUpcaster() {
+            super("Old", null, "Old", "1");
+        }
+    }
+
+    private static class RenamingUpcaster extends EventTypeUpcaster {
+
+        private RenamingUpcaster() {
+            super("Old", "1", "New", "2");
+        }
+    }
+
+    private static class UndeclaredUpcaster extends EventTypeUpcaster {
+
+        private UndeclaredUpcaster() {
+            super("Other", null, "Other", "1");
+        }
+    }
+
+    private static class RecordingUpcaster extends EventTypeUpcaster {
+
+        private final List<SerializedType> checkedTypes = new ArrayList<>();
+
+        private RecordingUpcaster() {
+            super("Recorded", "1", "Recorded", "2");
+        }
+
+        @Override
+        protected boolean canUpcast(IntermediateEventRepresentation intermediateRepresentation) {
+            checkedTypes.add(new SimpleSerializedType(intermediateRepresentation.getType().getName(),
+                                                      intermediateRepresentation.getType().getRevision()));
+            return super.canUpcast(intermediateRepresentation);
+        }
+    }
+}